@@ -4,13 +4,12 @@ import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.context.annotation.Bean;
 import org.springframework.scheduling.annotation.EnableScheduling;
-import org.springframework.web.client.RestTemplate;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 /**
  * Main entry point for the Spring Boot application.
- * Configures the application to enable scheduling and provides a RestTemplate bean.
+ * Configures the application to enable scheduling; the CNN RestTemplate is defined in CnnUpstreamConfig.
  * Also configures CORS to allow frontend applications to access the API.
  */
 @SpringBootApplication
@@ -21,16 +20,6 @@ public class FearGreedTrackerApplication {
 		SpringApplication.run(FearGreedTrackerApplication.class, args);
 	}
 
-	/**
-	 * Creates and configures a RestTemplate bean.
-	 * RestTemplate is used for making HTTP requests to external APIs (like CNN's FGI API).
-	 * @return A configured RestTemplate instance.
-	 */
-	@Bean
-	public RestTemplate restTemplate() {
-		return new RestTemplate();
-	}
-
 	/**
 	 * Configures Cross-Origin Resource Sharing (CORS) for the application.
 	 * This allows the frontend application (running on a different port/domain)
@@ -0,0 +1,21 @@
+package com.aurelius.fear_greed_tracker.analytics;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Moving averages per point over a date range, ready to draw next to the index.
+ * Every list is parallel to dates; values are null where a window had not filled up yet.
+ * @param dates Record dates, ascending.
+ * @param windows SMA and EMA lines per window length.
+ */
+public record AnalyticsSeries(List<LocalDate> dates, Map<Integer, Line> windows) {
+
+    /**
+     * @param sma Simple moving average per point.
+     * @param ema Exponential moving average per point.
+     */
+    public record Line(List<Double> sma, List<Double> ema) {
+    }
+}
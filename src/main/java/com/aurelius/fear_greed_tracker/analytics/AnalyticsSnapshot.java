@@ -0,0 +1,41 @@
+package com.aurelius.fear_greed_tracker.analytics;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+/**
+ * Analytics as of the latest stored day. Windows count data points, i.e. CNN publication
+ * (trading) days, like the moving averages on a price chart; a statistic is null until its
+ * window has filled up.
+ * @param asOf Record date of the latest point.
+ * @param value Score of the latest point.
+ * @param sentiment Sentiment of the latest point.
+ * @param percentileRank Share of all stored scores below the latest one (ties count half), 0-100.
+ * @param points Number of points the analytics are computed from.
+ * @param windows Statistics per window length, in ascending order of length.
+ * @param streak The run of consecutive points sharing the latest sentiment.
+ * @param longestStreaks Longest run seen per sentiment label, in points.
+ */
+public record AnalyticsSnapshot(LocalDate asOf, int value, String sentiment, double percentileRank, int points,
+                                Map<Integer, WindowStats> windows, Streak streak,
+                                Map<String, Integer> longestStreaks) {
+
+    /**
+     * @param sma Simple moving average.
+     * @param ema Exponential moving average (alpha = 2 / (length + 1), seeded with the first full SMA).
+     * @param min Lowest score in the window.
+     * @param max Highest score in the window.
+     * @param stddev Sample standard deviation of the window.
+     * @param zScore (value - sma) / stddev, null when the window is flat.
+     */
+    public record WindowStats(Double sma, Double ema, Double min, Double max, Double stddev, Double zScore) {
+    }
+
+    /**
+     * @param sentiment The sentiment of the run.
+     * @param days Length of the run in points.
+     * @param since Record date of the first point of the run.
+     */
+    public record Streak(String sentiment, int days, LocalDate since) {
+    }
+}
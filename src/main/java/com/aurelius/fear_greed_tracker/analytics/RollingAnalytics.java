@@ -0,0 +1,275 @@
+package com.aurelius.fear_greed_tracker.analytics;
+
+import com.aurelius.fear_greed_tracker.model.Sentiment;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Incrementally maintained analytics over the daily index, fed one point at a time in date order.
+ * Each add() is O(1) (amortized) whatever the history length:
+ * - one RollingWindow per configured length for SMA, min, max and standard deviation, plus an EMA;
+ * - a 101-bucket histogram of all scores for the percentile rank;
+ * - the current sentiment run and the longest run per sentiment.
+ * The SMA / EMA values of every point are appended to per-window columns for AnalyticsSeries.
+ * replaceLast() revises the latest point (an intraday or same-day revision) in O(1) by undoing its
+ * add() from the few values that add() overwrote, then adding the new reading.
+ * Columns only grow in place, apart from the latest entry that replaceLast() rewrites; a History
+ * keeps its own copy of that entry, so one captured earlier stays valid.
+ * Not thread-safe; AnalyticsService serializes writers.
+ */
+public final class RollingAnalytics {
+
+    private static final int SCORE_BUCKETS = 101;
+    private static final int SENTIMENTS = Sentiment.values().length;
+
+    private final int[] windowLengths;
+    private final RollingWindow[] windows;
+    private final double[] ema;
+    private final int[] histogram = new int[SCORE_BUCKETS];
+    private final int[] longestStreaks = new int[SENTIMENTS];
+
+    private int[] epochDays = new int[256];
+    private double[][] smaColumns;
+    private double[][] emaColumns;
+    private int size;
+
+    private int lastValue;
+    private Sentiment streakSentiment;
+    private int streakLength;
+    private int streakStartEpochDay;
+
+    // State overwritten by the latest add(), for replaceLast().
+    private final double[] previousEma;
+    private int previousLastValue;
+    private Sentiment previousStreakSentiment;
+    private int previousStreakLength;
+    private int previousStreakStartEpochDay;
+    private int previousLongestStreak;
+
+    /**
+     * @param windowLengths Window lengths in points, e.g. {7, 30, 200}.
+     */
+    public RollingAnalytics(int... windowLengths) {
+        this.windowLengths = Arrays.stream(windowLengths).sorted().distinct().toArray();
+        this.windows = new RollingWindow[this.windowLengths.length];
+        this.ema = new double[this.windowLengths.length];
+        this.previousEma = new double[this.windowLengths.length];
+        this.smaColumns = new double[this.windowLengths.length][epochDays.length];
+        this.emaColumns = new double[this.windowLengths.length][epochDays.length];
+        for (int w = 0; w < windows.length; w++) {
+            windows[w] = new RollingWindow(this.windowLengths[w]);
+        }
+        Arrays.fill(ema, Double.NaN);
+    }
+
+    /**
+     * Adds the next point.
+     * @return False, without changing anything, if the point is not after the latest one;
+     *         the caller then has to rebuild from the full history.
+     */
+    public boolean add(int epochDay, int value, Sentiment sentiment) {
+        if (size > 0 && epochDay <= epochDays[size - 1]) {
+            return false;
+        }
+        ensureCapacity();
+        appendPoint(epochDay, value, sentiment);
+        return true;
+    }
+
+    /**
+     * Replaces the latest point with a revised reading of the same day.
+     * @return False, without changing anything, if the day is not the latest one;
+     *         the caller then has to rebuild from the full history.
+     */
+    public boolean replaceLast(int epochDay, int value, Sentiment sentiment) {
+        if (size == 0 || epochDay != epochDays[size - 1]) {
+            return false;
+        }
+        for (RollingWindow window : windows) {
+            window.undoLast();
+        }
+        System.arraycopy(previousEma, 0, ema, 0, ema.length);
+        histogram[bucket(lastValue)]--;
+        longestStreaks[streakSentiment.getCode()] = previousLongestStreak;
+        streakSentiment = previousStreakSentiment;
+        streakLength = previousStreakLength;
+        streakStartEpochDay = previousStreakStartEpochDay;
+        lastValue = previousLastValue;
+        size--;
+        appendPoint(epochDay, value, sentiment);
+        return true;
+    }
+
+    private void appendPoint(int epochDay, int value, Sentiment sentiment) {
+        System.arraycopy(ema, 0, previousEma, 0, ema.length);
+        previousLastValue = lastValue;
+        previousStreakSentiment = streakSentiment;
+        previousStreakLength = streakLength;
+        previousStreakStartEpochDay = streakStartEpochDay;
+        previousLongestStreak = longestStreaks[sentiment.getCode()];
+        epochDays[size] = epochDay;
+        for (int w = 0; w < windows.length; w++) {
+            RollingWindow window = windows[w];
+            window.add(value);
+            if (!window.isFull()) {
+                smaColumns[w][size] = Double.NaN;
+                emaColumns[w][size] = Double.NaN;
+                continue;
+            }
+            double sma = window.mean();
+            double alpha = 2.0 / (window.length() + 1);
+            ema[w] = Double.isNaN(ema[w]) ? sma : ema[w] + alpha * (value - ema[w]);
+            smaColumns[w][size] = sma;
+            emaColumns[w][size] = ema[w];
+        }
+        histogram[bucket(value)]++;
+
+        if (sentiment == streakSentiment) {
+            streakLength++;
+        } else {
+            streakSentiment = sentiment;
+            streakLength = 1;
+            streakStartEpochDay = epochDay;
+        }
+        longestStreaks[sentiment.getCode()] = Math.max(longestStreaks[sentiment.getCode()], streakLength);
+        lastValue = value;
+        size++;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return The analytics as of the latest point, or null if no point was added.
+     */
+    public AnalyticsSnapshot snapshot() {
+        if (size == 0) {
+            return null;
+        }
+        Map<Integer, AnalyticsSnapshot.WindowStats> stats = new LinkedHashMap<>();
+        for (int w = 0; w < windows.length; w++) {
+            RollingWindow window = windows[w];
+            if (!window.isFull()) {
+                stats.put(windowLengths[w], new AnalyticsSnapshot.WindowStats(null, null, null, null, null, null));
+                continue;
+            }
+            double sma = window.mean();
+            double stddev = window.standardDeviation();
+            stats.put(windowLengths[w], new AnalyticsSnapshot.WindowStats(sma, ema[w], window.min(), window.max(),
+                    stddev, stddev == 0 ? null : (lastValue - sma) / stddev));
+        }
+        Map<String, Integer> longest = new LinkedHashMap<>();
+        for (Sentiment sentiment : Sentiment.values()) {
+            if (longestStreaks[sentiment.getCode()] > 0) {
+                longest.put(sentiment.getLabel(), longestStreaks[sentiment.getCode()]);
+            }
+        }
+        return new AnalyticsSnapshot(LocalDate.ofEpochDay(epochDays[size - 1]), lastValue, streakSentiment.getLabel(),
+                percentileRank(lastValue), size, stats,
+                new AnalyticsSnapshot.Streak(streakSentiment.getLabel(), streakLength, LocalDate.ofEpochDay(streakStartEpochDay)),
+                longest);
+    }
+
+    /**
+     * @return Share of all added scores below the given one, ties counted half, in percent.
+     */
+    public double percentileRank(int value) {
+        int bucket = bucket(value);
+        long below = 0;
+        for (int i = 0; i < bucket; i++) {
+            below += histogram[i];
+        }
+        return size == 0 ? 0 : 100.0 * (below + histogram[bucket] / 2.0) / size;
+    }
+
+    /**
+     * @return A read-only view of the SMA / EMA columns as of now.
+     */
+    public History history() {
+        return new History(windowLengths, epochDays, smaColumns, emaColumns, size);
+    }
+
+    private static int bucket(int value) {
+        return Math.max(0, Math.min(SCORE_BUCKETS - 1, value));
+    }
+
+    private void ensureCapacity() {
+        if (size < epochDays.length) {
+            return;
+        }
+        int capacity = epochDays.length * 2;
+        epochDays = Arrays.copyOf(epochDays, capacity);
+        for (int w = 0; w < windows.length; w++) {
+            smaColumns[w] = Arrays.copyOf(smaColumns[w], capacity);
+            emaColumns[w] = Arrays.copyOf(emaColumns[w], capacity);
+        }
+    }
+
+    /**
+     * Moving-average columns captured at one point in time. Holds the column arrays themselves:
+     * later adds only write past {@code size} or into new arrays, and the latest entry, which
+     * replaceLast() may rewrite, is copied, so the view never changes.
+     */
+    public static final class History {
+        private final int[] windowLengths;
+        private final int[] epochDays;
+        private final double[][] smaColumns;
+        private final double[][] emaColumns;
+        private final double[] lastSma;
+        private final double[] lastEma;
+        private final int size;
+
+        private History(int[] windowLengths, int[] epochDays, double[][] smaColumns, double[][] emaColumns, int size) {
+            this.windowLengths = windowLengths;
+            this.epochDays = epochDays;
+            this.smaColumns = smaColumns.clone();
+            this.emaColumns = emaColumns.clone();
+            this.lastSma = new double[windowLengths.length];
+            this.lastEma = new double[windowLengths.length];
+            if (size > 0) {
+                for (int w = 0; w < windowLengths.length; w++) {
+                    lastSma[w] = smaColumns[w][size - 1];
+                    lastEma[w] = emaColumns[w][size - 1];
+                }
+            }
+            this.size = size;
+        }
+
+        /**
+         * @param fromInclusive First date to include, or null for the whole history.
+         * @return The lines from that date on.
+         */
+        public AnalyticsSeries series(LocalDate fromInclusive) {
+            int from = 0;
+            if (fromInclusive != null) {
+                int index = Arrays.binarySearch(epochDays, 0, size, (int) fromInclusive.toEpochDay());
+                from = index >= 0 ? index : -index - 1;
+            }
+            List<LocalDate> dates = new ArrayList<>(size - from);
+            for (int i = from; i < size; i++) {
+                dates.add(LocalDate.ofEpochDay(epochDays[i]));
+            }
+            Map<Integer, AnalyticsSeries.Line> lines = new LinkedHashMap<>();
+            for (int w = 0; w < windowLengths.length; w++) {
+                lines.put(windowLengths[w], new AnalyticsSeries.Line(
+                        column(smaColumns[w], lastSma[w], from), column(emaColumns[w], lastEma[w], from)));
+            }
+            return new AnalyticsSeries(dates, lines);
+        }
+
+        private List<Double> column(double[] values, double last, int from) {
+            List<Double> column = new ArrayList<>(size - from);
+            for (int i = from; i < size; i++) {
+                double value = i == size - 1 ? last : values[i];
+                column.add(Double.isNaN(value) ? null : value);
+            }
+            return column;
+        }
+    }
+}
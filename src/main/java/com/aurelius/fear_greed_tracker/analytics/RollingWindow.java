@@ -0,0 +1,165 @@
+package com.aurelius.fear_greed_tracker.analytics;
+
+/**
+ * Fixed-length sliding window over a stream of values with O(1) updates.
+ * - Mean and standard deviation come from a running sum and sum of squares; scores are
+ *   integers, so both sums stay exact in a double.
+ * - Minimum and maximum come from monotonic queues of sequence numbers: each value is pushed
+ *   and popped at most once, so add() is amortized O(1) and min()/max() are O(1).
+ * - undoLast() reverts the newest add() in O(1): add() remembers the few fields it overwrote (evicted
+ *   value, queue heads and sizes, the queue slot it pushed into), and restoring them gives back the
+ *   exact state before that add, since queue entries popped from the tail stay in place.
+ * All buffers are allocated once, with the window length as capacity. Not thread-safe.
+ */
+final class RollingWindow {
+
+    private final int length;
+    private final double[] values;
+    private final long[] minQueue;
+    private final long[] maxQueue;
+    private int minHead;
+    private int minSize;
+    private int maxHead;
+    private int maxSize;
+
+    private long added;
+    private double sum;
+    private double sumOfSquares;
+
+    // State overwritten by the latest add(), for undoLast().
+    private boolean undoable;
+    private double undoEvicted;
+    private int undoMinHead;
+    private int undoMinSize;
+    private int undoMinSlot;
+    private long undoMinEntry;
+    private int undoMaxHead;
+    private int undoMaxSize;
+    private int undoMaxSlot;
+    private long undoMaxEntry;
+
+    RollingWindow(int length) {
+        if (length < 1) {
+            throw new IllegalArgumentException("Window length must be positive: " + length);
+        }
+        this.length = length;
+        this.values = new double[length];
+        this.minQueue = new long[length];
+        this.maxQueue = new long[length];
+    }
+
+    void add(double value) {
+        undoMinHead = minHead;
+        undoMinSize = minSize;
+        undoMaxHead = maxHead;
+        undoMaxSize = maxSize;
+        long sequence = added;
+        long oldestKept = sequence - length + 1;
+        if (minSize > 0 && minQueue[minHead] < oldestKept) {
+            minHead = (minHead + 1) % length;
+            minSize--;
+        }
+        if (maxSize > 0 && maxQueue[maxHead] < oldestKept) {
+            maxHead = (maxHead + 1) % length;
+            maxSize--;
+        }
+
+        int slot = (int) (sequence % length);
+        undoEvicted = values[slot];
+        if (sequence >= length) {
+            double evicted = values[slot];
+            sum -= evicted;
+            sumOfSquares -= evicted * evicted;
+        }
+        values[slot] = value;
+        sum += value;
+        sumOfSquares += value * value;
+
+        while (minSize > 0 && valueAt(minQueue[(minHead + minSize - 1) % length]) >= value) {
+            minSize--;
+        }
+        undoMinSlot = (minHead + minSize) % length;
+        undoMinEntry = minQueue[undoMinSlot];
+        minQueue[undoMinSlot] = sequence;
+        minSize++;
+        while (maxSize > 0 && valueAt(maxQueue[(maxHead + maxSize - 1) % length]) <= value) {
+            maxSize--;
+        }
+        undoMaxSlot = (maxHead + maxSize) % length;
+        undoMaxEntry = maxQueue[undoMaxSlot];
+        maxQueue[undoMaxSlot] = sequence;
+        maxSize++;
+        added++;
+        undoable = true;
+    }
+
+    /**
+     * Reverts the most recent add(). Only one level is kept: a second undo needs another add() first.
+     * @throws IllegalStateException If there is no add() to revert.
+     */
+    void undoLast() {
+        if (!undoable) {
+            throw new IllegalStateException("No add() to undo");
+        }
+        undoable = false;
+        added--;
+        int slot = (int) (added % length);
+        double replaced = values[slot];
+        sum -= replaced;
+        sumOfSquares -= replaced * replaced;
+        values[slot] = undoEvicted;
+        if (added >= length) {
+            sum += undoEvicted;
+            sumOfSquares += undoEvicted * undoEvicted;
+        }
+        minQueue[undoMinSlot] = undoMinEntry;
+        minHead = undoMinHead;
+        minSize = undoMinSize;
+        maxQueue[undoMaxSlot] = undoMaxEntry;
+        maxHead = undoMaxHead;
+        maxSize = undoMaxSize;
+    }
+
+    int length() {
+        return length;
+    }
+
+    /**
+     * @return True once the window holds {@code length} values.
+     */
+    boolean isFull() {
+        return added >= length;
+    }
+
+    int count() {
+        return (int) Math.min(added, length);
+    }
+
+    double mean() {
+        return sum / count();
+    }
+
+    double min() {
+        return valueAt(minQueue[minHead]);
+    }
+
+    double max() {
+        return valueAt(maxQueue[maxHead]);
+    }
+
+    /**
+     * @return The sample standard deviation (n - 1 denominator), 0 for a single value.
+     */
+    double standardDeviation() {
+        int n = count();
+        if (n < 2) {
+            return 0;
+        }
+        double variance = (sumOfSquares - sum * sum / n) / (n - 1);
+        return variance <= 0 ? 0 : Math.sqrt(variance);
+    }
+
+    private double valueAt(long sequence) {
+        return values[(int) (sequence % length)];
+    }
+}
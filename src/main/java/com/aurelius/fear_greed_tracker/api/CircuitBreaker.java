@@ -0,0 +1,90 @@
+package com.aurelius.fear_greed_tracker.api;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Minimal consecutive-failure circuit breaker.
+ * CLOSED: calls pass; after failureThreshold failed calls in a row it opens.
+ * OPEN: calls are rejected until openDuration has elapsed, then a single trial call is let through (HALF_OPEN).
+ * HALF_OPEN: the trial's outcome closes the breaker again or re-opens it for another openDuration.
+ * Every permitted call must be followed by exactly one onSuccess(), onFailure() or release().
+ */
+public class CircuitBreaker {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final int failureThreshold;
+    private final Duration openDuration;
+    private final Clock clock;
+
+    private volatile State state = State.CLOSED;
+    private int consecutiveFailures;
+    private Instant openedAt;
+    private boolean trialInFlight;
+
+    public CircuitBreaker(int failureThreshold, Duration openDuration, Clock clock) {
+        if (failureThreshold < 1) {
+            throw new IllegalArgumentException("Failure threshold must be positive: " + failureThreshold);
+        }
+        this.failureThreshold = failureThreshold;
+        this.openDuration = openDuration;
+        this.clock = clock;
+    }
+
+    /**
+     * @return True if the call may proceed, false if the breaker rejects it.
+     */
+    public synchronized boolean tryAcquire() {
+        switch (state) {
+            case CLOSED:
+                return true;
+            case OPEN:
+                if (clock.instant().isBefore(openedAt.plus(openDuration))) {
+                    return false;
+                }
+                state = State.HALF_OPEN;
+                trialInFlight = true;
+                return true;
+            default:
+                if (trialInFlight) {
+                    return false;
+                }
+                trialInFlight = true;
+                return true;
+        }
+    }
+
+    public synchronized void onSuccess() {
+        consecutiveFailures = 0;
+        trialInFlight = false;
+        state = State.CLOSED;
+    }
+
+    public synchronized void onFailure() {
+        trialInFlight = false;
+        consecutiveFailures++;
+        if (state == State.HALF_OPEN || consecutiveFailures >= failureThreshold) {
+            state = State.OPEN;
+            openedAt = clock.instant();
+        }
+    }
+
+    /**
+     * Ends a permitted call that says nothing about the upstream, e.g. because the caller's own code failed.
+     * Frees a half-open trial slot and leaves the failure count and state unchanged.
+     */
+    public synchronized void release() {
+        trialInFlight = false;
+    }
+
+    /**
+     * @return The current state; OPEN is reported until the next call attempt moves it to HALF_OPEN.
+     */
+    public State getState() {
+        return state;
+    }
+}
@@ -0,0 +1,214 @@
+package com.aurelius.fear_greed_tracker.api;
+
+import com.aurelius.fear_greed_tracker.config.CnnUpstreamProperties;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpStatusCodeException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.ResponseExtractor;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Locale;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Single entry point for GET requests to the CNN Fear & Greed API.
+ * Adds the browser-like request headers CNN expects, retries 429, 5xx and I/O failures with
+ * exponential backoff and jitter (honouring Retry-After up to the backoff cap), and guards the
+ * upstream with a CircuitBreaker so that a failing CNN is not called on every request.
+ * Only upstream faults count against the breaker: I/O errors, 429 and 5xx once the retries are used up,
+ * and bodies that cannot be parsed. Exceptions thrown by the caller's extractor itself (e.g. a database
+ * error while storing streamed rows) propagate unchanged and leave the breaker as it was.
+ *
+ * Metrics: fgi.upstream.requests (timer with percentile histogram, per attempt, tagged by
+ * operation and outcome), fgi.upstream.retries, fgi.upstream.rejected and
+ * fgi.upstream.circuit.state (1 for the current state, 0 for the others).
+ */
+@Component
+@Slf4j
+public class CnnUpstreamClient {
+
+    private final RestTemplate restTemplate;
+    private final CnnUpstreamProperties.Retry retry;
+    private final CircuitBreaker circuitBreaker;
+    private final MeterRegistry meterRegistry;
+
+    public CnnUpstreamClient(RestTemplate restTemplate, CnnUpstreamProperties properties, MeterRegistry meterRegistry) {
+        this.restTemplate = restTemplate;
+        this.retry = properties.getRetry();
+        this.circuitBreaker = new CircuitBreaker(properties.getCircuitBreaker().getFailureThreshold(),
+                properties.getCircuitBreaker().getOpenDuration(), Clock.systemUTC());
+        this.meterRegistry = meterRegistry;
+        for (CircuitBreaker.State state : CircuitBreaker.State.values()) {
+            Gauge.builder("fgi.upstream.circuit.state", circuitBreaker, breaker -> breaker.getState() == state ? 1 : 0)
+                    .tag("state", state.name().toLowerCase(Locale.ROOT))
+                    .description("CNN upstream circuit breaker state")
+                    .register(meterRegistry);
+        }
+    }
+
+    /**
+     * GETs a URL and binds the JSON body to the given type.
+     * @param operation Short name of the call, used as a metric tag.
+     * @param url The absolute URL.
+     * @param responseType The body type.
+     * @return The response body, may be null.
+     */
+    public <T> T getForObject(String operation, String url, Class<T> responseType) {
+        ResponseEntity<T> response = get(operation, url, restTemplate.responseEntityExtractor(responseType));
+        return response == null ? null : response.getBody();
+    }
+
+    /**
+     * GETs a URL and hands the streamed response to the extractor.
+     * The extractor may run more than once if a retryable failure occurs, so it must not keep
+     * state across invocations.
+     * @param operation Short name of the call, used as a metric tag.
+     * @param url The absolute URL.
+     * @param extractor Reads the response.
+     * @return Whatever the extractor returned for the successful attempt.
+     * @throws UpstreamUnavailableException If the circuit breaker is open.
+     * @throws RestClientException If the last attempt failed or the failure was not retryable.
+     * @throws RuntimeException Whatever the extractor threw, without retrying and without affecting the breaker.
+     */
+    public <T> T get(String operation, String url, ResponseExtractor<T> extractor) {
+        if (!circuitBreaker.tryAcquire()) {
+            Counter.builder("fgi.upstream.rejected").tag("operation", operation).register(meterRegistry).increment();
+            throw new UpstreamUnavailableException("CNN upstream circuit breaker is open; not calling " + url);
+        }
+
+        HttpHeaders headers = createRequestHeaders();
+        // Stays null if the call ends in the extractor's own exception: no verdict on CNN.
+        Boolean upstreamHealthy = null;
+        try {
+            long backoffMillis = retry.getInitialBackoff().toMillis();
+            for (int attempt = 1; ; attempt++) {
+                Timer.Sample sample = Timer.start(meterRegistry);
+                RestClientException failure;
+                Duration retryAfter = null;
+                try {
+                    T result = restTemplate.execute(url, HttpMethod.GET,
+                            request -> request.getHeaders().putAll(headers), extractor);
+                    sample.stop(requestTimer(operation, "success"));
+                    upstreamHealthy = Boolean.TRUE;
+                    return result;
+                } catch (HttpStatusCodeException e) {
+                    sample.stop(requestTimer(operation, String.valueOf(e.getStatusCode().value())));
+                    if (!isRetryable(e.getStatusCode())) {
+                        // CNN answered; the request itself was wrong.
+                        upstreamHealthy = Boolean.TRUE;
+                        throw e;
+                    }
+                    failure = e;
+                    retryAfter = parseRetryAfter(e.getResponseHeaders());
+                } catch (ResourceAccessException e) {
+                    sample.stop(requestTimer(operation, "io_error"));
+                    if (e.getCause() instanceof JsonProcessingException) {
+                        // The body arrived but could not be parsed; asking again will not help.
+                        upstreamHealthy = Boolean.FALSE;
+                        throw e;
+                    }
+                    failure = e;
+                } catch (RestClientException e) {
+                    // Raised by RestTemplate's own extractors for bodies they cannot convert; not retried.
+                    sample.stop(requestTimer(operation, "parse_error"));
+                    upstreamHealthy = Boolean.FALSE;
+                    throw e;
+                }
+
+                if (attempt >= retry.getMaxAttempts()) {
+                    log.warn("CNN {} request failed after {} attempts: {}", operation, attempt, failure.getMessage());
+                    upstreamHealthy = Boolean.FALSE;
+                    throw failure;
+                }
+                long delayMillis = retryAfter != null
+                        ? Math.min(retryAfter.toMillis(), retry.getMaxBackoff().toMillis())
+                        : jittered(backoffMillis);
+                if (log.isDebugEnabled()) {
+                    log.debug("CNN {} request attempt {} failed ({}); retrying in {} ms.",
+                            operation, attempt, failure.getMessage(), delayMillis);
+                }
+                Counter.builder("fgi.upstream.retries").tag("operation", operation).register(meterRegistry).increment();
+                sleep(delayMillis);
+                backoffMillis = Math.min((long) (backoffMillis * retry.getMultiplier()), retry.getMaxBackoff().toMillis());
+            }
+        } finally {
+            if (upstreamHealthy == null) {
+                circuitBreaker.release();
+            } else if (upstreamHealthy) {
+                circuitBreaker.onSuccess();
+            } else {
+                circuitBreaker.onFailure();
+            }
+        }
+    }
+
+    public CircuitBreaker.State getCircuitState() {
+        return circuitBreaker.getState();
+    }
+
+    private static HttpHeaders createRequestHeaders() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set("User-Agent", "Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/120.0.0.0 Safari/537.36");
+        headers.setAccept(Collections.singletonList(MediaType.APPLICATION_JSON));
+        headers.set("Accept-Language", "en-US,en;q=0.9");
+        headers.set("Referer", "https://edition.cnn.com/markets/fear-and-greed");
+        return headers;
+    }
+
+    private Timer requestTimer(String operation, String outcome) {
+        return Timer.builder("fgi.upstream.requests")
+                .description("CNN upstream request attempts")
+                .tag("operation", operation)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    private static boolean isRetryable(HttpStatusCode status) {
+        return status.value() == 429 || status.is5xxServerError();
+    }
+
+    /**
+     * @return The Retry-After delay if the header holds a number of seconds, otherwise null.
+     */
+    private static Duration parseRetryAfter(HttpHeaders headers) {
+        String value = headers == null ? null : headers.getFirst(HttpHeaders.RETRY_AFTER);
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Duration.ofSeconds(Math.max(0, Long.parseLong(value.trim())));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private long jittered(long backoffMillis) {
+        double jitter = Math.min(1.0, Math.max(0.0, retry.getJitter()));
+        return (long) (backoffMillis * (1.0 - jitter * ThreadLocalRandom.current().nextDouble()));
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new UpstreamUnavailableException("Interrupted while waiting to retry the CNN request");
+        }
+    }
+}
@@ -0,0 +1,184 @@
+package com.aurelius.fear_greed_tracker.api;
+
+import com.aurelius.fear_greed_tracker.model.Indicator;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Streaming reader for the CNN /graphdata response.
+ * Walks the JSON with a Jackson JsonParser and hands every point of
+ * 'fear_and_greed_historical.data' and, optionally, of the component indicator series
+ * (see Indicator) to handlers as primitives, one at a time.
+ * Everything else is skipped without being materialized, so memory use does not grow
+ * with the size of the payload.
+ */
+@Component
+public class GraphDataStreamReader {
+
+    static final String HISTORICAL_FIELD = "fear_and_greed_historical";
+    static final String DATA_FIELD = "data";
+
+    private final JsonFactory jsonFactory;
+
+    public GraphDataStreamReader(ObjectMapper objectMapper) {
+        this.jsonFactory = objectMapper.getFactory();
+    }
+
+    /**
+     * Receives historical points as they are parsed.
+     */
+    public interface HistoricalPointHandler {
+
+        /**
+         * @param timestampMillis Point timestamp ('x'), epoch milliseconds.
+         * @param score Index value ('y').
+         * @param rating Sentiment rating ('rating').
+         */
+        void point(long timestampMillis, double score, String rating);
+
+        /**
+         * Called for a point missing its timestamp, score or rating.
+         */
+        void invalidPoint();
+    }
+
+    /**
+     * Receives component indicator points as they are parsed.
+     * Points without a timestamp or value are skipped; the rating may be null.
+     */
+    @FunctionalInterface
+    public interface IndicatorPointHandler {
+
+        /**
+         * @param indicator The series the point belongs to.
+         * @param timestampMillis Point timestamp ('x'), epoch milliseconds.
+         * @param value Raw indicator reading ('y').
+         * @param rating Sentiment rating of the reading, or null.
+         */
+        void point(Indicator indicator, long timestampMillis, double value, String rating);
+    }
+
+    /**
+     * Parses a /graphdata body and reports each historical point to the handler.
+     * @see #readGraphData(InputStream, HistoricalPointHandler, IndicatorPointHandler)
+     */
+    public int readHistoricalPoints(InputStream body, HistoricalPointHandler handler) throws IOException {
+        return readGraphData(body, handler, null);
+    }
+
+    /**
+     * Parses a /graphdata body in one pass.
+     * The stream is read to the end of the top-level object but not closed.
+     * @param body The response body.
+     * @param historicalHandler Receives the headline index points in payload order, or null to skip them.
+     * @param indicatorHandler Receives the component indicator points, or null to skip them.
+     * @return The number of historical points found, including invalid ones.
+     * @throws IOException If the body cannot be read or is not a JSON object.
+     */
+    public int readGraphData(InputStream body, HistoricalPointHandler historicalHandler,
+                             IndicatorPointHandler indicatorHandler) throws IOException {
+        int count = 0;
+        ParsedPoint point = new ParsedPoint();
+        try (JsonParser parser = jsonFactory.createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IOException("Expected a JSON object at the start of the graphdata response");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if (value != JsonToken.START_OBJECT) {
+                    parser.skipChildren();
+                } else if (historicalHandler != null && HISTORICAL_FIELD.equals(field)) {
+                    count += readSeriesBlock(parser, point, null, historicalHandler, null);
+                } else if (indicatorHandler != null && Indicator.fromKey(field) != null) {
+                    readSeriesBlock(parser, point, Indicator.fromKey(field), null, indicatorHandler);
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Reads one {..., "data": [{x, y, rating}, ...]} block; the parser is on its START_OBJECT.
+     * Exactly one of historicalHandler / indicatorHandler is set.
+     */
+    private int readSeriesBlock(JsonParser parser, ParsedPoint point, Indicator indicator,
+                                HistoricalPointHandler historicalHandler,
+                                IndicatorPointHandler indicatorHandler) throws IOException {
+        int count = 0;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if (!DATA_FIELD.equals(field) || value != JsonToken.START_ARRAY) {
+                parser.skipChildren();
+                continue;
+            }
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                count++;
+                boolean valid = parser.currentToken() == JsonToken.START_OBJECT && point.read(parser);
+                if (parser.currentToken() != JsonToken.END_OBJECT) {
+                    parser.skipChildren();
+                }
+                if (historicalHandler != null) {
+                    if (valid && point.rating != null) {
+                        historicalHandler.point(point.x, point.y, point.rating);
+                    } else {
+                        historicalHandler.invalidPoint();
+                    }
+                } else if (valid) {
+                    indicatorHandler.point(indicator, point.x, point.y, point.rating);
+                }
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Reusable holder for the fields of one {x, y, rating} point.
+     */
+    private static final class ParsedPoint {
+        long x;
+        double y;
+        String rating;
+
+        /**
+         * Reads the fields of the object the parser is on, up to its END_OBJECT.
+         * @return True if both x and y were present and numeric.
+         */
+        boolean read(JsonParser parser) throws IOException {
+            boolean hasX = false;
+            boolean hasY = false;
+            rating = null;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                switch (field) {
+                    case "x" -> {
+                        if (value.isNumeric()) {
+                            // CNN sends x as a float (e.g. 1.7045856E12) in some responses.
+                            x = value == JsonToken.VALUE_NUMBER_INT ? parser.getLongValue() : (long) parser.getDoubleValue();
+                            hasX = true;
+                        }
+                    }
+                    case "y" -> {
+                        if (value.isNumeric()) {
+                            y = parser.getDoubleValue();
+                            hasY = true;
+                        }
+                    }
+                    case "rating" -> rating = value == JsonToken.VALUE_STRING ? parser.getText() : null;
+                    default -> parser.skipChildren();
+                }
+            }
+            return hasX && hasY;
+        }
+    }
+}
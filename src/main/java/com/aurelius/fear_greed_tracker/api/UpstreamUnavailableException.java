@@ -0,0 +1,12 @@
+package com.aurelius.fear_greed_tracker.api;
+
+/**
+ * Thrown when a CNN call is not attempted because the upstream circuit breaker is open,
+ * or when waiting between retries is interrupted.
+ */
+public class UpstreamUnavailableException extends RuntimeException {
+
+    public UpstreamUnavailableException(String message) {
+        super(message);
+    }
+}
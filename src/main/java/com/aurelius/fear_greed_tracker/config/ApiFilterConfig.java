@@ -0,0 +1,44 @@
+package com.aurelius.fear_greed_tracker.config;
+
+import com.aurelius.fear_greed_tracker.controller.RateLimitFilter;
+import com.aurelius.fear_greed_tracker.controller.ResponseCoalescingFilter;
+import com.aurelius.fear_greed_tracker.service.TokenBucketRateLimiter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * Servlet filters in front of the public API: the per-client rate limit on every /api/fear-greed request,
+ * then coalescing of identical in-flight reads on the FearGreedApiController read endpoints.
+ * Both run after the observation filter, so throttled and coalesced requests still show up in http.server.requests.
+ */
+@Configuration
+@EnableConfigurationProperties(RateLimitProperties.class)
+public class ApiFilterConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "fgi.rate-limit.enabled", havingValue = "true", matchIfMissing = true)
+    public FilterRegistrationBean<RateLimitFilter> rateLimitFilter(RateLimitProperties properties, MeterRegistry meterRegistry) {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(properties.getStripes(), properties.getMaxClientsPerStripe());
+        FilterRegistrationBean<RateLimitFilter> registration =
+                new FilterRegistrationBean<>(new RateLimitFilter(properties, limiter, meterRegistry));
+        registration.addUrlPatterns("/api/fear-greed/*");
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+        return registration;
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "fgi.coalescing.enabled", havingValue = "true", matchIfMissing = true)
+    public FilterRegistrationBean<ResponseCoalescingFilter> responseCoalescingFilter(MeterRegistry meterRegistry) {
+        FilterRegistrationBean<ResponseCoalescingFilter> registration =
+                new FilterRegistrationBean<>(new ResponseCoalescingFilter(meterRegistry));
+        registration.addUrlPatterns("/api/fear-greed/today", "/api/fear-greed/history", "/api/fear-greed/history-by-month",
+                "/api/fear-greed/history-by-quarter", "/api/fear-greed/history-by-year", "/api/fear-greed/range");
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 20);
+        return registration;
+    }
+}
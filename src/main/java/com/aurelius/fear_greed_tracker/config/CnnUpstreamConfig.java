@@ -0,0 +1,62 @@
+package com.aurelius.fear_greed_tracker.config;
+
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.client5.http.io.HttpClientConnectionManager;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * HTTP client for the CNN upstream: a small keep-alive connection pool with connect,
+ * pool-wait and read timeouts, so a slow CNN response cannot hold a thread indefinitely.
+ * Retries and the circuit breaker live in CnnUpstreamClient; the HttpClient's own retry
+ * handler is disabled so attempts are not multiplied.
+ */
+@Configuration
+@EnableConfigurationProperties(CnnUpstreamProperties.class)
+public class CnnUpstreamConfig {
+
+    @Bean(destroyMethod = "close")
+    public CloseableHttpClient cnnHttpClient(CnnUpstreamProperties properties) {
+        TimeValue keepAlive = TimeValue.of(properties.getKeepAlive());
+        HttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(properties.getMaxConnections())
+                .setMaxConnPerRoute(properties.getMaxConnections())
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.of(properties.getConnectTimeout()))
+                        .setSocketTimeout(Timeout.of(properties.getResponseTimeout()))
+                        .build())
+                .build();
+        return HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.of(properties.getConnectionRequestTimeout()))
+                        .setResponseTimeout(Timeout.of(properties.getResponseTimeout()))
+                        .build())
+                .setKeepAliveStrategy((response, context) -> keepAlive)
+                .evictIdleConnections(keepAlive)
+                .evictExpiredConnections()
+                .disableAutomaticRetries()
+                .build();
+    }
+
+    /**
+     * RestTemplate used for all CNN calls. Built through RestTemplateBuilder so the
+     * http.client.requests metrics are recorded as well.
+     */
+    @Bean
+    public RestTemplate restTemplate(RestTemplateBuilder builder, CloseableHttpClient cnnHttpClient) {
+        return builder
+                .requestFactory(() -> new HttpComponentsClientHttpRequestFactory(cnnHttpClient))
+                .build();
+    }
+}
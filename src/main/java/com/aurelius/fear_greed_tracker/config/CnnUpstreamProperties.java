@@ -0,0 +1,69 @@
+package com.aurelius.fear_greed_tracker.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Settings for HTTP calls to the CNN Fear & Greed API, bound from {@code cnn.upstream.*}.
+ */
+@Data
+@ConfigurationProperties(prefix = "cnn.upstream")
+public class CnnUpstreamProperties {
+
+    /** Maximum pooled connections to the CNN host. */
+    private int maxConnections = 4;
+
+    /** Time to establish the TCP/TLS connection. */
+    private Duration connectTimeout = Duration.ofSeconds(2);
+
+    /** Time to wait for a free connection from the pool. */
+    private Duration connectionRequestTimeout = Duration.ofSeconds(2);
+
+    /** Time to wait for response data (socket read timeout). */
+    private Duration responseTimeout = Duration.ofSeconds(10);
+
+    /** How long an idle pooled connection is kept alive before it is evicted. */
+    private Duration keepAlive = Duration.ofSeconds(30);
+
+    private final Retry retry = new Retry();
+
+    private final CircuitBreaker circuitBreaker = new CircuitBreaker();
+
+    /**
+     * Retries on 429, 5xx and I/O errors, with exponential backoff and jitter.
+     */
+    @Data
+    public static class Retry {
+
+        /** Total attempts per call, including the first one. */
+        private int maxAttempts = 3;
+
+        /** Delay before the first retry. */
+        private Duration initialBackoff = Duration.ofMillis(500);
+
+        /** Upper bound for any single delay, including a server-sent Retry-After. */
+        private Duration maxBackoff = Duration.ofSeconds(8);
+
+        /** Factor applied to the delay after each attempt. */
+        private double multiplier = 2.0;
+
+        /** Fraction of each delay that is randomized (0 = fixed delays, 1 = full jitter). */
+        private double jitter = 0.5;
+    }
+
+    /**
+     * Opens after a run of failed calls and rejects calls until the open period has passed;
+     * then one trial call decides whether it closes again.
+     */
+    @Data
+    public static class CircuitBreaker {
+
+        /** Consecutive failed calls (after retries) that open the breaker. */
+        private int failureThreshold = 3;
+
+        /** How long the breaker stays open before allowing a trial call. */
+        private Duration openDuration = Duration.ofMinutes(5);
+    }
+}
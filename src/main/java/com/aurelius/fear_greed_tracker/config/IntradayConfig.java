@@ -0,0 +1,12 @@
+package com.aurelius.fear_greed_tracker.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Registers the intraday tick capture settings (see IntradayTickStore and IntradayCaptureService).
+ */
+@Configuration
+@EnableConfigurationProperties(IntradayProperties.class)
+public class IntradayConfig {
+}
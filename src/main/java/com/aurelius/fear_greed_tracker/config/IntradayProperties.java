@@ -0,0 +1,27 @@
+package com.aurelius.fear_greed_tracker.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Settings for intraday tick capture, bound from {@code fgi.intraday.*}.
+ */
+@Data
+@ConfigurationProperties(prefix = "fgi.intraday")
+public class IntradayProperties {
+
+    /** Whether CNN is polled during the day; the /intraday endpoint serves stored segments either way. */
+    private boolean enabled = false;
+
+    /** Delay between the end of one poll and the start of the next (ISO-8601, e.g. PT5M). */
+    private Duration pollInterval = Duration.ofMinutes(5);
+
+    /** Directory holding one segment file per day. */
+    private Path directory = Path.of("data", "intraday");
+
+    /** Records a new segment file is sized for; a full segment doubles. */
+    private int initialCapacity = 1024;
+}
@@ -0,0 +1,64 @@
+package com.aurelius.fear_greed_tracker.config;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Settings for rate limiting the public API, bound from {@code fgi.rate-limit.*}.
+ */
+@Data
+@ConfigurationProperties(prefix = "fgi.rate-limit")
+public class RateLimitProperties {
+
+    /** Whether /api/fear-greed requests are rate limited. */
+    private boolean enabled = true;
+
+    /** Request header carrying a client's API key. */
+    private String apiKeyHeader = "X-API-Key";
+
+    /** Tier of requests without a known API key; those are limited per client IP. */
+    private String anonymousTier = "anonymous";
+
+    /** Limits by tier name. */
+    private Map<String, Tier> tiers = new LinkedHashMap<>(Map.of("anonymous", new Tier(60, 2.0)));
+
+    /** API keys and the name of their tier; each key has its own bucket. */
+    private Map<String, String> apiKeys = new LinkedHashMap<>();
+
+    /** Tier whose API keys may call the administrative endpoints (POST /api/fear-greed/import). */
+    private String adminTier = "admin";
+
+    /**
+     * @param apiKey The API key a request carried, or null.
+     * @return True if the key is configured and belongs to the admin tier.
+     */
+    public boolean isAdminKey(String apiKey) {
+        return apiKey != null && adminTier.equals(apiKeys.get(apiKey));
+    }
+
+    /** Number of stripes the client buckets are spread over. */
+    private int stripes = 16;
+
+    /** Buckets per stripe before the ones that have refilled completely are dropped. */
+    private int maxClientsPerStripe = 4096;
+
+    /**
+     * A token bucket: a burst of capacity requests, refilled at refill-per-second.
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Tier {
+
+        /** Requests a client may make in a burst. */
+        private long capacity = 60;
+
+        /** Sustained requests per second. */
+        private double refillPerSecond = 2.0;
+    }
+}
@@ -0,0 +1,59 @@
+package com.aurelius.fear_greed_tracker.controller;
+
+import com.aurelius.fear_greed_tracker.analytics.AnalyticsSeries;
+import com.aurelius.fear_greed_tracker.analytics.AnalyticsSnapshot;
+import com.aurelius.fear_greed_tracker.service.AnalyticsService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
+
+/**
+ * REST Controller exposing the precomputed rolling analytics (see AnalyticsService), so clients
+ * no longer download years of history to compute moving averages and streaks themselves.
+ * Supports conditional requests like the index endpoints (see HttpCacheSupport).
+ */
+@RestController
+@RequestMapping("/api/fear-greed/analytics")
+public class AnalyticsApiController {
+
+    private final AnalyticsService analyticsService;
+    private final HttpCacheSupport httpCacheSupport;
+
+    public AnalyticsApiController(AnalyticsService analyticsService, HttpCacheSupport httpCacheSupport) {
+        this.analyticsService = analyticsService;
+        this.httpCacheSupport = httpCacheSupport;
+    }
+
+    /**
+     * HTTP GET endpoint to retrieve the analytics as of the latest stored day: SMA, EMA, min, max,
+     * stddev and z-score per window, percentile rank and sentiment streaks.
+     * Accessible at: GET http://localhost:8080/api/fear-greed/analytics
+     * @return The snapshot, or 404 if no data is stored.
+     */
+    @GetMapping
+    public ResponseEntity<AnalyticsSnapshot> getAnalytics(ServletWebRequest request) {
+        if (httpCacheSupport.checkNotModified(request)) {
+            return null;
+        }
+        return analyticsService.getSnapshot()
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    /**
+     * HTTP GET endpoint to retrieve the moving-average lines per point.
+     * Accessible at: GET http://localhost:8080/api/fear-greed/analytics/moving-averages?days=365
+     * @param days The number of days to look back.
+     * @return SMA and EMA per window, parallel to the record dates.
+     */
+    @GetMapping("/moving-averages")
+    public AnalyticsSeries getMovingAverages(@RequestParam(defaultValue = "365") int days, ServletWebRequest request) {
+        if (httpCacheSupport.checkNotModified(request)) {
+            return null;
+        }
+        return analyticsService.getSeries(days);
+    }
+}
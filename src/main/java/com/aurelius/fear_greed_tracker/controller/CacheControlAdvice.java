@@ -0,0 +1,41 @@
+package com.aurelius.fear_greed_tracker.controller;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * Applies the Cache-Control policy chosen by HttpCacheSupport when a body is written with a 2xx status.
+ * 404s, validation errors and error pages go out without it, so shared caches do not keep them.
+ */
+@ControllerAdvice
+public class CacheControlAdvice implements ResponseBodyAdvice<Object> {
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        if (request instanceof ServletServerHttpRequest servletRequest && response instanceof ServletServerHttpResponse servletResponse) {
+            HttpServletRequest httpRequest = servletRequest.getServletRequest();
+            Object cacheControl = httpRequest.getAttribute(HttpCacheSupport.CACHE_CONTROL_ATTRIBUTE);
+            int status = servletResponse.getServletResponse().getStatus();
+            if (cacheControl != null && status >= 200 && status < 300) {
+                response.getHeaders().set(HttpHeaders.CACHE_CONTROL, cacheControl.toString());
+            }
+        }
+        return body;
+    }
+}
@@ -2,40 +2,117 @@ package com.aurelius.fear_greed_tracker.controller;
 
 import com.aurelius.fear_greed_tracker.model.FearGreedIndex;
 import com.aurelius.fear_greed_tracker.service.FearGreedService;
+import com.aurelius.fear_greed_tracker.service.RollupService;
+import com.aurelius.fear_greed_tracker.store.FearGreedSeries;
+import com.aurelius.fear_greed_tracker.store.Resolution;
+import com.aurelius.fear_greed_tracker.store.RollupSeries;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
 
-import java.util.List;
+import java.time.LocalDate;
 import java.util.Optional;
 
+import static com.aurelius.fear_greed_tracker.controller.FearGreedSeriesColumnarConverter.COLUMNAR_JSON_VALUE;
+import static com.aurelius.fear_greed_tracker.controller.HistoryFormat.ROWS_JSON_VALUE;
+
 /**
  * REST Controller responsible for exposing Fear & Greed Index data via HTTP endpoints.
  * These endpoints will be consumed by the frontend to display current and historical data.
  * Includes temporary endpoints for manual fetching during development.
+ * History endpoints answer application/json with the stored FearGreedIndex rows and, on request,
+ * application/vnd.fgi.rows+json with trimmed row objects or application/vnd.fgi.columnar+json with
+ * parallel arrays, both served from the in-memory time series (see HistoryFormat).
+ * Read endpoints support conditional requests (ETag / Last-Modified, see HttpCacheSupport).
+ * The historical backfill and cleanup run as jobs (see JobApiController).
  */
 @RestController
 @RequestMapping("/api/fear-greed")
 public class FearGreedApiController {
 
+    /** Years outside the four-digit ISO range cannot be turned into a date range (or stored). */
+    private static final int MIN_YEAR = 1;
+    private static final int MAX_YEAR = 9999;
+
     private final FearGreedService fearGreedService;
+    private final RollupService rollupService;
+    private final HttpCacheSupport httpCacheSupport;
 
-    public FearGreedApiController(FearGreedService fearGreedService) {
+    public FearGreedApiController(FearGreedService fearGreedService, RollupService rollupService,
+                                  HttpCacheSupport httpCacheSupport) {
         this.fearGreedService = fearGreedService;
+        this.rollupService = rollupService;
+        this.httpCacheSupport = httpCacheSupport;
     }
 
+    /**
+     * HTTP GET endpoint to retrieve today's index, fetched from CNN on demand.
+     * The validators are evaluated after the fetch, so a client holding yesterday's stand-in gets the
+     * new row as soon as CNN recovers. A stand-in is served with no-cache and 404 is never cached.
+     * @return Today's index, the last stored one while CNN is unavailable, or 404 if nothing is stored.
+     */
     @GetMapping("/today")
-    public ResponseEntity<FearGreedIndex> getTodaysIndex() {
+    public ResponseEntity<FearGreedIndex> getTodaysIndex(ServletWebRequest request) {
         Optional<FearGreedIndex> todayIndex = fearGreedService.getOrCreateTodaysFearGreedIndex();
-        return todayIndex.map(ResponseEntity::ok)
-                .orElseGet(() -> ResponseEntity.notFound().build());
+        if (todayIndex.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        // Anything other than today's row is the last stored value, served while CNN is unavailable.
+        boolean standIn = !LocalDate.now().equals(todayIndex.get().getRecordDate());
+        if (httpCacheSupport.checkNotModified(request,
+                standIn ? httpCacheSupport.standInCacheControl() : httpCacheSupport.defaultCacheControl())) {
+            return null;
+        }
+        return ResponseEntity.ok(todayIndex.get());
     }
 
-    @GetMapping("/history")
-    public List<FearGreedIndex> getHistoricalIndex(@RequestParam(defaultValue = "7") int days) {
-        return fearGreedService.getLastNDaysFearGreedIndex(days);
+    @GetMapping(value = "/history", produces = {MediaType.APPLICATION_JSON_VALUE, ROWS_JSON_VALUE, COLUMNAR_JSON_VALUE})
+    public ResponseEntity<?> getHistoricalIndex(@RequestParam(defaultValue = "7") int days, ServletWebRequest request) {
+        if (httpCacheSupport.checkNotModified(request)) {
+            return null;
+        }
+        return ResponseEntity.ok(fromStore(request)
+                ? fearGreedService.getLastNDaysFearGreedIndex(days)
+                : fearGreedService.getLastNDaysFearGreedIndexEntities(days));
+    }
+
+    /**
+     * HTTP GET endpoint to retrieve a date range at a resolution suited to long-range charts.
+     * Accessible at: GET http://localhost:8080/api/fear-greed/history?from=2020-01-01&to=2024-12-31&resolution=auto&points=300
+     * @param from The first date to include (ISO yyyy-MM-dd); defaults to 5 years before to.
+     * @param to The last date to include (ISO yyyy-MM-dd); defaults to today.
+     * @param resolution "auto" (the finest of day/week/month/year within the point budget), "day", "week", "month" or "year".
+     * @param downsample "lttb" to select daily points by Largest-Triangle-Three-Buckets instead (auto or day resolution only).
+     * @param points The point budget.
+     * @return Open/close/min/max/avg and sentiment counts per period, or 400 for invalid parameters.
+     */
+    @GetMapping(value = "/history", params = "resolution")
+    public ResponseEntity<RollupSeries> getHistoricalIndexAtResolution(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam String resolution,
+            @RequestParam(required = false) String downsample,
+            @RequestParam(defaultValue = "300") int points,
+            ServletWebRequest request) {
+        LocalDate last = to == null ? LocalDate.now() : to;
+        LocalDate first = from == null ? last.minusYears(5) : from;
+        boolean auto = "auto".equalsIgnoreCase(resolution);
+        Resolution fixed = auto ? null : Resolution.fromParam(resolution);
+        boolean lttb = "lttb".equalsIgnoreCase(downsample);
+        if (first.isAfter(last) || points < 3 || (!auto && fixed == null)
+                || (downsample != null && !lttb) || (lttb && fixed != null && fixed != Resolution.DAY)) {
+            return ResponseEntity.badRequest().build();
+        }
+        if (httpCacheSupport.checkNotModified(request)) {
+            return null;
+        }
+        return ResponseEntity.ok(rollupService.getHistory(first, last, fixed, lttb, points));
     }
 
     /**
@@ -43,13 +120,81 @@ public class FearGreedApiController {
      * Accessible at: GET http://localhost:8080/api/fear-greed/history-by-month?year=2023&month=10
      * @param year The year to retrieve data for.
      * @param month The month (1-12) to retrieve data for.
-     * @return A List of FearGreedIndex entities for the specified month and year.
+     * @return The Fear & Greed Index rows for the specified month and year, or 400 for an invalid year or month.
      */
-    @GetMapping("/history-by-month")
-    public List<FearGreedIndex> getHistoricalIndexByMonth(
+    @GetMapping(value = "/history-by-month", produces = {MediaType.APPLICATION_JSON_VALUE, ROWS_JSON_VALUE, COLUMNAR_JSON_VALUE})
+    public ResponseEntity<?> getHistoricalIndexByMonth(
             @RequestParam int year,
-            @RequestParam int month) {
-        return fearGreedService.getFearGreedIndexByMonthAndYear(year, month);
+            @RequestParam int month,
+            ServletWebRequest request) {
+        if (!isSupportedYear(year) || month < 1 || month > 12) {
+            return ResponseEntity.badRequest().build();
+        }
+        if (httpCacheSupport.checkNotModified(request)) {
+            return null;
+        }
+        return ResponseEntity.ok(fromStore(request)
+                ? fearGreedService.getFearGreedIndexByMonthAndYear(year, month)
+                : fearGreedService.getFearGreedIndexEntitiesByMonthAndYear(year, month));
+    }
+
+    /**
+     * HTTP GET endpoint to retrieve Fear & Greed Index data for a calendar quarter.
+     * Accessible at: GET http://localhost:8080/api/fear-greed/history-by-quarter?year=2023&quarter=4
+     * @param year The year to retrieve data for.
+     * @param quarter The quarter (1-4) to retrieve data for.
+     * @return The Fear & Greed Index rows for the quarter, or 400 for an invalid year or quarter.
+     */
+    @GetMapping(value = "/history-by-quarter", produces = {MediaType.APPLICATION_JSON_VALUE, COLUMNAR_JSON_VALUE})
+    public ResponseEntity<FearGreedSeries> getHistoricalIndexByQuarter(
+            @RequestParam int year,
+            @RequestParam int quarter,
+            ServletWebRequest request) {
+        if (!isSupportedYear(year) || quarter < 1 || quarter > 4) {
+            return ResponseEntity.badRequest().build();
+        }
+        if (httpCacheSupport.checkNotModified(request)) {
+            return null;
+        }
+        return ResponseEntity.ok(fearGreedService.getFearGreedIndexByQuarterAndYear(year, quarter));
+    }
+
+    /**
+     * HTTP GET endpoint to retrieve Fear & Greed Index data for a calendar year.
+     * Accessible at: GET http://localhost:8080/api/fear-greed/history-by-year?year=2023
+     * @param year The year to retrieve data for.
+     * @return The Fear & Greed Index rows for the year, or 400 for an invalid year.
+     */
+    @GetMapping(value = "/history-by-year", produces = {MediaType.APPLICATION_JSON_VALUE, COLUMNAR_JSON_VALUE})
+    public ResponseEntity<FearGreedSeries> getHistoricalIndexByYear(@RequestParam int year, ServletWebRequest request) {
+        if (!isSupportedYear(year)) {
+            return ResponseEntity.badRequest().build();
+        }
+        if (httpCacheSupport.checkNotModified(request)) {
+            return null;
+        }
+        return ResponseEntity.ok(fearGreedService.getFearGreedIndexByYear(year));
+    }
+
+    /**
+     * HTTP GET endpoint to retrieve Fear & Greed Index data between two dates (both inclusive).
+     * Accessible at: GET http://localhost:8080/api/fear-greed/range?from=2023-01-01&to=2023-06-30
+     * @param from The first date to include (ISO yyyy-MM-dd).
+     * @param to The last date to include (ISO yyyy-MM-dd).
+     * @return The Fear & Greed Index rows in the range, or 400 if from is after to or either lies outside years 1-9999.
+     */
+    @GetMapping(value = "/range", produces = {MediaType.APPLICATION_JSON_VALUE, COLUMNAR_JSON_VALUE})
+    public ResponseEntity<FearGreedSeries> getIndexInRange(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            ServletWebRequest request) {
+        if (from.isAfter(to) || !isSupportedYear(from.getYear()) || !isSupportedYear(to.getYear())) {
+            return ResponseEntity.badRequest().build();
+        }
+        if (httpCacheSupport.checkNotModified(request)) {
+            return null;
+        }
+        return ResponseEntity.ok(fearGreedService.getFearGreedIndexBetween(from, to));
     }
 
     @GetMapping("/fetch-now")
@@ -62,29 +207,11 @@ public class FearGreedApiController {
         }
     }
 
-    @GetMapping("/fetch-history-now")
-    public ResponseEntity<String> fetchHistoryNow() {
-        try {
-            int savedCount = fearGreedService.fetchAndSaveHistoricalFearGreedIndex();
-            return ResponseEntity.ok("Historical Fear & Greed Index fetch triggered successfully. Saved " + savedCount + " new entries. Check logs for details.");
-        } catch (Exception e) {
-            return ResponseEntity.internalServerError().body("Failed to trigger historical fetch: " + e.getMessage());
-        }
+    private static boolean isSupportedYear(int year) {
+        return year >= MIN_YEAR && year <= MAX_YEAR;
     }
 
-    /**
-     * TEMPORARY ENDPOINT FOR MANUAL TESTING (DEVELOPMENT ONLY):
-     * Triggers the deletion of old data immediately.
-     * This endpoint should be REMOVED in a production environment as scheduling handles this.
-     * Accessible at: GET http://localhost:8080/api/fear-greed/cleanup-old-data
-     */
-    @GetMapping("/cleanup-old-data")
-    public ResponseEntity<String> cleanupOldData() {
-        try {
-            fearGreedService.deleteOldFearGreedIndexData();
-            return ResponseEntity.ok("Old Fear & Greed Index data cleanup triggered successfully. Check logs for details.");
-        } catch (Exception e) {
-            return ResponseEntity.internalServerError().body("Failed to trigger data cleanup: " + e.getMessage());
-        }
+    private static boolean fromStore(ServletWebRequest request) {
+        return HistoryFormat.negotiate(request.getHeader(HttpHeaders.ACCEPT)).fromStore();
     }
 }
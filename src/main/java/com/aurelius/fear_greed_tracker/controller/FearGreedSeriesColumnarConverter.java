@@ -0,0 +1,84 @@
+package com.aurelius.fear_greed_tracker.controller;
+
+import com.aurelius.fear_greed_tracker.store.FearGreedSeries;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+
+/**
+ * Writes a FearGreedSeries in the compact columnar format, selected with
+ * {@code Accept: application/vnd.fgi.columnar+json}:
+ * {"dates":[epochDay,...],"values":[score,...],"sentiment":[code,...]}.
+ * Dates are days since 1970-01-01 and sentiment codes follow the Sentiment enum.
+ * The body is streamed through Jackson's JsonGenerator directly from the column arrays.
+ * Plain application/json keeps the stored entity rows (see HistoryFormat).
+ */
+@Component
+public class FearGreedSeriesColumnarConverter extends AbstractHttpMessageConverter<FearGreedSeries> {
+
+    public static final String COLUMNAR_JSON_VALUE = "application/vnd.fgi.columnar+json";
+    public static final MediaType COLUMNAR_JSON = MediaType.parseMediaType(COLUMNAR_JSON_VALUE);
+
+    private final ObjectMapper objectMapper;
+
+    public FearGreedSeriesColumnarConverter(ObjectMapper objectMapper) {
+        super(COLUMNAR_JSON);
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return FearGreedSeries.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    protected boolean canRead(MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected FearGreedSeries readInternal(Class<? extends FearGreedSeries> clazz, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("Columnar series format is write-only", inputMessage);
+    }
+
+    @Override
+    protected void writeInternal(FearGreedSeries series, HttpOutputMessage outputMessage) throws IOException {
+        try (JsonGenerator gen = objectMapper.getFactory().createGenerator(outputMessage.getBody(), JsonEncoding.UTF8)) {
+            writeColumnar(series, gen);
+        }
+    }
+
+    /**
+     * Writes the columnar representation of a series to a generator.
+     * @param series The series to write.
+     * @param gen The generator to write to; not closed.
+     */
+    public static void writeColumnar(FearGreedSeries series, JsonGenerator gen) throws IOException {
+        int size = series.size();
+        gen.writeStartObject();
+        gen.writeArrayFieldStart("dates");
+        for (int i = 0; i < size; i++) {
+            gen.writeNumber(series.epochDay(i));
+        }
+        gen.writeEndArray();
+        gen.writeArrayFieldStart("values");
+        for (int i = 0; i < size; i++) {
+            gen.writeNumber(series.value(i));
+        }
+        gen.writeEndArray();
+        gen.writeArrayFieldStart("sentiment");
+        for (int i = 0; i < size; i++) {
+            gen.writeNumber(series.sentimentCode(i));
+        }
+        gen.writeEndArray();
+        gen.writeEndObject();
+    }
+}
@@ -0,0 +1,40 @@
+package com.aurelius.fear_greed_tracker.controller;
+
+import com.aurelius.fear_greed_tracker.service.FearGreedStreamService;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * REST Controller for live index updates over Server-Sent Events.
+ * Replaces polling /today: clients receive an "index" event with the stored FearGreedIndex
+ * whenever a new or changed value is saved (see FearGreedStreamService).
+ */
+@RestController
+@RequestMapping("/api/fear-greed")
+public class FearGreedStreamController {
+
+    private final FearGreedStreamService streamService;
+
+    public FearGreedStreamController(FearGreedStreamService streamService) {
+        this.streamService = streamService;
+    }
+
+    /**
+     * HTTP GET endpoint to subscribe to index updates.
+     * Accessible at: GET http://localhost:8080/api/fear-greed/stream (e.g. new EventSource(url) in the browser)
+     * @return The event stream, or 503 if the server is at its subscriber limit.
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> stream() {
+        SseEmitter emitter = streamService.subscribe();
+        if (emitter == null) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+        return ResponseEntity.ok(emitter);
+    }
+}
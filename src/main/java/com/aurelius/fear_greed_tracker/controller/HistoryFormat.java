@@ -0,0 +1,78 @@
+package com.aurelius.fear_greed_tracker.controller;
+
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+
+/**
+ * Representations of the history endpoints, negotiated from the Accept header:
+ * - ENTITIES (application/json, also for a missing Accept header or a wildcard): the stored
+ *   FearGreedIndex rows with all their columns and CNN's sentiment label as stored, read through JPA;
+ * - ROWS (application/vnd.fgi.rows+json): {recordDate, fgiValue, sentiment} objects written from the
+ *   in-memory time series (see FearGreedSeriesSerializer);
+ * - COLUMNAR (application/vnd.fgi.columnar+json): parallel arrays from the in-memory time series
+ *   (see FearGreedSeriesColumnarConverter).
+ */
+enum HistoryFormat {
+
+    ENTITIES("j"),
+    ROWS("r"),
+    COLUMNAR("c");
+
+    static final String ROWS_JSON_VALUE = "application/vnd.fgi.rows+json";
+    static final MediaType ROWS_JSON = MediaType.parseMediaType(ROWS_JSON_VALUE);
+
+    private final String key;
+
+    HistoryFormat(String key) {
+        this.key = key;
+    }
+
+    /**
+     * @return A short identifier of the format, part of the ETag.
+     */
+    String key() {
+        return key;
+    }
+
+    /**
+     * @return True if the format is served from the in-memory time series rather than the repository.
+     */
+    boolean fromStore() {
+        return this != ENTITIES;
+    }
+
+    /**
+     * Picks the format of the accepted media type with the highest quality; on a tie the first one listed wins.
+     * @param accept The Accept header, or null.
+     * @return The negotiated format; ENTITIES unless a store format is preferred explicitly.
+     */
+    static HistoryFormat negotiate(String accept) {
+        if (accept == null || accept.isBlank()) {
+            return ENTITIES;
+        }
+        HistoryFormat chosen = ENTITIES;
+        double bestQuality = 0;
+        try {
+            for (MediaType type : MediaType.parseMediaTypes(accept)) {
+                HistoryFormat format = forMediaType(type);
+                if (format != null && type.getQualityValue() > bestQuality) {
+                    chosen = format;
+                    bestQuality = type.getQualityValue();
+                }
+            }
+        } catch (InvalidMediaTypeException e) {
+            return ENTITIES;
+        }
+        return chosen;
+    }
+
+    private static HistoryFormat forMediaType(MediaType type) {
+        if (type.equalsTypeAndSubtype(ROWS_JSON)) {
+            return ROWS;
+        }
+        if (type.equalsTypeAndSubtype(FearGreedSeriesColumnarConverter.COLUMNAR_JSON)) {
+            return COLUMNAR;
+        }
+        return type.isCompatibleWith(MediaType.APPLICATION_JSON) ? ENTITIES : null;
+    }
+}
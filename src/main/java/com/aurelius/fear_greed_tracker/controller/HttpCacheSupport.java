@@ -0,0 +1,101 @@
+package com.aurelius.fear_greed_tracker.controller;
+
+import com.aurelius.fear_greed_tracker.service.FearGreedService;
+import com.aurelius.fear_greed_tracker.store.DatasetVersion;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.time.Duration;
+import java.time.LocalDate;
+
+/**
+ * HTTP caching for the read endpoints.
+ * Every response carries a strong ETag and Last-Modified derived from the stored dataset version.
+ * Conditional requests are answered with 304 before the handler queries or serializes anything.
+ * Cache-Control (by default a public max-age that runs until the next scheduled daily fetch, or at most
+ * one poll interval while intraday capture revises today's row during the day) is only
+ * attached to 304 and 2xx responses: the policy is kept as a request attribute and applied by
+ * CacheControlAdvice once the handler's status is known, so 4xx and error responses are never cached.
+ */
+@Component
+public class HttpCacheSupport {
+
+    /** Request attribute holding the Cache-Control policy for a successful response. */
+    static final String CACHE_CONTROL_ATTRIBUTE = HttpCacheSupport.class.getName() + ".cacheControl";
+
+    private final FearGreedService fearGreedService;
+    private final Duration intradayPollInterval;
+
+    public HttpCacheSupport(FearGreedService fearGreedService,
+                            @Value("${fgi.intraday.enabled:false}") boolean intradayEnabled,
+                            @Value("${fgi.intraday.poll-interval:PT5M}") Duration intradayPollInterval) {
+        this.fearGreedService = fearGreedService;
+        this.intradayPollInterval = intradayEnabled ? intradayPollInterval : null;
+    }
+
+    /**
+     * Evaluates If-None-Match / If-Modified-Since with the default Cache-Control policy.
+     * @param request The current request.
+     * @return True if the client's copy is current; the response is then already a 304
+     *         and the handler should return null without producing a body.
+     * @see #checkNotModified(ServletWebRequest, CacheControl)
+     */
+    public boolean checkNotModified(ServletWebRequest request) {
+        return checkNotModified(request, defaultCacheControl());
+    }
+
+    /**
+     * Adds the validators to the response and evaluates If-None-Match / If-Modified-Since.
+     * The given Cache-Control goes on a 304 right away and on a later 2xx response.
+     * @param request The current request.
+     * @param cacheControl The caching policy for this response.
+     * @return True if the client's copy is current; the response is then already a 304
+     *         and the handler should return null without producing a body.
+     */
+    public boolean checkNotModified(ServletWebRequest request, CacheControl cacheControl) {
+        HttpServletResponse response = request.getResponse();
+        if (response != null) {
+            response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+        }
+        request.setAttribute(CACHE_CONTROL_ATTRIBUTE, cacheControl.getHeaderValue(), RequestAttributes.SCOPE_REQUEST);
+        DatasetVersion version = fearGreedService.getDatasetVersion();
+        boolean notModified = request.checkNotModified(version.eTag(representation(request)), version.lastModified().toEpochMilli());
+        if (notModified && response != null) {
+            response.setHeader(HttpHeaders.CACHE_CONTROL, cacheControl.getHeaderValue());
+        }
+        return notModified;
+    }
+
+    /**
+     * @return The policy for responses that stay valid until new data can appear.
+     */
+    public CacheControl defaultCacheControl() {
+        Duration maxAge = fearGreedService.getTimeUntilNextScheduledFetch();
+        if (intradayPollInterval != null && intradayPollInterval.compareTo(maxAge) < 0) {
+            maxAge = intradayPollInterval;
+        }
+        return CacheControl.maxAge(maxAge).cachePublic();
+    }
+
+    /**
+     * @return The policy for a response that is only a stand-in, such as the last stored index served
+     *         while CNN is unavailable, so clients and shared caches revalidate on their next request.
+     */
+    public CacheControl standInCacheControl() {
+        return CacheControl.noCache();
+    }
+
+    /**
+     * Identifies what else the body depends on besides the data: the negotiated format and the
+     * current date, since relative windows such as /history?days=N and /today move with the calendar.
+     */
+    private static String representation(ServletWebRequest request) {
+        HistoryFormat format = HistoryFormat.negotiate(request.getHeader(HttpHeaders.ACCEPT));
+        return format.key() + Long.toHexString(LocalDate.now().toEpochDay());
+    }
+}
@@ -0,0 +1,102 @@
+package com.aurelius.fear_greed_tracker.controller;
+
+import com.aurelius.fear_greed_tracker.model.Indicator;
+import com.aurelius.fear_greed_tracker.service.IndicatorService;
+import com.aurelius.fear_greed_tracker.store.IndicatorSeries;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * REST Controller exposing the CNN component indicators (market momentum, put/call options, ...).
+ * Responses hold one date axis and, per indicator, aligned value and rating arrays with null
+ * where an indicator has no reading on a date (see IndicatorSeriesSerializer).
+ * Supports conditional requests like the index endpoints (see HttpCacheSupport).
+ */
+@RestController
+@RequestMapping("/api/fear-greed/indicators")
+public class IndicatorApiController {
+
+    private final IndicatorService indicatorService;
+    private final HttpCacheSupport httpCacheSupport;
+
+    public IndicatorApiController(IndicatorService indicatorService, HttpCacheSupport httpCacheSupport) {
+        this.indicatorService = indicatorService;
+        this.httpCacheSupport = httpCacheSupport;
+    }
+
+    /**
+     * HTTP GET endpoint to retrieve several indicators aligned on date.
+     * Accessible at: GET http://localhost:8080/api/fear-greed/indicators?names=put_call_options,junk_bond_demand&from=2023-01-01&to=2023-12-31
+     * @param names Comma-separated indicator names (see Indicator keys); all indicators when omitted.
+     * @param from The first date to include (ISO yyyy-MM-dd); defaults to 365 days before to.
+     * @param to The last date to include (ISO yyyy-MM-dd); defaults to today.
+     * @return The aligned series, or 400 for an unknown name or if from is after to.
+     */
+    @GetMapping
+    public ResponseEntity<IndicatorSeries> getIndicators(
+            @RequestParam(required = false) String names,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            ServletWebRequest request) {
+        List<Indicator> indicators = names == null ? Arrays.asList(Indicator.values()) : parseNames(names);
+        return respond(indicators, from, to, request);
+    }
+
+    /**
+     * HTTP GET endpoint to retrieve a single indicator.
+     * Accessible at: GET http://localhost:8080/api/fear-greed/indicators/put_call_options?from=2023-01-01
+     * @param name The indicator name (see Indicator keys).
+     * @param from The first date to include (ISO yyyy-MM-dd); defaults to 365 days before to.
+     * @param to The last date to include (ISO yyyy-MM-dd); defaults to today.
+     * @return The series, or 400 for an unknown name or if from is after to.
+     */
+    @GetMapping("/{name}")
+    public ResponseEntity<IndicatorSeries> getIndicator(
+            @PathVariable String name,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            ServletWebRequest request) {
+        return respond(parseNames(name), from, to, request);
+    }
+
+    private ResponseEntity<IndicatorSeries> respond(List<Indicator> indicators, LocalDate from, LocalDate to,
+                                                    ServletWebRequest request) {
+        LocalDate last = to == null ? LocalDate.now() : to;
+        LocalDate first = from == null ? last.minusDays(364) : from;
+        if (indicators == null || first.isAfter(last)) {
+            return ResponseEntity.badRequest().build();
+        }
+        if (httpCacheSupport.checkNotModified(request)) {
+            return null;
+        }
+        return ResponseEntity.ok(indicatorService.getIndicatorsBetween(indicators, first, last));
+    }
+
+    /**
+     * @return The indicators in request order without duplicates, or null if a name is unknown or none is given.
+     */
+    private static List<Indicator> parseNames(String names) {
+        List<Indicator> indicators = new ArrayList<>();
+        for (String name : names.split(",")) {
+            Indicator indicator = Indicator.fromKey(name.trim());
+            if (indicator == null) {
+                return null;
+            }
+            if (!indicators.contains(indicator)) {
+                indicators.add(indicator);
+            }
+        }
+        return indicators.isEmpty() ? null : indicators;
+    }
+}
@@ -0,0 +1,48 @@
+package com.aurelius.fear_greed_tracker.controller;
+
+import com.aurelius.fear_greed_tracker.store.IntradayTickStore;
+import com.aurelius.fear_greed_tracker.store.IntradayTicks;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.io.IOException;
+import java.time.LocalDate;
+
+/**
+ * REST Controller exposing the intraday ticks recorded in capture mode (see IntradayCaptureService).
+ * The ticks of a day only ever grow, so the ETag is derived from the tick count and the last tick's time.
+ */
+@RestController
+@RequestMapping("/api/fear-greed/intraday")
+public class IntradayApiController {
+
+    private final IntradayTickStore tickStore;
+
+    public IntradayApiController(IntradayTickStore tickStore) {
+        this.tickStore = tickStore;
+    }
+
+    /**
+     * HTTP GET endpoint to retrieve the ticks of one day.
+     * Accessible at: GET http://localhost:8080/api/fear-greed/intraday?date=2024-06-03
+     * @param date The day (ISO yyyy-MM-dd); defaults to today.
+     * @return The day's ticks in capture order, empty if none were recorded.
+     */
+    @GetMapping
+    public ResponseEntity<IntradayTicks> getIntraday(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            ServletWebRequest request) throws IOException {
+        LocalDate day = date == null ? LocalDate.now() : date;
+        IntradayTicks ticks = tickStore.ticks(day);
+        String eTag = "\"" + day + "-" + ticks.size() + "-" + Long.toHexString(ticks.lastEpochMillis()) + "\"";
+        if (request.checkNotModified(eTag)) {
+            return null;
+        }
+        return ResponseEntity.ok(ticks);
+    }
+}
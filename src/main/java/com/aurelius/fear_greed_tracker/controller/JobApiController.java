@@ -0,0 +1,65 @@
+package com.aurelius.fear_greed_tracker.controller;
+
+import com.aurelius.fear_greed_tracker.service.Job;
+import com.aurelius.fear_greed_tracker.service.JobService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.net.URI;
+
+/**
+ * REST Controller for long-running maintenance operations (see JobService).
+ * Triggering an operation answers 202 Accepted right away with the job and its Location;
+ * progress and duration are polled from /jobs/{id}. Triggering an operation that is still
+ * running answers with the running job.
+ */
+@RestController
+@RequestMapping("/api/fear-greed")
+public class JobApiController {
+
+    private final JobService jobService;
+
+    public JobApiController(JobService jobService) {
+        this.jobService = jobService;
+    }
+
+    /**
+     * Starts the full historical download.
+     * Accessible at: GET http://localhost:8080/api/fear-greed/fetch-history-now
+     * @return 202 with the backfill job.
+     */
+    @GetMapping("/fetch-history-now")
+    public ResponseEntity<Job> fetchHistoryNow() {
+        return accepted(jobService.submit(Job.Operation.BACKFILL));
+    }
+
+    /**
+     * TEMPORARY ENDPOINT FOR MANUAL TESTING (DEVELOPMENT ONLY):
+     * Starts the deletion of old data; scheduling handles this in production.
+     * Accessible at: GET http://localhost:8080/api/fear-greed/cleanup-old-data
+     * @return 202 with the cleanup job.
+     */
+    @GetMapping("/cleanup-old-data")
+    public ResponseEntity<Job> cleanupOldData() {
+        return accepted(jobService.submit(Job.Operation.CLEANUP));
+    }
+
+    /**
+     * HTTP GET endpoint to poll a job.
+     * Accessible at: GET http://localhost:8080/api/fear-greed/jobs/{id}
+     * @param id The job id returned when the job was submitted.
+     * @return The job's state, counters and duration, or 404 for an unknown or expired id.
+     */
+    @GetMapping("/jobs/{id}")
+    public ResponseEntity<Job> getJob(@PathVariable String id) {
+        Job job = jobService.get(id);
+        return job == null ? ResponseEntity.notFound().build() : ResponseEntity.ok(job);
+    }
+
+    private static ResponseEntity<Job> accepted(Job job) {
+        return ResponseEntity.accepted().location(URI.create("/api/fear-greed/jobs/" + job.getId())).body(job);
+    }
+}
@@ -0,0 +1,103 @@
+package com.aurelius.fear_greed_tracker.controller;
+
+import com.aurelius.fear_greed_tracker.config.RateLimitProperties;
+import com.aurelius.fear_greed_tracker.service.TokenBucketRateLimiter;
+import com.aurelius.fear_greed_tracker.service.WarmupService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Limits how fast each client may call the API, so a misbehaving client cannot drive database load
+ * or CNN fetches (/today, /fetch-now). A request carrying a configured API key (fgi.rate-limit.api-key-header)
+ * takes a token from that key's bucket in the key's tier; any other request takes one from the bucket of
+ * its client IP in the anonymous tier. The client IP is the connection's peer address unless the
+ * behind-proxy profile is active: it then comes from X-Forwarded-For, but only for requests from the proxies
+ * listed in server.tomcat.remoteip.internal-proxies, so clients cannot choose their own bucket by sending
+ * the header themselves. CORS preflights and the startup warm-up's loopback requests (WarmupService) are
+ * not counted.
+ * A request without a token is answered 429 with Retry-After (whole seconds until a token is available).
+ *
+ * Metrics: fgi.ratelimit.throttled{tier} counts refused requests, fgi.ratelimit.clients the buckets held.
+ */
+@Slf4j
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private final TokenBucketRateLimiter limiter;
+    private final String apiKeyHeader;
+    private final String anonymousTier;
+    private final Map<String, String> apiKeyTiers;
+    private final Map<String, TokenBucketRateLimiter.Limit> limits = new HashMap<>();
+    private final Map<String, Counter> throttledCounters = new HashMap<>();
+
+    public RateLimitFilter(RateLimitProperties properties, TokenBucketRateLimiter limiter, MeterRegistry meterRegistry) {
+        this.limiter = limiter;
+        this.apiKeyHeader = properties.getApiKeyHeader();
+        this.anonymousTier = properties.getAnonymousTier();
+        this.apiKeyTiers = Map.copyOf(properties.getApiKeys());
+        properties.getTiers().forEach((name, tier) -> {
+            limits.put(name, TokenBucketRateLimiter.Limit.of(tier.getCapacity(), tier.getRefillPerSecond()));
+            throttledCounters.put(name, Counter.builder("fgi.ratelimit.throttled")
+                    .description("Requests refused with 429 by the rate limiter")
+                    .tag("tier", name)
+                    .register(meterRegistry));
+        });
+        if (!limits.containsKey(anonymousTier)) {
+            throw new IllegalArgumentException("Anonymous tier '" + anonymousTier + "' is not defined in fgi.rate-limit.tiers");
+        }
+        apiKeyTiers.values().stream().filter(tier -> !limits.containsKey(tier)).findFirst().ifPresent(tier -> {
+            throw new IllegalArgumentException("API key tier '" + tier + "' is not defined in fgi.rate-limit.tiers");
+        });
+        Gauge.builder("fgi.ratelimit.clients", limiter, TokenBucketRateLimiter::getTrackedClients)
+                .description("Client buckets held by the rate limiter")
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return HttpMethod.OPTIONS.matches(request.getMethod())
+                || WarmupService.isWarmupRequest(request.getHeader(WarmupService.REQUEST_HEADER));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String apiKey = request.getHeader(apiKeyHeader);
+        String tier = apiKey == null ? null : apiKeyTiers.get(apiKey);
+        String client;
+        if (tier != null) {
+            client = "key:" + apiKey;
+        } else {
+            tier = anonymousTier;
+            client = "ip:" + request.getRemoteAddr();
+        }
+        long waitNanos = limiter.tryAcquire(client, limits.get(tier));
+        if (waitNanos == 0) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        throttledCounters.get(tier).increment();
+        long retryAfterSeconds = Math.max(1, (waitNanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1));
+        log.debug("Throttled {} request to {} from {} for {}s.", tier, request.getRequestURI(), request.getRemoteAddr(),
+                retryAfterSeconds);
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+        response.setContentType(MediaType.TEXT_PLAIN_VALUE);
+        response.getWriter().write("Too many requests; retry in " + retryAfterSeconds + " s.");
+    }
+}
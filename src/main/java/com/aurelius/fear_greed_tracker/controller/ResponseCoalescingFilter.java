@@ -0,0 +1,154 @@
+package com.aurelius.fear_greed_tracker.controller;
+
+import com.aurelius.fear_greed_tracker.service.SingleFlight;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Answers identical GET requests that arrive while one of them is being handled with that one response.
+ * Requests are identical when path, query string, Accept, Origin and the conditional headers match;
+ * the first runs the handler (one service/repository call, one serialization) into a buffer, and the
+ * others wait for it and get the same status, representation headers and body bytes (see SingleFlight).
+ * Nothing is kept once the response is out. A response the handler committed itself (sendError) or a
+ * handler that threw is not shared; the waiting requests are then handled on their own.
+ *
+ * Metrics: fgi.http.coalesced counts requests answered with another request's response.
+ */
+public class ResponseCoalescingFilter extends OncePerRequestFilter {
+
+    /**
+     * Headers describing the representation besides Content-Type (which the container keeps apart from the
+     * other headers); anything else, e.g. set by earlier filters, stays per request.
+     */
+    private static final Set<String> SHARED_HEADERS = Set.of(
+            HttpHeaders.ETAG.toLowerCase(), HttpHeaders.LAST_MODIFIED.toLowerCase(),
+            HttpHeaders.CACHE_CONTROL.toLowerCase(), HttpHeaders.EXPIRES.toLowerCase(),
+            HttpHeaders.PRAGMA.toLowerCase(), HttpHeaders.VARY.toLowerCase());
+
+    private final SingleFlight<String, SharedResponse> inFlight = new SingleFlight<>();
+
+    public ResponseCoalescingFilter(MeterRegistry meterRegistry) {
+        FunctionCounter.builder("fgi.http.coalesced", inFlight, SingleFlight::getCoalescedCount)
+                .description("Requests answered with the response of an identical request in flight")
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !HttpMethod.GET.matches(request.getMethod());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        AtomicBoolean handledHere = new AtomicBoolean();
+        SharedResponse shared = inFlight.execute(key(request), () -> {
+            handledHere.set(true);
+            return handle(request, response, filterChain);
+        });
+        if (handledHere.get()) {
+            shared.rethrowFailure();
+            if (shared.shareable()) {
+                shared.writeTo(response);
+            }
+        } else if (shared.shareable()) {
+            shared.writeTo(response);
+        } else {
+            filterChain.doFilter(request, response);
+        }
+    }
+
+    /**
+     * @return The number of requests that received the response of an identical request in flight.
+     */
+    public long getCoalescedCount() {
+        return inFlight.getCoalescedCount();
+    }
+
+    private static SharedResponse handle(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) {
+        ContentCachingResponseWrapper buffer = new ContentCachingResponseWrapper(response);
+        try {
+            filterChain.doFilter(request, buffer);
+        } catch (IOException | ServletException | RuntimeException e) {
+            return SharedResponse.failed(e);
+        }
+        if (response.isCommitted()) {
+            return SharedResponse.failed(null);
+        }
+        Map<String, List<String>> headers = new LinkedHashMap<>();
+        for (String name : buffer.getHeaderNames()) {
+            String lowerCase = name.toLowerCase();
+            if (SHARED_HEADERS.contains(lowerCase) || lowerCase.startsWith("access-control-")) {
+                headers.putIfAbsent(name, List.copyOf(buffer.getHeaders(name)));
+            }
+        }
+        return new SharedResponse(buffer.getStatus(), buffer.getContentType(), headers, buffer.getContentAsByteArray(), null);
+    }
+
+    private static String key(HttpServletRequest request) {
+        return request.getRequestURI()
+                + '?' + Objects.toString(request.getQueryString(), "")
+                + '\n' + Objects.toString(request.getHeader(HttpHeaders.ACCEPT), "")
+                + '\n' + Objects.toString(request.getHeader(HttpHeaders.ORIGIN), "")
+                + '\n' + Objects.toString(request.getHeader(HttpHeaders.IF_NONE_MATCH), "")
+                + '\n' + Objects.toString(request.getHeader(HttpHeaders.IF_MODIFIED_SINCE), "");
+    }
+
+    /**
+     * A buffered response, or the reason it cannot be shared (failure null: committed by the handler).
+     */
+    private record SharedResponse(int status, String contentType, Map<String, List<String>> headers, byte[] body,
+                                  Exception failure) {
+
+        static SharedResponse failed(Exception failure) {
+            return new SharedResponse(0, null, Map.of(), new byte[0], failure);
+        }
+
+        boolean shareable() {
+            return status != 0;
+        }
+
+        void rethrowFailure() throws IOException, ServletException {
+            if (failure instanceof IOException ioException) {
+                throw ioException;
+            }
+            if (failure instanceof ServletException servletException) {
+                throw servletException;
+            }
+            if (failure instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+        }
+
+        void writeTo(HttpServletResponse response) throws IOException {
+            response.setStatus(status);
+            if (contentType != null) {
+                response.setContentType(contentType);
+            }
+            headers.forEach((name, values) -> {
+                response.setHeader(name, values.get(0));
+                values.stream().skip(1).forEach(value -> response.addHeader(name, value));
+            });
+            if (body.length > 0) {
+                response.setContentLength(body.length);
+                response.getOutputStream().write(body);
+            }
+        }
+    }
+}
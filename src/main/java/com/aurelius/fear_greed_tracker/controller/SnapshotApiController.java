@@ -0,0 +1,78 @@
+package com.aurelius.fear_greed_tracker.controller;
+
+import com.aurelius.fear_greed_tracker.config.RateLimitProperties;
+import com.aurelius.fear_greed_tracker.service.IngestResult;
+import com.aurelius.fear_greed_tracker.service.SnapshotService;
+import com.aurelius.fear_greed_tracker.store.InvalidSnapshotException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * REST Controller for bulk transfer of the stored index history as a binary snapshot
+ * (application/vnd.fgi.snapshot, see FearGreedSnapshotWriter for the layout).
+ * Seed an environment with: curl .../export -o fgi.snapshot, then
+ * curl -X POST -H 'X-API-Key: <admin key>' -H 'Content-Type: application/vnd.fgi.snapshot' --data-binary @fgi.snapshot .../import
+ * Importing writes the whole table, so it requires an API key of the admin tier (fgi.rate-limit.admin-tier);
+ * requests without a key get 401, requests with any other key 403.
+ */
+@RestController
+@RequestMapping("/api/fear-greed")
+@Slf4j
+public class SnapshotApiController {
+
+    public static final String SNAPSHOT_VALUE = "application/vnd.fgi.snapshot";
+
+    private final SnapshotService snapshotService;
+    private final RateLimitProperties rateLimitProperties;
+
+    public SnapshotApiController(SnapshotService snapshotService, RateLimitProperties rateLimitProperties) {
+        this.snapshotService = snapshotService;
+        this.rateLimitProperties = rateLimitProperties;
+    }
+
+    /**
+     * HTTP GET endpoint to download every stored day as a snapshot, streamed as it is read.
+     * Accessible at: GET http://localhost:8080/api/fear-greed/export
+     */
+    @GetMapping(value = "/export", produces = SNAPSHOT_VALUE)
+    public void exportSnapshot(HttpServletResponse response) throws IOException {
+        response.setContentType(SNAPSHOT_VALUE);
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"fear-greed-index.snapshot\"");
+        snapshotService.exportSnapshot(response.getOutputStream());
+    }
+
+    /**
+     * HTTP POST endpoint to load a snapshot; days that are already stored are kept as they are.
+     * Accessible at: POST http://localhost:8080/api/fear-greed/import
+     * @param request The request, for the API key header.
+     * @param body The snapshot bytes.
+     * @return Counters of inserted and skipped rows, 400 if the body is not a valid snapshot,
+     *         401 without an API key or 403 if the key is not an admin key.
+     */
+    @PostMapping(value = "/import", consumes = SNAPSHOT_VALUE)
+    public ResponseEntity<IngestResult> importSnapshot(HttpServletRequest request, InputStream body) throws IOException {
+        String apiKey = request.getHeader(rateLimitProperties.getApiKeyHeader());
+        if (!rateLimitProperties.isAdminKey(apiKey)) {
+            log.warn("Rejected snapshot import from {}: {}.", request.getRemoteAddr(),
+                    apiKey == null ? "no API key" : "not an admin key");
+            return ResponseEntity.status(apiKey == null ? HttpStatus.UNAUTHORIZED : HttpStatus.FORBIDDEN).build();
+        }
+        try {
+            return ResponseEntity.ok(snapshotService.importSnapshot(body));
+        } catch (InvalidSnapshotException e) {
+            log.warn("Rejected snapshot import: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+}
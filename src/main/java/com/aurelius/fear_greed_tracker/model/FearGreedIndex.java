@@ -41,6 +41,9 @@ public class FearGreedIndex {
     @Column(name = "updated_at") // Timestamp when this record was last updated in our DB
     private OffsetDateTime updatedAt;
 
+    @Column(name = "revision", nullable = false) // Number of intraday revisions applied after the first insert
+    private int revision;
+
     /**
      * JPA lifecycle callback method. Sets the 'createdAt' timestamp automatically before
      * a new entity is persisted to the database.
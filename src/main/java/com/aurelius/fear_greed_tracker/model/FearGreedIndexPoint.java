@@ -0,0 +1,14 @@
+package com.aurelius.fear_greed_tracker.model;
+
+import java.time.LocalDate;
+
+/**
+ * Read-only projection of a FearGreedIndex row carrying only the chart data.
+ * Selected through a JPQL constructor expression, so queries read three columns
+ * and Hibernate builds no managed entities.
+ * @param recordDate The date of the record.
+ * @param fgiValue The Fear & Greed score (0-100).
+ * @param sentiment The sentiment description (e.g. "extreme fear").
+ */
+public record FearGreedIndexPoint(LocalDate recordDate, int fgiValue, String sentiment) {
+}
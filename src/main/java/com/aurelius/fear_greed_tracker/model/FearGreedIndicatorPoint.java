@@ -0,0 +1,9 @@
+package com.aurelius.fear_greed_tracker.model;
+
+import java.time.LocalDate;
+
+/**
+ * Read-only projection of a fear_greed_indicator row, without the audit column.
+ */
+public record FearGreedIndicatorPoint(LocalDate recordDate, short indicatorId, double value, String rating) {
+}
@@ -0,0 +1,56 @@
+package com.aurelius.fear_greed_tracker.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+
+/**
+ * One value of a component indicator (see Indicator) on one day.
+ * Rows are written in bulk by FearGreedIndicatorBulkWriter; the entity mapping
+ * exists for reads and for the schema Hibernate generates in tests.
+ */
+@Entity
+@Table(name = "fear_greed_indicator")
+@IdClass(FearGreedIndicatorValue.Key.class)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class FearGreedIndicatorValue {
+
+    @Id
+    @Column(name = "record_date", nullable = false)
+    private LocalDate recordDate;
+
+    @Id
+    @Column(name = "indicator_id", nullable = false)
+    private Short indicatorId; // Indicator.getCode()
+
+    @Column(name = "indicator_value", nullable = false)
+    private Double value; // Raw indicator reading ('y'), e.g. the S&P 500 level or the VIX
+
+    @Column(name = "rating", length = 50)
+    private String rating; // CNN's sentiment rating for this reading
+
+    @Column(name = "updated_at", nullable = false)
+    private OffsetDateTime updatedAt;
+
+    /**
+     * Composite primary key (record_date, indicator_id).
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private LocalDate recordDate;
+        private Short indicatorId;
+    }
+}
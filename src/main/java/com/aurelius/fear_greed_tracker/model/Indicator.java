@@ -0,0 +1,59 @@
+package com.aurelius.fear_greed_tracker.model;
+
+/**
+ * Component series of the CNN Fear & Greed Index, as published in the /graphdata payload.
+ * The key is the payload field name and is also used in the API. The code is stored in the
+ * fear_greed_indicator table and the in-memory indicator store; codes are positional, so
+ * never reorder the constants (append new ones at the end).
+ */
+public enum Indicator {
+    MARKET_MOMENTUM_SP500("market_momentum_sp500"),
+    MARKET_MOMENTUM_SP125("market_momentum_sp125"),
+    STOCK_PRICE_STRENGTH("stock_price_strength"),
+    STOCK_PRICE_BREADTH("stock_price_breadth"),
+    PUT_CALL_OPTIONS("put_call_options"),
+    MARKET_VOLATILITY_VIX("market_volatility_vix"),
+    MARKET_VOLATILITY_VIX_50("market_volatility_vix_50"),
+    JUNK_BOND_DEMAND("junk_bond_demand"),
+    SAFE_HAVEN_DEMAND("safe_haven_demand");
+
+    private static final Indicator[] BY_CODE = values();
+
+    private final String key;
+
+    Indicator(String key) {
+        this.key = key;
+    }
+
+    /**
+     * @return The CNN payload field name (e.g. "junk_bond_demand").
+     */
+    public String getKey() {
+        return key;
+    }
+
+    public short getCode() {
+        return (short) ordinal();
+    }
+
+    /**
+     * @param code A stored indicator code.
+     * @return The indicator, or null if the code is unknown.
+     */
+    public static Indicator fromCode(int code) {
+        return code >= 0 && code < BY_CODE.length ? BY_CODE[code] : null;
+    }
+
+    /**
+     * @param key A payload field name or API indicator name.
+     * @return The indicator, or null if the key is unknown.
+     */
+    public static Indicator fromKey(String key) {
+        for (Indicator indicator : BY_CODE) {
+            if (indicator.key.equals(key)) {
+                return indicator;
+            }
+        }
+        return null;
+    }
+}
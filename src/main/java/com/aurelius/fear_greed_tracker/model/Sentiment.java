@@ -0,0 +1,57 @@
+package com.aurelius.fear_greed_tracker.model;
+
+import java.util.Locale;
+
+/**
+ * Sentiment buckets reported by CNN, with a compact byte code for in-memory and binary storage.
+ * Codes are positional and ordered from most fearful to most greedy; never reorder the constants.
+ */
+public enum Sentiment {
+    UNKNOWN("unknown"),
+    EXTREME_FEAR("extreme fear"),
+    FEAR("fear"),
+    NEUTRAL("neutral"),
+    GREED("greed"),
+    EXTREME_GREED("extreme greed");
+
+    private static final Sentiment[] BY_CODE = values();
+
+    private final String label;
+
+    Sentiment(String label) {
+        this.label = label;
+    }
+
+    /**
+     * @return The rating string as CNN reports it (e.g. "extreme fear").
+     */
+    public String getLabel() {
+        return label;
+    }
+
+    public byte getCode() {
+        return (byte) ordinal();
+    }
+
+    public static Sentiment fromCode(byte code) {
+        return code >= 0 && code < BY_CODE.length ? BY_CODE[code] : UNKNOWN;
+    }
+
+    /**
+     * Maps a CNN rating string to its sentiment, ignoring case and surrounding whitespace.
+     * @param label The rating string, may be null.
+     * @return The matching sentiment, or UNKNOWN if the label is not recognised.
+     */
+    public static Sentiment fromLabel(String label) {
+        if (label == null) {
+            return UNKNOWN;
+        }
+        String normalized = label.trim().toLowerCase(Locale.ROOT);
+        for (Sentiment sentiment : BY_CODE) {
+            if (sentiment.label.equals(normalized)) {
+                return sentiment;
+            }
+        }
+        return UNKNOWN;
+    }
+}
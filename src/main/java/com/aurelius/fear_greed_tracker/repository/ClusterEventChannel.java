@@ -0,0 +1,94 @@
+package com.aurelius.fear_greed_tracker.repository;
+
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * PostgreSQL LISTEN/NOTIFY channel that tells the other instances about data changes.
+ * Messages are sent through the pooled JdbcTemplate with {@code pg_notify}; PostgreSQL delivers
+ * them when the sending transaction commits, so a listener never hears about rows it cannot read yet.
+ * A listener holds its own dedicated connection outside the pool for as long as it listens.
+ */
+@Repository
+public class ClusterEventChannel {
+
+    public static final String CHANNEL = "fgi_data_changed";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DataSourceProperties dataSourceProperties;
+
+    public ClusterEventChannel(JdbcTemplate jdbcTemplate, DataSourceProperties dataSourceProperties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.dataSourceProperties = dataSourceProperties;
+    }
+
+    /**
+     * Sends a message to every listening instance, including this one.
+     * @param payload The message (PostgreSQL limits it to 8000 bytes).
+     */
+    public void send(String payload) {
+        jdbcTemplate.query("SELECT pg_notify(?, ?)", rs -> null, CHANNEL, payload);
+    }
+
+    /**
+     * Opens a dedicated connection and starts listening on the channel.
+     * @return The listener; close it to stop listening.
+     */
+    public Listener listen() throws SQLException {
+        Connection connection = DriverManager.getConnection(dataSourceProperties.determineUrl(),
+                dataSourceProperties.determineUsername(), dataSourceProperties.determinePassword());
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("LISTEN " + CHANNEL);
+        } catch (SQLException e) {
+            connection.close();
+            throw e;
+        }
+        return new Listener(connection);
+    }
+
+    /**
+     * A connection subscribed to the channel.
+     */
+    public static final class Listener implements AutoCloseable {
+
+        private final Connection connection;
+        private final PGConnection pgConnection;
+
+        private Listener(Connection connection) throws SQLException {
+            this.connection = connection;
+            this.pgConnection = connection.unwrap(PGConnection.class);
+        }
+
+        /**
+         * Waits for messages.
+         * @param timeoutMillis The longest time to wait when none is pending.
+         * @return The payloads received, empty if the timeout passed without any.
+         * @throws SQLException If the connection was lost.
+         */
+        public List<String> poll(int timeoutMillis) throws SQLException {
+            PGNotification[] notifications = pgConnection.getNotifications(timeoutMillis);
+            List<String> payloads = new ArrayList<>(notifications == null ? 0 : notifications.length);
+            if (notifications != null) {
+                for (PGNotification notification : notifications) {
+                    payloads.add(notification.getParameter());
+                }
+            }
+            return payloads;
+        }
+
+        @Override
+        public void close() throws SQLException {
+            connection.close();
+        }
+    }
+}
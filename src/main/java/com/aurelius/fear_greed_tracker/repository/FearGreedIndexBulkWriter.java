@@ -0,0 +1,77 @@
+package com.aurelius.fear_greed_tracker.repository;
+
+import com.aurelius.fear_greed_tracker.model.FearGreedIndex;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Set-based writer for FearGreedIndex rows.
+ * Bypasses the JPA persistence context (IDENTITY ids prevent Hibernate from batching inserts)
+ * and writes rows as multi-row {@code INSERT ... ON CONFLICT (record_date) DO NOTHING} statements,
+ * one round trip per chunk.
+ */
+@Repository
+@Timed(value = "fgi.repository.jdbc", description = "Plain JDBC statements run outside JPA", extraTags = {"operation", "bulk-insert"})
+public class FearGreedIndexBulkWriter {
+
+    /**
+     * Rows per statement. Each row binds 5 parameters, which keeps a chunk well below
+     * the 32767 bind parameter limit of the PostgreSQL wire protocol.
+     */
+    static final int CHUNK_SIZE = 500;
+
+    private static final String INSERT_PREFIX =
+            "INSERT INTO fear_greed_index (record_date, fgi_value, sentiment, timestamp, created_at, revision) VALUES ";
+    private static final String INSERT_SUFFIX = " ON CONFLICT (record_date) DO NOTHING";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public FearGreedIndexBulkWriter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Inserts the given rows, silently skipping any whose record_date already exists
+     * (e.g. written concurrently by the daily job).
+     * @param rows The rows to insert; ids are ignored and assigned by the database.
+     * @return The number of rows actually inserted.
+     */
+    public int insertIgnoringConflicts(List<FearGreedIndex> rows) {
+        int inserted = 0;
+        for (int from = 0; from < rows.size(); from += CHUNK_SIZE) {
+            List<FearGreedIndex> chunk = rows.subList(from, Math.min(from + CHUNK_SIZE, rows.size()));
+            inserted += jdbcTemplate.update(buildInsertSql(chunk.size()), bindParameters(chunk));
+        }
+        return inserted;
+    }
+
+    private static String buildInsertSql(int rowCount) {
+        StringBuilder sql = new StringBuilder(INSERT_PREFIX.length() + rowCount * 20 + INSERT_SUFFIX.length());
+        sql.append(INSERT_PREFIX);
+        for (int i = 0; i < rowCount; i++) {
+            if (i > 0) {
+                sql.append(',');
+            }
+            sql.append("(?,?,?,?,?,0)");
+        }
+        return sql.append(INSERT_SUFFIX).toString();
+    }
+
+    private static Object[] bindParameters(List<FearGreedIndex> chunk) {
+        OffsetDateTime now = OffsetDateTime.now();
+        List<Object> params = new ArrayList<>(chunk.size() * 5);
+        for (FearGreedIndex row : chunk) {
+            params.add(row.getRecordDate());
+            params.add(row.getFgiValue());
+            params.add(row.getSentiment());
+            params.add(row.getTimestamp());
+            params.add(row.getCreatedAt() != null ? row.getCreatedAt() : now);
+        }
+        return params.toArray();
+    }
+}
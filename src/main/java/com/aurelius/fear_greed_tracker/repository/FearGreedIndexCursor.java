@@ -0,0 +1,52 @@
+package com.aurelius.fear_greed_tracker.repository;
+
+import io.micrometer.core.annotation.Timed;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+
+/**
+ * Streams every FearGreedIndex row in record date order without materializing the table.
+ * The statement is forward-only with a fetch size, so the PostgreSQL driver reads through a
+ * server-side cursor; that requires an open transaction (autocommit off) on the calling thread.
+ */
+@Repository
+@Timed(value = "fgi.repository.jdbc", description = "Plain JDBC statements run outside JPA", extraTags = {"operation", "cursor-read"})
+public class FearGreedIndexCursor {
+
+    private static final String SELECT_ALL_SQL =
+            "SELECT record_date, fgi_value, sentiment, timestamp FROM fear_greed_index ORDER BY record_date";
+
+    /**
+     * Receives the rows of a scan, one call per row.
+     */
+    @FunctionalInterface
+    public interface RowHandler {
+        void row(LocalDate recordDate, int fgiValue, String sentiment, OffsetDateTime timestamp);
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public FearGreedIndexCursor(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Passes every stored row to the handler, oldest first.
+     * @param fetchSize Rows fetched per round trip.
+     * @param handler Called for each row; exceptions it throws abort the scan.
+     */
+    public void forEachRow(int fetchSize, RowHandler handler) {
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(SELECT_ALL_SQL,
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(fetchSize);
+            return statement;
+        }, (ResultSet rs) -> handler.row(rs.getObject(1, LocalDate.class), rs.getInt(2), rs.getString(3),
+                rs.getObject(4, OffsetDateTime.class)));
+    }
+}
@@ -0,0 +1,45 @@
+package com.aurelius.fear_greed_tracker.repository;
+
+import io.micrometer.core.annotation.Timed;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Finds trading days (Monday to Friday) without a stored FearGreedIndex row.
+ * One statement generates the calendar with {@code generate_series} and anti-joins it against
+ * the unique record_date index, so the check costs one round trip however long the range is.
+ * Exchange holidays are not known here; they show up as missing days (GapRepairService remembers the
+ * ones CNN has no data for).
+ */
+@Repository
+@Timed(value = "fgi.repository.jdbc", description = "Plain JDBC statements run outside JPA", extraTags = {"operation", "gap-scan"})
+public class FearGreedIndexGapFinder {
+
+    // Starts at the later of the oldest stored day and the requested start, so an empty table has no gaps.
+    private static final String MISSING_WEEKDAYS_SQL =
+            "SELECT CAST(d AS date) FROM generate_series("
+                    + "(SELECT CASE WHEN MIN(record_date) IS NULL THEN NULL "
+                    + "ELSE GREATEST(MIN(record_date), CAST(? AS date)) END FROM fear_greed_index), "
+                    + "CAST(? AS date), INTERVAL '1 day') AS d "
+                    + "WHERE EXTRACT(ISODOW FROM d) < 6 "
+                    + "AND NOT EXISTS (SELECT 1 FROM fear_greed_index f WHERE f.record_date = CAST(d AS date)) "
+                    + "ORDER BY 1";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public FearGreedIndexGapFinder(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * @param from The first day to check (inclusive); days before the oldest stored row are never reported.
+     * @param to The last day to check (inclusive).
+     * @return The weekdays in the range that have no stored row, in ascending order.
+     */
+    public List<LocalDate> findMissingWeekdays(LocalDate from, LocalDate to) {
+        return jdbcTemplate.queryForList(MISSING_WEEKDAYS_SQL, LocalDate.class, from, to);
+    }
+}
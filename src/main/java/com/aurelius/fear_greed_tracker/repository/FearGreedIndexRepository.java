@@ -1,6 +1,7 @@
 package com.aurelius.fear_greed_tracker.repository;
 
 import com.aurelius.fear_greed_tracker.model.FearGreedIndex;
+import com.aurelius.fear_greed_tracker.model.FearGreedIndexPoint;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying; // Import for @Modifying
 import org.springframework.data.jpa.repository.Query;    // Import for @Query
@@ -8,6 +9,7 @@ import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional; // Import for @Transactional
 
 import java.time.LocalDate;
+import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -20,16 +22,70 @@ import java.util.Optional;
 @Repository
 public interface FearGreedIndexRepository extends JpaRepository<FearGreedIndex, Long> {
     Optional<FearGreedIndex> findByRecordDate(LocalDate recordDate);
+
+    /**
+     * @return The most recent stored day, used as a fallback while CNN is unavailable.
+     */
+    Optional<FearGreedIndex> findFirstByOrderByRecordDateDesc();
+
     List<FearGreedIndex> findByRecordDateGreaterThanEqualOrderByRecordDateAsc(LocalDate date);
 
     /**
-     * Custom query method to find FearGreedIndex entries for a specific month and year.
+     * Loads only the record dates present in an inclusive date range.
+     * Used by bulk ingest to find already-stored days with a single query.
+     * @param from The first date of the range (inclusive).
+     * @param to The last date of the range (inclusive).
+     * @return The stored record dates within the range.
+     */
+    @Query("SELECT f.recordDate FROM FearGreedIndex f WHERE f.recordDate >= :from AND f.recordDate <= :to")
+    List<LocalDate> findRecordDatesBetween(LocalDate from, LocalDate to);
+
+    /**
+     * Finds entries in the half-open date range [from, toExclusive).
+     * The bare column comparison keeps the predicate sargable, so PostgreSQL can use
+     * the index on record_date instead of scanning the whole table.
+     * @param from The first date of the range (inclusive).
+     * @param toExclusive The first date after the range (exclusive).
+     * @return The FearGreedIndex entities in the range, ordered by record date.
+     */
+    @Query("SELECT f FROM FearGreedIndex f WHERE f.recordDate >= :from AND f.recordDate < :toExclusive ORDER BY f.recordDate ASC")
+    List<FearGreedIndex> findByRecordDateRange(LocalDate from, LocalDate toExclusive);
+
+    /**
+     * Loads (recordDate, fgiValue, sentiment) for every stored day, ordered by record date.
+     * @return Lightweight projections of all rows.
+     */
+    @Query("SELECT new com.aurelius.fear_greed_tracker.model.FearGreedIndexPoint(f.recordDate, f.fgiValue, f.sentiment) "
+            + "FROM FearGreedIndex f ORDER BY f.recordDate ASC")
+    List<FearGreedIndexPoint> findAllPoints();
+
+    /**
+     * Loads (recordDate, fgiValue, sentiment) in the half-open date range [from, toExclusive).
+     * Served by an index-only scan on the covering record_date index.
+     * @param from The first date of the range (inclusive).
+     * @param toExclusive The first date after the range (exclusive).
+     * @return Lightweight projections of the rows in the range, ordered by record date.
+     */
+    @Query("SELECT new com.aurelius.fear_greed_tracker.model.FearGreedIndexPoint(f.recordDate, f.fgiValue, f.sentiment) "
+            + "FROM FearGreedIndex f WHERE f.recordDate >= :from AND f.recordDate < :toExclusive ORDER BY f.recordDate ASC")
+    List<FearGreedIndexPoint> findPointsByRecordDateRange(LocalDate from, LocalDate toExclusive);
+
+    /**
+     * @return The most recent creation or update time over all rows, empty if the table is empty.
+     */
+    @Query("SELECT MAX(COALESCE(f.updatedAt, f.createdAt)) FROM FearGreedIndex f")
+    Optional<OffsetDateTime> findLastModified();
+
+    /**
+     * Finds FearGreedIndex entries for a specific month and year.
      * @param year The year to search for.
      * @param month The month (1-12) to search for.
      * @return A list of FearGreedIndex entities for the specified month and year, ordered by record date.
      */
-    @Query("SELECT f FROM FearGreedIndex f WHERE YEAR(f.recordDate) = :year AND MONTH(f.recordDate) = :month ORDER BY f.recordDate ASC")
-    List<FearGreedIndex> findByYearAndMonthOrderByRecordDateAsc(int year, int month);
+    default List<FearGreedIndex> findByYearAndMonthOrderByRecordDateAsc(int year, int month) {
+        LocalDate firstDay = LocalDate.of(year, month, 1);
+        return findByRecordDateRange(firstDay, firstDay.plusMonths(1));
+    }
 
     /**
      * Custom query method to delete FearGreedIndex entries older than a specified date.
@@ -0,0 +1,89 @@
+package com.aurelius.fear_greed_tracker.repository;
+
+import com.aurelius.fear_greed_tracker.model.FearGreedIndex;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.List;
+
+/**
+ * Idempotent write path for the daily index row.
+ * One native {@code INSERT ... ON CONFLICT (record_date) DO UPDATE} statement replaces the former
+ * findByRecordDate + save sequence: concurrent callers (the cron job, /fetch-now and the on-demand
+ * fetch behind /today) can no longer race into a unique-key violation, and no SELECT precedes the write.
+ * A stored row is only rewritten when CNN reports a different value, sentiment or timestamp that is
+ * not older than the stored one; each such revision increments the revision column.
+ */
+@Repository
+@Timed(value = "fgi.repository.jdbc", description = "Plain JDBC statements run outside JPA", extraTags = {"operation", "upsert"})
+public class FearGreedIndexUpsertWriter {
+
+    /**
+     * What the upsert did to the day's row.
+     */
+    public enum Outcome {
+        INSERTED,
+        UPDATED,
+        UNCHANGED
+    }
+
+    /**
+     * @param row The day's row as stored after the statement.
+     * @param outcome Whether it was inserted, revised or left as it was.
+     */
+    public record UpsertResult(FearGreedIndex row, Outcome outcome) {
+    }
+
+    private static final String COLUMNS = "id, record_date, fgi_value, sentiment, timestamp, created_at, updated_at, revision";
+
+    // xmax is 0 only for a freshly inserted tuple, which tells an insert from a conflict update.
+    private static final String UPSERT_SQL =
+            "INSERT INTO fear_greed_index AS f (record_date, fgi_value, sentiment, timestamp, created_at, revision) "
+                    + "VALUES (?, ?, ?, ?, ?, 0) "
+                    + "ON CONFLICT (record_date) DO UPDATE SET fgi_value = EXCLUDED.fgi_value, "
+                    + "sentiment = EXCLUDED.sentiment, timestamp = EXCLUDED.timestamp, "
+                    + "updated_at = EXCLUDED.created_at, revision = f.revision + 1 "
+                    + "WHERE (f.fgi_value, f.sentiment, f.timestamp) IS DISTINCT FROM "
+                    + "(EXCLUDED.fgi_value, EXCLUDED.sentiment, EXCLUDED.timestamp) "
+                    + "AND EXCLUDED.timestamp >= f.timestamp "
+                    + "RETURNING " + COLUMNS + ", (xmax = 0) AS inserted";
+
+    private static final String SELECT_SQL = "SELECT " + COLUMNS + " FROM fear_greed_index WHERE record_date = ?";
+
+    private static final RowMapper<FearGreedIndex> ROW_MAPPER = (rs, rowNum) -> new FearGreedIndex(
+            rs.getLong("id"),
+            rs.getObject("record_date", LocalDate.class),
+            rs.getInt("fgi_value"),
+            rs.getString("sentiment"),
+            rs.getObject("timestamp", OffsetDateTime.class),
+            rs.getObject("created_at", OffsetDateTime.class),
+            rs.getObject("updated_at", OffsetDateTime.class),
+            rs.getInt("revision"));
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public FearGreedIndexUpsertWriter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Inserts the day's row, or revises the stored one if CNN's reading changed.
+     * @param row The reading; recordDate, fgiValue, sentiment and timestamp are used.
+     * @return The stored row and what happened to it.
+     */
+    public UpsertResult upsert(FearGreedIndex row) {
+        List<UpsertResult> written = jdbcTemplate.query(UPSERT_SQL,
+                (rs, rowNum) -> new UpsertResult(ROW_MAPPER.mapRow(rs, rowNum),
+                        rs.getBoolean("inserted") ? Outcome.INSERTED : Outcome.UPDATED),
+                row.getRecordDate(), row.getFgiValue(), row.getSentiment(), row.getTimestamp(), OffsetDateTime.now());
+        if (!written.isEmpty()) {
+            return written.get(0);
+        }
+        // The conflict update was filtered out: the stored row already matches (or is newer).
+        return new UpsertResult(jdbcTemplate.queryForObject(SELECT_SQL, ROW_MAPPER, row.getRecordDate()), Outcome.UNCHANGED);
+    }
+}
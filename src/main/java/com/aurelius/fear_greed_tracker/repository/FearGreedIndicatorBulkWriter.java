@@ -0,0 +1,77 @@
+package com.aurelius.fear_greed_tracker.repository;
+
+import com.aurelius.fear_greed_tracker.model.FearGreedIndicatorValue;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Set-based writer for indicator values, one multi-row statement per chunk.
+ * CNN revises the most recent readings during the trading day, so existing rows are updated
+ * ({@code ON CONFLICT ... DO UPDATE}); rows whose value and rating are unchanged are left alone.
+ */
+@Repository
+@Timed(value = "fgi.repository.jdbc", description = "Plain JDBC statements run outside JPA", extraTags = {"operation", "indicator-bulk-write"})
+public class FearGreedIndicatorBulkWriter {
+
+    /**
+     * Rows per statement; 5 bind parameters per row stays well below the PostgreSQL limit.
+     */
+    static final int CHUNK_SIZE = 1000;
+
+    private static final String UPSERT_PREFIX =
+            "INSERT INTO fear_greed_indicator (record_date, indicator_id, indicator_value, rating, updated_at) VALUES ";
+    private static final String UPSERT_SUFFIX = " ON CONFLICT (record_date, indicator_id) DO UPDATE"
+            + " SET indicator_value = EXCLUDED.indicator_value, rating = EXCLUDED.rating, updated_at = EXCLUDED.updated_at"
+            + " WHERE (fear_greed_indicator.indicator_value, fear_greed_indicator.rating)"
+            + " IS DISTINCT FROM (EXCLUDED.indicator_value, EXCLUDED.rating)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public FearGreedIndicatorBulkWriter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Inserts new values and updates changed ones.
+     * @param rows The values to write; updatedAt defaults to now.
+     * @return The number of rows inserted or updated.
+     */
+    public int upsert(List<FearGreedIndicatorValue> rows) {
+        int written = 0;
+        for (int from = 0; from < rows.size(); from += CHUNK_SIZE) {
+            List<FearGreedIndicatorValue> chunk = rows.subList(from, Math.min(from + CHUNK_SIZE, rows.size()));
+            written += jdbcTemplate.update(buildUpsertSql(chunk.size()), bindParameters(chunk));
+        }
+        return written;
+    }
+
+    private static String buildUpsertSql(int rowCount) {
+        StringBuilder sql = new StringBuilder(UPSERT_PREFIX.length() + rowCount * 12 + UPSERT_SUFFIX.length());
+        sql.append(UPSERT_PREFIX);
+        for (int i = 0; i < rowCount; i++) {
+            if (i > 0) {
+                sql.append(',');
+            }
+            sql.append("(?,?,?,?,?)");
+        }
+        return sql.append(UPSERT_SUFFIX).toString();
+    }
+
+    private static Object[] bindParameters(List<FearGreedIndicatorValue> chunk) {
+        OffsetDateTime now = OffsetDateTime.now();
+        List<Object> params = new ArrayList<>(chunk.size() * 5);
+        for (FearGreedIndicatorValue row : chunk) {
+            params.add(row.getRecordDate());
+            params.add(row.getIndicatorId());
+            params.add(row.getValue());
+            params.add(row.getRating());
+            params.add(row.getUpdatedAt() != null ? row.getUpdatedAt() : now);
+        }
+        return params.toArray();
+    }
+}
@@ -0,0 +1,30 @@
+package com.aurelius.fear_greed_tracker.repository;
+
+import com.aurelius.fear_greed_tracker.model.FearGreedIndicatorPoint;
+import com.aurelius.fear_greed_tracker.model.FearGreedIndicatorValue;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Reads on the fear_greed_indicator table; writes go through FearGreedIndicatorBulkWriter and
+ * retention deletes through RetentionDeleter.
+ */
+@Repository
+public interface FearGreedIndicatorRepository extends JpaRepository<FearGreedIndicatorValue, FearGreedIndicatorValue.Key> {
+
+    /**
+     * Loads every indicator value as a projection, ordered by date and indicator,
+     * for warming the in-memory indicator store.
+     */
+    @Query("SELECT new com.aurelius.fear_greed_tracker.model.FearGreedIndicatorPoint(v.recordDate, v.indicatorId, v.value, v.rating) " +
+            "FROM FearGreedIndicatorValue v ORDER BY v.recordDate ASC, v.indicatorId ASC")
+    List<FearGreedIndicatorPoint> findAllPoints();
+
+    @Query("SELECT MAX(v.updatedAt) FROM FearGreedIndicatorValue v")
+    Optional<OffsetDateTime> findLastModified();
+}
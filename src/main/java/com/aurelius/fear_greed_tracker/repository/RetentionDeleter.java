@@ -0,0 +1,119 @@
+package com.aurelius.fear_greed_tracker.repository;
+
+import io.micrometer.core.annotation.Timed;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.BadSqlGrammarException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Retention deletes on the date-keyed tables, in pieces small enough for short transactions.
+ * Every statement runs on its own (no surrounding transaction), so locks are held and WAL is
+ * written one chunk at a time. All statements are bounded by record_date, the leading column of
+ * the unique/primary key of both tables, so each chunk is an index range scan.
+ *
+ * If a table has been range-partitioned by record_date, partitions that lie entirely before the
+ * cutoff are dropped instead of deleted row by row.
+ */
+@Repository
+@Slf4j
+@Timed(value = "fgi.repository.jdbc", description = "Plain JDBC statements run outside JPA", extraTags = {"operation", "retention-delete"})
+public class RetentionDeleter {
+
+    /**
+     * Tables with a record_date column that retention applies to.
+     */
+    public enum Table {
+        FEAR_GREED_INDEX("fear_greed_index"),
+        FEAR_GREED_INDICATOR("fear_greed_indicator");
+
+        private final String tableName;
+
+        Table(String tableName) {
+            this.tableName = tableName;
+        }
+
+        public String tableName() {
+            return tableName;
+        }
+    }
+
+    // to_regclass resolves the name through the search_path, like the unqualified DELETE below, so a
+    // same-named table in another schema is never matched.
+    private static final String PARTITIONS_SQL =
+            "SELECT n.nspname, c.relname, pg_get_expr(c.relpartbound, c.oid) FROM pg_inherits i "
+                    + "JOIN pg_class c ON c.oid = i.inhrelid JOIN pg_namespace n ON n.oid = c.relnamespace "
+                    + "WHERE i.inhparent = to_regclass(?)";
+
+    // Upper bound of a range partition: FOR VALUES FROM ('2019-01-01') TO ('2020-01-01')
+    private static final Pattern UPPER_BOUND = Pattern.compile("TO \\('(\\d{4}-\\d{2}-\\d{2})'\\)");
+
+    private record Partition(String schema, String name, String bound) {
+
+        String qualifiedName() {
+            return quote(schema) + "." + quote(name);
+        }
+
+        private static String quote(String identifier) {
+            return "\"" + identifier.replace("\"", "\"\"") + "\"";
+        }
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public RetentionDeleter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Drops the partitions of the table whose upper bound is at or before the cutoff.
+     * Does nothing if the table is not partitioned or the database is not PostgreSQL.
+     * @param table The table.
+     * @param cutoff Rows before this date are expired.
+     * @return The number of rows the dropped partitions held.
+     */
+    public int dropPartitionsBefore(Table table, LocalDate cutoff) {
+        List<Partition> partitions;
+        try {
+            partitions = jdbcTemplate.query(PARTITIONS_SQL,
+                    (rs, rowNum) -> new Partition(rs.getString(1), rs.getString(2), rs.getString(3)), table.tableName());
+        } catch (BadSqlGrammarException e) {
+            return 0;
+        }
+        int dropped = 0;
+        for (Partition partition : partitions) {
+            Matcher bound = UPPER_BOUND.matcher(String.valueOf(partition.bound()));
+            if (!bound.find() || LocalDate.parse(bound.group(1)).isAfter(cutoff)) {
+                continue;
+            }
+            String qualified = partition.qualifiedName();
+            Integer rows = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + qualified, Integer.class);
+            jdbcTemplate.execute("DROP TABLE " + qualified);
+            log.info("Dropped expired partition {} of {} ({} rows).", qualified, table.tableName(), rows);
+            dropped += rows == null ? 0 : rows;
+        }
+        return dropped;
+    }
+
+    /**
+     * @return The oldest record date before the cutoff, or null if there is none.
+     */
+    public LocalDate findOldestBefore(Table table, LocalDate cutoff) {
+        return jdbcTemplate.queryForObject(
+                "SELECT MIN(record_date) FROM " + table.tableName() + " WHERE record_date < ?", LocalDate.class, cutoff);
+    }
+
+    /**
+     * Deletes the rows in the half-open date range [from, toExclusive) in one statement.
+     * @return The number of rows deleted.
+     */
+    public int deleteRange(Table table, LocalDate from, LocalDate toExclusive) {
+        return jdbcTemplate.update(
+                "DELETE FROM " + table.tableName() + " WHERE record_date >= ? AND record_date < ?", from, toExclusive);
+    }
+}
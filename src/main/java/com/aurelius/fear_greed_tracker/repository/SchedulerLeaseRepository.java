@@ -0,0 +1,81 @@
+package com.aurelius.fear_greed_tracker.repository;
+
+import io.micrometer.core.annotation.Timed;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Named, time-limited leases in the scheduler_lease table (PostgreSQL).
+ * Every statement is a single autocommit round trip that compares against the database clock,
+ * so instances with skewed clocks agree on who holds a lease. Acquiring is one
+ * {@code INSERT ... ON CONFLICT DO UPDATE ... WHERE expires_at <= now()}: of several instances racing
+ * for the same lease, the row lock lets exactly one of them in.
+ */
+@Repository
+@Timed(value = "fgi.repository.jdbc", description = "Plain JDBC statements run outside JPA", extraTags = {"operation", "scheduler-lease"})
+public class SchedulerLeaseRepository {
+
+    private static final String ACQUIRE_SQL =
+            "INSERT INTO scheduler_lease (name, owner, acquired_at, expires_at) "
+                    + "VALUES (?, ?, now(), now() + ? * INTERVAL '1 millisecond') "
+                    + "ON CONFLICT (name) DO UPDATE SET owner = EXCLUDED.owner, "
+                    + "acquired_at = EXCLUDED.acquired_at, expires_at = EXCLUDED.expires_at "
+                    + "WHERE scheduler_lease.expires_at <= now()";
+
+    private static final String RENEW_SQL =
+            "UPDATE scheduler_lease SET expires_at = now() + ? * INTERVAL '1 millisecond' "
+                    + "WHERE name = ? AND owner = ?";
+
+    private static final String RELEASE_SQL =
+            "UPDATE scheduler_lease SET expires_at = GREATEST(now(), acquired_at + ? * INTERVAL '1 millisecond') "
+                    + "WHERE name = ? AND owner = ?";
+
+    private static final String HOLDER_SQL =
+            "SELECT owner FROM scheduler_lease WHERE name = ? AND expires_at > now()";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public SchedulerLeaseRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Takes the lease if it is free or expired.
+     * @param name The lease name (one per job).
+     * @param owner The instance taking the lease.
+     * @param ttl How long the lease stays held without renewal.
+     * @return true if the caller now holds the lease.
+     */
+    public boolean tryAcquire(String name, String owner, Duration ttl) {
+        return jdbcTemplate.update(ACQUIRE_SQL, name, owner, ttl.toMillis()) == 1;
+    }
+
+    /**
+     * Extends a lease the caller holds to ttl from now.
+     * @return false if the lease now belongs to another instance (it expired and was taken over).
+     */
+    public boolean renew(String name, String owner, Duration ttl) {
+        return jdbcTemplate.update(RENEW_SQL, ttl.toMillis(), name, owner) == 1;
+    }
+
+    /**
+     * Gives up a lease the caller holds, but not before minHold after it was acquired, so an
+     * instance whose schedule fires a little later than the holder's does not run the same job again.
+     * @return false if the lease had already been taken over by another instance.
+     */
+    public boolean release(String name, String owner, Duration minHold) {
+        return jdbcTemplate.update(RELEASE_SQL, minHold.toMillis(), name, owner) == 1;
+    }
+
+    /**
+     * @return The instance currently holding the lease, empty if it is free or expired.
+     */
+    public Optional<String> findHolder(String name) {
+        List<String> owners = jdbcTemplate.queryForList(HOLDER_SQL, String.class, name);
+        return owners.stream().findFirst();
+    }
+}
@@ -0,0 +1,135 @@
+package com.aurelius.fear_greed_tracker.service;
+
+import com.aurelius.fear_greed_tracker.analytics.AnalyticsSeries;
+import com.aurelius.fear_greed_tracker.analytics.AnalyticsSnapshot;
+import com.aurelius.fear_greed_tracker.analytics.RollingAnalytics;
+import com.aurelius.fear_greed_tracker.model.FearGreedIndex;
+import com.aurelius.fear_greed_tracker.model.FearGreedIndexPoint;
+import com.aurelius.fear_greed_tracker.model.Sentiment;
+import com.aurelius.fear_greed_tracker.repository.FearGreedIndexRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Server-side rolling analytics of the index: moving averages, rolling min/max/stddev, z-scores,
+ * percentile rank and sentiment streaks (see RollingAnalytics).
+ * The engine is built from the repository at startup and rebuilt after bulk writes (historical
+ * backfill) and retention deletes. A daily save that extends the series, and a revision of the
+ * latest day (upsert or intraday poll), are applied in O(1); only a save for an earlier day triggers a rebuild.
+ * Readers get the last published snapshot without locking.
+ */
+@Service
+@Slf4j
+public class AnalyticsService {
+
+    private final FearGreedIndexRepository fearGreedIndexRepository;
+    private final int[] windowLengths;
+    private final ReentrantLock writeLock = new ReentrantLock();
+
+    private RollingAnalytics engine;
+    private volatile Published published;
+
+    public AnalyticsService(FearGreedIndexRepository fearGreedIndexRepository,
+                            @Value("${fgi.analytics.windows:7,30,200}") int[] windowLengths) {
+        this.fearGreedIndexRepository = fearGreedIndexRepository;
+        this.windowLengths = windowLengths;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        rebuild();
+    }
+
+    /**
+     * Recomputes everything from the stored history.
+     */
+    public void rebuild() {
+        writeLock.lock();
+        try {
+            List<FearGreedIndexPoint> points = fearGreedIndexRepository.findAllPoints();
+            RollingAnalytics rebuilt = new RollingAnalytics(windowLengths);
+            for (FearGreedIndexPoint point : points) {
+                rebuilt.add((int) point.recordDate().toEpochDay(), point.fgiValue(), Sentiment.fromLabel(point.sentiment()));
+            }
+            engine = rebuilt;
+            publish();
+            log.info("Rebuilt rolling analytics from {} Fear & Greed Index rows.", rebuilt.size());
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @EventListener
+    public void onSaved(FearGreedIndexSavedEvent event) {
+        if (event.bulk()) {
+            rebuild();
+            return;
+        }
+        writeLock.lock();
+        try {
+            if (engine == null) {
+                rebuild();
+                return;
+            }
+            for (FearGreedIndex row : event.rows()) {
+                int epochDay = (int) row.getRecordDate().toEpochDay();
+                Sentiment sentiment = Sentiment.fromLabel(row.getSentiment());
+                if (!engine.add(epochDay, row.getFgiValue(), sentiment)
+                        && !engine.replaceLast(epochDay, row.getFgiValue(), sentiment)) {
+                    rebuild();
+                    return;
+                }
+            }
+            publish();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @EventListener
+    public void onPruned(FearGreedIndexPrunedEvent event) {
+        if (event.deletedCount() > 0) {
+            rebuild();
+        }
+    }
+
+    /**
+     * @return The analytics as of the latest stored day, or empty if nothing is stored.
+     */
+    public Optional<AnalyticsSnapshot> getSnapshot() {
+        return Optional.ofNullable(current().snapshot());
+    }
+
+    /**
+     * Retrieves the moving-average lines for the last N days (including today).
+     * @param days The number of days to look back.
+     * @return SMA and EMA per configured window, parallel to the record dates.
+     */
+    public AnalyticsSeries getSeries(int days) {
+        return current().history().series(LocalDate.now().minusDays(Math.max(days, 1) - 1L));
+    }
+
+    private Published current() {
+        Published current = published;
+        if (current == null) {
+            rebuild();
+            current = published;
+        }
+        return current;
+    }
+
+    private void publish() {
+        published = new Published(engine.snapshot(), engine.history());
+    }
+
+    private record Published(AnalyticsSnapshot snapshot, RollingAnalytics.History history) {
+    }
+}
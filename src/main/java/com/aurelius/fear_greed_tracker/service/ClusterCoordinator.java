@@ -0,0 +1,144 @@
+package com.aurelius.fear_greed_tracker.service;
+
+import com.aurelius.fear_greed_tracker.repository.SchedulerLeaseRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Makes a scheduled job run on one instance only when several replicas share the database.
+ * Every instance's schedule still fires; runIfLeader then takes the job's lease in the scheduler_lease
+ * table (SchedulerLeaseRepository) and runs the job only if it got it. While the job runs, the lease is
+ * renewed every third of fgi.cluster.lease-ttl; if the instance dies, the lease expires after the TTL
+ * and the next trigger on any instance takes over. On completion the lease is kept for at least
+ * fgi.cluster.min-hold after it was taken, which absorbs small differences between the instances' clocks.
+ * With fgi.cluster.enabled=false (single instance, or a database without the lease table) jobs always run.
+ *
+ * Lease outcomes are counted as fgi.cluster.lease{lease, outcome=acquired|skipped|lost|error}.
+ */
+@Service
+@Slf4j
+public class ClusterCoordinator {
+
+    private final SchedulerLeaseRepository leaseRepository;
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final String nodeId;
+    private final Duration leaseTtl;
+    private final Duration minHold;
+    private final ScheduledExecutorService renewer;
+
+    public ClusterCoordinator(SchedulerLeaseRepository leaseRepository, MeterRegistry meterRegistry,
+                              @Value("${fgi.cluster.enabled:true}") boolean enabled,
+                              @Value("${fgi.cluster.node-id:}") String nodeId,
+                              @Value("${fgi.cluster.lease-ttl:PT2M}") Duration leaseTtl,
+                              @Value("${fgi.cluster.min-hold:PT5M}") Duration minHold) {
+        this.leaseRepository = leaseRepository;
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.nodeId = nodeId.isBlank() ? defaultNodeId() : nodeId;
+        this.leaseTtl = leaseTtl;
+        this.minHold = minHold;
+        this.renewer = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("fgi-lease-"));
+    }
+
+    /**
+     * Runs the task if this instance can take the named lease; otherwise another instance holds it
+     * and the task is skipped. Exceptions thrown by the task propagate after the lease is released.
+     * @param lease The lease name, one per job (e.g. "daily-fetch").
+     * @param task The job.
+     * @return true if the task ran on this instance.
+     */
+    public boolean runIfLeader(String lease, Runnable task) {
+        if (!enabled) {
+            task.run();
+            return true;
+        }
+        boolean acquired;
+        try {
+            acquired = leaseRepository.tryAcquire(lease, nodeId, leaseTtl);
+        } catch (DataAccessException e) {
+            log.error("Could not take the '{}' lease; skipping the job on this instance: {}", lease, e.getMessage());
+            leaseCounter(lease, "error").increment();
+            return false;
+        }
+        if (!acquired) {
+            log.info("Skipping '{}': another instance ({}) holds the lease.",
+                    lease, leaseRepository.findHolder(lease).orElse("unknown"));
+            leaseCounter(lease, "skipped").increment();
+            return false;
+        }
+        leaseCounter(lease, "acquired").increment();
+        log.info("Instance {} took the '{}' lease.", nodeId, lease);
+        long renewEvery = Math.max(1, leaseTtl.toMillis() / 3);
+        ScheduledFuture<?> renewal = renewer.scheduleAtFixedRate(() -> renew(lease), renewEvery, renewEvery,
+                TimeUnit.MILLISECONDS);
+        try {
+            task.run();
+        } finally {
+            renewal.cancel(false);
+            release(lease);
+        }
+        return true;
+    }
+
+    /**
+     * @return This instance's identity in the lease table (fgi.cluster.node-id, or pid@host plus a random suffix).
+     */
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    private void renew(String lease) {
+        try {
+            if (!leaseRepository.renew(lease, nodeId, leaseTtl)) {
+                log.warn("Lost the '{}' lease to {} while the job was still running.",
+                        lease, leaseRepository.findHolder(lease).orElse("unknown"));
+                leaseCounter(lease, "lost").increment();
+            }
+        } catch (DataAccessException e) {
+            log.warn("Could not renew the '{}' lease: {}", lease, e.getMessage());
+        }
+    }
+
+    private void release(String lease) {
+        try {
+            if (!leaseRepository.release(lease, nodeId, minHold)) {
+                leaseCounter(lease, "lost").increment();
+            }
+        } catch (DataAccessException e) {
+            // The lease expires on its own after the TTL.
+            log.warn("Could not release the '{}' lease: {}", lease, e.getMessage());
+        }
+    }
+
+    private Counter leaseCounter(String lease, String outcome) {
+        return Counter.builder("fgi.cluster.lease")
+                .description("Scheduled job lease attempts")
+                .tag("lease", lease)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    private static String defaultNodeId() {
+        return ManagementFactory.getRuntimeMXBean().getName() + "-" + UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        renewer.shutdownNow();
+    }
+}
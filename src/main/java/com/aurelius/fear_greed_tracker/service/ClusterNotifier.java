@@ -0,0 +1,177 @@
+package com.aurelius.fear_greed_tracker.service;
+
+import com.aurelius.fear_greed_tracker.model.FearGreedIndex;
+import com.aurelius.fear_greed_tracker.repository.ClusterEventChannel;
+import com.aurelius.fear_greed_tracker.repository.FearGreedIndexRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Keeps the in-memory state of all instances in step with the database.
+ * Data change events raised on this instance (FearGreedIndexSavedEvent, FearGreedIndexPrunedEvent,
+ * FearGreedIndicatorsSavedEvent) are sent to the others over ClusterEventChannel (LISTEN/NOTIFY) as
+ * "{node} {kind} {argument}". A listener thread receives the messages of the other instances and
+ * publishes the matching event locally, so the stores, caches, analytics and SSE streams refresh
+ * exactly as if the change had happened here:
+ * - "saved {date}" reloads that day's row and publishes it as a single save (today's cache included);
+ * - "bulk" publishes a bulk write and "indicators" an indicator save, i.e. reloads from the database;
+ * - "pruned {cutoff} {count}" publishes the prune.
+ * After a lost connection the listener reconnects and reloads everything, since messages sent
+ * while it was away are gone. A reload that fails (the database is often still unsettled right after
+ * a reconnect) is handled like a lost connection, so the listener thread keeps retrying instead of dying. Enabled together with the scheduler leases (fgi.cluster.enabled).
+ */
+@Service
+@Slf4j
+@ConditionalOnProperty(name = "fgi.cluster.enabled", havingValue = "true", matchIfMissing = true)
+public class ClusterNotifier {
+
+    private static final int POLL_TIMEOUT_MILLIS = 1000;
+
+    private final ClusterEventChannel channel;
+    private final FearGreedIndexRepository fearGreedIndexRepository;
+    private final TodayIndexCache todayIndexCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final String nodeId;
+    private final Thread listenerThread;
+    private volatile boolean running = true;
+
+    @Value("${fgi.cluster.reconnect-interval:PT5S}")
+    private Duration reconnectInterval;
+
+    public ClusterNotifier(ClusterEventChannel channel, FearGreedIndexRepository fearGreedIndexRepository,
+                           TodayIndexCache todayIndexCache, ApplicationEventPublisher eventPublisher,
+                           ClusterCoordinator clusterCoordinator) {
+        this.channel = channel;
+        this.fearGreedIndexRepository = fearGreedIndexRepository;
+        this.todayIndexCache = todayIndexCache;
+        this.eventPublisher = eventPublisher;
+        this.nodeId = clusterCoordinator.getNodeId();
+        this.listenerThread = new CustomizableThreadFactory("fgi-cluster-listener-").newThread(this::listen);
+        this.listenerThread.setDaemon(true);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!listenerThread.isAlive()) {
+            listenerThread.start();
+        }
+    }
+
+    @EventListener
+    public void onSaved(FearGreedIndexSavedEvent event) {
+        if (event.bulk()) {
+            send("bulk");
+        } else {
+            for (FearGreedIndex row : event.rows()) {
+                send("saved " + row.getRecordDate());
+            }
+        }
+    }
+
+    @EventListener
+    public void onPruned(FearGreedIndexPrunedEvent event) {
+        send("pruned " + event.cutoffDate() + " " + event.deletedCount());
+    }
+
+    @EventListener
+    public void onIndicatorsSaved(FearGreedIndicatorsSavedEvent event) {
+        if (event.writtenCount() > 0) {
+            send("indicators " + event.writtenCount());
+        }
+    }
+
+    /**
+     * Applies a message from the channel; messages sent by this instance are ignored.
+     * @param payload "{node} {kind} {argument...}".
+     */
+    void receive(String payload) {
+        String[] parts = payload.split(" ");
+        if (parts.length < 2 || parts[0].equals(nodeId)) {
+            return;
+        }
+        log.debug("Cluster message from {}: {}", parts[0], payload);
+        switch (parts[1]) {
+            case "saved" -> fearGreedIndexRepository.findByRecordDate(LocalDate.parse(parts[2])).ifPresent(row -> {
+                todayIndexCache.put(row);
+                eventPublisher.publishEvent(FearGreedIndexSavedEvent.single(row));
+            });
+            case "bulk" -> eventPublisher.publishEvent(FearGreedIndexSavedEvent.bulkWrite());
+            case "pruned" -> eventPublisher.publishEvent(
+                    new FearGreedIndexPrunedEvent(LocalDate.parse(parts[2]), Integer.parseInt(parts[3])));
+            case "indicators" -> eventPublisher.publishEvent(new FearGreedIndicatorsSavedEvent(Integer.parseInt(parts[2])));
+            default -> log.warn("Ignoring unknown cluster message: {}", payload);
+        }
+    }
+
+    private void send(String message) {
+        if (Thread.currentThread() == listenerThread) {
+            // Republished from another instance's message; that instance has told everyone already.
+            return;
+        }
+        try {
+            channel.send(nodeId + " " + message);
+        } catch (DataAccessException e) {
+            log.warn("Could not notify the other instances ({}): {}", message, e.getMessage());
+        }
+    }
+
+    private void listen() {
+        boolean reconnecting = false;
+        while (running) {
+            try (ClusterEventChannel.Listener listener = channel.listen()) {
+                log.info("Instance {} listening for data changes on '{}'.", nodeId, ClusterEventChannel.CHANNEL);
+                if (reconnecting) {
+                    resynchronize();
+                }
+                while (running) {
+                    List<String> payloads = listener.poll(POLL_TIMEOUT_MILLIS);
+                    for (String payload : payloads) {
+                        try {
+                            receive(payload);
+                        } catch (RuntimeException e) {
+                            log.error("Error applying cluster message '{}': {}", payload, e.getMessage(), e);
+                        }
+                    }
+                }
+            } catch (SQLException | RuntimeException e) {
+                // RuntimeException: mostly a DataAccessException from the store reloads in resynchronize().
+                if (!running) {
+                    return;
+                }
+                log.warn("Cluster listener failed; reconnecting in {}: {}", reconnectInterval, e.getMessage(), e);
+                reconnecting = true;
+                try {
+                    Thread.sleep(reconnectInterval.toMillis());
+                } catch (InterruptedException interrupted) {
+                    return;
+                }
+            }
+        }
+    }
+
+    private void resynchronize() {
+        todayIndexCache.invalidate();
+        eventPublisher.publishEvent(FearGreedIndexSavedEvent.bulkWrite());
+        // Any positive count makes the indicator store reload.
+        eventPublisher.publishEvent(new FearGreedIndicatorsSavedEvent(1));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        running = false;
+        listenerThread.interrupt();
+    }
+}
@@ -0,0 +1,10 @@
+package com.aurelius.fear_greed_tracker.service;
+
+import java.time.LocalDate;
+
+/**
+ * Published by FearGreedService when the scheduled daily fetch could not store a reading.
+ * @param day The record date that was fetched.
+ */
+public record DailyFetchFailedEvent(LocalDate day) {
+}
@@ -0,0 +1,11 @@
+package com.aurelius.fear_greed_tracker.service;
+
+import java.time.LocalDate;
+
+/**
+ * Published by RetentionService after rows older than a cutoff date have been deleted.
+ * @param cutoffDate Rows with a record date before this date were removed.
+ * @param deletedCount The number of rows deleted.
+ */
+public record FearGreedIndexPrunedEvent(LocalDate cutoffDate, int deletedCount) {
+}
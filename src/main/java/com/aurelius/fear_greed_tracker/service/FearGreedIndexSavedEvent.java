@@ -0,0 +1,22 @@
+package com.aurelius.fear_greed_tracker.service;
+
+import com.aurelius.fear_greed_tracker.model.FearGreedIndex;
+
+import java.util.List;
+
+/**
+ * Published by FearGreedService after FearGreedIndex rows have been written.
+ * @param rows The rows as written by a single save (empty for bulk writes).
+ * @param bulk True when many rows were written at once (e.g. a historical backfill),
+ *             in which case listeners should reload from the database instead of applying rows.
+ */
+public record FearGreedIndexSavedEvent(List<FearGreedIndex> rows, boolean bulk) {
+
+    public static FearGreedIndexSavedEvent single(FearGreedIndex row) {
+        return new FearGreedIndexSavedEvent(List.of(row), false);
+    }
+
+    public static FearGreedIndexSavedEvent bulkWrite() {
+        return new FearGreedIndexSavedEvent(List.of(), true);
+    }
+}
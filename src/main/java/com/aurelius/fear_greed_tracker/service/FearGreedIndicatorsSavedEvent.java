@@ -0,0 +1,8 @@
+package com.aurelius.fear_greed_tracker.service;
+
+/**
+ * Published by IndicatorService after component indicator values have been written.
+ * @param writtenCount The number of rows inserted or changed.
+ */
+public record FearGreedIndicatorsSavedEvent(int writtenCount) {
+}
@@ -1,81 +1,141 @@
 package com.aurelius.fear_greed_tracker.service;
 
+import com.aurelius.fear_greed_tracker.api.CnnUpstreamClient;
+import com.aurelius.fear_greed_tracker.api.GraphDataStreamReader;
+import com.aurelius.fear_greed_tracker.api.UpstreamUnavailableException;
 import com.aurelius.fear_greed_tracker.api.dto.FearGreedApiResponse;
 import com.aurelius.fear_greed_tracker.api.dto.FearGreedData;
 import com.aurelius.fear_greed_tracker.api.dto.FearGreedHistoricalDataWrapper;
 import com.aurelius.fear_greed_tracker.model.FearGreedIndex;
+import com.aurelius.fear_greed_tracker.repository.FearGreedIndexBulkWriter;
 import com.aurelius.fear_greed_tracker.repository.FearGreedIndexRepository;
+import com.aurelius.fear_greed_tracker.repository.FearGreedIndexUpsertWriter;
+import com.aurelius.fear_greed_tracker.store.DatasetVersion;
+import com.aurelius.fear_greed_tracker.store.FearGreedSeries;
+import com.aurelius.fear_greed_tracker.store.FearGreedTimeSeriesStore;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.HttpMethod;
-import org.springframework.http.MediaType;
-import org.springframework.http.ResponseEntity;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.support.CronExpression;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.client.RestTemplate;
+import org.springframework.util.StreamUtils;
 
+import java.io.ByteArrayInputStream;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
-import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 /**
  * Service class responsible for fetching Fear & Greed Index data from the CNN API,
  * storing it in the database, and providing methods to retrieve this data for the UI.
+ * Reads are served from the in-memory FearGreedTimeSeriesStore, which is kept in sync
+ * through the events published on every save and delete.
  * Handles both daily scheduled fetches, a one-time historical data load,
- * and now includes data retention and monthly data retrieval.
+ * and monthly data retrieval; data retention lives in RetentionService.
+ * The component indicators in the same /graphdata responses are stored through IndicatorService.
+ * Every public method is timed as fgi.service (TimedAspect); scheduled jobs additionally record
+ * fgi.job with their outcome, and historical ingests count rows as fgi.ingest.rows.
  */
 @Service
 @Slf4j
+@Timed(value = "fgi.service", description = "FearGreedService method calls")
 public class FearGreedService {
 
-    private final RestTemplate restTemplate;
+    private final CnnUpstreamClient cnnUpstreamClient;
     private final FearGreedIndexRepository fearGreedIndexRepository;
+    private final FearGreedIndexBulkWriter fearGreedIndexBulkWriter;
+    private final FearGreedIndexUpsertWriter fearGreedIndexUpsertWriter;
+    private final TodayIndexCache todayIndexCache;
+    private final FearGreedTimeSeriesStore timeSeriesStore;
+    private final ApplicationEventPublisher eventPublisher;
+    private final GraphDataStreamReader graphDataStreamReader;
+    private final IndicatorService indicatorService;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final ClusterCoordinator clusterCoordinator;
 
     @Value("${cnn.feargreed.api.url}")
     private String cnnApiBaseUrl;
 
-    public FearGreedService(RestTemplate restTemplate, FearGreedIndexRepository fearGreedIndexRepository) {
-        this.restTemplate = restTemplate;
+    @Value("${fgi.schedule.daily-fetch-cron}")
+    private String dailyFetchCron;
+
+    @Value("${fgi.ingest.batch-size:500}")
+    private int ingestBatchSize;
+
+    public FearGreedService(CnnUpstreamClient cnnUpstreamClient, FearGreedIndexRepository fearGreedIndexRepository,
+                            FearGreedIndexBulkWriter fearGreedIndexBulkWriter,
+                            FearGreedIndexUpsertWriter fearGreedIndexUpsertWriter, TodayIndexCache todayIndexCache,
+                            FearGreedTimeSeriesStore timeSeriesStore, ApplicationEventPublisher eventPublisher,
+                            GraphDataStreamReader graphDataStreamReader, IndicatorService indicatorService,
+                            ObjectMapper objectMapper, MeterRegistry meterRegistry,
+                            ClusterCoordinator clusterCoordinator) {
+        this.cnnUpstreamClient = cnnUpstreamClient;
         this.fearGreedIndexRepository = fearGreedIndexRepository;
+        this.fearGreedIndexBulkWriter = fearGreedIndexBulkWriter;
+        this.fearGreedIndexUpsertWriter = fearGreedIndexUpsertWriter;
+        this.todayIndexCache = todayIndexCache;
+        this.timeSeriesStore = timeSeriesStore;
+        this.eventPublisher = eventPublisher;
+        this.graphDataStreamReader = graphDataStreamReader;
+        this.indicatorService = indicatorService;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.clusterCoordinator = clusterCoordinator;
     }
 
-    private HttpHeaders createRequestHeaders() {
-        HttpHeaders headers = new HttpHeaders();
-        headers.set("User-Agent", "Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/120.0.0.0 Safari/537.36");
-        headers.setAccept(Collections.singletonList(MediaType.APPLICATION_JSON));
-        headers.set("Accept-Language", "en-US,en;q=0.9");
-        headers.set("Referer", "https://edition.cnn.com/markets/fear-and-greed");
-        return headers;
+    /**
+     * Scheduled daily fetch. Runs on one instance only when several share the database (see ClusterCoordinator).
+     */
+    @Scheduled(cron = "${fgi.schedule.daily-fetch-cron}") // Runs daily at 1:00 AM by default
+    public void scheduledDailyFetch() {
+        clusterCoordinator.runIfLeader("daily-fetch", this::fetchAndSaveDailyFearGreedIndex);
     }
 
-    @Scheduled(cron = "0 0 1 * * *") // Runs daily at 1:00 AM
+    /**
+     * Fetches and saves today's index on this instance; also used by the /fetch-now endpoint.
+     */
     public void fetchAndSaveDailyFearGreedIndex() {
+        Timer.Sample sample = Timer.start(meterRegistry);
         LocalDate today = LocalDate.now();
+        boolean saved = fetchAndSaveFearGreedIndexFor(today).isPresent();
+        sample.stop(jobTimer("daily-fetch", saved));
+        if (!saved) {
+            // Lets GapRepairService backfill earlier days that are still missing.
+            eventPublisher.publishEvent(new DailyFetchFailedEvent(today));
+        }
+    }
+
+    /**
+     * Fetches the index for the given day from CNN and upserts it: the first reading of a day is
+     * inserted, later readings that differ revise the stored row (see FearGreedIndexUpsertWriter).
+     * Safe to call concurrently. The component indicator readings of that day come from the same response.
+     * @param today The record date to fetch and save.
+     * @return The stored index for that day, or empty if it could not be fetched.
+     */
+    private Optional<FearGreedIndex> fetchAndSaveFearGreedIndexFor(LocalDate today) {
         log.info("Attempting to fetch Fear & Greed Index for date: {}", today);
 
         String apiUrl = cnnApiBaseUrl + "/graphdata/" + today.toString();
         log.debug("API URL: {}", apiUrl);
 
         try {
-            Optional<FearGreedIndex> existingEntry = fearGreedIndexRepository.findByRecordDate(today);
-
-            if (existingEntry.isPresent()) {
-                log.info("Fear & Greed Index for {} already exists. Skipping save operation.", today);
-                return;
-            }
-
-            HttpEntity<String> entity = new HttpEntity<>(createRequestHeaders());
-            ResponseEntity<FearGreedApiResponse> responseEntity = restTemplate.exchange(
-                    apiUrl, HttpMethod.GET, entity, FearGreedApiResponse.class
-            );
-            FearGreedApiResponse response = responseEntity.getBody();
+            // The daily body is small: buffer it once, bind the headline and stream the indicators from it.
+            byte[] body = cnnUpstreamClient.get("daily", apiUrl, r -> StreamUtils.copyToByteArray(r.getBody()));
+            FearGreedApiResponse response = objectMapper.readValue(body, FearGreedApiResponse.class);
+            saveIndicatorsFrom(body, today);
 
             FearGreedData primaryData = null;
             if (response != null) {
@@ -89,153 +149,294 @@ public class FearGreedService {
             }
 
             if (primaryData != null && primaryData.getScore() != null && primaryData.getRating() != null && primaryData.getTimestamp() != null) {
-                FearGreedIndex fgi = new FearGreedIndex();
-                fgi.setRecordDate(today);
-                fgi.setFgiValue(primaryData.getScore());
-                fgi.setSentiment(primaryData.getRating());
                 OffsetDateTime apiTimestamp = OffsetDateTime.ofInstant(
                         Instant.ofEpochMilli(primaryData.getTimestamp()), ZoneOffset.UTC);
-                fgi.setTimestamp(apiTimestamp);
-
-                fearGreedIndexRepository.save(fgi);
-                log.info("Successfully saved Fear & Greed Index for {}: Value={}, Sentiment={}",
-                        today, fgi.getFgiValue(), fgi.getSentiment());
+                return Optional.of(saveReading(today, primaryData.getScore(), primaryData.getRating(), apiTimestamp));
             } else {
                 log.warn("Failed to retrieve Fear & Greed Index data for {}. Primary data (score/rating/timestamp) was not found or was incomplete in the API response for daily save.", today);
             }
 
+        } catch (UpstreamUnavailableException e) {
+            log.warn("Skipping daily Fear & Greed Index fetch for {}: {}", today, e.getMessage());
         } catch (Exception e) {
             log.error("Error fetching or saving daily Fear & Greed Index for {}: {}", today, e.getMessage(), e);
         }
+        return Optional.empty();
+    }
+
+    /**
+     * Upserts a CNN reading as the day's row, updates today's cache and notifies the stores if the row changed.
+     * Used by the daily fetch and, in intraday mode, for every changed tick, so the day's row always
+     * holds the last reading of the day.
+     * @param day The record date.
+     * @param value The score (0-100).
+     * @param sentiment The sentiment rating.
+     * @param timestamp CNN's timestamp of the reading.
+     * @return The day's row as stored.
+     */
+    public FearGreedIndex saveReading(LocalDate day, int value, String sentiment, OffsetDateTime timestamp) {
+        FearGreedIndex fgi = new FearGreedIndex();
+        fgi.setRecordDate(day);
+        fgi.setFgiValue(value);
+        fgi.setSentiment(sentiment);
+        fgi.setTimestamp(timestamp);
+
+        FearGreedIndexUpsertWriter.UpsertResult result = fearGreedIndexUpsertWriter.upsert(fgi);
+        FearGreedIndex saved = result.row();
+        todayIndexCache.put(saved);
+        if (result.outcome() != FearGreedIndexUpsertWriter.Outcome.UNCHANGED) {
+            eventPublisher.publishEvent(FearGreedIndexSavedEvent.single(saved));
+        }
+        log.info("Fear & Greed Index for {} {}: Value={}, Sentiment={}, Revision={}",
+                day, result.outcome(), saved.getFgiValue(), saved.getSentiment(), saved.getRevision());
+        return saved;
+    }
+
+    private void saveIndicatorsFrom(byte[] body, LocalDate since) {
+        try {
+            IndicatorIngestBatch indicatorBatch = indicatorService.newIngestBatch(since);
+            graphDataStreamReader.readGraphData(new ByteArrayInputStream(body), null, indicatorBatch);
+            indicatorService.finishIngest(indicatorBatch);
+        } catch (Exception e) {
+            log.error("Error saving component indicators for {}: {}", since, e.getMessage(), e);
+        }
     }
 
-    public int fetchAndSaveHistoricalFearGreedIndex() {
+    /**
+     * Fetches the full CNN history and stores the days not yet present.
+     * Failures are logged and reported as an empty result.
+     * @return Counters of inserted, skipped and invalid points, and of indicator values written.
+     * @see #fetchAndSaveHistoricalFearGreedIndex(Consumer)
+     */
+    public IngestResult fetchAndSaveHistoricalFearGreedIndex() {
+        try {
+            return fetchAndSaveHistoricalFearGreedIndex(null);
+        } catch (UpstreamUnavailableException e) {
+            log.warn("Skipping historical Fear & Greed Index fetch: {}", e.getMessage());
+        } catch (Exception e) {
+            log.error("Error fetching or saving historical Fear & Greed Index: {}", e.getMessage(), e);
+        }
+        return new IngestResult();
+    }
+
+    /**
+     * Fetches the full CNN history and stores the days not yet present.
+     * The response body is streamed through GraphDataStreamReader into a bounded
+     * HistoricalIngestBatch, so only one batch of rows is held in memory at a time.
+     * The component indicator series of the same body go to an IndicatorIngestBatch in the same pass.
+     * @param progress Receives the counters so far after every written batch, or null.
+     * @return Counters of inserted, skipped and invalid points, and of indicator values written.
+     * @throws UpstreamUnavailableException If the CNN circuit breaker is open.
+     * @throws RuntimeException If the download or a database write failed.
+     */
+    public IngestResult fetchAndSaveHistoricalFearGreedIndex(Consumer<IngestResult> progress) {
         log.info("Attempting to fetch ALL historical Fear & Greed Index data.");
         String apiUrl = cnnApiBaseUrl + "/graphdata";
         log.debug("Historical API URL: {}", apiUrl);
 
-        int savedCount = 0;
-        try {
-            HttpEntity<String> entity = new HttpEntity<>(createRequestHeaders());
-            ResponseEntity<FearGreedApiResponse> responseEntity = restTemplate.exchange(
-                    apiUrl, HttpMethod.GET, entity, FearGreedApiResponse.class
-            );
-            FearGreedApiResponse response = responseEntity.getBody();
-
-            if (response != null && response.getFearAndGreedHistorical() != null &&
-                    response.getFearAndGreedHistorical().getData() != null &&
-                    !response.getFearAndGreedHistorical().getData().isEmpty()) {
-
-                List<FearGreedData> historicalPoints = response.getFearAndGreedHistorical().getData();
-                log.info("Found {} historical data points to process.", historicalPoints.size());
-
-                for (FearGreedData historicalPoint : historicalPoints) {
-                    Long timestampX = historicalPoint.getX();
-                    Double scoreY = historicalPoint.getY();
-                    String sentimentRating = historicalPoint.getRating();
-
-                    if (timestampX == null || scoreY == null || sentimentRating == null) {
-                        log.warn("Skipping incomplete historical data point: {}", historicalPoint);
-                        continue;
-                    }
-
-                    LocalDate recordDate = Instant.ofEpochMilli(timestampX).atZone(ZoneOffset.UTC).toLocalDate();
-                    OffsetDateTime fullTimestamp = OffsetDateTime.ofInstant(Instant.ofEpochMilli(timestampX), ZoneOffset.UTC);
-
-                    if (!fearGreedIndexRepository.findByRecordDate(recordDate).isPresent()) {
-                        FearGreedIndex fgi = new FearGreedIndex();
-                        fgi.setRecordDate(recordDate);
-                        fgi.setFgiValue(scoreY.intValue());
-                        fgi.setSentiment(sentimentRating);
-                        fgi.setTimestamp(fullTimestamp);
-
-                        fearGreedIndexRepository.save(fgi);
-                        savedCount++;
-                        log.debug("Saved historical FGI for {}: Value={}, Sentiment={}", recordDate, scoreY.intValue(), sentimentRating);
-                    } else {
-                        log.debug("Historical FGI for {} already exists. Skipping save.", recordDate);
-                    }
-                }
-                log.info("Successfully processed historical data. Saved {} new entries.", savedCount);
+        // A fresh batch per attempt: a retried request re-reads the body from the start.
+        HistoricalIngestBatch[] batch = new HistoricalIngestBatch[1];
+        IndicatorIngestBatch[] indicatorBatch = new IndicatorIngestBatch[1];
+        int points = cnnUpstreamClient.get("historical", apiUrl, response -> {
+            batch[0] = new HistoricalIngestBatch(fearGreedIndexRepository, fearGreedIndexBulkWriter, ingestBatchSize, progress);
+            indicatorBatch[0] = indicatorService.newIngestBatch(null);
+            return graphDataStreamReader.readGraphData(response.getBody(), batch[0], indicatorBatch[0]);
+        });
+        IngestResult result = finishIngest(batch[0]);
+        result.setIndicatorValues(indicatorService.finishIngest(indicatorBatch[0]));
+
+        if (points == 0) {
+            log.warn("Failed to retrieve historical Fear & Greed Index data. API response had no valid 'fear_and_greed_historical.data' or it was empty.");
+        } else {
+            log.info("Successfully processed {} historical data points. Inserted {}, skipped {} existing, ignored {} invalid entries.",
+                    points, result.getInserted(), result.getSkipped(), result.getInvalid());
+        }
+        return result;
+    }
+
+    /**
+     * Stores already-parsed historical data points through the same bounded batches as the streaming
+     * fetch: per batch, one query loads the dates already stored in its range and only the missing
+     * rows are written through multi-row inserts.
+     * When the input holds several points for the same day, the first one wins.
+     * @param historicalPoints Points from 'fear_and_greed_historical.data'.
+     * @return Counters of inserted, skipped and invalid points.
+     */
+    public IngestResult ingestHistoricalPoints(List<FearGreedData> historicalPoints) {
+        HistoricalIngestBatch batch = newIngestBatch();
+        for (FearGreedData historicalPoint : historicalPoints) {
+            Long timestampX = historicalPoint.getX();
+            Double scoreY = historicalPoint.getY();
+            String sentimentRating = historicalPoint.getRating();
+
+            if (timestampX == null || scoreY == null || sentimentRating == null) {
+                log.warn("Skipping incomplete historical data point: {}", historicalPoint);
+                batch.invalidPoint();
             } else {
-                log.warn("Failed to retrieve historical Fear & Greed Index data. API response had no valid 'fear_and_greed_historical.data' or it was empty.");
+                batch.point(timestampX, scoreY, sentimentRating);
             }
-        } catch (Exception e) {
-            log.error("Error fetching or saving historical Fear & Greed Index: {}", e.getMessage(), e);
         }
-        return savedCount;
+        return finishIngest(batch);
+    }
+
+    private HistoricalIngestBatch newIngestBatch() {
+        return new HistoricalIngestBatch(fearGreedIndexRepository, fearGreedIndexBulkWriter, ingestBatchSize);
+    }
+
+    private IngestResult finishIngest(HistoricalIngestBatch batch) {
+        IngestResult result = batch.finish();
+        ingestCounter("inserted").increment(result.getInserted());
+        ingestCounter("skipped").increment(result.getSkipped());
+        ingestCounter("invalid").increment(result.getInvalid());
+        if (result.getInserted() > 0) {
+            eventPublisher.publishEvent(FearGreedIndexSavedEvent.bulkWrite());
+        }
+        return result;
     }
 
-    public List<FearGreedIndex> getLastNDaysFearGreedIndex(int days) {
+    /**
+     * Retrieves the Fear & Greed Index for the last N days (including today) from the in-memory store.
+     * @param days The number of days to look back.
+     * @return The matching rows ordered by record date.
+     */
+    public FearGreedSeries getLastNDaysFearGreedIndex(int days) {
         if (days <= 0) {
-            return List.of();
+            return FearGreedSeries.empty();
         }
         LocalDate startDate = LocalDate.now().minusDays(days - 1);
-        log.info("Retrieving Fear & Greed Index data from {} for the last {} days.", startDate, days);
-        return fearGreedIndexRepository.findByRecordDateGreaterThanEqualOrderByRecordDateAsc(startDate);
+        log.debug("Retrieving Fear & Greed Index data from {} for the last {} days.", startDate, days);
+        return timeSeriesStore.range(startDate, null);
     }
 
-    // Original getTodaysFearGreedIndex() is now private and called by getOrCreateTodaysFearGreedIndex()
-    private Optional<FearGreedIndex> getTodaysFearGreedIndex() {
-        return fearGreedIndexRepository.findByRecordDate(LocalDate.now());
+    /**
+     * Retrieves the stored Fear & Greed Index rows for the last N days (including today) from the database,
+     * with all their columns (the default application/json representation of /history).
+     * @param days The number of days to look back.
+     * @return The matching entities ordered by record date.
+     */
+    public List<FearGreedIndex> getLastNDaysFearGreedIndexEntities(int days) {
+        if (days <= 0) {
+            return List.of();
+        }
+        LocalDate startDate = LocalDate.now().minusDays(days - 1);
+        log.debug("Retrieving Fear & Greed Index rows from {} for the last {} days.", startDate, days);
+        return fearGreedIndexRepository.findByRecordDateGreaterThanEqualOrderByRecordDateAsc(startDate);
     }
 
     /**
-     * Attempts to retrieve today's Fear & Greed Index from the database.
-     * If not found, it triggers a fetch and save operation for today's data,
-     * then attempts to retrieve it again.
+     * Returns today's Fear & Greed Index, served from the in-memory cache when possible.
+     * On a miss it is read from the database and, if not stored yet, fetched from CNN and saved.
      * This ensures that the frontend always gets the latest data, even if
-     * the scheduled job hasn't run or the server was down.
-     * @return An Optional containing today's FearGreedIndex entity if found/fetched, otherwise an empty Optional.
+     * the scheduled job hasn't run or the server was down. Concurrent misses share a single
+     * load, so CNN is called once even when many requests arrive right after the day rolls over.
+     * While CNN is unreachable (or its circuit breaker is open) the most recent stored day is returned instead.
+     * @return An Optional containing today's FearGreedIndex entity if found/fetched, else the latest stored one,
+     * or an empty Optional if nothing is stored.
      */
     public Optional<FearGreedIndex> getOrCreateTodaysFearGreedIndex() {
         LocalDate today = LocalDate.now();
-        log.info("Attempting to get or create Fear & Greed Index for today: {}", today);
-
-        Optional<FearGreedIndex> todayIndex = getTodaysFearGreedIndex(); // Try to get from DB first
-
-        if (todayIndex.isEmpty()) {
-            log.info("Today's Fear & Greed Index not found in DB. Triggering on-demand fetch and save.");
-            fetchAndSaveDailyFearGreedIndex(); // Call the existing fetch logic
-            // After attempting to fetch, try to retrieve it again
-            todayIndex = getTodaysFearGreedIndex();
+        return todayIndexCache.get(today, () -> {
+            log.info("Today's Fear & Greed Index ({}) not cached. Loading it from DB or CNN.", today);
+            Optional<FearGreedIndex> todayIndex = fearGreedIndexRepository.findByRecordDate(today);
             if (todayIndex.isEmpty()) {
-                log.warn("Failed to retrieve today's Fear & Greed Index even after on-demand fetch.");
-            } else {
-                log.info("Successfully retrieved today's Fear & Greed Index after on-demand fetch.");
+                todayIndex = fetchAndSaveFearGreedIndexFor(today);
             }
-        } else {
-            log.info("Today's Fear & Greed Index found in DB.");
-        }
-        return todayIndex;
+            if (todayIndex.isEmpty()) {
+                todayIndex = fearGreedIndexRepository.findFirstByOrderByRecordDateDesc();
+                log.warn("Failed to retrieve today's Fear & Greed Index even after on-demand fetch. Serving the last stored value ({}).",
+                        todayIndex.map(FearGreedIndex::getRecordDate).orElse(null));
+            }
+            return todayIndex;
+        });
+    }
+
+    /**
+     * @return The version of the stored dataset (index and component indicators), used for HTTP ETag and Last-Modified headers.
+     */
+    public DatasetVersion getDatasetVersion() {
+        return timeSeriesStore.version().combine(indicatorService.getDatasetVersion());
+    }
+
+    /**
+     * @return The time left until the scheduled daily fetch next runs, i.e. how long
+     * clients may cache responses before new data can appear.
+     */
+    public Duration getTimeUntilNextScheduledFetch() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime nextRun = CronExpression.parse(dailyFetchCron).next(now);
+        return nextRun == null ? Duration.ZERO : Duration.between(now, nextRun);
     }
 
     /**
      * Retrieves Fear & Greed Index data for a specific month and year.
      * @param year The year to retrieve data for.
      * @param month The month (1-12) to retrieve data for.
-     * @return A list of FearGreedIndex entities for the specified month and year.
+     * @return The rows for the specified month and year, ordered by record date.
+     */
+    public FearGreedSeries getFearGreedIndexByMonthAndYear(int year, int month) {
+        log.debug("Retrieving Fear & Greed Index data for year: {}, month: {}", year, month);
+        LocalDate firstDay = LocalDate.of(year, month, 1);
+        return timeSeriesStore.range(firstDay, firstDay.plusMonths(1));
+    }
+
+    /**
+     * Retrieves the stored Fear & Greed Index rows for a specific month and year from the database,
+     * with all their columns.
+     * @param year The year to retrieve data for.
+     * @param month The month (1-12) to retrieve data for.
+     * @return The entities for the specified month and year, ordered by record date.
      */
-    public List<FearGreedIndex> getFearGreedIndexByMonthAndYear(int year, int month) {
-        log.info("Retrieving Fear & Greed Index data for year: {}, month: {}", year, month);
+    public List<FearGreedIndex> getFearGreedIndexEntitiesByMonthAndYear(int year, int month) {
+        log.debug("Retrieving Fear & Greed Index rows for year: {}, month: {}", year, month);
         return fearGreedIndexRepository.findByYearAndMonthOrderByRecordDateAsc(year, month);
     }
 
     /**
-     * Scheduled task to delete Fear & Greed Index data older than 5 years.
-     * Runs once a month, on the 1st day of the month at 2:00 AM.
+     * Retrieves Fear & Greed Index data for a calendar quarter.
+     * @param year The year to retrieve data for.
+     * @param quarter The quarter (1-4) to retrieve data for.
+     * @return The rows for the specified quarter, ordered by record date.
      */
-    @Scheduled(cron = "0 0 2 1 * *") // Runs at 2:00 AM on the 1st day of every month
-    @Transactional // Ensures the deletion operation is atomic
-    public void deleteOldFearGreedIndexData() {
-        // Keep data for the last 5 years
-        LocalDate cutoffDate = LocalDate.now().minusYears(5);
-        log.info("Attempting to delete Fear & Greed Index data older than: {}", cutoffDate);
-        try {
-            int deletedCount = fearGreedIndexRepository.deleteByRecordDateBefore(cutoffDate);
-            log.info("Successfully deleted {} old Fear & Greed Index entries.", deletedCount);
-        } catch (Exception e) {
-            log.error("Error deleting old Fear & Greed Index data: {}", e.getMessage(), e);
-        }
+    public FearGreedSeries getFearGreedIndexByQuarterAndYear(int year, int quarter) {
+        log.debug("Retrieving Fear & Greed Index data for year: {}, quarter: {}", year, quarter);
+        LocalDate firstDay = LocalDate.of(year, (quarter - 1) * 3 + 1, 1);
+        return timeSeriesStore.range(firstDay, firstDay.plusMonths(3));
+    }
+
+    /**
+     * Retrieves Fear & Greed Index data for a calendar year.
+     * @param year The year to retrieve data for.
+     * @return The rows for the specified year, ordered by record date.
+     */
+    public FearGreedSeries getFearGreedIndexByYear(int year) {
+        log.debug("Retrieving Fear & Greed Index data for year: {}", year);
+        LocalDate firstDay = LocalDate.of(year, 1, 1);
+        return timeSeriesStore.range(firstDay, firstDay.plusYears(1));
+    }
+
+    /**
+     * Retrieves Fear & Greed Index data between two dates, both inclusive.
+     * @param from The first date to include.
+     * @param to The last date to include.
+     * @return The rows in the range, ordered by record date.
+     */
+    public FearGreedSeries getFearGreedIndexBetween(LocalDate from, LocalDate to) {
+        log.debug("Retrieving Fear & Greed Index data from {} to {}", from, to);
+        return timeSeriesStore.range(from, to.plusDays(1));
+    }
+
+    private Timer jobTimer(String job, boolean succeeded) {
+        return Timer.builder("fgi.job")
+                .description("Scheduled job runs")
+                .tag("job", job)
+                .tag("outcome", succeeded ? "success" : "failure")
+                .register(meterRegistry);
+    }
+
+    private Counter ingestCounter(String outcome) {
+        return Counter.builder("fgi.ingest.rows")
+                .description("Historical points processed by outcome")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
     }
 }
@@ -0,0 +1,293 @@
+package com.aurelius.fear_greed_tracker.service;
+
+import com.aurelius.fear_greed_tracker.model.FearGreedIndex;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Pushes index updates to Server-Sent Events subscribers (GET /api/fear-greed/stream).
+ * An "index" event is sent whenever FearGreedService stores a new or changed row (a single-row
+ * FearGreedIndexSavedEvent); bulk backfills are not streamed. Each update is serialized once and the
+ * same frame is handed to every subscriber. A heartbeat comment keeps idle connections open.
+ *
+ * Subscribers never slow the publisher down: every subscriber has a small bounded queue drained by a
+ * shared sender pool, and a subscriber whose queue is full is disconnected (EventSource clients
+ * reconnect on their own) instead of buffering without limit.
+ * Writes to the servlet response block, so a client that stops reading would otherwise pin a sender
+ * thread: a subscriber whose write has been blocked for longer than fgi.stream.write-timeout is
+ * disconnected and its sender thread interrupted, freeing it for the other subscribers.
+ */
+@Service
+@Slf4j
+public class FearGreedStreamService {
+
+    static final String INDEX_EVENT = "index";
+
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final Timer publishTimer;
+    private final Timer deliveryTimer;
+    private final ExecutorService senders;
+
+    @Value("${fgi.stream.queue-capacity:16}")
+    private int queueCapacity;
+
+    @Value("${fgi.stream.max-subscribers:10000}")
+    private int maxSubscribers;
+
+    @Value("${fgi.stream.timeout:PT30M}")
+    private Duration timeout;
+
+    @Value("${fgi.stream.write-timeout:PT10S}")
+    private Duration writeTimeout;
+
+    private volatile Frame latest;
+
+    public FearGreedStreamService(ObjectMapper objectMapper, MeterRegistry meterRegistry,
+                                  @Value("${fgi.stream.sender-threads:4}") int senderThreads) {
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.senders = Executors.newFixedThreadPool(senderThreads, new CustomizableThreadFactory("fgi-stream-"));
+        Gauge.builder("fgi.stream.subscribers", subscribers, Set::size)
+                .description("Connected /stream subscribers")
+                .register(meterRegistry);
+        this.publishTimer = Timer.builder("fgi.stream.publish")
+                .description("Time to serialize an update and queue it for every subscriber")
+                .register(meterRegistry);
+        this.deliveryTimer = Timer.builder("fgi.stream.delivery")
+                .description("Time from publishing an event to writing it to a subscriber")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Registers a new subscriber. The latest update, if any, is queued for it right away.
+     * @return The emitter to return from the controller, or null if the subscriber limit is reached.
+     */
+    public SseEmitter subscribe() {
+        if (subscribers.size() >= maxSubscribers) {
+            drop("limit");
+            return null;
+        }
+        SseEmitter emitter = new SseEmitter(timeout.toMillis());
+        register(emitter);
+        return emitter;
+    }
+
+    void register(SseEmitter emitter) {
+        Subscriber subscriber = new Subscriber(emitter, queueCapacity);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> subscribers.remove(subscriber));
+        emitter.onError(e -> subscribers.remove(subscriber));
+        subscribers.add(subscriber);
+        Frame current = latest;
+        if (current != null) {
+            subscriber.offer(current);
+        }
+    }
+
+    @EventListener
+    public void onSaved(FearGreedIndexSavedEvent event) {
+        if (event.bulk() || event.rows().isEmpty()) {
+            return;
+        }
+        FearGreedIndex row = event.rows().get(event.rows().size() - 1);
+        publishTimer.record(() -> {
+            Frame frame;
+            try {
+                frame = new Frame(SseEmitter.event()
+                        .id(row.getRecordDate() + "." + row.getRevision())
+                        .name(INDEX_EVENT)
+                        .data(objectMapper.writeValueAsBytes(row), MediaType.APPLICATION_JSON)
+                        .build(), System.nanoTime());
+            } catch (JsonProcessingException e) {
+                log.error("Could not serialize Fear & Greed Index for {} for streaming: {}", row.getRecordDate(), e.getMessage());
+                return;
+            }
+            latest = frame;
+            broadcast(frame);
+        });
+        log.debug("Streamed Fear & Greed Index for {} to {} subscribers.", row.getRecordDate(), subscribers.size());
+    }
+
+    @Scheduled(fixedDelayString = "${fgi.stream.heartbeat-interval:PT15S}")
+    public void heartbeat() {
+        if (!subscribers.isEmpty()) {
+            broadcast(new Frame(SseEmitter.event().comment("heartbeat").build(), System.nanoTime()));
+        }
+    }
+
+    /**
+     * Disconnects subscribers whose current write has been blocked for longer than the write timeout,
+     * i.e. clients that stopped reading while their TCP window is full.
+     */
+    @Scheduled(fixedDelayString = "${fgi.stream.write-timeout:PT10S}")
+    public void expireStalledWrites() {
+        long now = System.nanoTime();
+        for (Subscriber subscriber : subscribers) {
+            long started = subscriber.sendStartedNanos;
+            if (started != 0 && now - started > writeTimeout.toNanos() && subscribers.remove(subscriber)) {
+                drop("stalled");
+                log.debug("Disconnecting stalled /stream subscriber: write blocked for {} ms.",
+                        TimeUnit.NANOSECONDS.toMillis(now - started));
+                subscriber.abortSend();
+            }
+        }
+    }
+
+    /**
+     * @return The number of connected subscribers.
+     */
+    public int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        subscribers.forEach(subscriber -> subscriber.emitter.complete());
+        senders.shutdown();
+        senders.awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    private void broadcast(Frame frame) {
+        for (Subscriber subscriber : subscribers) {
+            subscriber.offer(frame);
+        }
+    }
+
+    private void drop(String reason) {
+        Counter.builder("fgi.stream.dropped")
+                .description("Subscribers rejected or disconnected by the server")
+                .tag("reason", reason)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    /**
+     * A serialized event shared by all subscribers.
+     * @param items The SSE frame parts as built by SseEmitter.event().
+     * @param publishedNanos When the frame was published, for the delivery timer.
+     */
+    private record Frame(Set<ResponseBodyEmitter.DataWithMediaType> items, long publishedNanos) {
+    }
+
+    /**
+     * One connection. At most one sender drains its queue at a time, so frames are written in order.
+     * While a write is in progress, sender and sendStartedNanos identify it; both are only changed
+     * under the subscriber's monitor so abortSend can never interrupt a write for another subscriber.
+     */
+    private final class Subscriber {
+        final SseEmitter emitter;
+        final ArrayBlockingQueue<Frame> queue;
+        final AtomicBoolean draining = new AtomicBoolean();
+        final AtomicBoolean stalled = new AtomicBoolean();
+        final AtomicBoolean completed = new AtomicBoolean();
+        volatile long sendStartedNanos;
+        private Thread sender;
+
+        Subscriber(SseEmitter emitter, int capacity) {
+            this.emitter = emitter;
+            this.queue = new ArrayBlockingQueue<>(capacity);
+        }
+
+        void offer(Frame frame) {
+            if (!queue.offer(frame)) {
+                if (subscribers.remove(this)) {
+                    drop("slow");
+                    log.debug("Disconnecting slow /stream subscriber: {} events queued.", queue.size());
+                    emitter.complete();
+                }
+                return;
+            }
+            scheduleDrain();
+        }
+
+        void scheduleDrain() {
+            if (draining.compareAndSet(false, true)) {
+                senders.execute(this::drain);
+            }
+        }
+
+        void drain() {
+            try {
+                Frame frame;
+                while (subscribers.contains(this) && (frame = queue.poll()) != null) {
+                    beginSend();
+                    try {
+                        emitter.send(frame.items());
+                    } finally {
+                        endSend();
+                    }
+                    deliveryTimer.record(System.nanoTime() - frame.publishedNanos(), TimeUnit.NANOSECONDS);
+                }
+            } catch (IOException | IllegalStateException e) {
+                // Client went away, the emitter already completed, or the write was aborted as stalled.
+                subscribers.remove(this);
+                queue.clear();
+            } finally {
+                draining.set(false);
+            }
+            if (stalled.get()) {
+                completeStalled();
+            } else if (!queue.isEmpty() && subscribers.contains(this)) {
+                scheduleDrain();
+            }
+        }
+
+        synchronized void beginSend() {
+            sender = Thread.currentThread();
+            sendStartedNanos = System.nanoTime();
+        }
+
+        synchronized void endSend() {
+            sender = null;
+            sendStartedNanos = 0;
+            // Swallow an abortSend that raced with the write finishing, so the pool thread is not left interrupted.
+            Thread.interrupted();
+        }
+
+        /**
+         * Called once the subscriber has been removed as stalled. Interrupts the blocked write if there
+         * is one; the sender then completes the emitter (or a fresh drain does, if no write was running).
+         */
+        synchronized void abortSend() {
+            stalled.set(true);
+            queue.clear();
+            if (sender != null) {
+                sender.interrupt();
+            } else {
+                scheduleDrain();
+            }
+        }
+
+        void completeStalled() {
+            if (completed.compareAndSet(false, true)) {
+                emitter.complete();
+            }
+        }
+    }
+}
@@ -0,0 +1,272 @@
+package com.aurelius.fear_greed_tracker.service;
+
+import com.aurelius.fear_greed_tracker.api.CnnUpstreamClient;
+import com.aurelius.fear_greed_tracker.api.GraphDataStreamReader;
+import com.aurelius.fear_greed_tracker.api.dto.FearGreedData;
+import com.aurelius.fear_greed_tracker.repository.FearGreedIndexGapFinder;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Fills days the daily fetch missed (e.g. while the service was down).
+ * One query (FearGreedIndexGapFinder) lists the weekdays without a row within the lookback window;
+ * consecutive missing days are grouped into runs, and each run is fetched from /graphdata/{first day}
+ * (whose historical series starts at that day). Fetches run on a bounded pool and are spaced by a
+ * minimum interval so a long outage does not turn into a burst against CNN. The points of all runs
+ * are written together through FearGreedService.ingestHistoricalPoints.
+ * A missing day that CNN's series skips although it has later points (an exchange holiday) is
+ * remembered and not fetched again by later repairs.
+ *
+ * Runs in the background after startup and after every failed daily fetch; a trigger that arrives
+ * while a repair is running is dropped. Background repairs run on one instance only when several
+ * share the database (see ClusterCoordinator). Each run is recorded as fgi.job{job=gap-repair}.
+ */
+@Service
+@Slf4j
+public class GapRepairService {
+
+    private final FearGreedIndexGapFinder gapFinder;
+    private final CnnUpstreamClient cnnUpstreamClient;
+    private final GraphDataStreamReader graphDataStreamReader;
+    private final FearGreedService fearGreedService;
+    private final MeterRegistry meterRegistry;
+    private final ClusterCoordinator clusterCoordinator;
+    private final ExecutorService coordinator;
+    private final ExecutorService fetchers;
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final Set<LocalDate> closedDays = ConcurrentHashMap.newKeySet();
+
+    @Value("${cnn.feargreed.api.url}")
+    private String cnnApiBaseUrl;
+
+    @Value("${fgi.gap-repair.lookback:P30D}")
+    private Duration lookback;
+
+    @Value("${fgi.gap-repair.min-request-interval:PT0.25S}")
+    private Duration minRequestInterval;
+
+    @Value("${fgi.gap-repair.on-startup:true}")
+    private boolean onStartup;
+
+    private long nextRequestAt;
+
+    public GapRepairService(FearGreedIndexGapFinder gapFinder, CnnUpstreamClient cnnUpstreamClient,
+                            GraphDataStreamReader graphDataStreamReader, FearGreedService fearGreedService,
+                            MeterRegistry meterRegistry, ClusterCoordinator clusterCoordinator,
+                            @Value("${fgi.gap-repair.max-concurrency:4}") int maxConcurrency) {
+        this.gapFinder = gapFinder;
+        this.cnnUpstreamClient = cnnUpstreamClient;
+        this.graphDataStreamReader = graphDataStreamReader;
+        this.fearGreedService = fearGreedService;
+        this.meterRegistry = meterRegistry;
+        this.clusterCoordinator = clusterCoordinator;
+        this.coordinator = Executors.newSingleThreadExecutor(new CustomizableThreadFactory("fgi-gap-repair-"));
+        this.fetchers = Executors.newFixedThreadPool(maxConcurrency, new CustomizableThreadFactory("fgi-gap-fetch-"));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onStartup() {
+        if (onStartup) {
+            repairInBackground();
+        }
+    }
+
+    @EventListener
+    public void onDailyFetchFailed(DailyFetchFailedEvent event) {
+        log.info("Daily fetch for {} failed; checking for missing days.", event.day());
+        repairInBackground();
+    }
+
+    /**
+     * Starts a repair on the background thread unless one is already running.
+     * @return true if a repair was started.
+     */
+    public boolean repairInBackground() {
+        if (!running.compareAndSet(false, true)) {
+            return false;
+        }
+        try {
+            coordinator.execute(() -> {
+                try {
+                    clusterCoordinator.runIfLeader("gap-repair", this::repairGaps);
+                } catch (Exception e) {
+                    log.error("Error repairing missing Fear & Greed Index days: {}", e.getMessage(), e);
+                } finally {
+                    running.set(false);
+                }
+            });
+        } catch (RuntimeException e) {
+            running.set(false);
+            throw e;
+        }
+        return true;
+    }
+
+    /**
+     * Finds the missing weekdays between the lookback start and yesterday, fetches them and stores them.
+     * Today is left to the daily fetch. Days that CNN has no data for (exchange holidays) stay missing
+     * and are skipped by later repairs.
+     * @return Counters of inserted, skipped and invalid points; all zero if nothing was missing.
+     */
+    public IngestResult repairGaps() {
+        LocalDate yesterday = LocalDate.now().minusDays(1);
+        LocalDate from = yesterday.minusDays(lookback.toDays() - 1);
+        List<LocalDate> missing = gapFinder.findMissingWeekdays(from, yesterday).stream()
+                .filter(day -> !closedDays.contains(day))
+                .toList();
+        closedDays.removeIf(day -> day.isBefore(from));
+        if (missing.isEmpty()) {
+            log.debug("No missing Fear & Greed Index days in the last {} days.", lookback.toDays());
+            return new IngestResult();
+        }
+        List<List<LocalDate>> runs = groupIntoRuns(missing);
+        log.info("Repairing {} missing Fear & Greed Index days in {} fetches.", missing.size(), runs.size());
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        boolean succeeded = true;
+        List<Future<List<FearGreedData>>> fetches = new ArrayList<>(runs.size());
+        for (List<LocalDate> run : runs) {
+            fetches.add(fetchers.submit(() -> fetchRun(run)));
+        }
+        List<FearGreedData> points = new ArrayList<>(missing.size());
+        for (int i = 0; i < fetches.size(); i++) {
+            try {
+                points.addAll(fetches.get(i).get());
+            } catch (ExecutionException e) {
+                succeeded = false;
+                log.warn("Could not fetch missing days from {}: {}", runs.get(i).get(0), e.getCause().getMessage());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                succeeded = false;
+                break;
+            }
+        }
+
+        IngestResult result = points.isEmpty() ? new IngestResult() : fearGreedService.ingestHistoricalPoints(points);
+        sample.stop(Timer.builder("fgi.job")
+                .description("Scheduled job runs")
+                .tag("job", "gap-repair")
+                .tag("outcome", succeeded ? "success" : "failure")
+                .register(meterRegistry));
+        log.info("Gap repair inserted {} of {} missing days ({} still missing).",
+                result.getInserted(), missing.size(), missing.size() - result.getInserted());
+        return result;
+    }
+
+    /**
+     * Fetches /graphdata/{first day of the run} and keeps the historical points that fall on the run's days.
+     * Days of the run that the series passes over without a point are added to closedDays.
+     */
+    private List<FearGreedData> fetchRun(List<LocalDate> run) throws InterruptedException {
+        awaitRequestSlot();
+        Set<LocalDate> days = new HashSet<>(run);
+        String apiUrl = cnnApiBaseUrl + "/graphdata/" + run.get(0);
+        return cnnUpstreamClient.get("gap-repair", apiUrl, response -> {
+            List<FearGreedData> points = new ArrayList<>(run.size());
+            Set<LocalDate> found = new HashSet<>();
+            LocalDate[] lastDay = {null};
+            boolean[] sawInvalid = {false};
+            graphDataStreamReader.readHistoricalPoints(response.getBody(), new GraphDataStreamReader.HistoricalPointHandler() {
+                @Override
+                public void point(long timestampMillis, double score, String rating) {
+                    LocalDate day = Instant.ofEpochMilli(timestampMillis).atOffset(ZoneOffset.UTC).toLocalDate();
+                    if (lastDay[0] == null || day.isAfter(lastDay[0])) {
+                        lastDay[0] = day;
+                    }
+                    if (days.contains(day)) {
+                        found.add(day);
+                        FearGreedData point = new FearGreedData();
+                        point.setX(timestampMillis);
+                        point.setY(score);
+                        point.setRating(rating);
+                        points.add(point);
+                    }
+                }
+
+                @Override
+                public void invalidPoint() {
+                    sawInvalid[0] = true;
+                }
+            });
+            // An unparseable point could belong to any day, so nothing is ruled out after one.
+            for (LocalDate day : sawInvalid[0] ? List.<LocalDate>of() : run) {
+                if (!found.contains(day) && lastDay[0] != null && day.isBefore(lastDay[0])) {
+                    closedDays.add(day);
+                    log.info("CNN has no Fear & Greed Index for {}; not fetching it again.", day);
+                }
+            }
+            return points;
+        });
+    }
+
+    /**
+     * Spaces request starts by at least minRequestInterval across all fetch threads.
+     */
+    private void awaitRequestSlot() throws InterruptedException {
+        long slot;
+        synchronized (this) {
+            slot = Math.max(System.nanoTime(), nextRequestAt);
+            nextRequestAt = slot + minRequestInterval.toNanos();
+        }
+        long waitNanos = slot - System.nanoTime();
+        if (waitNanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
+    }
+
+    /**
+     * Splits ascending missing weekdays into runs of consecutive weekdays (a weekend does not break a run).
+     */
+    static List<List<LocalDate>> groupIntoRuns(List<LocalDate> missing) {
+        List<List<LocalDate>> runs = new ArrayList<>();
+        List<LocalDate> current = null;
+        LocalDate expected = null;
+        for (LocalDate day : missing) {
+            if (current == null || !day.equals(expected)) {
+                current = new ArrayList<>();
+                runs.add(current);
+            }
+            current.add(day);
+            expected = nextWeekday(day);
+        }
+        return runs;
+    }
+
+    private static LocalDate nextWeekday(LocalDate day) {
+        LocalDate next = day.plusDays(1);
+        while (next.getDayOfWeek() == DayOfWeek.SATURDAY || next.getDayOfWeek() == DayOfWeek.SUNDAY) {
+            next = next.plusDays(1);
+        }
+        return next;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        coordinator.shutdownNow();
+        fetchers.shutdownNow();
+    }
+}
@@ -0,0 +1,133 @@
+package com.aurelius.fear_greed_tracker.service;
+
+import com.aurelius.fear_greed_tracker.api.GraphDataStreamReader;
+import com.aurelius.fear_greed_tracker.model.FearGreedIndex;
+import com.aurelius.fear_greed_tracker.repository.FearGreedIndexBulkWriter;
+import com.aurelius.fear_greed_tracker.repository.FearGreedIndexRepository;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Bounded write buffer for historical points.
+ * Holds at most {@code capacity} distinct days; when full, one query loads the dates already
+ * stored in the buffered range and only the missing rows go through the bulk writer.
+ * Memory use is therefore fixed by the capacity, not by the number of points ingested.
+ *
+ * When the input holds several points for the same day, the first one wins: duplicates within
+ * a batch are dropped here, and a duplicate in a later batch finds the earlier row already stored.
+ * After every flush a snapshot of the counters goes to the progress listener, if any.
+ * Not thread-safe; create one instance per ingest run.
+ */
+@Slf4j
+class HistoricalIngestBatch implements GraphDataStreamReader.HistoricalPointHandler {
+
+    private final FearGreedIndexRepository fearGreedIndexRepository;
+    private final FearGreedIndexBulkWriter fearGreedIndexBulkWriter;
+    private final int capacity;
+    private final Map<LocalDate, FearGreedIndex> pending;
+    private final IngestResult result = new IngestResult();
+    private final Consumer<IngestResult> progress;
+
+    private LocalDate minDate;
+    private LocalDate maxDate;
+
+    HistoricalIngestBatch(FearGreedIndexRepository fearGreedIndexRepository,
+                          FearGreedIndexBulkWriter fearGreedIndexBulkWriter, int capacity) {
+        this(fearGreedIndexRepository, fearGreedIndexBulkWriter, capacity, null);
+    }
+
+    HistoricalIngestBatch(FearGreedIndexRepository fearGreedIndexRepository,
+                          FearGreedIndexBulkWriter fearGreedIndexBulkWriter, int capacity,
+                          Consumer<IngestResult> progress) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Batch capacity must be positive: " + capacity);
+        }
+        this.fearGreedIndexRepository = fearGreedIndexRepository;
+        this.fearGreedIndexBulkWriter = fearGreedIndexBulkWriter;
+        this.capacity = capacity;
+        this.progress = progress;
+        this.pending = new LinkedHashMap<>(capacity * 2);
+    }
+
+    @Override
+    public void point(long timestampMillis, double score, String rating) {
+        OffsetDateTime fullTimestamp = OffsetDateTime.ofInstant(Instant.ofEpochMilli(timestampMillis), ZoneOffset.UTC);
+        LocalDate recordDate = fullTimestamp.toLocalDate();
+        if (pending.containsKey(recordDate)) {
+            result.setSkipped(result.getSkipped() + 1);
+            return;
+        }
+
+        FearGreedIndex fgi = new FearGreedIndex();
+        fgi.setRecordDate(recordDate);
+        fgi.setFgiValue((int) score);
+        fgi.setSentiment(rating);
+        fgi.setTimestamp(fullTimestamp);
+        pending.put(recordDate, fgi);
+
+        if (minDate == null || recordDate.isBefore(minDate)) {
+            minDate = recordDate;
+        }
+        if (maxDate == null || recordDate.isAfter(maxDate)) {
+            maxDate = recordDate;
+        }
+        if (pending.size() >= capacity) {
+            flush();
+        }
+    }
+
+    @Override
+    public void invalidPoint() {
+        result.setInvalid(result.getInvalid() + 1);
+    }
+
+    /**
+     * Writes the remaining buffered points.
+     * @return Counters for everything passed to this batch.
+     */
+    IngestResult finish() {
+        flush();
+        return result;
+    }
+
+    private void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        Set<LocalDate> existingDates = new HashSet<>(fearGreedIndexRepository.findRecordDatesBetween(minDate, maxDate));
+        List<FearGreedIndex> newRows = new ArrayList<>(pending.size());
+        for (FearGreedIndex fgi : pending.values()) {
+            if (existingDates.contains(fgi.getRecordDate())) {
+                result.setSkipped(result.getSkipped() + 1);
+            } else {
+                newRows.add(fgi);
+            }
+        }
+
+        int inserted = newRows.isEmpty() ? 0 : fearGreedIndexBulkWriter.insertIgnoringConflicts(newRows);
+        result.setInserted(result.getInserted() + inserted);
+        // Rows that lost an ON CONFLICT race against a concurrent writer count as skipped.
+        result.setSkipped(result.getSkipped() + newRows.size() - inserted);
+        if (log.isDebugEnabled()) {
+            log.debug("Historical ingest batch wrote {} of {} candidate rows between {} and {}.", inserted, newRows.size(), minDate, maxDate);
+        }
+
+        pending.clear();
+        minDate = null;
+        maxDate = null;
+        if (progress != null) {
+            progress.accept(new IngestResult(result.getInserted(), result.getSkipped(), result.getInvalid(), 0));
+        }
+    }
+}
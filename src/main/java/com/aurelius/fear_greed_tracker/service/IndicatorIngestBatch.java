@@ -0,0 +1,80 @@
+package com.aurelius.fear_greed_tracker.service;
+
+import com.aurelius.fear_greed_tracker.api.GraphDataStreamReader;
+import com.aurelius.fear_greed_tracker.model.FearGreedIndicatorValue;
+import com.aurelius.fear_greed_tracker.model.Indicator;
+import com.aurelius.fear_greed_tracker.repository.FearGreedIndicatorBulkWriter;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Bounded write buffer for component indicator points, flushed through the bulk upsert
+ * whenever it holds {@code capacity} distinct (day, indicator) pairs.
+ * CNN may report several readings per day for recent dates; the last reading of a day wins.
+ * Not thread-safe; create one instance per ingest run.
+ */
+class IndicatorIngestBatch implements GraphDataStreamReader.IndicatorPointHandler {
+
+    private final FearGreedIndicatorBulkWriter bulkWriter;
+    private final int capacity;
+    private final LocalDate since;
+    private final Map<Long, FearGreedIndicatorValue> pending;
+
+    private int received;
+    private int written;
+
+    /**
+     * @param since Points before this date are ignored, or null to keep everything.
+     */
+    IndicatorIngestBatch(FearGreedIndicatorBulkWriter bulkWriter, int capacity, LocalDate since) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Batch capacity must be positive: " + capacity);
+        }
+        this.bulkWriter = bulkWriter;
+        this.capacity = capacity;
+        this.since = since;
+        this.pending = new LinkedHashMap<>(capacity * 2);
+    }
+
+    @Override
+    public void point(Indicator indicator, long timestampMillis, double value, String rating) {
+        long epochDay = Math.floorDiv(timestampMillis, 86_400_000L);
+        if (since != null && epochDay < since.toEpochDay()) {
+            return;
+        }
+        received++;
+        FearGreedIndicatorValue row = new FearGreedIndicatorValue(
+                LocalDate.ofEpochDay(epochDay), indicator.getCode(), value, rating, null);
+        pending.put(epochDay * Indicator.values().length + indicator.getCode(), row);
+        if (pending.size() >= capacity) {
+            flush();
+        }
+    }
+
+    /**
+     * Writes the remaining buffered points.
+     * @return The number of rows inserted or changed.
+     */
+    int finish() {
+        flush();
+        return written;
+    }
+
+    /**
+     * @return The number of points accepted (before per-day deduplication).
+     */
+    int getReceived() {
+        return received;
+    }
+
+    private void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        written += bulkWriter.upsert(new ArrayList<>(pending.values()));
+        pending.clear();
+    }
+}
@@ -0,0 +1,83 @@
+package com.aurelius.fear_greed_tracker.service;
+
+import com.aurelius.fear_greed_tracker.model.Indicator;
+import com.aurelius.fear_greed_tracker.repository.FearGreedIndicatorBulkWriter;
+import com.aurelius.fear_greed_tracker.store.DatasetVersion;
+import com.aurelius.fear_greed_tracker.store.IndicatorSeries;
+import com.aurelius.fear_greed_tracker.store.IndicatorTimeSeriesStore;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Stores and serves the CNN component indicators (see Indicator).
+ * Values arrive through the same /graphdata responses FearGreedService already streams: it
+ * passes an IndicatorIngestBatch from newIngestBatch to GraphDataStreamReader and hands it back
+ * to finishIngest. Reads are served from the in-memory IndicatorTimeSeriesStore.
+ */
+@Service
+@Slf4j
+public class IndicatorService {
+
+    private final FearGreedIndicatorBulkWriter indicatorBulkWriter;
+    private final IndicatorTimeSeriesStore indicatorStore;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${fgi.ingest.batch-size:500}")
+    private int ingestBatchSize;
+
+    public IndicatorService(FearGreedIndicatorBulkWriter indicatorBulkWriter,
+                            IndicatorTimeSeriesStore indicatorStore, ApplicationEventPublisher eventPublisher) {
+        this.indicatorBulkWriter = indicatorBulkWriter;
+        this.indicatorStore = indicatorStore;
+        this.eventPublisher = eventPublisher;
+    }
+
+    /**
+     * @param since Points before this date are ignored, or null to keep everything.
+     * @return A new write buffer for one ingest run.
+     */
+    IndicatorIngestBatch newIngestBatch(LocalDate since) {
+        return new IndicatorIngestBatch(indicatorBulkWriter, ingestBatchSize, since);
+    }
+
+    /**
+     * Writes what is left in the batch and notifies the store when anything changed.
+     * @param batch The batch of the run, or null if the run never started reading.
+     * @return The number of rows inserted or changed.
+     */
+    int finishIngest(IndicatorIngestBatch batch) {
+        if (batch == null) {
+            return 0;
+        }
+        int written = batch.finish();
+        log.info("Processed {} indicator points, {} rows inserted or changed.", batch.getReceived(), written);
+        if (written > 0) {
+            eventPublisher.publishEvent(new FearGreedIndicatorsSavedEvent(written));
+        }
+        return written;
+    }
+
+    /**
+     * Retrieves the selected indicators between two dates, both inclusive, aligned on date.
+     * @param indicators The indicators to include, in response order.
+     * @param from The first date to include.
+     * @param to The last date to include.
+     * @return One date axis with a value and rating column per indicator.
+     */
+    public IndicatorSeries getIndicatorsBetween(List<Indicator> indicators, LocalDate from, LocalDate to) {
+        log.debug("Retrieving indicators {} from {} to {}", indicators, from, to);
+        return indicatorStore.range(indicators, from, to.plusDays(1));
+    }
+
+    /**
+     * @return The version of the stored indicator values, used for HTTP ETag and Last-Modified headers.
+     */
+    public DatasetVersion getDatasetVersion() {
+        return indicatorStore.version();
+    }
+}
@@ -0,0 +1,26 @@
+package com.aurelius.fear_greed_tracker.service;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Outcome counters of a historical ingest run.
+ * - inserted: new rows written to the database.
+ * - skipped: points whose record date was already stored (or repeated within the payload).
+ * - invalid: points missing a timestamp, score or rating.
+ * - indicatorValues: component indicator rows inserted or changed by the same run (not part of the total).
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class IngestResult {
+    private int inserted;
+    private int skipped;
+    private int invalid;
+    private int indicatorValues;
+
+    public int getTotal() {
+        return inserted + skipped + invalid;
+    }
+}
@@ -0,0 +1,120 @@
+package com.aurelius.fear_greed_tracker.service;
+
+import com.aurelius.fear_greed_tracker.api.CnnUpstreamClient;
+import com.aurelius.fear_greed_tracker.api.UpstreamUnavailableException;
+import com.aurelius.fear_greed_tracker.model.Sentiment;
+import com.aurelius.fear_greed_tracker.store.IntradayTickStore;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * Intraday tick capture, enabled with fgi.intraday.enabled=true.
+ * Polls CNN's current reading every fgi.intraday.poll-interval and appends it to the
+ * IntradayTickStore when the score or sentiment changed. Each changed reading is first upserted as the
+ * day's FearGreedIndex row through FearGreedService.saveReading and only then recorded as a tick, so the
+ * row is finalized from the last tick of the day without waiting for the daily fetch, and a failed
+ * upsert is retried by the next poll instead of being deduplicated away.
+ * Each poll is recorded as fgi.job{job=intraday-poll}.
+ */
+@Service
+@Slf4j
+@ConditionalOnProperty(prefix = "fgi.intraday", name = "enabled", havingValue = "true")
+public class IntradayCaptureService {
+
+    private final CnnUpstreamClient cnnUpstreamClient;
+    private final IntradayTickStore tickStore;
+    private final FearGreedService fearGreedService;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${cnn.feargreed.api.url}")
+    private String cnnApiBaseUrl;
+
+    public IntradayCaptureService(CnnUpstreamClient cnnUpstreamClient, IntradayTickStore tickStore,
+                                  FearGreedService fearGreedService, ObjectMapper objectMapper,
+                                  MeterRegistry meterRegistry) {
+        this.cnnUpstreamClient = cnnUpstreamClient;
+        this.tickStore = tickStore;
+        this.fearGreedService = fearGreedService;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Scheduled(fixedDelayString = "${fgi.intraday.poll-interval:PT5M}")
+    public void poll() {
+        LocalDate today = LocalDate.now();
+        String apiUrl = cnnApiBaseUrl + "/graphdata/" + today;
+        Timer.Sample sample = Timer.start(meterRegistry);
+        boolean succeeded = false;
+        try {
+            Reading reading = cnnUpstreamClient.get("intraday", apiUrl, response -> readHeadline(response.getBody()));
+            if (reading == null) {
+                log.warn("Intraday poll for {}: no current score/rating in the CNN response.", today);
+                return;
+            }
+            Sentiment sentiment = Sentiment.fromLabel(reading.rating());
+            if (!tickStore.isNewTick(today, reading.epochMillis(), reading.score(), sentiment)) {
+                log.debug("Intraday poll for {}: reading unchanged ({}).", today, reading.score());
+                succeeded = true;
+                return;
+            }
+            // Row first: if the upsert fails the tick is not recorded either, so the next poll retries both.
+            // Same truncation as the daily fetch, whose DTO binds the score to an Integer.
+            fearGreedService.saveReading(today, (int) reading.score(), reading.rating(),
+                    OffsetDateTime.ofInstant(Instant.ofEpochMilli(reading.epochMillis()), ZoneOffset.UTC));
+            tickStore.append(today, reading.epochMillis(), reading.score(), sentiment);
+            succeeded = true;
+        } catch (UpstreamUnavailableException e) {
+            log.warn("Skipping intraday poll for {}: {}", today, e.getMessage());
+        } catch (Exception e) {
+            log.error("Error capturing intraday Fear & Greed tick for {}: {}", today, e.getMessage(), e);
+        } finally {
+            sample.stop(Timer.builder("fgi.job")
+                    .description("Scheduled job runs")
+                    .tag("job", "intraday-poll")
+                    .tag("outcome", succeeded ? "success" : "failure")
+                    .register(meterRegistry));
+        }
+    }
+
+    /**
+     * Reads the current reading from the 'fear_and_greed' block.
+     * CNN sends its timestamp as an ISO date-time string; epoch millis are accepted as well.
+     * @return The reading, or null if score or rating is missing.
+     */
+    private Reading readHeadline(InputStream body) throws IOException {
+        JsonNode headline = objectMapper.readTree(body).path("fear_and_greed");
+        JsonNode score = headline.path("score");
+        JsonNode rating = headline.path("rating");
+        if (!score.isNumber() || !rating.isTextual()) {
+            return null;
+        }
+        JsonNode timestamp = headline.path("timestamp");
+        long epochMillis;
+        if (timestamp.isNumber()) {
+            epochMillis = timestamp.asLong();
+        } else if (timestamp.isTextual()) {
+            epochMillis = OffsetDateTime.parse(timestamp.asText()).toInstant().toEpochMilli();
+        } else {
+            epochMillis = System.currentTimeMillis();
+        }
+        return new Reading(epochMillis, score.asDouble(), rating.asText());
+    }
+
+    private record Reading(long epochMillis, double score, String rating) {
+    }
+}
@@ -0,0 +1,139 @@
+package com.aurelius.fear_greed_tracker.service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * A long-running operation submitted through JobService, serialized as the /jobs/{id} response.
+ * Written by the job thread and read by request threads; every field is volatile and the
+ * progress counters are replaced as one IngestResult snapshot.
+ */
+public class Job {
+
+    /**
+     * Operations that can run as jobs. At most one job per operation runs at a time.
+     */
+    public enum Operation {
+        /** Full CNN history download (FearGreedService.fetchAndSaveHistoricalFearGreedIndex). */
+        BACKFILL,
+        /** Retention delete (RetentionService.pruneOldFearGreedIndexData). */
+        CLEANUP
+    }
+
+    public enum State {
+        QUEUED,
+        RUNNING,
+        SUCCEEDED,
+        FAILED
+    }
+
+    private final String id = UUID.randomUUID().toString();
+    private final Operation operation;
+    private final Instant submittedAt = Instant.now();
+
+    private volatile State state = State.QUEUED;
+    private volatile Instant startedAt;
+    private volatile Instant finishedAt;
+    private volatile IngestResult progress = new IngestResult();
+    private volatile int deleted;
+    private volatile String error;
+
+    Job(Operation operation) {
+        this.operation = operation;
+    }
+
+    void start() {
+        startedAt = Instant.now();
+        state = State.RUNNING;
+    }
+
+    void progress(IngestResult snapshot) {
+        progress = snapshot;
+    }
+
+    void deleted(int rows) {
+        deleted = rows;
+    }
+
+    void succeed() {
+        finishedAt = Instant.now();
+        state = State.SUCCEEDED;
+    }
+
+    void fail(String message) {
+        error = message;
+        finishedAt = Instant.now();
+        state = State.FAILED;
+    }
+
+    public boolean isFinished() {
+        return state == State.SUCCEEDED || state == State.FAILED;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public Operation getOperation() {
+        return operation;
+    }
+
+    public State getState() {
+        return state;
+    }
+
+    public Instant getSubmittedAt() {
+        return submittedAt;
+    }
+
+    public Instant getStartedAt() {
+        return startedAt;
+    }
+
+    public Instant getFinishedAt() {
+        return finishedAt;
+    }
+
+    /**
+     * @return Milliseconds from start to finish, or until now while running; null while queued.
+     */
+    public Long getDurationMillis() {
+        Instant started = startedAt;
+        if (started == null) {
+            return null;
+        }
+        Instant finished = finishedAt;
+        return Duration.between(started, finished != null ? finished : Instant.now()).toMillis();
+    }
+
+    /** Historical points read so far (inserted + skipped + invalid). */
+    public int getPointsParsed() {
+        return progress.getTotal();
+    }
+
+    public int getInserted() {
+        return progress.getInserted();
+    }
+
+    public int getSkipped() {
+        return progress.getSkipped();
+    }
+
+    public int getInvalid() {
+        return progress.getInvalid();
+    }
+
+    public int getIndicatorValues() {
+        return progress.getIndicatorValues();
+    }
+
+    /** Index rows removed by a cleanup job. */
+    public int getDeleted() {
+        return deleted;
+    }
+
+    public String getError() {
+        return error;
+    }
+}
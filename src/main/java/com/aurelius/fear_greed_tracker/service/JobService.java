@@ -0,0 +1,108 @@
+package com.aurelius.fear_greed_tracker.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Runs the historical backfill and the retention cleanup off the request threads.
+ * Jobs execute on a small dedicated pool and are looked up by id while they run and for a while
+ * after they finish (the most recent {@code fgi.jobs.retained} finished jobs are kept).
+ * Submitting an operation that is already queued or running returns the existing job instead of
+ * starting a second one.
+ */
+@Service
+@Slf4j
+public class JobService {
+
+    private final FearGreedService fearGreedService;
+    private final RetentionService retentionService;
+    private final ExecutorService executor;
+    private final Map<String, Job> jobs = new ConcurrentHashMap<>();
+    private final Map<Job.Operation, Job> active = new ConcurrentHashMap<>();
+
+    @Value("${fgi.jobs.retained:100}")
+    private int retained;
+
+    public JobService(FearGreedService fearGreedService, RetentionService retentionService,
+                      @Value("${fgi.jobs.threads:2}") int threads) {
+        this.fearGreedService = fearGreedService;
+        this.retentionService = retentionService;
+        this.executor = Executors.newFixedThreadPool(threads, new CustomizableThreadFactory("fgi-job-"));
+    }
+
+    /**
+     * Queues an operation unless one of the same kind is queued or running.
+     * @param operation The operation to run.
+     * @return The new job, or the job already in progress for the operation.
+     */
+    public Job submit(Job.Operation operation) {
+        Job created = new Job(operation);
+        Job existing = active.putIfAbsent(operation, created);
+        if (existing != null) {
+            log.info("{} job {} is already {}; not starting another.", operation, existing.getId(), existing.getState());
+            return existing;
+        }
+        jobs.put(created.getId(), created);
+        evictFinished();
+        try {
+            executor.execute(() -> run(created));
+        } catch (RejectedExecutionException e) {
+            created.fail("Job executor is shut down");
+            active.remove(operation, created);
+            throw e;
+        }
+        log.info("Submitted {} job {}.", operation, created.getId());
+        return created;
+    }
+
+    /**
+     * @return The job with the given id, or null if it is unknown or has been evicted.
+     */
+    public Job get(String id) {
+        return jobs.get(id);
+    }
+
+    private void run(Job job) {
+        job.start();
+        try {
+            switch (job.getOperation()) {
+                case BACKFILL -> job.progress(fearGreedService.fetchAndSaveHistoricalFearGreedIndex(job::progress));
+                case CLEANUP -> job.deleted(retentionService.pruneOldFearGreedIndexData());
+            }
+            job.succeed();
+            log.info("{} job {} finished in {} ms.", job.getOperation(), job.getId(), job.getDurationMillis());
+        } catch (Exception e) {
+            log.error("{} job {} failed: {}", job.getOperation(), job.getId(), e.getMessage(), e);
+            job.fail(e.getMessage());
+        } finally {
+            active.remove(job.getOperation(), job);
+        }
+    }
+
+    private void evictFinished() {
+        int excess = jobs.size() - retained;
+        if (excess <= 0) {
+            return;
+        }
+        jobs.values().stream()
+                .filter(Job::isFinished)
+                .sorted(Comparator.comparing(Job::getSubmittedAt))
+                .limit(excess)
+                .forEach(job -> jobs.remove(job.getId()));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,118 @@
+package com.aurelius.fear_greed_tracker.service;
+
+import com.aurelius.fear_greed_tracker.repository.RetentionDeleter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.Period;
+
+/**
+ * Deletes index rows and component indicator values older than the retention period
+ * ({@code fgi.retention.period}, 5 years by default).
+ * Expired partitions are dropped whole; the remaining rows are deleted oldest first in chunks of
+ * {@code fgi.retention.chunk-days} days, each in its own short transaction (see RetentionDeleter).
+ * Stores and analytics are trimmed through the FearGreedIndexPrunedEvent published at the end.
+ *
+ * Metrics: fgi.retention.rows (deleted rows per table), fgi.retention.chunk (time per chunk
+ * statement) and fgi.job{job=retention} for the whole scheduled run.
+ */
+@Service
+@Slf4j
+public class RetentionService {
+
+    private final RetentionDeleter retentionDeleter;
+    private final ApplicationEventPublisher eventPublisher;
+    private final MeterRegistry meterRegistry;
+    private final ClusterCoordinator clusterCoordinator;
+
+    @Value("${fgi.retention.period:P5Y}")
+    private Period period;
+
+    @Value("${fgi.retention.chunk-days:31}")
+    private int chunkDays;
+
+    public RetentionService(RetentionDeleter retentionDeleter, ApplicationEventPublisher eventPublisher,
+                            MeterRegistry meterRegistry, ClusterCoordinator clusterCoordinator) {
+        this.retentionDeleter = retentionDeleter;
+        this.eventPublisher = eventPublisher;
+        this.meterRegistry = meterRegistry;
+        this.clusterCoordinator = clusterCoordinator;
+    }
+
+    /**
+     * Scheduled task to delete expired Fear & Greed Index data.
+     * Runs once a month, on the 1st day of the month at 2:00 AM by default, on one instance only
+     * when several share the database (see ClusterCoordinator).
+     */
+    @Scheduled(cron = "${fgi.schedule.retention-cron:0 0 2 1 * *}")
+    public void deleteOldFearGreedIndexData() {
+        clusterCoordinator.runIfLeader("retention", this::runRetention);
+    }
+
+    private void runRetention() {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        boolean succeeded = false;
+        try {
+            pruneOldFearGreedIndexData();
+            succeeded = true;
+        } catch (Exception e) {
+            log.error("Error deleting old Fear & Greed Index data: {}", e.getMessage(), e);
+        } finally {
+            sample.stop(Timer.builder("fgi.job")
+                    .description("Scheduled job runs")
+                    .tag("job", "retention")
+                    .tag("outcome", succeeded ? "success" : "failure")
+                    .register(meterRegistry));
+        }
+    }
+
+    /**
+     * Deletes index rows and component indicator values older than the retention period.
+     * A failure leaves the chunks deleted so far deleted; the next run continues from there.
+     * @return The number of index rows deleted.
+     */
+    public int pruneOldFearGreedIndexData() {
+        LocalDate cutoffDate = LocalDate.now().minus(period);
+        log.info("Attempting to delete Fear & Greed Index data older than: {}", cutoffDate);
+        int deletedIndicators = deleteBefore(RetentionDeleter.Table.FEAR_GREED_INDICATOR, cutoffDate);
+        int deletedCount = deleteBefore(RetentionDeleter.Table.FEAR_GREED_INDEX, cutoffDate);
+        eventPublisher.publishEvent(new FearGreedIndexPrunedEvent(cutoffDate, deletedCount));
+        log.info("Successfully deleted {} old Fear & Greed Index entries and {} indicator values.",
+                deletedCount, deletedIndicators);
+        return deletedCount;
+    }
+
+    private int deleteBefore(RetentionDeleter.Table table, LocalDate cutoffDate) {
+        Counter deletedRows = Counter.builder("fgi.retention.rows")
+                .description("Rows removed by retention")
+                .tag("table", table.tableName())
+                .register(meterRegistry);
+        Timer chunkTimer = Timer.builder("fgi.retention.chunk")
+                .description("Retention delete statements")
+                .tag("table", table.tableName())
+                .register(meterRegistry);
+
+        int deleted = retentionDeleter.dropPartitionsBefore(table, cutoffDate);
+        LocalDate from = retentionDeleter.findOldestBefore(table, cutoffDate);
+        while (from != null) {
+            LocalDate chunkStart = from;
+            LocalDate next = from.plusDays(Math.max(1, chunkDays));
+            LocalDate chunkEnd = next.isBefore(cutoffDate) ? next : cutoffDate;
+            int rows = chunkTimer.record(() -> retentionDeleter.deleteRange(table, chunkStart, chunkEnd));
+            deleted += rows;
+            if (log.isDebugEnabled()) {
+                log.debug("Retention deleted {} rows of {} between {} and {}.", rows, table.tableName(), chunkStart, chunkEnd);
+            }
+            from = retentionDeleter.findOldestBefore(table, cutoffDate);
+        }
+        deletedRows.increment(deleted);
+        return deleted;
+    }
+}
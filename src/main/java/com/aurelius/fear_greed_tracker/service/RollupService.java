@@ -0,0 +1,88 @@
+package com.aurelius.fear_greed_tracker.service;
+
+import com.aurelius.fear_greed_tracker.model.Sentiment;
+import com.aurelius.fear_greed_tracker.store.FearGreedSeries;
+import com.aurelius.fear_greed_tracker.store.FearGreedTimeSeriesStore;
+import com.aurelius.fear_greed_tracker.store.Lttb;
+import com.aurelius.fear_greed_tracker.store.Resolution;
+import com.aurelius.fear_greed_tracker.store.RollupBucket;
+import com.aurelius.fear_greed_tracker.store.RollupSeries;
+import com.aurelius.fear_greed_tracker.store.RollupStore;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Serves the history at a resolution that fits a chart: raw days, weekly / monthly / yearly
+ * rollups (RollupStore), or daily points selected by LTTB downsampling.
+ */
+@Service
+@Slf4j
+public class RollupService {
+
+    private final FearGreedTimeSeriesStore timeSeriesStore;
+    private final RollupStore rollupStore;
+
+    public RollupService(FearGreedTimeSeriesStore timeSeriesStore, RollupStore rollupStore) {
+        this.timeSeriesStore = timeSeriesStore;
+        this.rollupStore = rollupStore;
+    }
+
+    /**
+     * Retrieves the history between two dates, both inclusive, at a reduced resolution.
+     * @param from The first date to include.
+     * @param to The last date to include.
+     * @param resolution The resolution to use, or null to pick the finest one (day, week, month,
+     *                   year) with at most maxPoints points.
+     * @param lttb True to select maxPoints daily points by LTTB instead of aggregating into periods;
+     *             only combined with an automatic or daily resolution.
+     * @param maxPoints The point budget.
+     * @return The points, ordered by date.
+     */
+    public RollupSeries getHistory(LocalDate from, LocalDate to, Resolution resolution, boolean lttb, int maxPoints) {
+        LocalDate toExclusive = to.plusDays(1);
+        if (lttb) {
+            FearGreedSeries days = timeSeriesStore.range(from, toExclusive);
+            return new RollupSeries("lttb", dailyBuckets(days, Lttb.select(days, maxPoints)));
+        }
+        Resolution chosen = resolution != null ? resolution : pickResolution(from, toExclusive, maxPoints);
+        log.debug("Retrieving Fear & Greed Index data from {} to {} at {} resolution", from, to, chosen);
+        List<RollupBucket> points = chosen == Resolution.DAY
+                ? dailyBuckets(timeSeriesStore.range(from, toExclusive), null)
+                : rollupStore.range(chosen, from, toExclusive);
+        return new RollupSeries(chosen.name().toLowerCase(Locale.ROOT), points);
+    }
+
+    private Resolution pickResolution(LocalDate from, LocalDate toExclusive, int maxPoints) {
+        if (timeSeriesStore.range(from, toExclusive).size() <= maxPoints) {
+            return Resolution.DAY;
+        }
+        for (Resolution resolution : List.of(Resolution.WEEK, Resolution.MONTH)) {
+            if (rollupStore.count(resolution, from, toExclusive) <= maxPoints) {
+                return resolution;
+            }
+        }
+        return Resolution.YEAR;
+    }
+
+    /**
+     * @param positions The positions to include, or null for every day.
+     */
+    private static List<RollupBucket> dailyBuckets(FearGreedSeries days, int[] positions) {
+        int count = positions == null ? days.size() : positions.length;
+        List<RollupBucket> buckets = new ArrayList<>(count);
+        for (int k = 0; k < count; k++) {
+            int i = positions == null ? k : positions[k];
+            int value = days.value(i);
+            Sentiment sentiment = days.sentiment(i);
+            buckets.add(new RollupBucket(days.recordDate(i), days.recordDate(i), value, value, value, value, value, 1,
+                    Map.of(sentiment.getLabel(), 1)));
+        }
+        return buckets;
+    }
+}
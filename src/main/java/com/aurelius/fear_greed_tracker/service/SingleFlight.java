@@ -0,0 +1,69 @@
+package com.aurelius.fear_greed_tracker.service;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces concurrent calls for the same key into a single execution.
+ * The first caller for a key runs the loader on its own thread; callers arriving while
+ * that load is in flight join the same CompletableFuture instead of running the loader again.
+ * Nothing is cached once the load completes.
+ * @param <K> The key type identifying identical requests.
+ * @param <V> The loaded value type.
+ */
+public class SingleFlight<K, V> {
+
+    private final ConcurrentMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final AtomicLong coalescedCount = new AtomicLong();
+
+    /**
+     * Runs the loader for the key, or waits for the load already in flight for it.
+     * Exceptions thrown by the loader are rethrown to every waiting caller.
+     * @param key The request key.
+     * @param loader The load to run when no call for this key is in flight.
+     * @return The loaded value.
+     */
+    public V execute(K key, Supplier<V> loader) {
+        CompletableFuture<V> promise = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, promise);
+        if (existing != null) {
+            coalescedCount.incrementAndGet();
+            return join(existing);
+        }
+        try {
+            V value = loader.get();
+            promise.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            promise.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, promise);
+        }
+    }
+
+    /**
+     * @return The number of calls that joined an in-flight load instead of running their own.
+     */
+    public long getCoalescedCount() {
+        return coalescedCount.get();
+    }
+
+    private static <V> V join(CompletableFuture<V> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+}
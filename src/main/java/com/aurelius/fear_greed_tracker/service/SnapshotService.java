@@ -0,0 +1,143 @@
+package com.aurelius.fear_greed_tracker.service;
+
+import com.aurelius.fear_greed_tracker.model.FearGreedIndex;
+import com.aurelius.fear_greed_tracker.model.Sentiment;
+import com.aurelius.fear_greed_tracker.repository.FearGreedIndexBulkWriter;
+import com.aurelius.fear_greed_tracker.repository.FearGreedIndexCursor;
+import com.aurelius.fear_greed_tracker.store.FearGreedSnapshotReader;
+import com.aurelius.fear_greed_tracker.store.FearGreedSnapshotWriter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Moves the whole fear_greed_index table in and out of the binary snapshot format
+ * (see FearGreedSnapshotWriter), for seeding new environments and replicas without calling CNN.
+ * Export streams rows from a database cursor straight into the output; import decodes one block at a
+ * time into multi-row inserts that skip days already stored. Neither side holds more than one block in memory.
+ * An import runs in a single transaction, so a truncated or corrupted snapshot writes nothing.
+ *
+ * Metrics: fgi.snapshot.rows{operation=export|import}.
+ */
+@Service
+@Slf4j
+public class SnapshotService {
+
+    private final FearGreedIndexCursor cursor;
+    private final FearGreedIndexBulkWriter bulkWriter;
+    private final ApplicationEventPublisher eventPublisher;
+    private final MeterRegistry meterRegistry;
+    private final TransactionTemplate readTransaction;
+    private final TransactionTemplate writeTransaction;
+
+    @Value("${fgi.snapshot.fetch-size:1000}")
+    private int fetchSize;
+
+    public SnapshotService(FearGreedIndexCursor cursor, FearGreedIndexBulkWriter bulkWriter,
+                           ApplicationEventPublisher eventPublisher, MeterRegistry meterRegistry,
+                           PlatformTransactionManager transactionManager) {
+        this.cursor = cursor;
+        this.bulkWriter = bulkWriter;
+        this.eventPublisher = eventPublisher;
+        this.meterRegistry = meterRegistry;
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setReadOnly(true);
+        this.writeTransaction = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Writes every stored row to the output as a snapshot. The output is flushed but not closed.
+     * @param output Destination, e.g. the response body.
+     * @return The number of rows written.
+     */
+    public long exportSnapshot(OutputStream output) throws IOException {
+        FearGreedSnapshotWriter writer = new FearGreedSnapshotWriter(output);
+        try {
+            readTransaction.executeWithoutResult(status -> cursor.forEachRow(fetchSize,
+                    (recordDate, fgiValue, sentiment, timestamp) -> {
+                        try {
+                            writer.write((int) recordDate.toEpochDay(), fgiValue, Sentiment.fromLabel(sentiment).getCode(),
+                                    timestamp.toInstant().toEpochMilli());
+                        } catch (IOException e) {
+                            throw new UncheckedIOException(e);
+                        }
+                    }));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        long rows = writer.finish();
+        rowCounter("export").increment(rows);
+        log.info("Exported {} Fear & Greed Index rows as a snapshot.", rows);
+        return rows;
+    }
+
+    /**
+     * Inserts the rows of a snapshot, skipping days that are already stored.
+     * Sentiments are stored as their canonical label.
+     * @param input The snapshot bytes; read to the end but not closed.
+     * @return Counters of inserted and skipped rows.
+     * @throws com.aurelius.fear_greed_tracker.store.InvalidSnapshotException If the input is not a valid snapshot;
+     *         nothing is written in that case.
+     */
+    public IngestResult importSnapshot(InputStream input) throws IOException {
+        FearGreedSnapshotReader reader = new FearGreedSnapshotReader(input);
+        int inserted;
+        try {
+            inserted = writeTransaction.execute(status -> {
+                try {
+                    return insertBlocks(reader);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        IngestResult result = new IngestResult(inserted, (int) reader.rowsRead() - inserted, 0, 0);
+        rowCounter("import").increment(result.getInserted());
+        if (result.getInserted() > 0) {
+            eventPublisher.publishEvent(FearGreedIndexSavedEvent.bulkWrite());
+        }
+        log.info("Imported snapshot: {} rows inserted, {} already stored.", result.getInserted(), result.getSkipped());
+        return result;
+    }
+
+    private int insertBlocks(FearGreedSnapshotReader reader) throws IOException {
+        int inserted = 0;
+        OffsetDateTime now = OffsetDateTime.now();
+        List<FearGreedIndex> rows = new ArrayList<>();
+        for (int size = reader.nextBlock(); size > 0; size = reader.nextBlock()) {
+            rows.clear();
+            for (int i = 0; i < size; i++) {
+                OffsetDateTime timestamp = OffsetDateTime.ofInstant(Instant.ofEpochMilli(reader.timestampMillis(i)), ZoneOffset.UTC);
+                rows.add(new FearGreedIndex(null, LocalDate.ofEpochDay(reader.epochDay(i)), reader.value(i),
+                        Sentiment.fromCode(reader.sentimentCode(i)).getLabel(), timestamp, now, null, 0));
+            }
+            inserted += bulkWriter.insertIgnoringConflicts(rows);
+        }
+        return inserted;
+    }
+
+    private Counter rowCounter(String operation) {
+        return Counter.builder("fgi.snapshot.rows")
+                .description("Rows exported or imported as binary snapshots")
+                .tag("operation", operation)
+                .register(meterRegistry);
+    }
+}
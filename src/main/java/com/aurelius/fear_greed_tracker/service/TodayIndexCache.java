@@ -0,0 +1,151 @@
+package com.aurelius.fear_greed_tracker.service;
+
+import com.aurelius.fear_greed_tracker.model.FearGreedIndex;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Read-through cache for today's Fear & Greed Index.
+ * A cached value belongs to one record date and stops matching once the calendar day rolls over,
+ * so it expires at the next day boundary without any timer.
+ * When the loader cannot provide that day (CNN down) its stand-in (the last stored day) or the miss
+ * itself is cached under the requested date for fgi.cache.today.fallback-ttl only, so an outage does
+ * not send every request to the database and CNN while a recovered CNN is picked up again shortly.
+ * Concurrent misses are coalesced: one caller loads (database lookup and, if needed, the CNN fetch)
+ * while the others wait on the same future.
+ * Hits, misses and coalesced waits are published as fgi.cache.today{result}.
+ */
+@Component
+public class TodayIndexCache implements MeterBinder {
+
+    private static final Duration DEFAULT_FALLBACK_TTL = Duration.ofMinutes(1);
+
+    private volatile FearGreedIndex cached;
+    private volatile Fallback fallback;
+
+    @Value("${fgi.cache.today.fallback-ttl:PT1M}")
+    private Duration fallbackTtl = DEFAULT_FALLBACK_TTL;
+
+    private final LongSupplier nanoClock;
+    private final SingleFlight<LocalDate, Optional<FearGreedIndex>> loads = new SingleFlight<>();
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+
+    public TodayIndexCache() {
+        this(System::nanoTime);
+    }
+
+    TodayIndexCache(LongSupplier nanoClock) {
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * Returns the cached index for the given day, loading it on a miss.
+     * A result for another date (a stand-in) or an empty result is kept for the fallback TTL only,
+     * after which the next request retries the load.
+     * @param today The date to look up (normally LocalDate.now()).
+     * @param loader Loads the index for that date when it is not cached.
+     * @return The index for the date, a stand-in for it, or empty if the loader could not provide either.
+     */
+    public Optional<FearGreedIndex> get(LocalDate today, Supplier<Optional<FearGreedIndex>> loader) {
+        Optional<FearGreedIndex> current = lookup(today);
+        if (current != null) {
+            hitCount.incrementAndGet();
+            return current;
+        }
+        missCount.incrementAndGet();
+        return loads.execute(today, () -> {
+            // A caller that finished loading just before this one may already have filled the cache.
+            Optional<FearGreedIndex> loadedMeanwhile = lookup(today);
+            if (loadedMeanwhile != null) {
+                return loadedMeanwhile;
+            }
+            Optional<FearGreedIndex> loaded = loader.get();
+            if (loaded.isPresent() && today.equals(loaded.get().getRecordDate())) {
+                put(loaded.get());
+            } else {
+                fallback = new Fallback(today, loaded, nanoClock.getAsLong() + fallbackTtl.toNanos());
+            }
+            return loaded;
+        });
+    }
+
+    /**
+     * @return The cached result for the day, or null if there is none (an empty Optional is a cached miss).
+     */
+    private Optional<FearGreedIndex> lookup(LocalDate today) {
+        FearGreedIndex current = cached;
+        if (current != null && today.equals(current.getRecordDate())) {
+            return Optional.of(current);
+        }
+        Fallback stale = fallback;
+        if (stale != null && today.equals(stale.day()) && nanoClock.getAsLong() - stale.expiresAtNanos() < 0) {
+            return stale.index();
+        }
+        return null;
+    }
+
+    /**
+     * Stores a freshly saved index. Older dates never replace a newer cached day.
+     * @param index The saved index.
+     */
+    public void put(FearGreedIndex index) {
+        FearGreedIndex current = cached;
+        if (current == null || !index.getRecordDate().isBefore(current.getRecordDate())) {
+            cached = index;
+        }
+        Fallback stale = fallback;
+        if (stale != null && !index.getRecordDate().isBefore(stale.day())) {
+            fallback = null;
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("fgi.cache.today", this, TodayIndexCache::getHitCount)
+                .description("Lookups of today's index")
+                .tag("result", "hit")
+                .register(registry);
+        FunctionCounter.builder("fgi.cache.today", this, TodayIndexCache::getMissCount)
+                .description("Lookups of today's index")
+                .tag("result", "miss")
+                .register(registry);
+        FunctionCounter.builder("fgi.cache.today", this, TodayIndexCache::getCoalescedWaitCount)
+                .description("Lookups of today's index")
+                .tag("result", "coalesced")
+                .register(registry);
+    }
+
+    public void invalidate() {
+        cached = null;
+        fallback = null;
+    }
+
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    /**
+     * @return The number of misses that waited on another caller's in-flight load.
+     */
+    public long getCoalescedWaitCount() {
+        return loads.getCoalescedCount();
+    }
+
+    private record Fallback(LocalDate day, Optional<FearGreedIndex> index, long expiresAtNanos) {
+    }
+}
@@ -0,0 +1,129 @@
+package com.aurelius.fear_greed_tracker.service;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Lock-free token buckets, one per client key.
+ * Each bucket is a single AtomicLong holding the time at which it will be full again (the
+ * "theoretical arrival time" of the generic cell rate algorithm, which behaves exactly like a token
+ * bucket). Taking a token is one compare-and-set that moves this time forward by one refill interval;
+ * a request is refused when that would put it more than capacity intervals ahead of now.
+ * Buckets are spread over a fixed number of stripes. A bucket that has refilled completely carries no
+ * state, so when a stripe grows past its bound its full buckets are dropped; that sweep runs at most
+ * once per second per stripe and only touches that stripe, so a flood of one-off clients cannot make
+ * every request pay for a scan of all buckets.
+ */
+public class TokenBucketRateLimiter {
+
+    private static final long SWEEP_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final Stripe[] stripes;
+    private final int maxBucketsPerStripe;
+    private final LongSupplier nanoClock;
+
+    /**
+     * @param stripes Number of stripes, rounded up to a power of two.
+     * @param maxBucketsPerStripe Buckets a stripe holds before full (idle) buckets are dropped.
+     */
+    public TokenBucketRateLimiter(int stripes, int maxBucketsPerStripe) {
+        this(stripes, maxBucketsPerStripe, System::nanoTime);
+    }
+
+    TokenBucketRateLimiter(int stripes, int maxBucketsPerStripe, LongSupplier nanoClock) {
+        this.stripes = new Stripe[stripes <= 1 ? 1 : Integer.highestOneBit(stripes - 1) << 1];
+        long start = nanoClock.getAsLong();
+        for (int i = 0; i < this.stripes.length; i++) {
+            this.stripes[i] = new Stripe(start);
+        }
+        this.maxBucketsPerStripe = maxBucketsPerStripe;
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * Takes one token from the client's bucket.
+     * @param client The client key (e.g. "ip:203.0.113.7" or "key:...").
+     * @param limit The client's bucket size and refill rate.
+     * @return 0 if the request is admitted, otherwise the nanoseconds until a token is available.
+     */
+    public long tryAcquire(String client, Limit limit) {
+        long now = nanoClock.getAsLong();
+        AtomicLong bucket = bucket(client, now);
+        long burst = limit.capacity() * limit.refillIntervalNanos();
+        while (true) {
+            long fullAt = bucket.get();
+            long next = (fullAt - now > 0 ? fullAt : now) + limit.refillIntervalNanos();
+            long ahead = next - now;
+            if (ahead > burst) {
+                return ahead - burst;
+            }
+            if (bucket.compareAndSet(fullAt, next)) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * @return The number of buckets currently held.
+     */
+    public int getTrackedClients() {
+        int tracked = 0;
+        for (Stripe stripe : stripes) {
+            tracked += stripe.buckets.size();
+        }
+        return tracked;
+    }
+
+    private AtomicLong bucket(String client, long now) {
+        int hash = client.hashCode();
+        Stripe stripe = stripes[(hash ^ (hash >>> 16)) & (stripes.length - 1)];
+        AtomicLong bucket = stripe.buckets.get(client);
+        if (bucket != null) {
+            return bucket;
+        }
+        if (stripe.buckets.size() >= maxBucketsPerStripe) {
+            stripe.sweep(now);
+        }
+        // A new client starts with a full bucket.
+        AtomicLong created = new AtomicLong(now);
+        AtomicLong existing = stripe.buckets.putIfAbsent(client, created);
+        return existing != null ? existing : created;
+    }
+
+    /**
+     * A bucket size and the time to add one token back.
+     */
+    public record Limit(long capacity, long refillIntervalNanos) {
+
+        /**
+         * @param capacity Requests a client may make in a burst.
+         * @param refillPerSecond Sustained requests per second.
+         */
+        public static Limit of(long capacity, double refillPerSecond) {
+            return new Limit(Math.max(1, capacity), Math.max(1, Math.round(TimeUnit.SECONDS.toNanos(1) / refillPerSecond)));
+        }
+    }
+
+    private static final class Stripe {
+
+        private final ConcurrentMap<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+        private final AtomicLong nextSweep;
+
+        Stripe(long start) {
+            this.nextSweep = new AtomicLong(start);
+        }
+
+        void sweep(long now) {
+            long due = nextSweep.get();
+            if (now - due < 0 || !nextSweep.compareAndSet(due, now + SWEEP_INTERVAL_NANOS)) {
+                return;
+            }
+            // Removal is conditional on the same bucket instance; a request racing with it at worst
+            // takes its token from a bucket that was full anyway.
+            buckets.values().removeIf(bucket -> bucket.get() - now <= 0);
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package com.aurelius.fear_greed_tracker.service;
+
+import com.aurelius.fear_greed_tracker.store.FearGreedTimeSeriesStore;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Prepares a freshly started instance before it takes traffic (fgi.warmup.enabled, on in the fast-boot profile).
+ * Runs as the last ApplicationReadyEvent listener; Spring Boot only reports the readiness state
+ * ACCEPTING_TRAFFIC after these listeners return, so /actuator/health/readiness stays down until the
+ * warm-up is done. Steps:
+ * - waits (up to fgi.warmup.pool-timeout) until Hikari has opened its minimum-idle connections;
+ * - makes sure the recent fgi.warmup.history-days of the time series are loaded into memory;
+ * - sends fgi.warmup.requests loopback requests to /today and /history (row and columnar JSON), so the
+ *   request path, the Jackson serializers and the caches are initialized and JIT-compiled. They carry
+ *   REQUEST_HEADER with a random per-process token, which exempts them from the rate limit.
+ * The whole warm-up is bounded by fgi.warmup.max-duration: every request's timeout is what is left of it,
+ * so a hanging request cannot hold readiness back either. Failures are logged and never block startup.
+ * The time spent is recorded as fgi.startup.warmup.
+ */
+@Service
+@Slf4j
+@ConditionalOnProperty(name = "fgi.warmup.enabled", havingValue = "true")
+public class WarmupService {
+
+    /** Header marking the warm-up's own loopback requests; see isWarmupRequest. */
+    public static final String REQUEST_HEADER = "X-Fgi-Warmup";
+
+    private static final Duration CONNECT_TIMEOUT = Duration.ofSeconds(2);
+    private static final String TOKEN = UUID.randomUUID().toString();
+
+    private final DataSource dataSource;
+    private final FearGreedTimeSeriesStore timeSeriesStore;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${fgi.warmup.requests:300}")
+    private int requests;
+
+    @Value("${fgi.warmup.history-days:365}")
+    private int historyDays;
+
+    @Value("${fgi.warmup.pool-timeout:5s}")
+    private Duration poolTimeout;
+
+    @Value("${fgi.warmup.max-duration:15s}")
+    private Duration maxDuration;
+
+    public WarmupService(DataSource dataSource, FearGreedTimeSeriesStore timeSeriesStore, MeterRegistry meterRegistry) {
+        this.dataSource = dataSource;
+        this.timeSeriesStore = timeSeriesStore;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Order // lowest precedence: after the stores' own warm-up listeners
+    public void warmUp(ApplicationReadyEvent event) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        long deadline = System.nanoTime() + maxDuration.toNanos();
+        int openConnections = fillConnectionPool(Math.min(deadline, System.nanoTime() + poolTimeout.toNanos()));
+        int preloaded = timeSeriesStore.range(LocalDate.now().minusDays(historyDays), null).size();
+        String port = event.getApplicationContext().getEnvironment().getProperty("local.server.port");
+        int sent = port == null ? 0 : sendRequests("http://127.0.0.1:" + port + "/api/fear-greed", deadline);
+        long nanos = sample.stop(Timer.builder("fgi.startup.warmup")
+                .description("Warm-up before the instance reports ready")
+                .register(meterRegistry));
+        log.info("Warm-up finished in {} ms: {} pooled connections, {} recent days in memory, {} requests sent.",
+                nanos / 1_000_000, openConnections, preloaded, sent);
+    }
+
+    /**
+     * @param headerValue The request's REQUEST_HEADER value, or null.
+     * @return true if the request was sent by this process's warm-up.
+     */
+    public static boolean isWarmupRequest(String headerValue) {
+        return headerValue != null && MessageDigest.isEqual(
+                TOKEN.getBytes(StandardCharsets.US_ASCII), headerValue.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    private int fillConnectionPool(long deadline) {
+        try {
+            if (!dataSource.isWrapperFor(HikariDataSource.class)) {
+                return 0;
+            }
+            HikariDataSource hikari = dataSource.unwrap(HikariDataSource.class);
+            HikariPoolMXBean pool = hikari.getHikariPoolMXBean();
+            if (pool == null) {
+                // Pool not started yet: the first connection starts it and the minimum-idle fill.
+                hikari.getConnection().close();
+                pool = hikari.getHikariPoolMXBean();
+            }
+            int target = Math.min(hikari.getMinimumIdle(), hikari.getMaximumPoolSize());
+            while (pool.getTotalConnections() < target && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+            return pool.getTotalConnections();
+        } catch (SQLException e) {
+            log.warn("Warm-up could not open database connections: {}", e.getMessage());
+            return 0;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return 0;
+        }
+    }
+
+    private int sendRequests(String baseUrl, long deadline) {
+        HttpClient client = HttpClient.newBuilder()
+                .connectTimeout(maxDuration.compareTo(CONNECT_TIMEOUT) < 0 ? maxDuration : CONNECT_TIMEOUT)
+                .build();
+        List<HttpRequest.Builder> paths = List.of(
+                HttpRequest.newBuilder(URI.create(baseUrl + "/today")).header(REQUEST_HEADER, TOKEN),
+                HttpRequest.newBuilder(URI.create(baseUrl + "/history?days=7")).header(REQUEST_HEADER, TOKEN),
+                HttpRequest.newBuilder(URI.create(baseUrl + "/history?days=" + historyDays)).header(REQUEST_HEADER, TOKEN),
+                HttpRequest.newBuilder(URI.create(baseUrl + "/history?days=" + historyDays)).header(REQUEST_HEADER, TOKEN)
+                        .header("Accept", "application/vnd.fgi.columnar+json"));
+        int sent = 0;
+        try {
+            long remaining;
+            while (sent < requests && (remaining = deadline - System.nanoTime()) > 0) {
+                HttpRequest request = paths.get(sent % paths.size()).copy().timeout(Duration.ofNanos(remaining)).build();
+                HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                sent++;
+                if (response.statusCode() >= 500) {
+                    log.warn("Warm-up request {} answered {}; stopping the warm-up.", response.uri(), response.statusCode());
+                    break;
+                }
+            }
+        } catch (IOException e) {
+            log.warn("Warm-up request failed: {}", e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return sent;
+    }
+}
@@ -0,0 +1,36 @@
+package com.aurelius.fear_greed_tracker.store;
+
+import java.time.Instant;
+
+/**
+ * Identifies the state of the stored Fear & Greed dataset for HTTP caching.
+ * Derived only from the data (row count, content hash and last modification time),
+ * so every instance serving the same database produces the same tag.
+ * @param lastModified When a row was last inserted, updated or deleted (second precision).
+ * @param rowCount The number of stored rows.
+ * @param contentHash Hash over all stored dates, scores and sentiment codes.
+ */
+public record DatasetVersion(Instant lastModified, int rowCount, int contentHash) {
+
+    /**
+     * Combines the versions of two datasets served together (e.g. the index and its indicators).
+     * @param other The other dataset's version.
+     * @return A version that changes whenever either input changes.
+     */
+    public DatasetVersion combine(DatasetVersion other) {
+        Instant latest = lastModified.isAfter(other.lastModified) ? lastModified : other.lastModified;
+        return new DatasetVersion(latest, rowCount + other.rowCount, 31 * contentHash + other.contentHash);
+    }
+
+    /**
+     * Builds a strong entity tag for one representation of a resource derived from this dataset.
+     * @param discriminator Anything else the response body depends on (e.g. format and current date).
+     * @return The quoted ETag value.
+     */
+    public String eTag(String discriminator) {
+        return "\"" + Long.toHexString(lastModified.getEpochSecond())
+                + "-" + Integer.toHexString(rowCount)
+                + "-" + Integer.toHexString(contentHash)
+                + "-" + discriminator + "\"";
+    }
+}
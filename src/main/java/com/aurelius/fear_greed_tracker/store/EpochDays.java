@@ -0,0 +1,43 @@
+package com.aurelius.fear_greed_tracker.store;
+
+/**
+ * Allocation-free helpers for dates stored as epoch days (days since 1970-01-01).
+ */
+final class EpochDays {
+
+    static final int ISO_DATE_LENGTH = 10;
+
+    private EpochDays() {
+    }
+
+    /**
+     * Formats an epoch day as yyyy-MM-dd into the buffer, equivalent to LocalDate.ofEpochDay(day).toString()
+     * for years 0 to 9999. Uses the civil-from-days conversion of the proleptic Gregorian calendar.
+     * @param epochDay Days since 1970-01-01.
+     * @param buffer Destination with room for at least ISO_DATE_LENGTH chars.
+     * @return The number of chars written.
+     */
+    static int formatIsoDate(int epochDay, char[] buffer) {
+        long z = epochDay + 719468L;
+        long era = (z >= 0 ? z : z - 146096) / 146097;
+        long dayOfEra = z - era * 146097;
+        long yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36524 - dayOfEra / 146096) / 365;
+        long dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+        long shiftedMonth = (5 * dayOfYear + 2) / 153;
+        int day = (int) (dayOfYear - (153 * shiftedMonth + 2) / 5 + 1);
+        int month = (int) (shiftedMonth < 10 ? shiftedMonth + 3 : shiftedMonth - 9);
+        int year = (int) (yearOfEra + era * 400 + (month <= 2 ? 1 : 0));
+
+        buffer[0] = (char) ('0' + year / 1000 % 10);
+        buffer[1] = (char) ('0' + year / 100 % 10);
+        buffer[2] = (char) ('0' + year / 10 % 10);
+        buffer[3] = (char) ('0' + year % 10);
+        buffer[4] = '-';
+        buffer[5] = (char) ('0' + month / 10);
+        buffer[6] = (char) ('0' + month % 10);
+        buffer[7] = '-';
+        buffer[8] = (char) ('0' + day / 10);
+        buffer[9] = (char) ('0' + day % 10);
+        return ISO_DATE_LENGTH;
+    }
+}
@@ -0,0 +1,91 @@
+package com.aurelius.fear_greed_tracker.store;
+
+import com.aurelius.fear_greed_tracker.model.Sentiment;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+
+import java.time.LocalDate;
+
+/**
+ * Read-only slice of the in-memory Fear & Greed time series, ordered by record date.
+ * A slice is a window over the store's primitive column arrays: creating one copies nothing,
+ * and reading it allocates nothing per row. The arrays behind a slice are never modified
+ * after publication, so a slice stays consistent even if the store is updated meanwhile.
+ * Serialized as a JSON array of {recordDate, fgiValue, sentiment} objects (the opt-in
+ * application/vnd.fgi.rows+json representation of the history endpoints).
+ */
+@JsonSerialize(using = FearGreedSeriesSerializer.class)
+public final class FearGreedSeries {
+
+    private static final FearGreedSeries EMPTY = new FearGreedSeries(new int[0], new short[0], new byte[0], 0, 0);
+
+    private final int[] epochDays;
+    private final short[] values;
+    private final byte[] sentiments;
+    private final int offset;
+    private final int length;
+
+    FearGreedSeries(int[] epochDays, short[] values, byte[] sentiments, int offset, int length) {
+        this.epochDays = epochDays;
+        this.values = values;
+        this.sentiments = sentiments;
+        this.offset = offset;
+        this.length = length;
+    }
+
+    public static FearGreedSeries empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Wraps existing column arrays (not copied) as a series; the caller must not modify them afterwards.
+     * @param epochDays Record dates as epoch days, ascending.
+     * @param values Scores, parallel to epochDays.
+     * @param sentiments Sentiment codes, parallel to epochDays.
+     * @return A series over the whole arrays.
+     */
+    public static FearGreedSeries of(int[] epochDays, short[] values, byte[] sentiments) {
+        if (epochDays.length != values.length || epochDays.length != sentiments.length) {
+            throw new IllegalArgumentException("Column arrays must have the same length");
+        }
+        return new FearGreedSeries(epochDays, values, sentiments, 0, epochDays.length);
+    }
+
+    public int size() {
+        return length;
+    }
+
+    public boolean isEmpty() {
+        return length == 0;
+    }
+
+    /**
+     * @param i Position within the slice (0-based).
+     * @return The record date of the row as days since 1970-01-01.
+     */
+    public int epochDay(int i) {
+        return epochDays[offset + checkIndex(i)];
+    }
+
+    public LocalDate recordDate(int i) {
+        return LocalDate.ofEpochDay(epochDay(i));
+    }
+
+    public int value(int i) {
+        return values[offset + checkIndex(i)];
+    }
+
+    public byte sentimentCode(int i) {
+        return sentiments[offset + checkIndex(i)];
+    }
+
+    public Sentiment sentiment(int i) {
+        return Sentiment.fromCode(sentimentCode(i));
+    }
+
+    private int checkIndex(int i) {
+        if (i < 0 || i >= length) {
+            throw new IndexOutOfBoundsException("Index " + i + " out of bounds for length " + length);
+        }
+        return i;
+    }
+}
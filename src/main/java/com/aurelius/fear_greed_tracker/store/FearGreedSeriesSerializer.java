@@ -0,0 +1,46 @@
+package com.aurelius.fear_greed_tracker.store;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+
+/**
+ * Writes a FearGreedSeries straight from its column arrays as
+ * [{"recordDate":"2024-01-31","fgiValue":42,"sentiment":"fear"}, ...].
+ * Field names are pre-encoded and dates are formatted into a reused buffer,
+ * so serialization does not allocate per row.
+ * Sentiments are written as the normalized Sentiment labels; the label CNN sent is only kept in the
+ * stored rows (the default application/json representation).
+ */
+public class FearGreedSeriesSerializer extends StdSerializer<FearGreedSeries> {
+
+    private static final SerializableString RECORD_DATE = new SerializedString("recordDate");
+    private static final SerializableString FGI_VALUE = new SerializedString("fgiValue");
+    private static final SerializableString SENTIMENT = new SerializedString("sentiment");
+
+    public FearGreedSeriesSerializer() {
+        super(FearGreedSeries.class);
+    }
+
+    @Override
+    public void serialize(FearGreedSeries series, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        char[] dateBuffer = new char[EpochDays.ISO_DATE_LENGTH];
+        int size = series.size();
+        gen.writeStartArray(series, size);
+        for (int i = 0; i < size; i++) {
+            gen.writeStartObject();
+            gen.writeFieldName(RECORD_DATE);
+            gen.writeString(dateBuffer, 0, EpochDays.formatIsoDate(series.epochDay(i), dateBuffer));
+            gen.writeFieldName(FGI_VALUE);
+            gen.writeNumber(series.value(i));
+            gen.writeFieldName(SENTIMENT);
+            gen.writeString(series.sentiment(i).getLabel());
+            gen.writeEndObject();
+        }
+        gen.writeEndArray();
+    }
+}
@@ -0,0 +1,184 @@
+package com.aurelius.fear_greed_tracker.store;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+
+import static com.aurelius.fear_greed_tracker.store.FearGreedSnapshotWriter.BLOCK_ROWS;
+import static com.aurelius.fear_greed_tracker.store.FearGreedSnapshotWriter.MAGIC;
+import static com.aurelius.fear_greed_tracker.store.FearGreedSnapshotWriter.MILLIS_PER_DAY;
+import static com.aurelius.fear_greed_tracker.store.FearGreedSnapshotWriter.VERSION;
+
+/**
+ * Reads a binary snapshot written by FearGreedSnapshotWriter one block at a time.
+ * Call nextBlock() until it returns 0, reading the rows of each block through the accessors in between;
+ * the accessors are only valid until the next call. The checksum covers the whole snapshot and is
+ * verified when the trailer is reached, so callers must not treat rows as final before nextBlock() returned 0.
+ * Malformed input fails with InvalidSnapshotException.
+ */
+public final class FearGreedSnapshotReader {
+
+    private final CheckedInputStream in;
+    private final InputStream source;
+    private final int[] epochDays = new int[BLOCK_ROWS];
+    private final short[] values = new short[BLOCK_ROWS];
+    private final byte[] sentiments = new byte[BLOCK_ROWS];
+    private final long[] timestampOffsets = new long[BLOCK_ROWS];
+    private int size;
+    private long total;
+    private int previousDay;
+    private boolean finished;
+
+    /**
+     * Reads and checks the header. The stream is not closed by the reader.
+     * @param source The snapshot bytes.
+     */
+    public FearGreedSnapshotReader(InputStream source) throws IOException {
+        this.source = new BufferedInputStream(source, 64 * 1024);
+        this.in = new CheckedInputStream(this.source, new CRC32());
+        byte[] header = new byte[MAGIC.length + 1];
+        readFully(header, header.length);
+        if (!Arrays.equals(Arrays.copyOf(header, MAGIC.length), MAGIC)) {
+            throw new InvalidSnapshotException("Not a Fear & Greed snapshot");
+        }
+        if (header[MAGIC.length] != VERSION) {
+            throw new InvalidSnapshotException("Unsupported snapshot version " + header[MAGIC.length]);
+        }
+    }
+
+    /**
+     * Decodes the next block.
+     * @return The number of rows in the block, or 0 once the trailer has been read and verified.
+     */
+    public int nextBlock() throws IOException {
+        if (finished) {
+            return 0;
+        }
+        long rows = readVarint();
+        if (rows == 0) {
+            readTrailer();
+            size = 0;
+            return 0;
+        }
+        if (rows > BLOCK_ROWS) {
+            throw new InvalidSnapshotException("Block of " + rows + " rows exceeds " + BLOCK_ROWS);
+        }
+        size = (int) rows;
+        long day = previousDay;
+        for (int i = 0; i < size; i++) {
+            long next = day + unzigzag(readVarint());
+            if ((total + i > 0 && next <= day) || next != (int) next) {
+                throw new InvalidSnapshotException("Record dates are not strictly ascending");
+            }
+            epochDays[i] = (int) next;
+            day = next;
+        }
+        for (int i = 0; i < size; i++) {
+            long value = readVarint();
+            if (value > 100) {
+                throw new InvalidSnapshotException("Score out of range: " + value);
+            }
+            values[i] = (short) value;
+        }
+        readFully(sentiments, size);
+        for (int i = 0; i < size; i++) {
+            timestampOffsets[i] = unzigzag(readVarint());
+        }
+        previousDay = (int) day;
+        total += size;
+        return size;
+    }
+
+    public int epochDay(int i) {
+        return epochDays[checkIndex(i)];
+    }
+
+    public int value(int i) {
+        return values[checkIndex(i)];
+    }
+
+    public byte sentimentCode(int i) {
+        return sentiments[checkIndex(i)];
+    }
+
+    /**
+     * @return The row's CNN timestamp as epoch milliseconds.
+     */
+    public long timestampMillis(int i) {
+        return epochDays[checkIndex(i)] * MILLIS_PER_DAY + timestampOffsets[i];
+    }
+
+    /**
+     * @return Rows decoded so far.
+     */
+    public long rowsRead() {
+        return total;
+    }
+
+    private void readTrailer() throws IOException {
+        long declared = readVarint();
+        if (declared != total) {
+            throw new InvalidSnapshotException("Snapshot declares " + declared + " rows but contains " + total);
+        }
+        int expected = (int) in.getChecksum().getValue();
+        int actual = 0;
+        for (int i = 0; i < 4; i++) {
+            actual = (actual << 8) | readUnchecked();
+        }
+        if (actual != expected) {
+            throw new InvalidSnapshotException("Snapshot checksum mismatch");
+        }
+        if (source.read() != -1) {
+            throw new InvalidSnapshotException("Unexpected data after the snapshot trailer");
+        }
+        finished = true;
+    }
+
+    private int checkIndex(int i) {
+        if (i < 0 || i >= size) {
+            throw new IndexOutOfBoundsException("Index " + i + " out of bounds for block of " + size);
+        }
+        return i;
+    }
+
+    private long readVarint() throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = in.read();
+            if (b < 0) {
+                throw new InvalidSnapshotException("Snapshot is truncated");
+            }
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new InvalidSnapshotException("Malformed varint");
+    }
+
+    private int readUnchecked() throws IOException {
+        int b = source.read();
+        if (b < 0) {
+            throw new InvalidSnapshotException("Snapshot is truncated");
+        }
+        return b;
+    }
+
+    private void readFully(byte[] buffer, int length) throws IOException {
+        int read = 0;
+        while (read < length) {
+            int n = in.read(buffer, read, length - read);
+            if (n < 0) {
+                throw new InvalidSnapshotException("Snapshot is truncated");
+            }
+            read += n;
+        }
+    }
+
+    private static long unzigzag(long n) {
+        return (n >>> 1) ^ -(n & 1);
+    }
+}
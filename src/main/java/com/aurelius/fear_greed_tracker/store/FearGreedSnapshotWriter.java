@@ -0,0 +1,132 @@
+package com.aurelius.fear_greed_tracker.store;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * Writes Fear & Greed Index rows in the compact binary snapshot format used by /export and /import.
+ * Rows are buffered into blocks of at most BLOCK_ROWS and each block is written column by column,
+ * so memory stays bounded however many rows are written.
+ *
+ * Layout (varints are unsigned LEB128, signed values are zigzag encoded first):
+ * <pre>
+ * header   "FGIS" version(1 byte)
+ * block*   rows(varint &gt; 0)
+ *          rows x day delta (signed varint; first row relative to the previous block, or to epoch day 0)
+ *          rows x score (varint)
+ *          rows x sentiment code (1 byte, see Sentiment)
+ *          rows x timestamp (signed varint, milliseconds from the start of the record day in UTC)
+ * trailer  0(varint) total rows(varint) CRC32 of all preceding bytes (4 bytes, big-endian)
+ * </pre>
+ * Rows must be written in strictly ascending record date order. Read with FearGreedSnapshotReader.
+ */
+public final class FearGreedSnapshotWriter {
+
+    static final byte[] MAGIC = {'F', 'G', 'I', 'S'};
+    static final int VERSION = 1;
+    static final int BLOCK_ROWS = 4096;
+    static final long MILLIS_PER_DAY = 86_400_000L;
+
+    private final BufferedOutputStream target;
+    private final CheckedOutputStream out;
+    private final int[] epochDays = new int[BLOCK_ROWS];
+    private final short[] values = new short[BLOCK_ROWS];
+    private final byte[] sentiments = new byte[BLOCK_ROWS];
+    private final long[] timestampOffsets = new long[BLOCK_ROWS];
+    private int size;
+    private long total;
+    private int previousDay;
+    private boolean finished;
+
+    /**
+     * Writes the header. The stream is not closed by the writer.
+     * @param target Destination of the snapshot.
+     */
+    public FearGreedSnapshotWriter(OutputStream target) throws IOException {
+        this.target = new BufferedOutputStream(target, 64 * 1024);
+        this.out = new CheckedOutputStream(this.target, new CRC32());
+        out.write(MAGIC);
+        out.write(VERSION);
+    }
+
+    /**
+     * Appends one row.
+     * @param epochDay Record date as days since 1970-01-01, greater than that of the previous row.
+     * @param value Score (0-100).
+     * @param sentimentCode Sentiment code (see Sentiment.getCode()).
+     * @param timestampMillis CNN timestamp as epoch milliseconds.
+     */
+    public void write(int epochDay, int value, byte sentimentCode, long timestampMillis) throws IOException {
+        if (finished) {
+            throw new IllegalStateException("Snapshot already finished");
+        }
+        int lastDay = size > 0 ? epochDays[size - 1] : previousDay;
+        if (total + size > 0 && epochDay <= lastDay) {
+            throw new IllegalArgumentException("Rows must be in ascending date order: " + epochDay + " after " + lastDay);
+        }
+        epochDays[size] = epochDay;
+        values[size] = (short) value;
+        sentiments[size] = sentimentCode;
+        timestampOffsets[size] = timestampMillis - epochDay * MILLIS_PER_DAY;
+        if (++size == BLOCK_ROWS) {
+            flushBlock();
+        }
+    }
+
+    /**
+     * Writes the pending block and the trailer, then flushes the target.
+     * @return The number of rows written.
+     */
+    public long finish() throws IOException {
+        if (!finished) {
+            flushBlock();
+            writeVarint(out, 0);
+            writeVarint(out, total);
+            int crc = (int) out.getChecksum().getValue();
+            target.write(crc >>> 24);
+            target.write(crc >>> 16);
+            target.write(crc >>> 8);
+            target.write(crc);
+            target.flush();
+            finished = true;
+        }
+        return total;
+    }
+
+    private void flushBlock() throws IOException {
+        if (size == 0) {
+            return;
+        }
+        writeVarint(out, size);
+        int day = previousDay;
+        for (int i = 0; i < size; i++) {
+            writeVarint(out, zigzag(epochDays[i] - (long) day));
+            day = epochDays[i];
+        }
+        for (int i = 0; i < size; i++) {
+            writeVarint(out, values[i]);
+        }
+        out.write(sentiments, 0, size);
+        for (int i = 0; i < size; i++) {
+            writeVarint(out, zigzag(timestampOffsets[i]));
+        }
+        previousDay = day;
+        total += size;
+        size = 0;
+    }
+
+    private static long zigzag(long n) {
+        return (n << 1) ^ (n >> 63);
+    }
+
+    private static void writeVarint(OutputStream out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+}
@@ -0,0 +1,236 @@
+package com.aurelius.fear_greed_tracker.store;
+
+import com.aurelius.fear_greed_tracker.model.FearGreedIndex;
+import com.aurelius.fear_greed_tracker.model.FearGreedIndexPoint;
+import com.aurelius.fear_greed_tracker.model.Sentiment;
+import com.aurelius.fear_greed_tracker.repository.FearGreedIndexRepository;
+import com.aurelius.fear_greed_tracker.service.FearGreedIndexPrunedEvent;
+import com.aurelius.fear_greed_tracker.service.FearGreedIndexSavedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * In-process columnar copy of the whole fear_greed_index table, keyed by epoch day.
+ * Rows are held in three parallel primitive arrays sorted by date (epoch day, score, sentiment code),
+ * so a date-range query is two binary searches returning a FearGreedSeries slice.
+ *
+ * Writers build a new set of arrays and publish it through a volatile field (copy-on-write);
+ * readers never lock. With at most a few thousand rows a copy per daily save is negligible.
+ * The store is warmed from FearGreedIndexRepository at startup (a three-column projection,
+ * no entities), patched on every
+ * FearGreedIndexSavedEvent / FearGreedIndexPrunedEvent, and reloaded after bulk writes.
+ */
+@Component
+@Slf4j
+public class FearGreedTimeSeriesStore {
+
+    private final FearGreedIndexRepository fearGreedIndexRepository;
+    private final ReentrantLock writeLock = new ReentrantLock();
+
+    private volatile Columns columns;
+
+    public FearGreedTimeSeriesStore(FearGreedIndexRepository fearGreedIndexRepository) {
+        this.fearGreedIndexRepository = fearGreedIndexRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        reload();
+    }
+
+    /**
+     * Replaces the store contents with the current table contents.
+     */
+    public void reload() {
+        writeLock.lock();
+        try {
+            List<FearGreedIndexPoint> rows = fearGreedIndexRepository.findAllPoints();
+            Instant lastModified = fearGreedIndexRepository.findLastModified()
+                    .map(OffsetDateTime::toInstant)
+                    .orElse(Instant.EPOCH);
+            columns = Columns.of(rows, lastModified);
+            log.info("Loaded {} Fear & Greed Index rows into the in-memory time series store.", rows.size());
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @EventListener
+    public void onSaved(FearGreedIndexSavedEvent event) {
+        if (event.bulk()) {
+            reload();
+            return;
+        }
+        writeLock.lock();
+        try {
+            Columns current = loadedColumns();
+            for (FearGreedIndex row : event.rows()) {
+                current = current.upsert(row);
+            }
+            columns = current;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @EventListener
+    public void onPruned(FearGreedIndexPrunedEvent event) {
+        writeLock.lock();
+        try {
+            columns = loadedColumns().removeBefore((int) event.cutoffDate().toEpochDay(), Instant.now());
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Returns the rows with fromInclusive <= recordDate < toExclusive.
+     * @param fromInclusive First date of the range, or null for no lower bound.
+     * @param toExclusive Date after the range, or null for no upper bound.
+     * @return A zero-copy slice over the matching rows, ordered by date.
+     */
+    public FearGreedSeries range(LocalDate fromInclusive, LocalDate toExclusive) {
+        Columns current = loadedColumns();
+        int from = fromInclusive == null ? 0 : current.lowerBound((int) fromInclusive.toEpochDay());
+        int to = toExclusive == null ? current.size : current.lowerBound((int) toExclusive.toEpochDay());
+        if (from >= to) {
+            return FearGreedSeries.empty();
+        }
+        return new FearGreedSeries(current.epochDays, current.values, current.sentiments, from, to - from);
+    }
+
+    public int size() {
+        return loadedColumns().size;
+    }
+
+    /**
+     * @return The version of the data currently held, for ETag / Last-Modified headers.
+     */
+    public DatasetVersion version() {
+        Columns current = loadedColumns();
+        return new DatasetVersion(current.lastModified, current.size, current.contentHash);
+    }
+
+    /**
+     * Loads the store on first use if a request arrives before the startup warm-up ran.
+     */
+    private Columns loadedColumns() {
+        Columns current = columns;
+        if (current == null) {
+            writeLock.lock();
+            try {
+                if (columns == null) {
+                    reload();
+                }
+                current = columns;
+            } finally {
+                writeLock.unlock();
+            }
+        }
+        return current;
+    }
+
+    /**
+     * Immutable column arrays; every mutation returns a new instance.
+     */
+    private static final class Columns {
+        final int[] epochDays;
+        final short[] values;
+        final byte[] sentiments;
+        final int size;
+        final Instant lastModified;
+        final int contentHash;
+
+        Columns(int[] epochDays, short[] values, byte[] sentiments, int size, Instant lastModified) {
+            this.epochDays = epochDays;
+            this.values = values;
+            this.sentiments = sentiments;
+            this.size = size;
+            this.lastModified = lastModified.truncatedTo(ChronoUnit.SECONDS);
+            int hash = 1;
+            for (int i = 0; i < size; i++) {
+                hash = 31 * (31 * (31 * hash + epochDays[i]) + values[i]) + sentiments[i];
+            }
+            this.contentHash = hash;
+        }
+
+        static Columns of(List<FearGreedIndexPoint> rowsSortedByDate, Instant lastModified) {
+            int size = rowsSortedByDate.size();
+            int[] epochDays = new int[size];
+            short[] values = new short[size];
+            byte[] sentiments = new byte[size];
+            for (int i = 0; i < size; i++) {
+                FearGreedIndexPoint row = rowsSortedByDate.get(i);
+                epochDays[i] = (int) row.recordDate().toEpochDay();
+                values[i] = (short) row.fgiValue();
+                sentiments[i] = Sentiment.fromLabel(row.sentiment()).getCode();
+            }
+            return new Columns(epochDays, values, sentiments, size, lastModified);
+        }
+
+        /**
+         * @return The first position whose epoch day is >= the given day (size if none).
+         */
+        int lowerBound(int epochDay) {
+            int index = Arrays.binarySearch(epochDays, 0, size, epochDay);
+            return index >= 0 ? index : -index - 1;
+        }
+
+        Columns upsert(FearGreedIndex row) {
+            int epochDay = (int) row.getRecordDate().toEpochDay();
+            short value = row.getFgiValue().shortValue();
+            byte sentiment = Sentiment.fromLabel(row.getSentiment()).getCode();
+            int index = Arrays.binarySearch(epochDays, 0, size, epochDay);
+            OffsetDateTime rowModified = row.getUpdatedAt() != null ? row.getUpdatedAt() : row.getCreatedAt();
+            Instant newLastModified = rowModified != null && rowModified.toInstant().isAfter(lastModified)
+                    ? rowModified.toInstant()
+                    : Instant.now();
+
+            if (index >= 0) {
+                short[] newValues = values.clone();
+                byte[] newSentiments = sentiments.clone();
+                newValues[index] = value;
+                newSentiments[index] = sentiment;
+                return new Columns(epochDays, newValues, newSentiments, size, newLastModified);
+            }
+
+            int insertAt = -index - 1;
+            int[] newEpochDays = new int[size + 1];
+            short[] newValues = new short[size + 1];
+            byte[] newSentiments = new byte[size + 1];
+            System.arraycopy(epochDays, 0, newEpochDays, 0, insertAt);
+            System.arraycopy(values, 0, newValues, 0, insertAt);
+            System.arraycopy(sentiments, 0, newSentiments, 0, insertAt);
+            newEpochDays[insertAt] = epochDay;
+            newValues[insertAt] = value;
+            newSentiments[insertAt] = sentiment;
+            System.arraycopy(epochDays, insertAt, newEpochDays, insertAt + 1, size - insertAt);
+            System.arraycopy(values, insertAt, newValues, insertAt + 1, size - insertAt);
+            System.arraycopy(sentiments, insertAt, newSentiments, insertAt + 1, size - insertAt);
+            return new Columns(newEpochDays, newValues, newSentiments, size + 1, newLastModified);
+        }
+
+        Columns removeBefore(int cutoffEpochDay, Instant removedAt) {
+            int from = lowerBound(cutoffEpochDay);
+            if (from == 0) {
+                return this;
+            }
+            return new Columns(
+                    Arrays.copyOfRange(epochDays, from, size),
+                    Arrays.copyOfRange(values, from, size),
+                    Arrays.copyOfRange(sentiments, from, size),
+                    size - from,
+                    removedAt);
+        }
+    }
+}
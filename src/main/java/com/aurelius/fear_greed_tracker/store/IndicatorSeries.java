@@ -0,0 +1,86 @@
+package com.aurelius.fear_greed_tracker.store;
+
+import com.aurelius.fear_greed_tracker.model.Indicator;
+import com.aurelius.fear_greed_tracker.model.Sentiment;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Read-only slice of several component indicators aligned on one date axis.
+ * Like FearGreedSeries it is a window over the store's immutable column arrays and copies nothing.
+ * The axis holds every date on which any stored indicator has a value, so a selected indicator
+ * may have no value on some dates (see hasValue).
+ * Serialized as {"dates":[...],"series":{"<indicator>":{"values":[...],"ratings":[...]}}}.
+ */
+@JsonSerialize(using = IndicatorSeriesSerializer.class)
+public final class IndicatorSeries {
+
+    private final int[] epochDays;
+    private final int offset;
+    private final int length;
+    private final List<Indicator> indicators;
+    private final double[][] values;
+    private final byte[][] ratings;
+
+    /**
+     * @param values Per selected indicator, the full column array (NaN where missing).
+     * @param ratings Per selected indicator, the full sentiment code array.
+     */
+    IndicatorSeries(int[] epochDays, int offset, int length, List<Indicator> indicators,
+                    double[][] values, byte[][] ratings) {
+        this.epochDays = epochDays;
+        this.offset = offset;
+        this.length = length;
+        this.indicators = indicators;
+        this.values = values;
+        this.ratings = ratings;
+    }
+
+    public int size() {
+        return length;
+    }
+
+    /**
+     * @return The selected indicators, in the order of the column positions used below.
+     */
+    public List<Indicator> getIndicators() {
+        return indicators;
+    }
+
+    public int epochDay(int i) {
+        return epochDays[offset + checkIndex(i)];
+    }
+
+    public LocalDate recordDate(int i) {
+        return LocalDate.ofEpochDay(epochDay(i));
+    }
+
+    /**
+     * @param column Position of the indicator in getIndicators().
+     * @param i Position on the date axis.
+     * @return Whether the indicator has a value on that date.
+     */
+    public boolean hasValue(int column, int i) {
+        return !Double.isNaN(value(column, i));
+    }
+
+    /**
+     * @return The value, or NaN if the indicator has no value on that date.
+     */
+    public double value(int column, int i) {
+        return values[column][offset + checkIndex(i)];
+    }
+
+    public Sentiment rating(int column, int i) {
+        return Sentiment.fromCode(ratings[column][offset + checkIndex(i)]);
+    }
+
+    private int checkIndex(int i) {
+        if (i < 0 || i >= length) {
+            throw new IndexOutOfBoundsException("Index " + i + " out of bounds for length " + length);
+        }
+        return i;
+    }
+}
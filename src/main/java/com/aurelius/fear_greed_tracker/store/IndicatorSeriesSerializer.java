@@ -0,0 +1,59 @@
+package com.aurelius.fear_greed_tracker.store;
+
+import com.aurelius.fear_greed_tracker.model.Sentiment;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+
+/**
+ * Writes an IndicatorSeries column by column:
+ * {"dates":["2024-01-02",...],"series":{"junk_bond_demand":{"values":[1.9,null,...],"ratings":["fear",null,...]}}}.
+ * Missing values and ratings are written as null so every array lines up with "dates".
+ */
+public class IndicatorSeriesSerializer extends StdSerializer<IndicatorSeries> {
+
+    public IndicatorSeriesSerializer() {
+        super(IndicatorSeries.class);
+    }
+
+    @Override
+    public void serialize(IndicatorSeries series, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        char[] dateBuffer = new char[EpochDays.ISO_DATE_LENGTH];
+        int size = series.size();
+        gen.writeStartObject();
+        gen.writeArrayFieldStart("dates");
+        for (int i = 0; i < size; i++) {
+            gen.writeString(dateBuffer, 0, EpochDays.formatIsoDate(series.epochDay(i), dateBuffer));
+        }
+        gen.writeEndArray();
+
+        gen.writeObjectFieldStart("series");
+        for (int column = 0; column < series.getIndicators().size(); column++) {
+            gen.writeObjectFieldStart(series.getIndicators().get(column).getKey());
+            gen.writeArrayFieldStart("values");
+            for (int i = 0; i < size; i++) {
+                if (series.hasValue(column, i)) {
+                    gen.writeNumber(series.value(column, i));
+                } else {
+                    gen.writeNull();
+                }
+            }
+            gen.writeEndArray();
+            gen.writeArrayFieldStart("ratings");
+            for (int i = 0; i < size; i++) {
+                Sentiment rating = series.rating(column, i);
+                if (rating == Sentiment.UNKNOWN) {
+                    gen.writeNull();
+                } else {
+                    gen.writeString(rating.getLabel());
+                }
+            }
+            gen.writeEndArray();
+            gen.writeEndObject();
+        }
+        gen.writeEndObject();
+        gen.writeEndObject();
+    }
+}
@@ -0,0 +1,216 @@
+package com.aurelius.fear_greed_tracker.store;
+
+import com.aurelius.fear_greed_tracker.model.FearGreedIndicatorPoint;
+import com.aurelius.fear_greed_tracker.model.Indicator;
+import com.aurelius.fear_greed_tracker.model.Sentiment;
+import com.aurelius.fear_greed_tracker.repository.FearGreedIndicatorRepository;
+import com.aurelius.fear_greed_tracker.service.FearGreedIndexPrunedEvent;
+import com.aurelius.fear_greed_tracker.service.FearGreedIndicatorsSavedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * In-process columnar copy of the fear_greed_indicator table.
+ * All indicators share one sorted date axis (epoch days); each indicator has a double column
+ * (NaN where it has no value on a date) and a sentiment code column. A multi-indicator range
+ * query is two binary searches, and the returned IndicatorSeries references the columns directly.
+ *
+ * Same publication scheme as FearGreedTimeSeriesStore: copy-on-write behind a volatile field,
+ * lock-free reads. The store is loaded at startup, reloaded after every indicator write
+ * (FearGreedIndicatorsSavedEvent) and trimmed on FearGreedIndexPrunedEvent.
+ */
+@Component
+@Slf4j
+public class IndicatorTimeSeriesStore {
+
+    private static final int INDICATOR_COUNT = Indicator.values().length;
+
+    private final FearGreedIndicatorRepository indicatorRepository;
+    private final ReentrantLock writeLock = new ReentrantLock();
+
+    private volatile Columns columns;
+
+    public IndicatorTimeSeriesStore(FearGreedIndicatorRepository indicatorRepository) {
+        this.indicatorRepository = indicatorRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        reload();
+    }
+
+    /**
+     * Replaces the store contents with the current table contents.
+     */
+    public void reload() {
+        writeLock.lock();
+        try {
+            List<FearGreedIndicatorPoint> rows = indicatorRepository.findAllPoints();
+            Instant lastModified = indicatorRepository.findLastModified()
+                    .map(OffsetDateTime::toInstant)
+                    .orElse(Instant.EPOCH);
+            columns = Columns.of(rows, lastModified);
+            log.info("Loaded {} indicator values over {} dates into the in-memory indicator store.",
+                    rows.size(), columns.size);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @EventListener
+    public void onSaved(FearGreedIndicatorsSavedEvent event) {
+        if (event.writtenCount() > 0) {
+            reload();
+        }
+    }
+
+    @EventListener
+    public void onPruned(FearGreedIndexPrunedEvent event) {
+        writeLock.lock();
+        try {
+            columns = loadedColumns().removeBefore((int) event.cutoffDate().toEpochDay(), Instant.now());
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Returns the selected indicators on the dates fromInclusive <= date < toExclusive.
+     * @param indicators The indicators to include, in response order.
+     * @param fromInclusive First date of the range, or null for no lower bound.
+     * @param toExclusive Date after the range, or null for no upper bound.
+     * @return A zero-copy slice aligned on date.
+     */
+    public IndicatorSeries range(List<Indicator> indicators, LocalDate fromInclusive, LocalDate toExclusive) {
+        Columns current = loadedColumns();
+        int from = fromInclusive == null ? 0 : current.lowerBound((int) fromInclusive.toEpochDay());
+        int to = toExclusive == null ? current.size : current.lowerBound((int) toExclusive.toEpochDay());
+        double[][] values = new double[indicators.size()][];
+        byte[][] ratings = new byte[indicators.size()][];
+        for (int k = 0; k < indicators.size(); k++) {
+            values[k] = current.values[indicators.get(k).getCode()];
+            ratings[k] = current.ratings[indicators.get(k).getCode()];
+        }
+        return new IndicatorSeries(current.epochDays, from, Math.max(0, to - from), List.copyOf(indicators), values, ratings);
+    }
+
+    /**
+     * @return The version of the data currently held, for ETag / Last-Modified headers.
+     */
+    public DatasetVersion version() {
+        Columns current = loadedColumns();
+        return new DatasetVersion(current.lastModified, current.valueCount, current.contentHash);
+    }
+
+    private Columns loadedColumns() {
+        Columns current = columns;
+        if (current == null) {
+            writeLock.lock();
+            try {
+                if (columns == null) {
+                    reload();
+                }
+                current = columns;
+            } finally {
+                writeLock.unlock();
+            }
+        }
+        return current;
+    }
+
+    /**
+     * Immutable column arrays; every mutation returns a new instance.
+     */
+    private static final class Columns {
+        final int[] epochDays;
+        final int size;
+        final double[][] values;
+        final byte[][] ratings;
+        final Instant lastModified;
+        final int valueCount;
+        final int contentHash;
+
+        Columns(int[] epochDays, int size, double[][] values, byte[][] ratings, Instant lastModified) {
+            this.epochDays = epochDays;
+            this.size = size;
+            this.values = values;
+            this.ratings = ratings;
+            this.lastModified = lastModified.truncatedTo(ChronoUnit.SECONDS);
+            int count = 0;
+            int hash = 1;
+            for (int i = 0; i < size; i++) {
+                hash = 31 * hash + epochDays[i];
+                for (int k = 0; k < INDICATOR_COUNT; k++) {
+                    if (!Double.isNaN(values[k][i])) {
+                        count++;
+                        hash = 31 * (31 * hash + Double.hashCode(values[k][i])) + ratings[k][i];
+                    }
+                }
+            }
+            this.valueCount = count;
+            this.contentHash = hash;
+        }
+
+        static Columns of(List<FearGreedIndicatorPoint> rowsSortedByDate, Instant lastModified) {
+            int[] epochDays = new int[rowsSortedByDate.size()];
+            int size = 0;
+            for (FearGreedIndicatorPoint row : rowsSortedByDate) {
+                int epochDay = (int) row.recordDate().toEpochDay();
+                if (size == 0 || epochDays[size - 1] != epochDay) {
+                    epochDays[size++] = epochDay;
+                }
+            }
+            epochDays = Arrays.copyOf(epochDays, size);
+
+            double[][] values = new double[INDICATOR_COUNT][size];
+            byte[][] ratings = new byte[INDICATOR_COUNT][size];
+            for (double[] column : values) {
+                Arrays.fill(column, Double.NaN);
+            }
+            int position = -1;
+            int previousDay = Integer.MIN_VALUE;
+            for (FearGreedIndicatorPoint row : rowsSortedByDate) {
+                int epochDay = (int) row.recordDate().toEpochDay();
+                if (epochDay != previousDay) {
+                    position++;
+                    previousDay = epochDay;
+                }
+                Indicator indicator = Indicator.fromCode(row.indicatorId());
+                if (indicator != null) {
+                    values[indicator.getCode()][position] = row.value();
+                    ratings[indicator.getCode()][position] = Sentiment.fromLabel(row.rating()).getCode();
+                }
+            }
+            return new Columns(epochDays, size, values, ratings, lastModified);
+        }
+
+        int lowerBound(int epochDay) {
+            int index = Arrays.binarySearch(epochDays, 0, size, epochDay);
+            return index >= 0 ? index : -index - 1;
+        }
+
+        Columns removeBefore(int cutoffEpochDay, Instant removedAt) {
+            int from = lowerBound(cutoffEpochDay);
+            if (from == 0) {
+                return this;
+            }
+            double[][] newValues = new double[INDICATOR_COUNT][];
+            byte[][] newRatings = new byte[INDICATOR_COUNT][];
+            for (int k = 0; k < INDICATOR_COUNT; k++) {
+                newValues[k] = Arrays.copyOfRange(values[k], from, size);
+                newRatings[k] = Arrays.copyOfRange(ratings[k], from, size);
+            }
+            return new Columns(Arrays.copyOfRange(epochDays, from, size), size - from, newValues, newRatings, removedAt);
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package com.aurelius.fear_greed_tracker.store;
+
+import com.aurelius.fear_greed_tracker.model.Sentiment;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+
+/**
+ * Append-only file of one day's intraday ticks, memory-mapped.
+ * Records are fixed-width, so tick i lives at offset i * RECORD_BYTES:
+ * epoch millis (long), score (float), sentiment code (byte), 3 bytes padding.
+ * The file is pre-sized and zero-filled; the epoch millis are written last, so the first record
+ * with zero millis marks the end of the data when a segment is reopened. A full segment doubles
+ * its file and is remapped.
+ *
+ * Appends must be serialized by the caller. Readers take ticks(), an immutable view published
+ * after every append that reads the mapped file directly.
+ */
+final class IntradaySegment implements Closeable {
+
+    static final int RECORD_BYTES = 16;
+    static final int SCORE_OFFSET = 8;
+    static final int SENTIMENT_OFFSET = 12;
+
+    private final LocalDate day;
+    private final FileChannel channel;
+    private MappedByteBuffer buffer;
+    private int capacity;
+    private int count;
+    private volatile IntradayTicks published;
+
+    private IntradaySegment(LocalDate day, FileChannel channel, MappedByteBuffer buffer, int capacity) {
+        this.day = day;
+        this.channel = channel;
+        this.buffer = buffer;
+        this.capacity = capacity;
+        this.count = recoverCount();
+        publish();
+    }
+
+    /**
+     * Opens or creates the segment file for appending.
+     * @param file The segment file.
+     * @param day The day the segment holds.
+     * @param initialCapacity Records a new file is sized for.
+     */
+    static IntradaySegment open(Path file, LocalDate day, int initialCapacity) throws IOException {
+        FileChannel channel = FileChannel.open(file,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            int capacity = (int) (channel.size() / RECORD_BYTES);
+            if (capacity == 0) {
+                capacity = Math.max(1, initialCapacity);
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, (long) capacity * RECORD_BYTES);
+            return new IntradaySegment(day, channel, buffer, capacity);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Maps an existing segment file read-only; the mapping stays valid after the file is closed.
+     * @return The ticks stored in the file.
+     */
+    static IntradayTicks read(Path file, LocalDate day) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            int capacity = (int) (channel.size() / RECORD_BYTES);
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, (long) capacity * RECORD_BYTES);
+            return new IntradayTicks(day, buffer, countRecords(buffer, capacity));
+        }
+    }
+
+    LocalDate day() {
+        return day;
+    }
+
+    IntradayTicks ticks() {
+        return published;
+    }
+
+    /**
+     * Appends a tick and flushes its record to the file.
+     * @param epochMillis Tick time; must be positive, since zero marks a free record.
+     */
+    void append(long epochMillis, float score, Sentiment sentiment) throws IOException {
+        if (epochMillis <= 0) {
+            throw new IllegalArgumentException("Tick timestamp must be positive: " + epochMillis);
+        }
+        if (count == capacity) {
+            grow();
+        }
+        int position = count * RECORD_BYTES;
+        buffer.putFloat(position + SCORE_OFFSET, score);
+        buffer.put(position + SENTIMENT_OFFSET, sentiment.getCode());
+        buffer.putLong(position, epochMillis);
+        buffer.force(position, RECORD_BYTES);
+        count++;
+        publish();
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private void grow() throws IOException {
+        int newCapacity = Math.multiplyExact(capacity, 2);
+        // Mapping past the end of the file extends it with zeros; the old mapping stays valid for readers.
+        buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, (long) newCapacity * RECORD_BYTES);
+        capacity = newCapacity;
+    }
+
+    private void publish() {
+        published = new IntradayTicks(day, buffer.asReadOnlyBuffer(), count);
+    }
+
+    private int recoverCount() {
+        return countRecords(buffer, capacity);
+    }
+
+    /**
+     * Binary search for the first free record: records are written contiguously from the start.
+     */
+    private static int countRecords(MappedByteBuffer buffer, int capacity) {
+        int low = 0;
+        int high = capacity;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (buffer.getLong(mid * RECORD_BYTES) != 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
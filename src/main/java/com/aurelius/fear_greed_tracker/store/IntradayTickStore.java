@@ -0,0 +1,161 @@
+package com.aurelius.fear_greed_tracker.store;
+
+import com.aurelius.fear_greed_tracker.config.IntradayProperties;
+import com.aurelius.fear_greed_tracker.model.Sentiment;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Intraday ticks on disk: one append-only, memory-mapped segment file per day
+ * (fgi-intraday-yyyy-MM-dd.seg in fgi.intraday.directory, see IntradaySegment).
+ * Only the current day's segment is open for writing; it is replaced when a tick for a later day
+ * arrives. Past days are mapped read-only on demand and a few recent ones are kept mapped.
+ * Reads never take the write lock.
+ */
+@Component
+@Slf4j
+public class IntradayTickStore {
+
+    private static final int MAPPED_PAST_DAYS = 8;
+
+    private final IntradayProperties properties;
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private final Map<LocalDate, IntradayTicks> pastDays = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<LocalDate, IntradayTicks> eldest) {
+            return size() > MAPPED_PAST_DAYS;
+        }
+    };
+
+    private volatile IntradaySegment current;
+
+    public IntradayTickStore(IntradayProperties properties) {
+        this.properties = properties;
+    }
+
+    /**
+     * Appends a tick unless it repeats the last one: a tick is only recorded when its score or
+     * sentiment differs from the day's previous tick and it is newer than that tick.
+     * @param day The day the tick belongs to; a later day than the open segment starts a new segment.
+     * @param epochMillis CNN's timestamp of the reading.
+     * @param score The index value.
+     * @param sentiment The sentiment rating.
+     * @return True if the tick was recorded.
+     * @throws IOException If the segment cannot be opened or grown.
+     */
+    public boolean append(LocalDate day, long epochMillis, double score, Sentiment sentiment) throws IOException {
+        writeLock.lock();
+        try {
+            IntradaySegment segment = segmentFor(day);
+            if (segment == null) {
+                log.warn("Ignoring intraday tick for {}: ticks for {} are already being recorded.", day, current.day());
+                return false;
+            }
+            if (repeatsLast(segment.ticks(), epochMillis, score, sentiment)) {
+                return false;
+            }
+            segment.append(epochMillis, (float) score, sentiment);
+            return true;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Tells whether append() would record the tick, without recording it, so the caller can store
+     * what depends on the tick first and append only once that succeeded.
+     * @param day The day the tick belongs to.
+     * @param epochMillis CNN's timestamp of the reading.
+     * @param score The index value.
+     * @param sentiment The sentiment rating.
+     * @return True if the tick differs from the day's last recorded tick and is newer than it.
+     * @throws IOException If an existing segment cannot be read.
+     */
+    public boolean isNewTick(LocalDate day, long epochMillis, double score, Sentiment sentiment) throws IOException {
+        return !repeatsLast(ticks(day), epochMillis, score, sentiment);
+    }
+
+    private static boolean repeatsLast(IntradayTicks ticks, long epochMillis, double score, Sentiment sentiment) {
+        int last = ticks.size() - 1;
+        return last >= 0 && (epochMillis <= ticks.epochMillis(last)
+                || (ticks.score(last) == (float) score && ticks.sentiment(last) == sentiment));
+    }
+
+    /**
+     * Returns the ticks recorded for a day.
+     * @param day The day.
+     * @return A view over the day's segment, empty if nothing was recorded that day.
+     * @throws IOException If an existing segment cannot be read.
+     */
+    public IntradayTicks ticks(LocalDate day) throws IOException {
+        IntradaySegment segment = current;
+        if (segment != null && segment.day().equals(day)) {
+            return segment.ticks();
+        }
+        Path file = segmentFile(day);
+        if (!Files.exists(file)) {
+            return IntradayTicks.empty(day);
+        }
+        // Segments of days before the open one no longer change, so their mapping can be reused.
+        boolean complete = segment != null && day.isBefore(segment.day());
+        if (!complete) {
+            return IntradaySegment.read(file, day);
+        }
+        synchronized (pastDays) {
+            IntradayTicks ticks = pastDays.get(day);
+            if (ticks == null) {
+                ticks = IntradaySegment.read(file, day);
+                pastDays.put(day, ticks);
+            }
+            return ticks;
+        }
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        writeLock.lock();
+        try {
+            if (current != null) {
+                current.close();
+                current = null;
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * @return The writable segment for the day, or null if the day is before the open segment.
+     */
+    private IntradaySegment segmentFor(LocalDate day) throws IOException {
+        IntradaySegment segment = current;
+        if (segment != null && segment.day().equals(day)) {
+            return segment;
+        }
+        if (segment != null && day.isBefore(segment.day())) {
+            return null;
+        }
+        Files.createDirectories(properties.getDirectory());
+        IntradaySegment opened = IntradaySegment.open(segmentFile(day), day, properties.getInitialCapacity());
+        if (segment != null) {
+            segment.close();
+            log.info("Closed intraday segment for {} with {} ticks.", segment.day(), segment.ticks().size());
+        }
+        current = opened;
+        log.info("Opened intraday segment for {} ({} ticks already recorded).", day, opened.ticks().size());
+        return opened;
+    }
+
+    private Path segmentFile(LocalDate day) {
+        return properties.getDirectory().resolve("fgi-intraday-" + day + ".seg");
+    }
+}
@@ -0,0 +1,68 @@
+package com.aurelius.fear_greed_tracker.store;
+
+import com.aurelius.fear_greed_tracker.model.Sentiment;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+
+import java.nio.ByteBuffer;
+import java.time.LocalDate;
+
+/**
+ * Read-only view of one day's intraday ticks, in capture order.
+ * Reads the records straight from the mapped segment file (see IntradaySegment) and copies nothing;
+ * the view covers the ticks that existed when it was taken and does not change afterwards.
+ * Serialized as {"date":"2024-06-03","timestamps":[...],"scores":[...],"sentiments":[...]}.
+ */
+@JsonSerialize(using = IntradayTicksSerializer.class)
+public final class IntradayTicks {
+
+    private final LocalDate date;
+    private final ByteBuffer records;
+    private final int size;
+
+    IntradayTicks(LocalDate date, ByteBuffer records, int size) {
+        this.date = date;
+        this.records = records;
+        this.size = size;
+    }
+
+    /**
+     * @return A view without ticks, for a day that has no segment.
+     */
+    public static IntradayTicks empty(LocalDate date) {
+        return new IntradayTicks(date, ByteBuffer.allocate(0), 0);
+    }
+
+    public LocalDate getDate() {
+        return date;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public long epochMillis(int i) {
+        return records.getLong(position(i));
+    }
+
+    public float score(int i) {
+        return records.getFloat(position(i) + IntradaySegment.SCORE_OFFSET);
+    }
+
+    public Sentiment sentiment(int i) {
+        return Sentiment.fromCode(records.get(position(i) + IntradaySegment.SENTIMENT_OFFSET));
+    }
+
+    /**
+     * @return The epoch millis of the last tick, or 0 if there is none.
+     */
+    public long lastEpochMillis() {
+        return size == 0 ? 0 : epochMillis(size - 1);
+    }
+
+    private int position(int i) {
+        if (i < 0 || i >= size) {
+            throw new IndexOutOfBoundsException("Index " + i + " out of bounds for length " + size);
+        }
+        return i * IntradaySegment.RECORD_BYTES;
+    }
+}
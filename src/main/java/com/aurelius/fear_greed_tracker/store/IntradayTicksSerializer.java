@@ -0,0 +1,42 @@
+package com.aurelius.fear_greed_tracker.store;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+
+/**
+ * Writes IntradayTicks column by column:
+ * {"date":"2024-06-03","timestamps":[1717405200000,...],"scores":[41.5,...],"sentiments":["fear",...]}.
+ * Timestamps are epoch milliseconds.
+ */
+public class IntradayTicksSerializer extends StdSerializer<IntradayTicks> {
+
+    public IntradayTicksSerializer() {
+        super(IntradayTicks.class);
+    }
+
+    @Override
+    public void serialize(IntradayTicks ticks, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        int size = ticks.size();
+        gen.writeStartObject();
+        gen.writeStringField("date", ticks.getDate().toString());
+        gen.writeArrayFieldStart("timestamps");
+        for (int i = 0; i < size; i++) {
+            gen.writeNumber(ticks.epochMillis(i));
+        }
+        gen.writeEndArray();
+        gen.writeArrayFieldStart("scores");
+        for (int i = 0; i < size; i++) {
+            gen.writeNumber(ticks.score(i));
+        }
+        gen.writeEndArray();
+        gen.writeArrayFieldStart("sentiments");
+        for (int i = 0; i < size; i++) {
+            gen.writeString(ticks.sentiment(i).getLabel());
+        }
+        gen.writeEndArray();
+        gen.writeEndObject();
+    }
+}
@@ -0,0 +1,13 @@
+package com.aurelius.fear_greed_tracker.store;
+
+import java.io.IOException;
+
+/**
+ * Thrown by FearGreedSnapshotReader when the input is not a complete, well-formed snapshot.
+ */
+public class InvalidSnapshotException extends IOException {
+
+    public InvalidSnapshotException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,66 @@
+package com.aurelius.fear_greed_tracker.store;
+
+/**
+ * Largest-Triangle-Three-Buckets downsampling (Steinarsson, 2013).
+ * Keeps the first and last point and, from each of threshold - 2 equal buckets in between, the point
+ * forming the largest triangle with the previously kept point and the average of the next bucket.
+ * Unlike averaging into periods, the kept points are real days, so peaks and troughs survive.
+ */
+public final class Lttb {
+
+    private Lttb() {
+    }
+
+    /**
+     * @param series The daily points, ordered by date (x = epoch day, y = score).
+     * @param threshold The number of points to keep, at least 3.
+     * @return The positions of the kept points in the series, ascending; all positions if the
+     *         series is not longer than the threshold.
+     */
+    public static int[] select(FearGreedSeries series, int threshold) {
+        int n = series.size();
+        if (threshold >= n || threshold < 3) {
+            int[] all = new int[n];
+            for (int i = 0; i < n; i++) {
+                all[i] = i;
+            }
+            return all;
+        }
+        int[] selected = new int[threshold];
+        double bucketSize = (double) (n - 2) / (threshold - 2);
+        int previous = 0;
+        selected[0] = 0;
+        for (int bucket = 0; bucket < threshold - 2; bucket++) {
+            int nextStart = (int) Math.floor((bucket + 1) * bucketSize) + 1;
+            int nextEnd = Math.min(n, (int) Math.floor((bucket + 2) * bucketSize) + 1);
+            double averageX = 0;
+            double averageY = 0;
+            for (int i = nextStart; i < nextEnd; i++) {
+                averageX += series.epochDay(i);
+                averageY += series.value(i);
+            }
+            int nextCount = Math.max(1, nextEnd - nextStart);
+            averageX /= nextCount;
+            averageY /= nextCount;
+
+            int start = (int) Math.floor(bucket * bucketSize) + 1;
+            int end = (int) Math.floor((bucket + 1) * bucketSize) + 1;
+            double previousX = series.epochDay(previous);
+            double previousY = series.value(previous);
+            double largestArea = -1;
+            int chosen = start;
+            for (int i = start; i < end; i++) {
+                double area = Math.abs((previousX - averageX) * (series.value(i) - previousY)
+                        - (previousX - series.epochDay(i)) * (averageY - previousY));
+                if (area > largestArea) {
+                    largestArea = area;
+                    chosen = i;
+                }
+            }
+            selected[bucket + 1] = chosen;
+            previous = chosen;
+        }
+        selected[threshold - 1] = n - 1;
+        return selected;
+    }
+}
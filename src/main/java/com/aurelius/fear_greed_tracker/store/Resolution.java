@@ -0,0 +1,57 @@
+package com.aurelius.fear_greed_tracker.store;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+import java.util.Locale;
+
+/**
+ * Time resolutions of the history: raw daily rows and the calendar rollups kept by RollupStore.
+ * Weeks are ISO weeks starting on Monday.
+ */
+public enum Resolution {
+    DAY,
+    WEEK,
+    MONTH,
+    YEAR;
+
+    /**
+     * @return The first day of the period containing the given day, as an epoch day.
+     */
+    public int periodStart(int epochDay) {
+        LocalDate date = LocalDate.ofEpochDay(epochDay);
+        return (int) switch (this) {
+            case DAY -> epochDay;
+            case WEEK -> date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY)).toEpochDay();
+            case MONTH -> date.withDayOfMonth(1).toEpochDay();
+            case YEAR -> date.withDayOfYear(1).toEpochDay();
+        };
+    }
+
+    /**
+     * @param periodStart The first day of a period, as returned by periodStart.
+     * @return The first day of the following period.
+     */
+    public int nextPeriodStart(int periodStart) {
+        LocalDate date = LocalDate.ofEpochDay(periodStart);
+        return (int) switch (this) {
+            case DAY -> periodStart + 1L;
+            case WEEK -> periodStart + 7L;
+            case MONTH -> date.plusMonths(1).toEpochDay();
+            case YEAR -> date.plusYears(1).toEpochDay();
+        };
+    }
+
+    /**
+     * @param value A request parameter such as "week".
+     * @return The matching resolution, or null if unknown.
+     */
+    public static Resolution fromParam(String value) {
+        for (Resolution resolution : values()) {
+            if (resolution.name().equals(value.trim().toUpperCase(Locale.ROOT))) {
+                return resolution;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,20 @@
+package com.aurelius.fear_greed_tracker.store;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+/**
+ * One point of a downsampled history: the daily rows of a period (or a single selected day).
+ * @param start First day of the period.
+ * @param end Last day of the period.
+ * @param open Score of the first stored day in the period.
+ * @param close Score of the last stored day in the period.
+ * @param min Lowest score in the period.
+ * @param max Highest score in the period.
+ * @param avg Mean score of the stored days in the period.
+ * @param count Number of stored days in the period.
+ * @param sentiments Number of days per sentiment label.
+ */
+public record RollupBucket(LocalDate start, LocalDate end, int open, int close, int min, int max, double avg,
+                           int count, Map<String, Integer> sentiments) {
+}
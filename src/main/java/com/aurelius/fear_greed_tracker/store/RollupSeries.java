@@ -0,0 +1,12 @@
+package com.aurelius.fear_greed_tracker.store;
+
+import java.util.List;
+
+/**
+ * A history response at a reduced resolution.
+ * @param resolution "day", "week", "month", "year", or "lttb" for daily points selected by
+ *                   Largest-Triangle-Three-Buckets downsampling.
+ * @param points The buckets, ordered by start date.
+ */
+public record RollupSeries(String resolution, List<RollupBucket> points) {
+}
@@ -0,0 +1,335 @@
+package com.aurelius.fear_greed_tracker.store;
+
+import com.aurelius.fear_greed_tracker.model.FearGreedIndex;
+import com.aurelius.fear_greed_tracker.model.FearGreedIndexPoint;
+import com.aurelius.fear_greed_tracker.model.Sentiment;
+import com.aurelius.fear_greed_tracker.repository.FearGreedIndexRepository;
+import com.aurelius.fear_greed_tracker.service.FearGreedIndexPrunedEvent;
+import com.aurelius.fear_greed_tracker.service.FearGreedIndexSavedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Weekly, monthly and yearly rollups of the index (open, close, min, max, average and sentiment
+ * distribution per period), kept in memory next to FearGreedTimeSeriesStore.
+ * Each level is a sorted array of immutable buckets published copy-on-write behind a volatile
+ * field, so reads never lock. Maintenance is incremental:
+ * - a saved day after the last day of its period is folded into that period's bucket;
+ * - a revision of the last day of a period (upsert or intraday poll) is applied to that bucket in O(1);
+ * - a saved day that precedes stored days of its period recomputes only its own periods, from the
+ *   rows of those periods;
+ * - a retention delete drops the periods before the cutoff and recomputes the period containing it.
+ * Only bulk writes (historical backfill) rebuild everything.
+ */
+@Component
+@Slf4j
+public class RollupStore {
+
+    static final List<Resolution> LEVELS = List.of(Resolution.WEEK, Resolution.MONTH, Resolution.YEAR);
+
+    private final FearGreedIndexRepository fearGreedIndexRepository;
+    private final ReentrantLock writeLock = new ReentrantLock();
+
+    private volatile Map<Resolution, Bucket[]> levels;
+
+    public RollupStore(FearGreedIndexRepository fearGreedIndexRepository) {
+        this.fearGreedIndexRepository = fearGreedIndexRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        reload();
+    }
+
+    /**
+     * Rebuilds every rollup from the table contents.
+     */
+    public void reload() {
+        writeLock.lock();
+        try {
+            List<FearGreedIndexPoint> rows = fearGreedIndexRepository.findAllPoints();
+            Map<Resolution, Bucket[]> rebuilt = new EnumMap<>(Resolution.class);
+            for (Resolution resolution : LEVELS) {
+                rebuilt.put(resolution, aggregate(resolution, rows));
+            }
+            levels = rebuilt;
+            log.info("Built {} weekly, {} monthly and {} yearly rollups from {} Fear & Greed Index rows.",
+                    rebuilt.get(Resolution.WEEK).length, rebuilt.get(Resolution.MONTH).length,
+                    rebuilt.get(Resolution.YEAR).length, rows.size());
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @EventListener
+    public void onSaved(FearGreedIndexSavedEvent event) {
+        if (event.bulk()) {
+            reload();
+            return;
+        }
+        writeLock.lock();
+        try {
+            Map<Resolution, Bucket[]> updated = new EnumMap<>(loadedLevels());
+            for (FearGreedIndex row : event.rows()) {
+                int epochDay = (int) row.getRecordDate().toEpochDay();
+                byte sentiment = Sentiment.fromLabel(row.getSentiment()).getCode();
+                for (Resolution resolution : LEVELS) {
+                    updated.put(resolution, apply(resolution, updated.get(resolution), epochDay, row.getFgiValue(), sentiment));
+                }
+            }
+            levels = updated;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @EventListener
+    public void onPruned(FearGreedIndexPrunedEvent event) {
+        int cutoff = (int) event.cutoffDate().toEpochDay();
+        writeLock.lock();
+        try {
+            Map<Resolution, Bucket[]> updated = new EnumMap<>(Resolution.class);
+            loadedLevels().forEach((resolution, buckets) -> {
+                int from = 0;
+                while (from < buckets.length && resolution.nextPeriodStart(buckets[from].start) <= cutoff) {
+                    from++;
+                }
+                Bucket[] kept = Arrays.copyOfRange(buckets, from, buckets.length);
+                if (kept.length > 0 && kept[0].firstDay < cutoff) {
+                    Bucket partial = recompute(resolution, kept[0].start);
+                    kept = partial == null ? Arrays.copyOfRange(kept, 1, kept.length) : replace(kept, 0, partial);
+                }
+                updated.put(resolution, kept);
+            });
+            levels = updated;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Returns the periods overlapping fromInclusive <= date < toExclusive; the first and last
+     * periods are reported whole.
+     * @param resolution WEEK, MONTH or YEAR.
+     */
+    public List<RollupBucket> range(Resolution resolution, LocalDate fromInclusive, LocalDate toExclusive) {
+        Bucket[] buckets = bucketsOf(resolution);
+        int from = lowerBound(buckets, resolution.periodStart((int) fromInclusive.toEpochDay()));
+        int to = lowerBound(buckets, (int) toExclusive.toEpochDay());
+        List<RollupBucket> result = new ArrayList<>(Math.max(0, to - from));
+        for (int i = from; i < to; i++) {
+            result.add(buckets[i].toRollupBucket(resolution));
+        }
+        return result;
+    }
+
+    /**
+     * @return The number of periods range() would return, without building them.
+     */
+    public int count(Resolution resolution, LocalDate fromInclusive, LocalDate toExclusive) {
+        Bucket[] buckets = bucketsOf(resolution);
+        int from = lowerBound(buckets, resolution.periodStart((int) fromInclusive.toEpochDay()));
+        return Math.max(0, lowerBound(buckets, (int) toExclusive.toEpochDay()) - from);
+    }
+
+    private Bucket[] bucketsOf(Resolution resolution) {
+        Bucket[] buckets = loadedLevels().get(resolution);
+        if (buckets == null) {
+            throw new IllegalArgumentException("No rollup is kept for resolution " + resolution);
+        }
+        return buckets;
+    }
+
+    private Map<Resolution, Bucket[]> loadedLevels() {
+        Map<Resolution, Bucket[]> current = levels;
+        if (current == null) {
+            writeLock.lock();
+            try {
+                if (levels == null) {
+                    reload();
+                }
+                current = levels;
+            } finally {
+                writeLock.unlock();
+            }
+        }
+        return current;
+    }
+
+    private Bucket[] apply(Resolution resolution, Bucket[] buckets, int epochDay, int value, byte sentiment) {
+        int start = resolution.periodStart(epochDay);
+        int index = lowerBound(buckets, start);
+        boolean found = index < buckets.length && buckets[index].start == start;
+        if (found && epochDay > buckets[index].lastDay) {
+            return replace(buckets, index, buckets[index].plus(epochDay, value, sentiment));
+        }
+        if (found && epochDay == buckets[index].lastDay) {
+            return replace(buckets, index, buckets[index].withLastDayReplaced(value, sentiment));
+        }
+        if (!found && index == buckets.length) {
+            Bucket[] appended = Arrays.copyOf(buckets, buckets.length + 1);
+            appended[buckets.length] = Bucket.first(start, epochDay, value, sentiment);
+            return appended;
+        }
+        // Back-dated day: recompute this period from its stored rows.
+        Bucket recomputed = recompute(resolution, start);
+        if (found) {
+            return recomputed == null ? remove(buckets, index) : replace(buckets, index, recomputed);
+        }
+        if (recomputed == null) {
+            return buckets;
+        }
+        Bucket[] inserted = new Bucket[buckets.length + 1];
+        System.arraycopy(buckets, 0, inserted, 0, index);
+        inserted[index] = recomputed;
+        System.arraycopy(buckets, index, inserted, index + 1, buckets.length - index);
+        return inserted;
+    }
+
+    private Bucket recompute(Resolution resolution, int start) {
+        List<FearGreedIndexPoint> rows = fearGreedIndexRepository.findPointsByRecordDateRange(
+                LocalDate.ofEpochDay(start), LocalDate.ofEpochDay(resolution.nextPeriodStart(start)));
+        Bucket[] buckets = aggregate(resolution, rows);
+        return buckets.length == 0 ? null : buckets[0];
+    }
+
+    static Bucket[] aggregate(Resolution resolution, List<FearGreedIndexPoint> rowsSortedByDate) {
+        List<Bucket> buckets = new ArrayList<>();
+        Bucket current = null;
+        for (FearGreedIndexPoint row : rowsSortedByDate) {
+            int epochDay = (int) row.recordDate().toEpochDay();
+            int start = resolution.periodStart(epochDay);
+            byte sentiment = Sentiment.fromLabel(row.sentiment()).getCode();
+            if (current != null && current.start == start) {
+                current = current.plus(epochDay, row.fgiValue(), sentiment);
+            } else {
+                if (current != null) {
+                    buckets.add(current);
+                }
+                current = Bucket.first(start, epochDay, row.fgiValue(), sentiment);
+            }
+        }
+        if (current != null) {
+            buckets.add(current);
+        }
+        return buckets.toArray(Bucket[]::new);
+    }
+
+    private static int lowerBound(Bucket[] buckets, int start) {
+        int low = 0;
+        int high = buckets.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (buckets[mid].start < start) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static Bucket[] replace(Bucket[] buckets, int index, Bucket bucket) {
+        Bucket[] copy = buckets.clone();
+        copy[index] = bucket;
+        return copy;
+    }
+
+    private static Bucket[] remove(Bucket[] buckets, int index) {
+        Bucket[] copy = new Bucket[buckets.length - 1];
+        System.arraycopy(buckets, 0, copy, 0, index);
+        System.arraycopy(buckets, index + 1, copy, index, copy.length - index);
+        return copy;
+    }
+
+    /**
+     * Immutable aggregate of the days of one period; plus() returns a new instance.
+     * Also keeps the last day's value and sentiment and the min / max of the days before it,
+     * so a revision of the last day can be applied without the other rows.
+     */
+    static final class Bucket {
+        private static final int SENTIMENTS = Sentiment.values().length;
+
+        final int start;
+        final int firstDay;
+        final int lastDay;
+        final int open;
+        final int close;
+        final int min;
+        final int max;
+        final long sum;
+        final int count;
+        private final int[] sentimentCounts;
+        private final byte closeSentiment;
+        private final int minBeforeLast;
+        private final int maxBeforeLast;
+
+        private Bucket(int start, int firstDay, int lastDay, int open, int close, int min, int max, long sum,
+                       int count, int[] sentimentCounts, byte closeSentiment, int minBeforeLast, int maxBeforeLast) {
+            this.start = start;
+            this.firstDay = firstDay;
+            this.lastDay = lastDay;
+            this.open = open;
+            this.close = close;
+            this.min = min;
+            this.max = max;
+            this.sum = sum;
+            this.count = count;
+            this.sentimentCounts = sentimentCounts;
+            this.closeSentiment = closeSentiment;
+            this.minBeforeLast = minBeforeLast;
+            this.maxBeforeLast = maxBeforeLast;
+        }
+
+        static Bucket first(int start, int epochDay, int value, byte sentiment) {
+            int[] sentimentCounts = new int[SENTIMENTS];
+            sentimentCounts[sentiment]++;
+            return new Bucket(start, epochDay, epochDay, value, value, value, value, value, 1, sentimentCounts,
+                    sentiment, Integer.MAX_VALUE, Integer.MIN_VALUE);
+        }
+
+        /**
+         * @param epochDay A day after lastDay in the same period.
+         */
+        Bucket plus(int epochDay, int value, byte sentiment) {
+            int[] counts = sentimentCounts.clone();
+            counts[sentiment]++;
+            return new Bucket(start, firstDay, epochDay, open, value, Math.min(min, value), Math.max(max, value),
+                    sum + value, count + 1, counts, sentiment, min, max);
+        }
+
+        /**
+         * @return This period with a revised reading for its last day.
+         */
+        Bucket withLastDayReplaced(int value, byte sentiment) {
+            int[] counts = sentimentCounts.clone();
+            counts[closeSentiment]--;
+            counts[sentiment]++;
+            return new Bucket(start, firstDay, lastDay, count == 1 ? value : open, value,
+                    Math.min(minBeforeLast, value), Math.max(maxBeforeLast, value), sum - close + value, count, counts,
+                    sentiment, minBeforeLast, maxBeforeLast);
+        }
+
+        RollupBucket toRollupBucket(Resolution resolution) {
+            Map<String, Integer> sentiments = new LinkedHashMap<>();
+            for (Sentiment sentiment : Sentiment.values()) {
+                if (sentimentCounts[sentiment.getCode()] > 0) {
+                    sentiments.put(sentiment.getLabel(), sentimentCounts[sentiment.getCode()]);
+                }
+            }
+            return new RollupBucket(LocalDate.ofEpochDay(start), LocalDate.ofEpochDay(resolution.nextPeriodStart(start) - 1L),
+                    open, close, min, max, (double) sum / count, count, sentiments);
+        }
+    }
+}
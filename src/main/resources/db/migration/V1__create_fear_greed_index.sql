@@ -0,0 +1,11 @@
+-- Baseline schema. Existing databases created by Hibernate are baselined at this version
+-- (spring.flyway.baseline-on-migrate), so this script only runs on empty databases.
+CREATE TABLE IF NOT EXISTS fear_greed_index (
+    id BIGSERIAL PRIMARY KEY,
+    record_date DATE NOT NULL UNIQUE,
+    fgi_value INTEGER NOT NULL CHECK (fgi_value >= 0 AND fgi_value <= 100),
+    sentiment VARCHAR(50) NOT NULL,
+    timestamp TIMESTAMP WITH TIME ZONE NOT NULL,
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP WITH TIME ZONE
+);
@@ -0,0 +1,4 @@
+-- Covering index for date-range reads: queries selecting (record_date, fgi_value, sentiment)
+-- over a record_date range are answered by an index-only scan without touching the heap.
+CREATE INDEX IF NOT EXISTS idx_fear_greed_index_record_date_covering
+    ON fear_greed_index (record_date) INCLUDE (fgi_value, sentiment);
@@ -0,0 +1,28 @@
+-- Component indicators of the index (see Indicator), one row per day and indicator.
+CREATE TABLE IF NOT EXISTS indicator (
+    id SMALLINT PRIMARY KEY,
+    name VARCHAR(40) NOT NULL UNIQUE
+);
+
+INSERT INTO indicator (id, name) VALUES
+    (0, 'market_momentum_sp500'),
+    (1, 'market_momentum_sp125'),
+    (2, 'stock_price_strength'),
+    (3, 'stock_price_breadth'),
+    (4, 'put_call_options'),
+    (5, 'market_volatility_vix'),
+    (6, 'market_volatility_vix_50'),
+    (7, 'junk_bond_demand'),
+    (8, 'safe_haven_demand')
+ON CONFLICT (id) DO NOTHING;
+
+-- Keyed by date first: the in-memory store loads everything in date order, and
+-- date-range reads across several indicators are a single range scan.
+CREATE TABLE IF NOT EXISTS fear_greed_indicator (
+    record_date DATE NOT NULL,
+    indicator_id SMALLINT NOT NULL REFERENCES indicator (id),
+    indicator_value DOUBLE PRECISION NOT NULL,
+    rating VARCHAR(50),
+    updated_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (record_date, indicator_id)
+);
@@ -0,0 +1,2 @@
+-- Number of times the day's row was revised after its first insert (CNN updates the value intraday).
+ALTER TABLE fear_greed_index ADD COLUMN IF NOT EXISTS revision INTEGER NOT NULL DEFAULT 0;
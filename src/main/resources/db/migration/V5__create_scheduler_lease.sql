@@ -0,0 +1,8 @@
+-- Leases that let exactly one instance run a scheduled job (see ClusterCoordinator).
+-- A lease is free once expires_at has passed; times come from the database clock only.
+CREATE TABLE IF NOT EXISTS scheduler_lease (
+    name VARCHAR(100) PRIMARY KEY,
+    owner VARCHAR(200) NOT NULL,
+    acquired_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    expires_at TIMESTAMP WITH TIME ZONE NOT NULL
+);
@@ -2,8 +2,10 @@ package com.aurelius.fear_greed_tracker;
 
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
 
 @SpringBootTest
+@ActiveProfiles("test")
 class FearGreedTrackerApplicationTests {
 
 	@Test
@@ -0,0 +1,41 @@
+package com.aurelius.fear_greed_tracker;
+
+import com.aurelius.fear_greed_tracker.service.FearGreedService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.allOf;
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureObservability(tracing = false)
+@ActiveProfiles("test")
+class MetricsEndpointTest {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private FearGreedService fearGreedService;
+
+	@Test
+	void exposesServiceTimersAndCacheCountersInPrometheusFormat() throws Exception {
+		fearGreedService.getLastNDaysFearGreedIndex(30);
+
+		mockMvc.perform(get("/actuator/prometheus"))
+				.andExpect(status().isOk())
+				.andExpect(content().string(allOf(
+						containsString("fgi_service_seconds_count{application=\"fear-greed-tracker\",class=\"com.aurelius.fear_greed_tracker.service.FearGreedService\""),
+						containsString("method=\"getLastNDaysFearGreedIndex\""),
+						containsString("fgi_cache_today_total{application=\"fear-greed-tracker\",result=\"hit\""))));
+	}
+}
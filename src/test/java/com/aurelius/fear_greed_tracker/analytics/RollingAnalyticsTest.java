@@ -0,0 +1,130 @@
+package com.aurelius.fear_greed_tracker.analytics;
+
+import com.aurelius.fear_greed_tracker.model.Sentiment;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * Checks the incremental statistics against a brute-force recomputation over the raw scores.
+ */
+class RollingAnalyticsTest {
+
+    private static final int FIRST_DAY = (int) LocalDate.of(2020, 1, 1).toEpochDay();
+
+    @Test
+    void matchesBruteForceStatistics() {
+        Random random = new Random(7);
+        int[] scores = new int[500];
+        RollingAnalytics analytics = new RollingAnalytics(30, 7);
+        for (int i = 0; i < scores.length; i++) {
+            scores[i] = random.nextInt(101);
+            // Skip weekends-like gaps in the dates: windows count points, not calendar days.
+            assertThat(analytics.add(FIRST_DAY + i * 7 / 5, scores[i], sentimentOf(scores[i]))).isTrue();
+
+            AnalyticsSnapshot.WindowStats week = analytics.snapshot().windows().get(7);
+            if (i < 6) {
+                assertThat(week.sma()).isNull();
+                continue;
+            }
+            int[] window = Arrays.copyOfRange(scores, i - 6, i + 1);
+            double mean = Arrays.stream(window).average().orElseThrow();
+            double variance = Arrays.stream(window).mapToDouble(v -> (v - mean) * (v - mean)).sum() / (window.length - 1);
+            assertThat(week.sma()).isCloseTo(mean, within(1e-9));
+            assertThat(week.min()).isEqualTo(Arrays.stream(window).min().orElseThrow());
+            assertThat(week.max()).isEqualTo(Arrays.stream(window).max().orElseThrow());
+            assertThat(week.stddev()).isCloseTo(Math.sqrt(variance), within(1e-9));
+        }
+
+        AnalyticsSnapshot snapshot = analytics.snapshot();
+        assertThat(snapshot.windows().keySet()).containsExactly(7, 30);
+        assertThat(snapshot.points()).isEqualTo(scores.length);
+
+        double ema = Arrays.stream(scores, 0, 30).average().orElseThrow();
+        for (int i = 30; i < scores.length; i++) {
+            ema += 2.0 / 31 * (scores[i] - ema);
+        }
+        assertThat(snapshot.windows().get(30).ema()).isCloseTo(ema, within(1e-9));
+
+        int last = scores[scores.length - 1];
+        long below = Arrays.stream(scores).filter(v -> v < last).count();
+        long equal = Arrays.stream(scores).filter(v -> v == last).count();
+        assertThat(snapshot.percentileRank()).isCloseTo(100.0 * (below + equal / 2.0) / scores.length, within(1e-9));
+    }
+
+    @Test
+    void tracksCurrentAndLongestStreaks() {
+        RollingAnalytics analytics = new RollingAnalytics(3);
+        int[] scores = {10, 12, 15, 30, 11, 9};
+        for (int i = 0; i < scores.length; i++) {
+            analytics.add(FIRST_DAY + i, scores[i], sentimentOf(scores[i]));
+        }
+
+        AnalyticsSnapshot snapshot = analytics.snapshot();
+        assertThat(snapshot.streak()).isEqualTo(new AnalyticsSnapshot.Streak("extreme fear", 2, LocalDate.ofEpochDay(FIRST_DAY + 4)));
+        assertThat(snapshot.longestStreaks()).containsEntry("extreme fear", 3).containsEntry("fear", 1);
+    }
+
+    @Test
+    void rejectsOutOfOrderPointsAndKeepsPublishedHistoriesStable() {
+        RollingAnalytics analytics = new RollingAnalytics(2);
+        analytics.add(FIRST_DAY, 40, Sentiment.FEAR);
+        analytics.add(FIRST_DAY + 1, 60, Sentiment.GREED);
+        RollingAnalytics.History history = analytics.history();
+
+        assertThat(analytics.add(FIRST_DAY + 1, 50, Sentiment.NEUTRAL)).isFalse();
+        for (int i = 2; i < 1000; i++) {
+            analytics.add(FIRST_DAY + i, 50, Sentiment.NEUTRAL);
+        }
+
+        AnalyticsSeries series = history.series(null);
+        assertThat(series.dates()).hasSize(2);
+        assertThat(series.windows().get(2).sma()).containsExactly(null, 50.0);
+        assertThat(analytics.history().series(LocalDate.ofEpochDay(FIRST_DAY + 998)).windows().get(2).sma())
+                .containsExactly(50.0, 50.0);
+    }
+
+    @Test
+    void replacingTheLatestPointMatchesAddingTheFinalReading() {
+        Random random = new Random(11);
+        RollingAnalytics revised = new RollingAnalytics(30, 7, 3);
+        RollingAnalytics direct = new RollingAnalytics(30, 7, 3);
+        for (int i = 0; i < 400; i++) {
+            int day = FIRST_DAY + i;
+            int score = random.nextInt(101);
+            revised.add(day, score, sentimentOf(score));
+            // Intraday revisions of the same day, as many as the polls bring.
+            for (int r = random.nextInt(4); r > 0; r--) {
+                score = random.nextInt(101);
+                assertThat(revised.replaceLast(day, score, sentimentOf(score))).isTrue();
+            }
+            direct.add(day, score, sentimentOf(score));
+
+            assertThat(revised.snapshot()).isEqualTo(direct.snapshot());
+        }
+        assertThat(revised.history().series(null)).isEqualTo(direct.history().series(null));
+        assertThat(revised.replaceLast(FIRST_DAY, 50, Sentiment.NEUTRAL)).isFalse();
+    }
+
+    @Test
+    void historyCapturedBeforeARevisionKeepsItsLatestValue() {
+        RollingAnalytics analytics = new RollingAnalytics(1);
+        analytics.add(FIRST_DAY, 40, Sentiment.FEAR);
+        RollingAnalytics.History history = analytics.history();
+
+        analytics.replaceLast(FIRST_DAY, 70, Sentiment.GREED);
+
+        assertThat(history.series(null).windows().get(1).sma()).containsExactly(40.0);
+        assertThat(analytics.history().series(null).windows().get(1).sma()).containsExactly(70.0);
+    }
+
+    private static Sentiment sentimentOf(int score) {
+        return score < 25 ? Sentiment.EXTREME_FEAR : score < 45 ? Sentiment.FEAR : score <= 55 ? Sentiment.NEUTRAL
+                : score < 75 ? Sentiment.GREED : Sentiment.EXTREME_GREED;
+    }
+}
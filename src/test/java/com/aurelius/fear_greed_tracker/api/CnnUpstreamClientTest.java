@@ -0,0 +1,128 @@
+package com.aurelius.fear_greed_tracker.api;
+
+import com.aurelius.fear_greed_tracker.config.CnnUpstreamProperties;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CnnUpstreamClientTest {
+
+    private HttpServer server;
+    private final ConcurrentLinkedQueue<Integer> statuses = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger requestCount = new AtomicInteger();
+    private SimpleMeterRegistry meterRegistry;
+    private CnnUpstreamClient client;
+    private String url;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/graphdata", exchange -> {
+            requestCount.incrementAndGet();
+            Integer status = statuses.poll();
+            byte[] body = "{\"fear_and_greed\":{\"score\":42}}".getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(status == null ? 200 : status, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.start();
+        url = "http://127.0.0.1:" + server.getAddress().getPort() + "/graphdata";
+
+        CnnUpstreamProperties properties = new CnnUpstreamProperties();
+        properties.getRetry().setMaxAttempts(3);
+        properties.getRetry().setInitialBackoff(Duration.ofMillis(10));
+        properties.getRetry().setMaxBackoff(Duration.ofMillis(40));
+        properties.getCircuitBreaker().setFailureThreshold(2);
+        properties.getCircuitBreaker().setOpenDuration(Duration.ofMinutes(1));
+        meterRegistry = new SimpleMeterRegistry();
+        client = new CnnUpstreamClient(new RestTemplate(), properties, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    void retriesTooManyRequestsAndServerErrors() {
+        statuses.add(429);
+        statuses.add(503);
+
+        Map<?, ?> body = client.getForObject("test", url, Map.class);
+
+        assertThat(body.containsKey("fear_and_greed")).isTrue();
+        assertThat(requestCount).hasValue(3);
+        assertThat(meterRegistry.get("fgi.upstream.retries").counter().count()).isEqualTo(2.0);
+        assertThat(meterRegistry.get("fgi.upstream.requests").tag("outcome", "success").timer().count()).isEqualTo(1);
+        assertThat(client.getCircuitState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void doesNotRetryClientErrors() {
+        statuses.add(404);
+
+        assertThatThrownBy(() -> client.getForObject("test", url, Map.class))
+                .isInstanceOf(HttpClientErrorException.NotFound.class);
+        assertThat(requestCount).hasValue(1);
+        assertThat(client.getCircuitState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void opensAfterRepeatedFailuresAndRejectsWithoutCalling() {
+        for (int i = 0; i < 6; i++) {
+            statuses.add(500);
+        }
+
+        assertThatThrownBy(() -> client.getForObject("test", url, Map.class)).isInstanceOf(HttpServerErrorException.class);
+        assertThatThrownBy(() -> client.getForObject("test", url, Map.class)).isInstanceOf(HttpServerErrorException.class);
+        assertThat(client.getCircuitState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(meterRegistry.get("fgi.upstream.circuit.state").tag("state", "open").gauge().value()).isEqualTo(1.0);
+
+        assertThatThrownBy(() -> client.getForObject("test", url, Map.class)).isInstanceOf(UpstreamUnavailableException.class);
+        assertThat(requestCount).hasValue(6);
+        assertThat(meterRegistry.get("fgi.upstream.rejected").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void extractorExceptionsPropagateWithoutTouchingTheBreaker() {
+        IllegalStateException storeFailure = new IllegalStateException("database unavailable");
+        for (int i = 0; i < 5; i++) {
+            assertThatThrownBy(() -> client.get("test", url, response -> {
+                throw storeFailure;
+            })).isSameAs(storeFailure);
+        }
+
+        assertThat(requestCount).hasValue(5);
+        assertThat(client.getCircuitState()).isEqualTo(CircuitBreaker.State.CLOSED);
+        assertThat(meterRegistry.find("fgi.upstream.retries").counter()).isNull();
+    }
+
+    @Test
+    void unparseableBodiesCountAsUpstreamFailures() {
+        for (int i = 0; i < 2; i++) {
+            assertThatThrownBy(() -> client.getForObject("test", url, Integer.class)).isInstanceOf(RestClientException.class);
+        }
+
+        assertThat(requestCount).hasValue(2);
+        assertThat(client.getCircuitState()).isEqualTo(CircuitBreaker.State.OPEN);
+    }
+}
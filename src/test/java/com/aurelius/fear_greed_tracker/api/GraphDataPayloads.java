@@ -0,0 +1,108 @@
+package com.aurelius.fear_greed_tracker.api;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.Set;
+
+/**
+ * Synthetic CNN /graphdata bodies for tests and benchmarks.
+ * Mirrors the real layout: a 'fear_and_greed' summary, the 'fear_and_greed_historical' series
+ * and the component indicator series, each with one point per day.
+ * With 10,000 points per series the body is about 4 MB.
+ */
+public final class GraphDataPayloads {
+
+    public static final String[] INDICATOR_FIELDS = {
+            "market_momentum_sp500", "market_momentum_sp125", "stock_price_strength", "stock_price_breadth",
+            "put_call_options", "market_volatility_vix", "market_volatility_vix_50", "junk_bond_demand",
+            "safe_haven_demand"
+    };
+
+    private GraphDataPayloads() {
+    }
+
+    /**
+     * @param firstDate Date of the first point of every series.
+     * @param pointsPerSeries Points per series, one per consecutive day.
+     * @return The UTF-8 JSON body.
+     */
+    public static byte[] syntheticGraphData(LocalDate firstDate, int pointsPerSeries) {
+        return syntheticGraphData(firstDate, pointsPerSeries, Set.of());
+    }
+
+    /**
+     * @param firstDate Date of the first point of every series.
+     * @param pointsPerSeries Days covered by every series, one point per consecutive day.
+     * @param closedDays Days left out of every series, like CNN does for exchange holidays.
+     * @return The UTF-8 JSON body.
+     */
+    public static byte[] syntheticGraphData(LocalDate firstDate, int pointsPerSeries, Set<LocalDate> closedDays) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(pointsPerSeries * 64 * (INDICATOR_FIELDS.length + 1));
+        try (JsonGenerator gen = new JsonFactory().createGenerator(out)) {
+            gen.writeStartObject();
+            gen.writeObjectFieldStart("fear_and_greed");
+            gen.writeNumberField("score", 42.5);
+            gen.writeStringField("rating", "fear");
+            gen.writeStringField("timestamp", firstDate.plusDays(pointsPerSeries - 1L) + "T23:59:59+00:00");
+            gen.writeNumberField("previous_close", 41.0);
+            gen.writeNumberField("previous_1_week", 38.2);
+            gen.writeEndObject();
+            writeSeries(gen, "fear_and_greed_historical", firstDate, pointsPerSeries, 0, closedDays);
+            for (int i = 0; i < INDICATOR_FIELDS.length; i++) {
+                writeSeries(gen, INDICATOR_FIELDS[i], firstDate, pointsPerSeries, i + 1, closedDays);
+            }
+            gen.writeEndObject();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * @return The score written for point i of the 'fear_and_greed_historical' series.
+     */
+    public static double historicalScore(int i) {
+        return score(i, 0);
+    }
+
+    private static void writeSeries(JsonGenerator gen, String field, LocalDate firstDate, int points, int phase,
+                                    Set<LocalDate> closedDays) throws IOException {
+        gen.writeObjectFieldStart(field);
+        gen.writeNumberField("timestamp", epochMillis(firstDate.plusDays(points - 1L)));
+        gen.writeNumberField("score", score(points - 1, phase));
+        gen.writeStringField("rating", rating(score(points - 1, phase)));
+        gen.writeArrayFieldStart("data");
+        for (int i = 0; i < points; i++) {
+            if (closedDays.contains(firstDate.plusDays(i))) {
+                continue;
+            }
+            double y = score(i, phase);
+            gen.writeStartObject();
+            // CNN serializes x as a floating point number.
+            gen.writeNumberField("x", (double) epochMillis(firstDate.plusDays(i)));
+            gen.writeNumberField("y", y);
+            gen.writeStringField("rating", rating(y));
+            gen.writeEndObject();
+        }
+        gen.writeEndArray();
+        gen.writeEndObject();
+    }
+
+    private static double score(int i, int phase) {
+        return Math.round((50.0 + 45.0 * Math.sin(i / 20.0 + phase)) * 1000.0) / 1000.0;
+    }
+
+    private static String rating(double score) {
+        return score < 25 ? "extreme fear" : score < 45 ? "fear" : score <= 55 ? "neutral" : score <= 75 ? "greed" : "extreme greed";
+    }
+
+    private static long epochMillis(LocalDate date) {
+        return date.atStartOfDay().toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+}
@@ -0,0 +1,114 @@
+package com.aurelius.fear_greed_tracker.api;
+
+import com.aurelius.fear_greed_tracker.model.Indicator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class GraphDataStreamReaderTest {
+
+    private final GraphDataStreamReader reader = new GraphDataStreamReader(new ObjectMapper());
+
+    @Test
+    void readsOnlyHistoricalPointsInPayloadOrder() throws IOException {
+        LocalDate firstDay = LocalDate.of(2024, 1, 1);
+        RecordingHandler handler = new RecordingHandler();
+
+        int count = reader.readHistoricalPoints(
+                new ByteArrayInputStream(GraphDataPayloads.syntheticGraphData(firstDay, 30)), handler);
+
+        assertThat(count).isEqualTo(30);
+        assertThat(handler.timestamps).hasSize(30);
+        assertThat(handler.timestamps.get(0)).isEqualTo(firstDay.atStartOfDay().toInstant(ZoneOffset.UTC).toEpochMilli());
+        assertThat(handler.scores.get(29)).isEqualTo(GraphDataPayloads.historicalScore(29));
+        assertThat(handler.invalid).isZero();
+    }
+
+    @Test
+    void reportsIncompletePointsAndSkipsUnknownFields() throws IOException {
+        String json = """
+                {"market_momentum_sp500": {"data": [{"x": 1, "y": 2, "rating": "fear"}]},
+                 "fear_and_greed_historical": {"score": 40, "data": [
+                    {"x": 1704067200000, "y": 40.7, "rating": "fear", "extra": {"nested": [1, 2]}},
+                    {"x": 1704153600000, "rating": "fear"},
+                    {"x": 1704240000000, "y": 41, "rating": null},
+                    7
+                 ]},
+                 "trailing": [{"x": 3}]}
+                """;
+        RecordingHandler handler = new RecordingHandler();
+
+        int count = reader.readHistoricalPoints(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)), handler);
+
+        assertThat(count).isEqualTo(4);
+        assertThat(handler.timestamps).containsExactly(1704067200000L);
+        assertThat(handler.scores).containsExactly(40.7);
+        assertThat(handler.invalid).isEqualTo(3);
+    }
+
+    @Test
+    void readsIndicatorSeriesInTheSamePass() throws IOException {
+        RecordingHandler handler = new RecordingHandler();
+        Map<Indicator, List<Double>> indicatorValues = new EnumMap<>(Indicator.class);
+
+        int count = reader.readGraphData(
+                new ByteArrayInputStream(GraphDataPayloads.syntheticGraphData(LocalDate.of(2024, 1, 1), 30)), handler,
+                (indicator, timestampMillis, value, rating) ->
+                        indicatorValues.computeIfAbsent(indicator, i -> new ArrayList<>()).add(value));
+
+        assertThat(count).isEqualTo(30);
+        assertThat(handler.timestamps).hasSize(30);
+        assertThat(indicatorValues).hasSize(Indicator.values().length).allSatisfy((indicator, values) ->
+                assertThat(values).hasSize(30));
+    }
+
+    @Test
+    void indicatorPointsNeedOnlyTimestampAndValue() throws IOException {
+        String json = """
+                {"put_call_options": {"data": [{"x": 1704067200000, "y": 0.81}, {"x": 1704153600000}]},
+                 "not_an_indicator": {"data": [{"x": 1, "y": 2}]}}
+                """;
+        List<String> points = new ArrayList<>();
+
+        reader.readGraphData(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)), null,
+                (indicator, timestampMillis, value, rating) -> points.add(indicator + "@" + timestampMillis + "=" + value + "/" + rating));
+
+        assertThat(points).containsExactly("PUT_CALL_OPTIONS@1704067200000=0.81/null");
+    }
+
+    @Test
+    void rejectsNonObjectBody() {
+        assertThatThrownBy(() -> reader.readHistoricalPoints(
+                new ByteArrayInputStream("[]".getBytes(StandardCharsets.UTF_8)), new RecordingHandler()))
+                .isInstanceOf(IOException.class);
+    }
+
+    private static final class RecordingHandler implements GraphDataStreamReader.HistoricalPointHandler {
+        final List<Long> timestamps = new ArrayList<>();
+        final List<Double> scores = new ArrayList<>();
+        int invalid;
+
+        @Override
+        public void point(long timestampMillis, double score, String rating) {
+            timestamps.add(timestampMillis);
+            scores.add(score);
+        }
+
+        @Override
+        public void invalidPoint() {
+            invalid++;
+        }
+    }
+}
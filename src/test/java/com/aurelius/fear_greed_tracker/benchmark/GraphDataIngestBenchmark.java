@@ -0,0 +1,140 @@
+package com.aurelius.fear_greed_tracker.benchmark;
+
+import com.aurelius.fear_greed_tracker.api.GraphDataPayloads;
+import com.aurelius.fear_greed_tracker.api.GraphDataStreamReader;
+import com.aurelius.fear_greed_tracker.api.dto.FearGreedApiResponse;
+import com.aurelius.fear_greed_tracker.model.FearGreedIndex;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Historical ingest parse cost of a /graphdata body: binding the whole response into
+ * FearGreedApiResponse (the original path) versus GraphDataStreamReader feeding a bounded
+ * buffer of FearGreedIndex rows (the streaming path, without the database).
+ *
+ * Setup prints the peak retained heap of both paths, measured as used heap after a full GC
+ * while the parse result (or the fullest batch buffer) is still reachable. The DTO figure grows
+ * with the payload; the streaming figure stays at one batch. Run with {@code -prof gc} for
+ * bytes allocated per parse (gc.alloc.rate.norm).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GraphDataIngestBenchmark {
+
+    private static final int BATCH_SIZE = 500;
+
+    @Param({"2500", "10000", "40000"})
+    private int pointsPerSeries;
+
+    private ObjectMapper objectMapper;
+    private GraphDataStreamReader reader;
+    private byte[] payload;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        reader = new GraphDataStreamReader(objectMapper);
+        payload = GraphDataPayloads.syntheticGraphData(LocalDate.of(1900, 1, 1), pointsPerSeries);
+
+        long baseline = usedHeapAfterGc();
+        FearGreedApiResponse bound = bindDto();
+        long dtoRetained = usedHeapAfterGc() - baseline;
+        if (bound.getFearAndGreedHistorical().getData().size() != pointsPerSeries) {
+            throw new IllegalStateException("Unexpected DTO point count");
+        }
+        bound = null;
+
+        baseline = usedHeapAfterGc();
+        BatchingHandler measuring = new BatchingHandler(true);
+        reader.readHistoricalPoints(new ByteArrayInputStream(payload), measuring);
+        long streamingRetained = measuring.peakUsedHeap - baseline;
+
+        System.out.printf("%n[%d points/series, %d KB body] peak retained heap: dto=%d KB, streaming=%d KB%n",
+                pointsPerSeries, payload.length / 1024, dtoRetained / 1024, streamingRetained / 1024);
+    }
+
+    @Benchmark
+    public FearGreedApiResponse bindDto() throws IOException {
+        return objectMapper.readValue(new ByteArrayInputStream(payload), FearGreedApiResponse.class);
+    }
+
+    @Benchmark
+    public int streamToBatches() throws IOException {
+        BatchingHandler handler = new BatchingHandler(false);
+        reader.readHistoricalPoints(new ByteArrayInputStream(payload), handler);
+        return handler.rows;
+    }
+
+    private static long usedHeapAfterGc() {
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+
+    /**
+     * Builds rows the same way HistoricalIngestBatch does and drops them every BATCH_SIZE points,
+     * where the service would hand them to the bulk writer.
+     */
+    private static final class BatchingHandler implements GraphDataStreamReader.HistoricalPointHandler {
+        private final boolean measurePeak;
+        private final List<FearGreedIndex> buffer = new ArrayList<>(BATCH_SIZE);
+        private long peakUsedHeap;
+        private int rows;
+
+        BatchingHandler(boolean measurePeak) {
+            this.measurePeak = measurePeak;
+        }
+
+        @Override
+        public void point(long timestampMillis, double score, String rating) {
+            OffsetDateTime timestamp = OffsetDateTime.ofInstant(Instant.ofEpochMilli(timestampMillis), ZoneOffset.UTC);
+            FearGreedIndex fgi = new FearGreedIndex();
+            fgi.setRecordDate(timestamp.toLocalDate());
+            fgi.setFgiValue((int) score);
+            fgi.setSentiment(rating);
+            fgi.setTimestamp(timestamp);
+            buffer.add(fgi);
+            rows++;
+            if (buffer.size() == BATCH_SIZE) {
+                if (measurePeak) {
+                    peakUsedHeap = Math.max(peakUsedHeap, usedHeapAfterGc());
+                }
+                buffer.clear();
+            }
+        }
+
+        @Override
+        public void invalidPoint() {
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.aurelius.fear_greed_tracker.benchmark;
+
+import com.aurelius.fear_greed_tracker.FearGreedTrackerApplication;
+import com.aurelius.fear_greed_tracker.api.dto.FearGreedData;
+import com.aurelius.fear_greed_tracker.model.FearGreedIndex;
+import com.aurelius.fear_greed_tracker.repository.FearGreedIndexRepository;
+import com.aurelius.fear_greed_tracker.service.FearGreedService;
+import com.aurelius.fear_greed_tracker.service.IngestResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the original per-point historical ingest loop (findByRecordDate + save per row)
+ * with the set-based path in {@link FearGreedService#ingestHistoricalPoints(List)}.
+ * Half of the incoming points already exist so both the skip and the insert paths are exercised.
+ *
+ * Runs against the PostgreSQL database configured in application.properties, since the
+ * point is to measure database round trips. The benchmark empties fear_greed_index before
+ * every invocation, so point it at a scratch database, e.g.
+ * {@code -Djmh.args="HistoricalIngestBenchmark -jvmArgsAppend -Dspring.datasource.url=jdbc:postgresql://localhost:5432/fear_greed_bench"}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class HistoricalIngestBenchmark {
+
+    @Param({"365", "1825"})
+    private int points;
+
+    private ConfigurableApplicationContext context;
+    private FearGreedIndexRepository repository;
+    private FearGreedService service;
+    private List<FearGreedData> payload;
+    private List<FearGreedData> preExisting;
+
+    @Setup(Level.Trial)
+    public void startContext() {
+        context = new SpringApplicationBuilder(FearGreedTrackerApplication.class)
+                .properties("spring.main.web-application-type=none", "spring.jpa.show-sql=false", "logging.level.root=WARN")
+                .run();
+        repository = context.getBean(FearGreedIndexRepository.class);
+        service = context.getBean(FearGreedService.class);
+        payload = syntheticPoints(LocalDate.now().minusDays(points), points);
+        preExisting = payload.subList(0, points / 2);
+    }
+
+    @Setup(Level.Invocation)
+    public void resetTable() {
+        repository.deleteAllInBatch();
+        service.ingestHistoricalPoints(preExisting);
+    }
+
+    @TearDown(Level.Trial)
+    public void stopContext() {
+        context.close();
+    }
+
+    @Benchmark
+    public int perRowLoop() {
+        int savedCount = 0;
+        for (FearGreedData historicalPoint : payload) {
+            OffsetDateTime fullTimestamp = OffsetDateTime.ofInstant(Instant.ofEpochMilli(historicalPoint.getX()), ZoneOffset.UTC);
+            LocalDate recordDate = fullTimestamp.toLocalDate();
+            if (repository.findByRecordDate(recordDate).isEmpty()) {
+                FearGreedIndex fgi = new FearGreedIndex();
+                fgi.setRecordDate(recordDate);
+                fgi.setFgiValue(historicalPoint.getY().intValue());
+                fgi.setSentiment(historicalPoint.getRating());
+                fgi.setTimestamp(fullTimestamp);
+                repository.save(fgi);
+                savedCount++;
+            }
+        }
+        return savedCount;
+    }
+
+    @Benchmark
+    public IngestResult setBased() {
+        return service.ingestHistoricalPoints(payload);
+    }
+
+    static List<FearGreedData> syntheticPoints(LocalDate firstDate, int count) {
+        List<FearGreedData> data = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            FearGreedData point = new FearGreedData();
+            point.setX(firstDate.plusDays(i).atStartOfDay().toInstant(ZoneOffset.UTC).toEpochMilli());
+            point.setY(50.0 + 40.0 * Math.sin(i / 30.0));
+            point.setRating(point.getY() < 45 ? "fear" : point.getY() > 55 ? "greed" : "neutral");
+            data.add(point);
+        }
+        return data;
+    }
+}
@@ -0,0 +1,104 @@
+package com.aurelius.fear_greed_tracker.benchmark;
+
+import com.aurelius.fear_greed_tracker.controller.FearGreedSeriesColumnarConverter;
+import com.aurelius.fear_greed_tracker.model.FearGreedIndex;
+import com.aurelius.fear_greed_tracker.model.Sentiment;
+import com.aurelius.fear_greed_tracker.store.FearGreedSeries;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Response cost of the history endpoints' three representations per request: the default
+ * application/json entity rows (id, timestamp and audit columns through Jackson reflection) versus the
+ * opt-in FearGreedSeries formats, application/vnd.fgi.rows+json and application/vnd.fgi.columnar+json.
+ * Payload sizes are printed during setup; run with {@code -prof gc} to compare allocations
+ * (gc.alloc.rate.norm is bytes allocated per request).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HistoryResponseBenchmark {
+
+    @Param({"7", "365", "1825"})
+    private int rows;
+
+    private ObjectMapper objectMapper;
+    private List<FearGreedIndex> entities;
+    private FearGreedSeries series;
+    private ByteArrayOutputStream out;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        // Same Jackson configuration Spring Boot applies to the MVC message converter.
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        LocalDate firstDay = LocalDate.of(2020, 1, 1);
+        entities = new ArrayList<>(rows);
+        int[] epochDays = new int[rows];
+        short[] values = new short[rows];
+        byte[] sentiments = new byte[rows];
+        for (int i = 0; i < rows; i++) {
+            int value = (int) (50 + 45 * Math.sin(i / 20.0));
+            Sentiment sentiment = value < 25 ? Sentiment.EXTREME_FEAR : value < 45 ? Sentiment.FEAR
+                    : value <= 55 ? Sentiment.NEUTRAL : value <= 75 ? Sentiment.GREED : Sentiment.EXTREME_GREED;
+            OffsetDateTime timestamp = OffsetDateTime.of(firstDay.plusDays(i).atStartOfDay(), ZoneOffset.UTC);
+            entities.add(new FearGreedIndex((long) i + 1, firstDay.plusDays(i), value, sentiment.getLabel(),
+                    timestamp, timestamp, timestamp, 0));
+            epochDays[i] = (int) firstDay.plusDays(i).toEpochDay();
+            values[i] = (short) value;
+            sentiments[i] = sentiment.getCode();
+        }
+        series = FearGreedSeries.of(epochDays, values, sentiments);
+        out = new ByteArrayOutputStream(256 * rows);
+
+        System.out.printf("%n[%d rows] payload bytes: entities=%d, rows=%d, columnar=%d%n", rows,
+                entityJson(), seriesRowJson(), seriesColumnarJson());
+    }
+
+    @Benchmark
+    public int entityJson() throws IOException {
+        out.reset();
+        objectMapper.writeValue(out, entities);
+        return out.size();
+    }
+
+    @Benchmark
+    public int seriesRowJson() throws IOException {
+        out.reset();
+        objectMapper.writeValue(out, series);
+        return out.size();
+    }
+
+    @Benchmark
+    public int seriesColumnarJson() throws IOException {
+        out.reset();
+        try (JsonGenerator gen = objectMapper.getFactory().createGenerator(out)) {
+            FearGreedSeriesColumnarConverter.writeColumnar(series, gen);
+        }
+        return out.size();
+    }
+}
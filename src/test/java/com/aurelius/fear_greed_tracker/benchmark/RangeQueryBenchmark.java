@@ -0,0 +1,103 @@
+package com.aurelius.fear_greed_tracker.benchmark;
+
+import com.aurelius.fear_greed_tracker.FearGreedTrackerApplication;
+import com.aurelius.fear_greed_tracker.model.FearGreedIndex;
+import com.aurelius.fear_greed_tracker.model.FearGreedIndexPoint;
+import com.aurelius.fear_greed_tracker.repository.FearGreedIndexRepository;
+import com.aurelius.fear_greed_tracker.store.FearGreedSeries;
+import com.aurelius.fear_greed_tracker.store.FearGreedTimeSeriesStore;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Date-range lookup cost for the last {@code days} of a five-year history: full entities through
+ * findByRecordDateRange, the three-column projection through findPointsByRecordDateRange, and the
+ * in-memory FearGreedTimeSeriesStore that the read endpoints actually use.
+ *
+ * Runs against the in-process H2 database of the test profile, so the numbers measure query
+ * planning, row mapping and allocation rather than network round trips.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RangeQueryBenchmark {
+
+    private static final int HISTORY_DAYS = 5 * 365;
+
+    @Param({"30", "365", "1825"})
+    private int days;
+
+    private ConfigurableApplicationContext context;
+    private FearGreedIndexRepository repository;
+    private FearGreedTimeSeriesStore timeSeriesStore;
+    private LocalDate from;
+    private LocalDate toExclusive;
+
+    @Setup(Level.Trial)
+    public void startContext() {
+        context = new SpringApplicationBuilder(FearGreedTrackerApplication.class)
+                .profiles("test")
+                .properties("spring.main.web-application-type=none", "logging.level.root=WARN",
+                        "logging.level.com.aurelius.fear_greed_tracker=WARN")
+                .run();
+        repository = context.getBean(FearGreedIndexRepository.class);
+        timeSeriesStore = context.getBean(FearGreedTimeSeriesStore.class);
+
+        toExclusive = LocalDate.now();
+        LocalDate firstDay = toExclusive.minusDays(HISTORY_DAYS);
+        List<FearGreedIndex> rows = new ArrayList<>(HISTORY_DAYS);
+        for (int i = 0; i < HISTORY_DAYS; i++) {
+            LocalDate day = firstDay.plusDays(i);
+            int value = (int) (50 + 45 * Math.sin(i / 20.0));
+            OffsetDateTime timestamp = OffsetDateTime.of(day.atStartOfDay(), ZoneOffset.UTC);
+            rows.add(new FearGreedIndex(null, day, value, value < 45 ? "fear" : value > 55 ? "greed" : "neutral",
+                    timestamp, null, null, 0));
+        }
+        repository.saveAll(rows);
+        timeSeriesStore.reload();
+        from = toExclusive.minusDays(days);
+    }
+
+    @TearDown(Level.Trial)
+    public void stopContext() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<FearGreedIndex> entities() {
+        return repository.findByRecordDateRange(from, toExclusive);
+    }
+
+    @Benchmark
+    public List<FearGreedIndexPoint> projection() {
+        return repository.findPointsByRecordDateRange(from, toExclusive);
+    }
+
+    @Benchmark
+    public FearGreedSeries inMemoryStore() {
+        return timeSeriesStore.range(from, toExclusive);
+    }
+}
@@ -0,0 +1,231 @@
+package com.aurelius.fear_greed_tracker.benchmark;
+
+import com.aurelius.fear_greed_tracker.FearGreedTrackerApplication;
+import org.flywaydb.core.Flyway;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.lang.management.ManagementFactory;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Measures time-to-ready and first-request latency of the default startup against the fast-boot profile.
+ * The benchmark migrates and seeds a PostgreSQL database with five years of history, then starts the
+ * application in a fresh JVM per run and mode (so class loading and JIT start cold every time).
+ * Each child reports:
+ * - ready: JVM uptime when SpringApplication.run returned, i.e. when readiness switched to ACCEPTING_TRAFFIC;
+ * - first /today and first /history?days=365 latency right after that;
+ * - the mean of the next 100 requests to each, for comparison with a warmed-up instance.
+ * The fast-boot mode includes its warm-up in the ready time, which is the point of the trade-off.
+ *
+ * Run with {@code mvn -P startup-benchmark test-compile exec:exec -Dstartup.args="--runs=5"}.
+ * Options: --modes=default,fast-boot --runs=N --jdbc-url=... --jdbc-user=... --jdbc-password=...
+ * (without --jdbc-url a throwaway PostgreSQL container is started; that needs Docker)
+ * --result=file (JSON summary, target/startup-result.json by default).
+ */
+public class StartupBenchmark {
+
+    private static final String RESULT_PREFIX = "STARTUP ";
+    private static final String TODAY_PATH = "/api/fear-greed/today";
+    private static final String HISTORY_PATH = "/api/fear-greed/history?days=365";
+    private static final int STEADY_REQUESTS = 100;
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parseOptions(args);
+        if (options.containsKey("child")) {
+            runChild(options);
+            return;
+        }
+        List<String> modes = Arrays.asList(options.getOrDefault("modes", "default,fast-boot").split(","));
+        int runs = Integer.parseInt(options.getOrDefault("runs", "5"));
+        Path result = Path.of(options.getOrDefault("result", "target/startup-result.json"));
+
+        PostgreSQLContainer<?> postgres = null;
+        if (!options.containsKey("jdbc-url")) {
+            postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+            postgres.start();
+            options.put("jdbc-url", postgres.getJdbcUrl());
+            options.put("jdbc-user", postgres.getUsername());
+            options.put("jdbc-password", postgres.getPassword());
+        }
+        try {
+            seedDatabase(options.get("jdbc-url"), options.get("jdbc-user"), options.get("jdbc-password"));
+            Map<String, List<double[]>> samples = new LinkedHashMap<>();
+            for (int run = 0; run < runs; run++) {
+                // Alternate the modes so drift on the machine affects both equally.
+                for (String mode : modes) {
+                    samples.computeIfAbsent(mode, m -> new ArrayList<>()).add(startChild(mode, options));
+                }
+            }
+            printSummary(samples, runs);
+            writeJson(samples, result);
+        } finally {
+            if (postgres != null) {
+                postgres.stop();
+            }
+        }
+    }
+
+    private static void seedDatabase(String url, String user, String password) throws SQLException {
+        Flyway.configure().dataSource(url, user, password).load().migrate();
+        try (Connection connection = DriverManager.getConnection(url, user, password);
+             Statement statement = connection.createStatement()) {
+            // Five years up to and including today, so /today is answered without calling CNN.
+            statement.executeUpdate("INSERT INTO fear_greed_index (record_date, fgi_value, sentiment, timestamp, created_at, revision) "
+                    + "SELECT CAST(d AS date), CAST(EXTRACT(DOY FROM d) AS int) % 101, 'neutral', d, now(), 0 "
+                    + "FROM generate_series(CURRENT_DATE - 1825, CURRENT_DATE, INTERVAL '1 day') AS d "
+                    + "ON CONFLICT (record_date) DO NOTHING");
+        }
+    }
+
+    /**
+     * @return ready, first /today, first /history, steady /today, steady /history (all in ms).
+     */
+    private static double[] startChild(String mode, Map<String, String> options) throws IOException, InterruptedException {
+        String java = ProcessHandle.current().info().command().orElse("java");
+        Process process = new ProcessBuilder(java, "-cp", System.getProperty("java.class.path"),
+                StartupBenchmark.class.getName(), "--child", "--mode=" + mode,
+                "--jdbc-url=" + options.get("jdbc-url"), "--jdbc-user=" + options.get("jdbc-user"),
+                "--jdbc-password=" + options.get("jdbc-password"))
+                .redirectError(ProcessBuilder.Redirect.INHERIT)
+                .start();
+        double[] sample = null;
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.startsWith(RESULT_PREFIX)) {
+                    sample = Arrays.stream(line.substring(RESULT_PREFIX.length()).trim().split(" "))
+                            .mapToDouble(Double::parseDouble).toArray();
+                }
+            }
+        }
+        if (process.waitFor() != 0 || sample == null) {
+            throw new IllegalStateException("Startup run for mode '" + mode + "' failed with exit code " + process.exitValue());
+        }
+        System.out.printf("%-10s ready=%7.0f ms  first /today=%6.1f ms  first /history=%6.1f ms%n",
+                mode, sample[0], sample[1], sample[2]);
+        return sample;
+    }
+
+    private static void runChild(Map<String, String> options) throws Exception {
+        List<String> profiles = new ArrayList<>(List.of("prod"));
+        if ("fast-boot".equals(options.get("mode"))) {
+            profiles.add("fast-boot");
+        }
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(FearGreedTrackerApplication.class)
+                .profiles(profiles.toArray(String[]::new))
+                .run("--server.port=0",
+                        "--spring.datasource.url=" + options.get("jdbc-url"),
+                        "--spring.datasource.username=" + options.get("jdbc-user"),
+                        "--spring.datasource.password=" + options.get("jdbc-password"),
+                        "--cnn.feargreed.api.url=http://127.0.0.1:1",
+                        "--fgi.gap-repair.on-startup=false",
+                        "--spring.main.banner-mode=off",
+                        "--logging.level.root=WARN",
+                        "--logging.level.com.aurelius.fear_greed_tracker=WARN");
+        double ready = ManagementFactory.getRuntimeMXBean().getUptime();
+        String baseUrl = "http://127.0.0.1:" + context.getEnvironment().getProperty("local.server.port");
+        HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+        HttpRequest today = HttpRequest.newBuilder(URI.create(baseUrl + TODAY_PATH)).build();
+        HttpRequest history = HttpRequest.newBuilder(URI.create(baseUrl + HISTORY_PATH)).build();
+
+        double firstToday = timeMillis(client, today);
+        double firstHistory = timeMillis(client, history);
+        double steadyToday = 0;
+        double steadyHistory = 0;
+        for (int i = 0; i < STEADY_REQUESTS; i++) {
+            steadyToday += timeMillis(client, today);
+            steadyHistory += timeMillis(client, history);
+        }
+        System.out.println(RESULT_PREFIX + ready + " " + firstToday + " " + firstHistory + " "
+                + steadyToday / STEADY_REQUESTS + " " + steadyHistory / STEADY_REQUESTS);
+        context.close();
+        System.exit(0);
+    }
+
+    private static double timeMillis(HttpClient client, HttpRequest request) throws IOException, InterruptedException {
+        long start = System.nanoTime();
+        HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+        double millis = (System.nanoTime() - start) / 1e6;
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException(request.uri() + " answered " + response.statusCode());
+        }
+        return millis;
+    }
+
+    private static void printSummary(Map<String, List<double[]>> samples, int runs) {
+        System.out.printf("%n=== Startup, median of %d runs (ms) ===%n", runs);
+        System.out.printf("%-10s %8s %14s %16s %15s %17s%n",
+                "mode", "ready", "first /today", "first /history", "steady /today", "steady /history");
+        samples.forEach((mode, runsOfMode) -> {
+            double[] median = median(runsOfMode);
+            System.out.printf("%-10s %8.0f %14.1f %16.1f %15.2f %17.2f%n",
+                    mode, median[0], median[1], median[2], median[3], median[4]);
+        });
+    }
+
+    private static void writeJson(Map<String, List<double[]>> samples, Path result) throws IOException {
+        String[] fields = {"readyMillis", "firstTodayMillis", "firstHistoryMillis", "steadyTodayMillis", "steadyHistoryMillis"};
+        StringBuilder json = new StringBuilder("[\n");
+        samples.forEach((mode, runsOfMode) -> {
+            if (json.length() > 2) {
+                json.append(",\n");
+            }
+            double[] median = median(runsOfMode);
+            json.append("  {\"mode\": \"").append(mode).append("\", \"runs\": ").append(runsOfMode.size());
+            for (int i = 0; i < fields.length; i++) {
+                json.append(", \"").append(fields[i]).append("\": ").append(median[i]);
+            }
+            json.append('}');
+        });
+        json.append("\n]\n");
+        if (result.getParent() != null) {
+            Files.createDirectories(result.getParent());
+        }
+        Files.writeString(result, json);
+        System.out.println("Results written to " + result.toAbsolutePath());
+    }
+
+    private static double[] median(List<double[]> runs) {
+        double[] median = new double[runs.get(0).length];
+        for (int field = 0; field < median.length; field++) {
+            int f = field;
+            double[] values = runs.stream().mapToDouble(sample -> sample[f]).sorted().toArray();
+            median[field] = values[values.length / 2];
+        }
+        return median;
+    }
+
+    private static Map<String, String> parseOptions(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (arg.startsWith("--") && arg.contains("=")) {
+                options.put(arg.substring(2, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+            } else if (arg.startsWith("--")) {
+                options.put(arg.substring(2), "true");
+            }
+        }
+        return options;
+    }
+}
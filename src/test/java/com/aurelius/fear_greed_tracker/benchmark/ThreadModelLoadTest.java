@@ -0,0 +1,246 @@
+package com.aurelius.fear_greed_tracker.benchmark;
+
+import com.aurelius.fear_greed_tracker.FearGreedTrackerApplication;
+import com.aurelius.fear_greed_tracker.model.FearGreedIndex;
+import com.aurelius.fear_greed_tracker.repository.FearGreedIndexRepository;
+import com.aurelius.fear_greed_tracker.store.FearGreedTimeSeriesStore;
+import com.sun.net.httpserver.HttpServer;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Closed-loop load test comparing Tomcat on platform threads with the virtual-threads profile.
+ * Each mode starts the application in-process (H2 test profile plus load-test and, for "virtual",
+ * virtual-threads), seeds five years of history, and points the CNN URL at a local stub that
+ * answers after a fixed delay without today's value. Every /today request therefore waits on a
+ * slow upstream call (coalesced into one in-flight fetch) and falls back to the last stored day,
+ * while /history requests are served from the in-memory store. With enough concurrent clients the
+ * waiting /today requests exhaust the platform request-thread pool and queue the fast /history
+ * requests behind them; on virtual threads they do not.
+ *
+ * Run with {@code mvn -P load-test test-compile exec:exec -Dloadtest.args="--concurrency=400 --duration=30"}.
+ * Options: --modes=platform,virtual --concurrency=N --duration=seconds --warmup=seconds
+ * --upstream-latency-ms=N --today-share=0..1. The virtual mode needs a Java 21 runtime
+ * (build with -P java21) and is skipped on older JVMs.
+ */
+public class ThreadModelLoadTest {
+
+    private static final String TODAY_PATH = "/api/fear-greed/today";
+    private static final String HISTORY_PATH = "/api/fear-greed/history?days=365";
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parseOptions(args);
+        List<String> modes = Arrays.asList(options.getOrDefault("modes", "platform,virtual").split(","));
+        int concurrency = Integer.parseInt(options.getOrDefault("concurrency", "400"));
+        int durationSeconds = Integer.parseInt(options.getOrDefault("duration", "20"));
+        int warmupSeconds = Integer.parseInt(options.getOrDefault("warmup", "5"));
+        int upstreamLatencyMillis = Integer.parseInt(options.getOrDefault("upstream-latency-ms", "200"));
+        double todayShare = Double.parseDouble(options.getOrDefault("today-share", "0.2"));
+
+        HttpServer cnnStub = startCnnStub(upstreamLatencyMillis);
+        try {
+            for (String mode : modes) {
+                if ("virtual".equals(mode) && Runtime.version().feature() < 21) {
+                    System.out.printf("%nSkipping mode 'virtual': running on Java %d, virtual threads need Java 21.%n",
+                            Runtime.version().feature());
+                    continue;
+                }
+                runMode(mode, cnnStub, concurrency, warmupSeconds, durationSeconds, todayShare);
+            }
+        } finally {
+            cnnStub.stop(0);
+        }
+    }
+
+    private static void runMode(String mode, HttpServer cnnStub, int concurrency, int warmupSeconds,
+                                int durationSeconds, double todayShare) throws Exception {
+        List<String> profiles = new ArrayList<>(List.of("test", "load-test"));
+        if ("virtual".equals(mode)) {
+            profiles.add("virtual-threads");
+        }
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(FearGreedTrackerApplication.class)
+                .profiles(profiles.toArray(String[]::new))
+                .run("--server.port=0",
+                        "--cnn.feargreed.api.url=http://127.0.0.1:" + cnnStub.getAddress().getPort())) {
+            seedHistory(context);
+            String baseUrl = "http://127.0.0.1:" + context.getEnvironment().getProperty("local.server.port");
+
+            HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+            runLoad(client, baseUrl, concurrency, warmupSeconds, todayShare);
+            LoadResult result = runLoad(client, baseUrl, concurrency, durationSeconds, todayShare);
+
+            System.out.printf("%n=== %s threads: %d clients, %d s, upstream delay on /today ===%n",
+                    mode, concurrency, durationSeconds);
+            System.out.printf("throughput: %.0f req/s, errors: %d%n", result.total() / (double) durationSeconds, result.errors);
+            result.print("all", null);
+            result.print("/history", HISTORY_PATH);
+            result.print("/today", TODAY_PATH);
+        }
+    }
+
+    private static void seedHistory(ConfigurableApplicationContext context) {
+        LocalDate yesterday = LocalDate.now().minusDays(1);
+        List<FearGreedIndex> rows = new ArrayList<>();
+        for (int i = 5 * 365; i >= 1; i--) {
+            LocalDate day = yesterday.minusDays(i - 1L);
+            int value = (int) (50 + 45 * Math.sin(i / 20.0));
+            OffsetDateTime timestamp = OffsetDateTime.of(day.atStartOfDay(), ZoneOffset.UTC);
+            rows.add(new FearGreedIndex(null, day, value, value < 45 ? "fear" : value > 55 ? "greed" : "neutral",
+                    timestamp, null, null, 0));
+        }
+        context.getBean(FearGreedIndexRepository.class).saveAll(rows);
+        context.getBean(FearGreedTimeSeriesStore.class).reload();
+    }
+
+    private static LoadResult runLoad(HttpClient client, String baseUrl, int concurrency, int seconds,
+                                      double todayShare) throws Exception {
+        long deadline = System.nanoTime() + Duration.ofSeconds(seconds).toNanos();
+        HttpRequest today = HttpRequest.newBuilder(URI.create(baseUrl + TODAY_PATH)).timeout(Duration.ofSeconds(30)).build();
+        HttpRequest history = HttpRequest.newBuilder(URI.create(baseUrl + HISTORY_PATH)).timeout(Duration.ofSeconds(30)).build();
+
+        ExecutorService workers = Executors.newFixedThreadPool(concurrency);
+        List<Future<LoadResult>> futures = new ArrayList<>(concurrency);
+        for (int i = 0; i < concurrency; i++) {
+            futures.add(workers.submit(() -> {
+                LoadResult partial = new LoadResult();
+                while (System.nanoTime() < deadline) {
+                    boolean isToday = ThreadLocalRandom.current().nextDouble() < todayShare;
+                    long start = System.nanoTime();
+                    try {
+                        HttpResponse<Void> response = client.send(isToday ? today : history,
+                                HttpResponse.BodyHandlers.discarding());
+                        if (response.statusCode() != 200) {
+                            partial.errors++;
+                        }
+                    } catch (IOException e) {
+                        partial.errors++;
+                    }
+                    partial.record(isToday ? TODAY_PATH : HISTORY_PATH, System.nanoTime() - start);
+                }
+                return partial;
+            }));
+        }
+        LoadResult result = new LoadResult();
+        for (Future<LoadResult> future : futures) {
+            result.merge(future.get());
+        }
+        workers.shutdown();
+        return result;
+    }
+
+    private static HttpServer startCnnStub(int latencyMillis) throws IOException {
+        HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 1024);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.createContext("/graphdata", exchange -> {
+            try {
+                Thread.sleep(latencyMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            // No usable daily value, so the service falls back to the last stored day.
+            byte[] body = "{\"fear_and_greed\":{}}".getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.start();
+        return server;
+    }
+
+    private static Map<String, String> parseOptions(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (arg.startsWith("--") && arg.contains("=")) {
+                options.put(arg.substring(2, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+            }
+        }
+        return options;
+    }
+
+    /**
+     * Latencies in nanoseconds per path, unsorted until printed.
+     */
+    private static final class LoadResult {
+        final Map<String, long[]> latencies = new HashMap<>();
+        final Map<String, Integer> counts = new HashMap<>();
+        long errors;
+
+        void record(String path, long nanos) {
+            int count = counts.getOrDefault(path, 0);
+            long[] values = latencies.computeIfAbsent(path, p -> new long[1024]);
+            if (count == values.length) {
+                values = Arrays.copyOf(values, count * 2);
+                latencies.put(path, values);
+            }
+            values[count] = nanos;
+            counts.put(path, count + 1);
+        }
+
+        void merge(LoadResult other) {
+            errors += other.errors;
+            other.counts.forEach((path, count) -> {
+                long[] values = other.latencies.get(path);
+                for (int i = 0; i < count; i++) {
+                    record(path, values[i]);
+                }
+            });
+        }
+
+        long total() {
+            return counts.values().stream().mapToLong(Integer::longValue).sum();
+        }
+
+        long[] all() {
+            long[] all = new long[(int) total()];
+            int offset = 0;
+            for (Map.Entry<String, Integer> entry : counts.entrySet()) {
+                System.arraycopy(latencies.get(entry.getKey()), 0, all, offset, entry.getValue());
+                offset += entry.getValue();
+            }
+            return all;
+        }
+
+        /**
+         * @param path The path to report, or null for all requests.
+         */
+        void print(String label, String path) {
+            long[] sorted = path == null ? all() : Arrays.copyOf(latencies.getOrDefault(path, new long[0]), counts.getOrDefault(path, 0));
+            if (sorted.length == 0) {
+                System.out.printf("%-9s no requests%n", label);
+                return;
+            }
+            Arrays.sort(sorted);
+            System.out.printf("%-9s n=%-8d p50=%7.1f ms  p99=%7.1f ms  max=%7.1f ms%n", label, sorted.length,
+                    millis(sorted, 0.50), millis(sorted, 0.99), sorted[sorted.length - 1] / 1e6);
+        }
+
+        private static double millis(long[] sorted, double quantile) {
+            int index = Math.min(sorted.length - 1, (int) Math.ceil(quantile * sorted.length) - 1);
+            return sorted[Math.max(0, index)] / 1e6;
+        }
+    }
+}
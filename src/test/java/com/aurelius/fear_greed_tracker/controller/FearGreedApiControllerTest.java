@@ -0,0 +1,310 @@
+package com.aurelius.fear_greed_tracker.controller;
+
+import com.aurelius.fear_greed_tracker.model.FearGreedIndex;
+import com.aurelius.fear_greed_tracker.model.Sentiment;
+import com.aurelius.fear_greed_tracker.service.FearGreedService;
+import com.aurelius.fear_greed_tracker.service.RollupService;
+import com.aurelius.fear_greed_tracker.store.DatasetVersion;
+import com.aurelius.fear_greed_tracker.store.FearGreedSeries;
+import com.aurelius.fear_greed_tracker.store.Resolution;
+import com.aurelius.fear_greed_tracker.store.RollupBucket;
+import com.aurelius.fear_greed_tracker.store.RollupSeries;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.hamcrest.Matchers.hasItem;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(FearGreedApiController.class)
+@Import(HttpCacheSupport.class)
+class FearGreedApiControllerTest {
+
+    private static final int JAN_1_2024 = (int) LocalDate.of(2024, 1, 1).toEpochDay();
+    private static final Instant LAST_MODIFIED = Instant.parse("2024-01-02T01:00:05Z");
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private FearGreedService fearGreedService;
+
+    @MockBean
+    private RollupService rollupService;
+
+    @BeforeEach
+    void setUp() {
+        FearGreedSeries series = FearGreedSeries.of(
+                new int[]{JAN_1_2024, JAN_1_2024 + 1},
+                new short[]{22, 47},
+                new byte[]{Sentiment.EXTREME_FEAR.getCode(), Sentiment.NEUTRAL.getCode()});
+        when(fearGreedService.getLastNDaysFearGreedIndex(2)).thenReturn(series);
+        when(fearGreedService.getLastNDaysFearGreedIndexEntities(2)).thenReturn(List.of(
+                stored(7L, LocalDate.of(2024, 1, 1), 22, "extreme fear"),
+                stored(8L, LocalDate.of(2024, 1, 2), 47, "Neutral (revised)")));
+        when(fearGreedService.getDatasetVersion()).thenReturn(new DatasetVersion(LAST_MODIFIED, 2, 12345));
+        when(fearGreedService.getTimeUntilNextScheduledFetch()).thenReturn(Duration.ofMinutes(90));
+    }
+
+    @Test
+    void historyDefaultsToStoredEntities() throws Exception {
+        mockMvc.perform(get("/api/fear-greed/history").param("days", "2"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$[0].id").value(7))
+                .andExpect(jsonPath("$[0].recordDate").value("2024-01-01"))
+                .andExpect(jsonPath("$[0].fgiValue").value(22))
+                .andExpect(jsonPath("$[0].timestamp").exists())
+                .andExpect(jsonPath("$[0].createdAt").exists())
+                .andExpect(jsonPath("$[0].updatedAt").exists())
+                // CNN's label as stored, not normalized through Sentiment.
+                .andExpect(jsonPath("$[1].sentiment").value("Neutral (revised)"));
+        verify(fearGreedService, never()).getLastNDaysFearGreedIndex(anyInt());
+    }
+
+    @Test
+    void historyServesTrimmedRowsWhenRequested() throws Exception {
+        mockMvc.perform(get("/api/fear-greed/history").param("days", "2").accept(HistoryFormat.ROWS_JSON))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(HistoryFormat.ROWS_JSON))
+                .andExpect(content().json("[{\"recordDate\":\"2024-01-01\",\"fgiValue\":22,\"sentiment\":\"extreme fear\"},"
+                        + "{\"recordDate\":\"2024-01-02\",\"fgiValue\":47,\"sentiment\":\"neutral\"}]", true));
+        verify(fearGreedService, never()).getLastNDaysFearGreedIndexEntities(anyInt());
+    }
+
+    @Test
+    void historyServesColumnarFormatWhenRequested() throws Exception {
+        mockMvc.perform(get("/api/fear-greed/history").param("days", "2")
+                        .accept(FearGreedSeriesColumnarConverter.COLUMNAR_JSON))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(FearGreedSeriesColumnarConverter.COLUMNAR_JSON))
+                .andExpect(content().json("{\"dates\":[" + JAN_1_2024 + "," + (JAN_1_2024 + 1) + "],"
+                        + "\"values\":[22,47],\"sentiment\":[1,3]}", true));
+    }
+
+    @Test
+    void historyCarriesValidatorsAndCacheControl() throws Exception {
+        mockMvc.perform(get("/api/fear-greed/history").param("days", "2"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andExpect(header().dateValue(HttpHeaders.LAST_MODIFIED, LAST_MODIFIED.toEpochMilli()))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=5400, public"))
+                .andExpect(header().stringValues(HttpHeaders.VARY, hasItem(HttpHeaders.ACCEPT)));
+    }
+
+    @Test
+    void matchingETagGets304WithoutQuerying() throws Exception {
+        String eTag = mockMvc.perform(get("/api/fear-greed/history").param("days", "2"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        clearInvocations(fearGreedService);
+
+        mockMvc.perform(get("/api/fear-greed/history").param("days", "2").header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+        verify(fearGreedService, never()).getLastNDaysFearGreedIndexEntities(anyInt());
+    }
+
+    @Test
+    void formatsHaveDistinctETags() throws Exception {
+        String jsonTag = mockMvc.perform(get("/api/fear-greed/history").param("days", "2"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/api/fear-greed/history").param("days", "2")
+                        .accept(FearGreedSeriesColumnarConverter.COLUMNAR_JSON)
+                        .header(HttpHeaders.IF_NONE_MATCH, jsonTag))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/fear-greed/history").param("days", "2")
+                        .accept(HistoryFormat.ROWS_JSON)
+                        .header(HttpHeaders.IF_NONE_MATCH, jsonTag))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void historyByMonthKeepsTheEntityFieldsForPlainJson() throws Exception {
+        when(fearGreedService.getFearGreedIndexEntitiesByMonthAndYear(2024, 1)).thenReturn(List.of(
+                stored(7L, LocalDate.of(2024, 1, 1), 22, "extreme fear")));
+
+        mockMvc.perform(get("/api/fear-greed/history-by-month").param("year", "2024").param("month", "1")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$[0].id").value(7))
+                .andExpect(jsonPath("$[0].recordDate").value("2024-01-01"))
+                .andExpect(jsonPath("$[0].fgiValue").value(22))
+                .andExpect(jsonPath("$[0].sentiment").value("extreme fear"))
+                .andExpect(jsonPath("$[0].timestamp").exists())
+                .andExpect(jsonPath("$[0].createdAt").exists())
+                .andExpect(jsonPath("$[0].updatedAt").exists());
+        verify(fearGreedService, never()).getFearGreedIndexByMonthAndYear(anyInt(), anyInt());
+    }
+
+    @Test
+    void historyByMonthServesStoreFormatsOnRequest() throws Exception {
+        when(fearGreedService.getFearGreedIndexByMonthAndYear(2024, 1)).thenReturn(FearGreedSeries.of(
+                new int[]{JAN_1_2024}, new short[]{22}, new byte[]{Sentiment.EXTREME_FEAR.getCode()}));
+
+        mockMvc.perform(get("/api/fear-greed/history-by-month").param("year", "2024").param("month", "1")
+                        .accept(HistoryFormat.ROWS_JSON))
+                .andExpect(status().isOk())
+                .andExpect(content().json("[{\"recordDate\":\"2024-01-01\",\"fgiValue\":22,\"sentiment\":\"extreme fear\"}]", true));
+        mockMvc.perform(get("/api/fear-greed/history-by-month").param("year", "2024").param("month", "1")
+                        .accept(FearGreedSeriesColumnarConverter.COLUMNAR_JSON))
+                .andExpect(status().isOk())
+                .andExpect(content().json("{\"dates\":[" + JAN_1_2024 + "],\"values\":[22],\"sentiment\":[1]}", true));
+        verify(fearGreedService, never()).getFearGreedIndexEntitiesByMonthAndYear(anyInt(), anyInt());
+    }
+
+    @Test
+    void historyWithResolutionServesRollups() throws Exception {
+        LocalDate jan1 = LocalDate.of(2024, 1, 1);
+        when(rollupService.getHistory(jan1, LocalDate.of(2024, 12, 31), Resolution.MONTH, false, 300))
+                .thenReturn(new RollupSeries("month", List.of(new RollupBucket(jan1, LocalDate.of(2024, 1, 31),
+                        40, 60, 35, 70, 52.5, 21, Map.of("neutral", 21)))));
+
+        mockMvc.perform(get("/api/fear-greed/history")
+                        .param("from", "2024-01-01").param("to", "2024-12-31").param("resolution", "month"))
+                .andExpect(status().isOk())
+                .andExpect(content().json("{\"resolution\":\"month\",\"points\":[{\"start\":\"2024-01-01\",\"end\":\"2024-01-31\","
+                        + "\"open\":40,\"close\":60,\"min\":35,\"max\":70,\"avg\":52.5,\"count\":21,\"sentiments\":{\"neutral\":21}}]}", true));
+        verify(fearGreedService, never()).getLastNDaysFearGreedIndex(anyInt());
+    }
+
+    @Test
+    void historyWithResolutionRejectsInvalidParameters() throws Exception {
+        mockMvc.perform(get("/api/fear-greed/history").param("resolution", "hour"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/fear-greed/history").param("resolution", "week").param("downsample", "lttb"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/fear-greed/history").param("resolution", "auto").param("points", "2"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/fear-greed/history").param("resolution", "auto").param("downsample", "lttb"))
+                .andExpect(status().isOk());
+        verify(rollupService).getHistory(LocalDate.now().minusYears(5), LocalDate.now(), null, true, 300);
+    }
+
+    @Test
+    void historyByMonthRejectsInvalidMonth() throws Exception {
+        mockMvc.perform(get("/api/fear-greed/history-by-month").param("year", "2024").param("month", "13"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/fear-greed/history-by-month").param("year", "2024").param("month", "0"))
+                .andExpect(status().isBadRequest());
+        verify(fearGreedService, never()).getFearGreedIndexByMonthAndYear(anyInt(), anyInt());
+    }
+
+    @Test
+    void outOfRangeYearsAreRejected() throws Exception {
+        mockMvc.perform(get("/api/fear-greed/history-by-year").param("year", "1000000000"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/fear-greed/history-by-year").param("year", "0"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/fear-greed/history-by-month").param("year", "10000").param("month", "1"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/fear-greed/history-by-quarter").param("year", "-5").param("quarter", "1"))
+                .andExpect(status().isBadRequest());
+        verify(fearGreedService, never()).getFearGreedIndexByYear(anyInt());
+        verify(fearGreedService, never()).getFearGreedIndexEntitiesByMonthAndYear(anyInt(), anyInt());
+        verify(fearGreedService, never()).getFearGreedIndexByQuarterAndYear(anyInt(), anyInt());
+    }
+
+    @Test
+    void rangeEndingAtTheLastRepresentableDateIsRejected() throws Exception {
+        mockMvc.perform(get("/api/fear-greed/range").param("from", "2024-01-01").param("to", "+999999999-12-31"))
+                .andExpect(status().isBadRequest());
+        verify(fearGreedService, never()).getFearGreedIndexBetween(any(), any());
+    }
+
+    @Test
+    void todayIsCacheableButMissingTodayIsNot() throws Exception {
+        when(fearGreedService.getOrCreateTodaysFearGreedIndex()).thenReturn(Optional.of(index(LocalDate.now())));
+        mockMvc.perform(get("/api/fear-greed/today"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=5400, public"));
+
+        when(fearGreedService.getOrCreateTodaysFearGreedIndex()).thenReturn(Optional.empty());
+        mockMvc.perform(get("/api/fear-greed/today"))
+                .andExpect(status().isNotFound())
+                .andExpect(header().doesNotExist(HttpHeaders.CACHE_CONTROL));
+    }
+
+    @Test
+    void invalidParametersAreNotCached() throws Exception {
+        mockMvc.perform(get("/api/fear-greed/range").param("from", "2024-02-01").param("to", "2024-01-01"))
+                .andExpect(status().isBadRequest())
+                .andExpect(header().doesNotExist(HttpHeaders.CACHE_CONTROL));
+    }
+
+    @Test
+    void standInIsRevalidatedAndReplacedOnceTodayIsStored() throws Exception {
+        when(fearGreedService.getOrCreateTodaysFearGreedIndex()).thenReturn(Optional.of(index(LocalDate.now().minusDays(1))));
+        String standInTag = mockMvc.perform(get("/api/fear-greed/today"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/api/fear-greed/today").header(HttpHeaders.IF_NONE_MATCH, standInTag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache"));
+
+        // CNN recovered: the on-demand fetch stores today's row, which changes the dataset version.
+        when(fearGreedService.getOrCreateTodaysFearGreedIndex()).thenReturn(Optional.of(index(LocalDate.now())));
+        when(fearGreedService.getDatasetVersion()).thenReturn(new DatasetVersion(LAST_MODIFIED.plusSeconds(86400), 3, 67890));
+        mockMvc.perform(get("/api/fear-greed/today").header(HttpHeaders.IF_NONE_MATCH, standInTag))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=5400, public"));
+        verify(fearGreedService, times(3)).getOrCreateTodaysFearGreedIndex();
+    }
+
+    @Nested
+    @TestPropertySource(properties = {"fgi.intraday.enabled=true", "fgi.intraday.poll-interval=PT5M"})
+    class WithIntradayCapture {
+
+        @Test
+        void maxAgeIsCappedAtThePollInterval() throws Exception {
+            mockMvc.perform(get("/api/fear-greed/history").param("days", "2"))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=300, public"));
+        }
+    }
+
+    private static FearGreedIndex stored(long id, LocalDate day, int value, String sentiment) {
+        OffsetDateTime timestamp = OffsetDateTime.of(day.atTime(20, 0), ZoneOffset.UTC);
+        return new FearGreedIndex(id, day, value, sentiment, timestamp, timestamp.plusHours(5), timestamp.plusHours(6), 1);
+    }
+
+    private static FearGreedIndex index(LocalDate day) {
+        FearGreedIndex fgi = new FearGreedIndex();
+        fgi.setRecordDate(day);
+        fgi.setFgiValue(50);
+        fgi.setSentiment("neutral");
+        fgi.setTimestamp(OffsetDateTime.now());
+        return fgi;
+    }
+}
@@ -0,0 +1,91 @@
+package com.aurelius.fear_greed_tracker.controller;
+
+import com.aurelius.fear_greed_tracker.model.FearGreedIndex;
+import com.aurelius.fear_greed_tracker.service.FearGreedIndexSavedEvent;
+import com.aurelius.fear_greed_tracker.service.FearGreedStreamService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+@WebMvcTest(value = FearGreedStreamController.class, properties = "fgi.stream.queue-capacity=2")
+@Import({FearGreedStreamService.class, FearGreedStreamControllerTest.Metrics.class})
+class FearGreedStreamControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private FearGreedStreamService streamService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @TestConfiguration
+    static class Metrics {
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+
+    @Test
+    void pushesSavedRowsToSubscribers() throws Exception {
+        int subscribersBefore = streamService.getSubscriberCount();
+        long publishedBefore = meterRegistry.get("fgi.stream.publish").timer().count();
+        MvcResult result = mockMvc.perform(get("/api/fear-greed/stream"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        assertThat(streamService.getSubscriberCount()).isEqualTo(subscribersBefore + 1);
+
+        streamService.onSaved(FearGreedIndexSavedEvent.single(row(LocalDate.of(2024, 6, 3), 44, 1)));
+        streamService.onSaved(FearGreedIndexSavedEvent.bulkWrite());
+
+        String body = awaitBody(result.getResponse(), "\"fgiValue\":44");
+        assertThat(body).contains("id:2024-06-03.1\n", "event:index\n", "data:{");
+        assertThat(body).doesNotContain("bulk");
+        assertThat(meterRegistry.get("fgi.stream.publish").timer().count()).isEqualTo(publishedBefore + 1);
+    }
+
+    @Test
+    void sendsLatestUpdateOnSubscribe() throws Exception {
+        streamService.onSaved(FearGreedIndexSavedEvent.single(row(LocalDate.of(2024, 6, 4), 51, 0)));
+
+        MvcResult result = mockMvc.perform(get("/api/fear-greed/stream"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        assertThat(awaitBody(result.getResponse(), "\"fgiValue\":51")).contains("id:2024-06-04.0\n");
+    }
+
+    private static FearGreedIndex row(LocalDate day, int value, int revision) {
+        return new FearGreedIndex(null, day, value, "neutral",
+                OffsetDateTime.of(day.atTime(20, 0), ZoneOffset.UTC), null, null, revision);
+    }
+
+    private static String awaitBody(MockHttpServletResponse response, String expected) throws Exception {
+        long deadline = System.nanoTime() + 5_000_000_000L;
+        String body = response.getContentAsString();
+        while (!body.contains(expected) && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+            body = response.getContentAsString();
+        }
+        assertThat(body).contains(expected);
+        return body;
+    }
+}
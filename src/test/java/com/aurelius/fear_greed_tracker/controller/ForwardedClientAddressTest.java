@@ -0,0 +1,63 @@
+package com.aurelius.fear_greed_tracker.controller;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the rate limit on a real Tomcat with the behind-proxy profile and checks that X-Forwarded-For
+ * only selects the client's bucket when the peer is one of the trusted proxies.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "fgi.rate-limit.enabled=true",
+        "fgi.rate-limit.tiers.anonymous.capacity=3",
+        "fgi.rate-limit.tiers.anonymous.refill-per-second=0.01",
+        // The test client connects over loopback, which this does not match.
+        "FGI_TRUSTED_PROXIES=10.1.2.3",
+        "cnn.feargreed.api.url=http://127.0.0.1:1"})
+@ActiveProfiles({"test", "behind-proxy"})
+class ForwardedClientAddressTest {
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Test
+    void spoofedForwardedForFromAnUntrustedPeerDoesNotChangeTheBucket() {
+        assertThat(statusesWithDistinctForwardedFor("/api/fear-greed/history-by-year?year=2024", 5))
+                .containsExactly(200, 200, 200, 429, 429);
+    }
+
+    @Nested
+    @TestPropertySource(properties = "FGI_TRUSTED_PROXIES=.*")
+    class FromATrustedProxy {
+
+        @Test
+        void forwardedForSelectsTheClientsBucket() {
+            assertThat(statusesWithDistinctForwardedFor("/api/fear-greed/history-by-year?year=2023", 5))
+                    .containsOnly(200);
+        }
+    }
+
+    private List<Integer> statusesWithDistinctForwardedFor(String uri, int requests) {
+        List<Integer> statuses = new ArrayList<>(requests);
+        for (int i = 0; i < requests; i++) {
+            HttpHeaders headers = new HttpHeaders();
+            headers.set("X-Forwarded-For", "198.51.100." + (i + 1));
+            statuses.add(restTemplate.exchange(uri, HttpMethod.GET, new HttpEntity<>(headers), String.class)
+                    .getStatusCode().value());
+        }
+        return statuses;
+    }
+}
@@ -0,0 +1,81 @@
+package com.aurelius.fear_greed_tracker.controller;
+
+import com.aurelius.fear_greed_tracker.model.Indicator;
+import com.aurelius.fear_greed_tracker.service.FearGreedService;
+import com.aurelius.fear_greed_tracker.service.IndicatorService;
+import com.aurelius.fear_greed_tracker.store.DatasetVersion;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(IndicatorApiController.class)
+@Import(HttpCacheSupport.class)
+class IndicatorApiControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private IndicatorService indicatorService;
+
+    @MockBean
+    private FearGreedService fearGreedService;
+
+    @BeforeEach
+    void setUp() {
+        when(fearGreedService.getDatasetVersion()).thenReturn(new DatasetVersion(Instant.parse("2024-01-02T01:00:05Z"), 2, 12345));
+        when(fearGreedService.getTimeUntilNextScheduledFetch()).thenReturn(Duration.ofMinutes(90));
+    }
+
+    @Test
+    void selectsIndicatorsInRequestOrder() throws Exception {
+        mockMvc.perform(get("/api/fear-greed/indicators")
+                        .param("names", "junk_bond_demand,put_call_options,junk_bond_demand")
+                        .param("from", "2024-01-01").param("to", "2024-03-31"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG));
+
+        verify(indicatorService).getIndicatorsBetween(List.of(Indicator.JUNK_BOND_DEMAND, Indicator.PUT_CALL_OPTIONS),
+                LocalDate.of(2024, 1, 1), LocalDate.of(2024, 3, 31));
+    }
+
+    @Test
+    void singleIndicatorDefaultsToTheLastYear() throws Exception {
+        mockMvc.perform(get("/api/fear-greed/indicators/safe_haven_demand"))
+                .andExpect(status().isOk());
+
+        LocalDate today = LocalDate.now();
+        verify(indicatorService).getIndicatorsBetween(List.of(Indicator.SAFE_HAVEN_DEMAND), today.minusDays(364), today);
+    }
+
+    @Test
+    void rejectsUnknownNamesAndInvertedRanges() throws Exception {
+        mockMvc.perform(get("/api/fear-greed/indicators/vix"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/fear-greed/indicators").param("names", "put_call_options,vix"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/fear-greed/indicators")
+                        .param("from", "2024-02-01").param("to", "2024-01-01"))
+                .andExpect(status().isBadRequest());
+
+        verify(indicatorService, never()).getIndicatorsBetween(any(), any(), any());
+    }
+}
@@ -0,0 +1,116 @@
+package com.aurelius.fear_greed_tracker.controller;
+
+import com.aurelius.fear_greed_tracker.service.FearGreedService;
+import com.aurelius.fear_greed_tracker.service.IngestResult;
+import com.aurelius.fear_greed_tracker.service.JobService;
+import com.aurelius.fear_greed_tracker.service.RetentionService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static org.hamcrest.Matchers.startsWith;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Drives the job endpoints with a backfill that blocks until released, so the test can observe
+ * a running job, its progress, de-duplication and the final state.
+ */
+@WebMvcTest(JobApiController.class)
+@Import(JobService.class)
+class JobApiControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private FearGreedService fearGreedService;
+
+    @MockBean
+    private RetentionService retentionService;
+
+    @Test
+    void backfillRunsAsOneDeduplicatedJobWithProgress() throws Exception {
+        CountDownLatch firstBatchWritten = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(fearGreedService.fetchAndSaveHistoricalFearGreedIndex(any())).thenAnswer(invocation -> {
+            Consumer<IngestResult> progress = invocation.getArgument(0);
+            progress.accept(new IngestResult(400, 100, 0, 0));
+            firstBatchWritten.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return new IngestResult(900, 100, 2, 7000);
+        });
+
+        MvcResult submitted = mockMvc.perform(get("/api/fear-greed/fetch-history-now"))
+                .andExpect(status().isAccepted())
+                .andExpect(header().string("Location", startsWith("/api/fear-greed/jobs/")))
+                .andExpect(jsonPath("$.operation").value("BACKFILL"))
+                .andReturn();
+        String location = submitted.getResponse().getHeader("Location");
+        String id = location.substring(location.lastIndexOf('/') + 1);
+        firstBatchWritten.await(5, TimeUnit.SECONDS);
+
+        mockMvc.perform(get("/api/fear-greed/fetch-history-now"))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.id").value(id));
+        mockMvc.perform(get(location))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.state").value("RUNNING"))
+                .andExpect(jsonPath("$.pointsParsed").value(500))
+                .andExpect(jsonPath("$.inserted").value(400));
+
+        release.countDown();
+        awaitFinished(location);
+        mockMvc.perform(get(location))
+                .andExpect(jsonPath("$.state").value("SUCCEEDED"))
+                .andExpect(jsonPath("$.pointsParsed").value(1002))
+                .andExpect(jsonPath("$.indicatorValues").value(7000))
+                .andExpect(jsonPath("$.durationMillis").isNumber());
+        verify(fearGreedService, times(1)).fetchAndSaveHistoricalFearGreedIndex(any());
+    }
+
+    @Test
+    void failedCleanupReportsTheError() throws Exception {
+        when(retentionService.pruneOldFearGreedIndexData()).thenThrow(new IllegalStateException("database unavailable"));
+
+        String location = mockMvc.perform(get("/api/fear-greed/cleanup-old-data"))
+                .andExpect(status().isAccepted())
+                .andReturn().getResponse().getHeader("Location");
+
+        awaitFinished(location);
+        mockMvc.perform(get(location))
+                .andExpect(jsonPath("$.state").value("FAILED"))
+                .andExpect(jsonPath("$.error").value("database unavailable"));
+    }
+
+    @Test
+    void unknownJobIsNotFound() throws Exception {
+        mockMvc.perform(get("/api/fear-greed/jobs/no-such-job")).andExpect(status().isNotFound());
+    }
+
+    private void awaitFinished(String location) throws Exception {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (System.nanoTime() < deadline) {
+            String body = mockMvc.perform(get(location)).andReturn().getResponse().getContentAsString();
+            if (body.contains("\"finished\":true")) {
+                return;
+            }
+            Thread.sleep(10);
+        }
+        throw new AssertionError("Job did not finish: " + location);
+    }
+}
@@ -0,0 +1,98 @@
+package com.aurelius.fear_greed_tracker.controller;
+
+import com.aurelius.fear_greed_tracker.config.RateLimitProperties;
+import com.aurelius.fear_greed_tracker.service.TokenBucketRateLimiter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RateLimitFilterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicInteger handled = new AtomicInteger();
+    private final FilterChain chain = (request, response) -> handled.incrementAndGet();
+
+    @Test
+    void throttledClientGets429WithRetryAfter() throws Exception {
+        RateLimitFilter filter = filter(properties());
+
+        assertThat(call(filter, "203.0.113.7", null).getStatus()).isEqualTo(200);
+        assertThat(call(filter, "203.0.113.7", null).getStatus()).isEqualTo(200);
+        MockHttpServletResponse throttled = call(filter, "203.0.113.7", null);
+
+        assertThat(throttled.getStatus()).isEqualTo(429);
+        // Two tokens burst, then one every 10 seconds.
+        assertThat(throttled.getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("10");
+        assertThat(handled).hasValue(2);
+        assertThat(meterRegistry.get("fgi.ratelimit.throttled").tag("tier", "anonymous").counter().count()).isEqualTo(1.0);
+
+        // Other addresses have their own bucket.
+        assertThat(call(filter, "203.0.113.8", null).getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    void apiKeysUseTheirTierAndUnknownKeysCountAsAnonymous() throws Exception {
+        RateLimitFilter filter = filter(properties());
+
+        for (int i = 0; i < 10; i++) {
+            assertThat(call(filter, "203.0.113.7", "partner-key").getStatus()).isEqualTo(200);
+        }
+        call(filter, "203.0.113.7", "guessed-key");
+        call(filter, "203.0.113.7", "guessed-key");
+        assertThat(call(filter, "203.0.113.7", "guessed-key").getStatus()).isEqualTo(429);
+        assertThat(call(filter, "203.0.113.7", null).getStatus()).isEqualTo(429);
+        assertThat(meterRegistry.find("fgi.ratelimit.throttled").tag("tier", "partner").counter().count()).isZero();
+    }
+
+    @Test
+    void corsPreflightsAreNotCounted() throws Exception {
+        RateLimitFilter filter = filter(properties());
+        for (int i = 0; i < 5; i++) {
+            MockHttpServletRequest preflight = new MockHttpServletRequest("OPTIONS", "/api/fear-greed/today");
+            preflight.setRemoteAddr("203.0.113.7");
+            filter.doFilter(preflight, new MockHttpServletResponse(), chain);
+        }
+        assertThat(call(filter, "203.0.113.7", null).getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    void apiKeyWithAnUndefinedTierIsRejectedAtStartup() {
+        RateLimitProperties properties = properties();
+        properties.getApiKeys().put("other-key", "gold");
+
+        assertThatThrownBy(() -> filter(properties))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("gold");
+    }
+
+    private MockHttpServletResponse call(RateLimitFilter filter, String remoteAddr, String apiKey) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/fear-greed/today");
+        request.setRemoteAddr(remoteAddr);
+        if (apiKey != null) {
+            request.addHeader("X-API-Key", apiKey);
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, chain);
+        return response;
+    }
+
+    private RateLimitFilter filter(RateLimitProperties properties) {
+        return new RateLimitFilter(properties, new TokenBucketRateLimiter(4, 100), meterRegistry);
+    }
+
+    private static RateLimitProperties properties() {
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.getTiers().put("anonymous", new RateLimitProperties.Tier(2, 0.1));
+        properties.getTiers().put("partner", new RateLimitProperties.Tier(100, 50));
+        properties.getApiKeys().put("partner-key", "partner");
+        return properties;
+    }
+}
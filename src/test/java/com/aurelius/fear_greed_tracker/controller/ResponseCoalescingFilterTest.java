@@ -0,0 +1,116 @@
+package com.aurelius.fear_greed_tracker.controller;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ResponseCoalescingFilterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ResponseCoalescingFilter filter = new ResponseCoalescingFilter(meterRegistry);
+    private final AtomicInteger handled = new AtomicInteger();
+
+    @Test
+    void concurrentIdenticalRequestsShareOneHandlerCall() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        FilterChain chain = (request, response) -> {
+            handled.incrementAndGet();
+            await(release);
+            HttpServletResponse http = (HttpServletResponse) response;
+            http.setHeader(HttpHeaders.ETAG, "\"v1-json\"");
+            http.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+            http.setHeader("X-Request-Id", "first");
+            http.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            http.getOutputStream().write("{\"rows\":[42]}".getBytes(StandardCharsets.UTF_8));
+        };
+        int callers = 16;
+        ExecutorService pool = Executors.newFixedThreadPool(callers);
+        try {
+            List<Future<MockHttpServletResponse>> results = new ArrayList<>();
+            for (int i = 0; i < callers; i++) {
+                results.add(pool.submit(() -> call("days=30", chain)));
+            }
+            // Let every other request join the one in flight before it completes.
+            while (filter.getCoalescedCount() < callers - 1) {
+                Thread.sleep(5);
+            }
+            release.countDown();
+            int withRequestId = 0;
+            for (Future<MockHttpServletResponse> result : results) {
+                MockHttpServletResponse response = result.get(5, TimeUnit.SECONDS);
+                assertThat(response.getStatus()).isEqualTo(200);
+                assertThat(response.getContentAsString()).isEqualTo("{\"rows\":[42]}");
+                assertThat(response.getContentType()).isEqualTo(MediaType.APPLICATION_JSON_VALUE);
+                assertThat(response.getHeader(HttpHeaders.ETAG)).isEqualTo("\"v1-json\"");
+                assertThat(response.getHeaders(HttpHeaders.VARY)).containsExactly(HttpHeaders.ACCEPT);
+                withRequestId += response.containsHeader("X-Request-Id") ? 1 : 0;
+            }
+            // Headers that do not describe the representation stay with the request that set them.
+            assertThat(withRequestId).isEqualTo(1);
+        } finally {
+            pool.shutdownNow();
+        }
+        assertThat(handled).hasValue(1);
+        assertThat(meterRegistry.get("fgi.http.coalesced").functionCounter().count()).isEqualTo(callers - 1);
+    }
+
+    @Test
+    void differentQueriesAndCompletedRequestsAreHandledSeparately() throws Exception {
+        FilterChain chain = (request, response) -> {
+            handled.incrementAndGet();
+            response.getWriter().write(((MockHttpServletRequest) request).getQueryString());
+        };
+
+        assertThat(call("days=7", chain).getContentAsString()).isEqualTo("days=7");
+        assertThat(call("days=7", chain).getContentAsString()).isEqualTo("days=7");
+        assertThat(call("days=30", chain).getContentAsString()).isEqualTo("days=30");
+
+        assertThat(handled).hasValue(3);
+        assertThat(filter.getCoalescedCount()).isZero();
+    }
+
+    @Test
+    void errorsSentByTheHandlerAreNotShared() throws Exception {
+        FilterChain chain = (request, response) -> {
+            handled.incrementAndGet();
+            ((HttpServletResponse) response).sendError(400);
+        };
+
+        assertThat(call("year=2024&month=13", chain).getStatus()).isEqualTo(400);
+        assertThat(handled).hasValue(1);
+    }
+
+    private MockHttpServletResponse call(String query, FilterChain chain) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/fear-greed/history");
+        request.setQueryString(query);
+        request.addHeader(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, chain);
+        return response;
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
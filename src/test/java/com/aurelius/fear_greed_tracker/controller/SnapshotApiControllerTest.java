@@ -0,0 +1,72 @@
+package com.aurelius.fear_greed_tracker.controller;
+
+import com.aurelius.fear_greed_tracker.config.RateLimitProperties;
+import com.aurelius.fear_greed_tracker.service.IngestResult;
+import com.aurelius.fear_greed_tracker.service.SnapshotService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.InputStream;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(value = SnapshotApiController.class, properties = {
+        "fgi.rate-limit.api-keys.ops-key=admin",
+        "fgi.rate-limit.api-keys.partner-key=partner"})
+@Import(SnapshotApiControllerTest.Properties.class)
+class SnapshotApiControllerTest {
+
+    private static final byte[] SNAPSHOT = {1, 2, 3};
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private SnapshotService snapshotService;
+
+    @TestConfiguration
+    @EnableConfigurationProperties(RateLimitProperties.class)
+    static class Properties {
+    }
+
+    @Test
+    void importWithoutAnApiKeyIsUnauthorized() throws Exception {
+        mockMvc.perform(post("/api/fear-greed/import").contentType(SnapshotApiController.SNAPSHOT_VALUE).content(SNAPSHOT))
+                .andExpect(status().isUnauthorized());
+        verify(snapshotService, never()).importSnapshot(any());
+    }
+
+    @Test
+    void importWithANonAdminKeyIsForbidden() throws Exception {
+        for (String key : new String[]{"partner-key", "guessed-key"}) {
+            mockMvc.perform(post("/api/fear-greed/import").header("X-API-Key", key)
+                            .contentType(SnapshotApiController.SNAPSHOT_VALUE).content(SNAPSHOT))
+                    .andExpect(status().isForbidden());
+        }
+        verify(snapshotService, never()).importSnapshot(any());
+    }
+
+    @Test
+    void importWithAnAdminKeyLoadsTheSnapshot() throws Exception {
+        IngestResult result = new IngestResult();
+        result.setInserted(3);
+        when(snapshotService.importSnapshot(any(InputStream.class))).thenReturn(result);
+
+        mockMvc.perform(post("/api/fear-greed/import").header("X-API-Key", "ops-key")
+                        .contentType(SnapshotApiController.SNAPSHOT_VALUE).content(SNAPSHOT))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.inserted").value(3));
+    }
+}
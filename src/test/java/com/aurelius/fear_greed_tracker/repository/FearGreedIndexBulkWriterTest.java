@@ -0,0 +1,100 @@
+package com.aurelius.fear_greed_tracker.repository;
+
+import com.aurelius.fear_greed_tracker.AbstractPostgresIntegrationTest;
+import com.aurelius.fear_greed_tracker.api.dto.FearGreedData;
+import com.aurelius.fear_greed_tracker.model.FearGreedIndex;
+import com.aurelius.fear_greed_tracker.service.FearGreedService;
+import com.aurelius.fear_greed_tracker.service.IngestResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the set-based historical backfill against PostgreSQL: multi-row ON CONFLICT inserts across
+ * several chunks, and the skip / first-wins / invalid accounting of FearGreedService.ingestHistoricalPoints.
+ */
+class FearGreedIndexBulkWriterTest extends AbstractPostgresIntegrationTest {
+
+    private static final LocalDate FIRST_DAY = LocalDate.of(2020, 1, 1);
+
+    @Autowired
+    private FearGreedIndexBulkWriter bulkWriter;
+
+    @Autowired
+    private FearGreedIndexRepository repository;
+
+    @Autowired
+    private FearGreedService fearGreedService;
+
+    @BeforeEach
+    void clean() {
+        repository.deleteAllInBatch();
+    }
+
+    @Test
+    void insertsAcrossChunksAndIgnoresExistingDates() {
+        int days = FearGreedIndexBulkWriter.CHUNK_SIZE * 2 + 17;
+        List<FearGreedIndex> rows = new ArrayList<>(days);
+        for (int i = 0; i < days; i++) {
+            rows.add(row(FIRST_DAY.plusDays(i), 50));
+        }
+
+        assertThat(bulkWriter.insertIgnoringConflicts(rows)).isEqualTo(days);
+        assertThat(repository.count()).isEqualTo(days);
+
+        // A second run conflicts on every date and must not touch the stored values.
+        List<FearGreedIndex> repeated = new ArrayList<>(days);
+        for (int i = 0; i < days; i++) {
+            repeated.add(row(FIRST_DAY.plusDays(i), 10));
+        }
+        assertThat(bulkWriter.insertIgnoringConflicts(repeated)).isZero();
+        assertThat(repository.findByRecordDate(FIRST_DAY).orElseThrow().getFgiValue()).isEqualTo(50);
+        assertThat(repository.findByRecordDate(FIRST_DAY).orElseThrow().getRevision()).isZero();
+    }
+
+    @Test
+    void ingestCountsInsertedSkippedAndInvalidPoints() {
+        bulkWriter.insertIgnoringConflicts(List.of(row(FIRST_DAY.plusDays(1), 70)));
+
+        List<FearGreedData> points = List.of(
+                point(FIRST_DAY, 20.4, "extreme fear"),
+                point(FIRST_DAY, 90.0, "extreme greed"),          // same day again: first wins
+                point(FIRST_DAY.plusDays(1), 30.0, "fear"),       // already stored
+                point(FIRST_DAY.plusDays(2), 55.9, "neutral"),
+                point(FIRST_DAY.plusDays(3), 40.0, null));        // no rating: invalid
+
+        IngestResult result = fearGreedService.ingestHistoricalPoints(points);
+
+        assertThat(result.getInserted()).isEqualTo(2);
+        assertThat(result.getSkipped()).isEqualTo(2);
+        assertThat(result.getInvalid()).isEqualTo(1);
+        assertThat(repository.findByRecordDate(FIRST_DAY).orElseThrow().getFgiValue()).isEqualTo(20);
+        assertThat(repository.findByRecordDate(FIRST_DAY.plusDays(1)).orElseThrow().getFgiValue()).isEqualTo(70);
+        assertThat(repository.findByRecordDate(FIRST_DAY.plusDays(2)).orElseThrow().getFgiValue()).isEqualTo(55);
+    }
+
+    private static FearGreedIndex row(LocalDate day, int value) {
+        FearGreedIndex fgi = new FearGreedIndex();
+        fgi.setRecordDate(day);
+        fgi.setFgiValue(value);
+        fgi.setSentiment("neutral");
+        fgi.setTimestamp(OffsetDateTime.of(day.atStartOfDay(), ZoneOffset.UTC));
+        return fgi;
+    }
+
+    private static FearGreedData point(LocalDate day, double score, String rating) {
+        FearGreedData data = new FearGreedData();
+        data.setX(day.atStartOfDay(ZoneOffset.UTC).toInstant().toEpochMilli());
+        data.setY(score);
+        data.setRating(rating);
+        return data;
+    }
+}
@@ -0,0 +1,53 @@
+package com.aurelius.fear_greed_tracker.repository;
+
+import com.aurelius.fear_greed_tracker.AbstractPostgresIntegrationTest;
+import com.aurelius.fear_greed_tracker.model.FearGreedIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the generate_series anti-join against PostgreSQL.
+ */
+class FearGreedIndexGapFinderTest extends AbstractPostgresIntegrationTest {
+
+    @Autowired
+    private FearGreedIndexGapFinder gapFinder;
+
+    @Autowired
+    private FearGreedIndexRepository repository;
+
+    @BeforeEach
+    void clean() {
+        repository.deleteAllInBatch();
+    }
+
+    @Test
+    void reportsMissingWeekdaysFromTheOldestStoredDay() {
+        // Mon 4, Tue 5 and Fri 8 March 2024 are stored; Wed 6, Thu 7 and Mon 11 are not.
+        repository.saveAll(List.of(row(LocalDate.of(2024, 3, 4)), row(LocalDate.of(2024, 3, 5)),
+                row(LocalDate.of(2024, 3, 8))));
+
+        assertThat(gapFinder.findMissingWeekdays(LocalDate.of(2024, 2, 1), LocalDate.of(2024, 3, 11)))
+                .containsExactly(LocalDate.of(2024, 3, 6), LocalDate.of(2024, 3, 7), LocalDate.of(2024, 3, 11));
+        assertThat(gapFinder.findMissingWeekdays(LocalDate.of(2024, 3, 7), LocalDate.of(2024, 3, 10)))
+                .containsExactly(LocalDate.of(2024, 3, 7));
+    }
+
+    @Test
+    void emptyTableHasNoGaps() {
+        assertThat(gapFinder.findMissingWeekdays(LocalDate.of(2024, 3, 1), LocalDate.of(2024, 3, 31))).isEmpty();
+    }
+
+    private static FearGreedIndex row(LocalDate day) {
+        OffsetDateTime timestamp = OffsetDateTime.of(day.atStartOfDay(), ZoneOffset.UTC);
+        return new FearGreedIndex(null, day, 50, "neutral", timestamp, null, null, 0);
+    }
+}
@@ -0,0 +1,179 @@
+package com.aurelius.fear_greed_tracker.repository;
+
+import com.aurelius.fear_greed_tracker.AbstractPostgresIntegrationTest;
+import com.aurelius.fear_greed_tracker.model.FearGreedIndex;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifies with EXPLAIN that date lookups are answered from the record_date indexes.
+ * The plans are taken for the SQL Hibernate actually generates for the repository methods,
+ * captured with a StatementInspector, so a change to a query or mapping that loses the index fails here.
+ * Sequential scans are disabled for the session so the planner reports whether an index
+ * is usable at all, independent of table size.
+ */
+class FearGreedIndexRepositoryExplainTest extends AbstractPostgresIntegrationTest {
+
+    private static final LocalDate FIRST_DAY = LocalDate.of(2019, 1, 1);
+
+    @Autowired
+    private FearGreedIndexRepository repository;
+
+    @Autowired
+    private FearGreedIndexBulkWriter bulkWriter;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private CapturingStatementInspector statementInspector;
+
+    @BeforeEach
+    void seed() {
+        repository.deleteAllInBatch();
+        List<FearGreedIndex> rows = new ArrayList<>();
+        for (int i = 0; i < 5 * 365; i++) {
+            FearGreedIndex fgi = new FearGreedIndex();
+            fgi.setRecordDate(FIRST_DAY.plusDays(i));
+            fgi.setFgiValue(i % 101);
+            fgi.setSentiment("neutral");
+            fgi.setTimestamp(OffsetDateTime.of(FIRST_DAY.plusDays(i).atStartOfDay(), ZoneOffset.UTC));
+            rows.add(fgi);
+        }
+        bulkWriter.insertIgnoringConflicts(rows);
+        jdbcTemplate.execute("VACUUM ANALYZE fear_greed_index");
+    }
+
+    @Test
+    void monthLookupReturnsItsRange() {
+        assertThat(repository.findByYearAndMonthOrderByRecordDateAsc(2020, 2)).hasSize(29)
+                .first().extracting(FearGreedIndex::getRecordDate).isEqualTo(LocalDate.of(2020, 2, 1));
+    }
+
+    @Test
+    void rangeProjectionIsAnIndexOnlyScan() {
+        String sql = captureSql(() -> repository.findPointsByRecordDateRange(LocalDate.of(2020, 2, 1), LocalDate.of(2020, 3, 1)));
+        String plan = explain(bind(sql, "DATE '2020-02-01'", "DATE '2020-03-01'"));
+        assertThat(plan).contains("Index Only Scan using idx_fear_greed_index_record_date_covering");
+    }
+
+    @Test
+    void rangeEntityQueryUsesAnIndex() {
+        String sql = captureSql(() -> repository.findByYearAndMonthOrderByRecordDateAsc(2020, 2));
+        String plan = explain(bind(sql, "DATE '2020-02-01'", "DATE '2020-03-01'"));
+        assertThat(plan).contains("Index").doesNotContain("Seq Scan");
+    }
+
+    @Test
+    void existingDatesLookupUsesAnIndex() {
+        String sql = captureSql(() -> repository.findRecordDatesBetween(LocalDate.of(2020, 2, 1), LocalDate.of(2020, 2, 29)));
+        String plan = explain(bind(sql, "DATE '2020-02-01'", "DATE '2020-02-29'"));
+        assertThat(plan).contains("Index").doesNotContain("Seq Scan");
+    }
+
+    /**
+     * Negative control: the pre-range lookup wrapped the column in functions, which no plain index can serve.
+     */
+    @Test
+    void functionWrappedPredicateCannotUseTheIndex() {
+        String plan = explain("SELECT * FROM fear_greed_index "
+                + "WHERE EXTRACT(YEAR FROM record_date) = 2020 AND EXTRACT(MONTH FROM record_date) = 2");
+        assertThat(plan).contains("Seq Scan");
+    }
+
+    /**
+     * Runs a repository call and returns the single SQL statement Hibernate sent for it.
+     */
+    private String captureSql(Runnable repositoryCall) {
+        statementInspector.statements.clear();
+        statementInspector.capturing = Thread.currentThread();
+        try {
+            repositoryCall.run();
+        } finally {
+            statementInspector.capturing = null;
+        }
+        assertThat(statementInspector.statements).hasSize(1);
+        return statementInspector.statements.get(0);
+    }
+
+    /**
+     * Replaces the JDBC placeholders of a captured statement with literals, in order, so it can be explained.
+     */
+    private static String bind(String sql, String... literals) {
+        StringBuilder bound = new StringBuilder(sql.length() + 32);
+        int next = 0;
+        for (int i = 0; i < sql.length(); i++) {
+            char c = sql.charAt(i);
+            bound.append(c == '?' ? literals[next++] : String.valueOf(c));
+        }
+        assertThat(next).isEqualTo(literals.length);
+        return bound.toString();
+    }
+
+    private String explain(String sql) {
+        return jdbcTemplate.execute((ConnectionCallback<String>) connection -> {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("SET enable_seqscan = off");
+                StringBuilder plan = new StringBuilder();
+                try (ResultSet resultSet = statement.executeQuery("EXPLAIN " + sql)) {
+                    while (resultSet.next()) {
+                        plan.append(resultSet.getString(1)).append('\n');
+                    }
+                }
+                statement.execute("RESET enable_seqscan");
+                return plan.toString();
+            }
+        });
+    }
+
+    /**
+     * Records the statements Hibernate prepares on the capturing thread, leaving them unchanged.
+     * Statements of background work on other threads (store loads, scheduled jobs) are ignored.
+     */
+    static class CapturingStatementInspector implements StatementInspector {
+
+        final List<String> statements = new CopyOnWriteArrayList<>();
+        volatile Thread capturing;
+
+        @Override
+        public String inspect(String sql) {
+            if (Thread.currentThread() == capturing) {
+                statements.add(sql);
+            }
+            return sql;
+        }
+    }
+
+    @TestConfiguration
+    static class StatementCaptureConfig {
+
+        @Bean
+        CapturingStatementInspector capturingStatementInspector() {
+            return new CapturingStatementInspector();
+        }
+
+        @Bean
+        HibernatePropertiesCustomizer statementInspectorCustomizer(CapturingStatementInspector inspector) {
+            return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, inspector);
+        }
+    }
+}
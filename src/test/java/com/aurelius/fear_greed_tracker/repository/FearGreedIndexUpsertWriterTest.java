@@ -0,0 +1,104 @@
+package com.aurelius.fear_greed_tracker.repository;
+
+import com.aurelius.fear_greed_tracker.AbstractPostgresIntegrationTest;
+import com.aurelius.fear_greed_tracker.model.FearGreedIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the daily upsert against PostgreSQL, including many threads writing the same day at once
+ * (the cron job, /fetch-now and /today racing each other).
+ */
+class FearGreedIndexUpsertWriterTest extends AbstractPostgresIntegrationTest {
+
+    private static final LocalDate DAY = LocalDate.of(2024, 3, 15);
+    private static final OffsetDateTime OPEN = OffsetDateTime.of(DAY.atTime(14, 30), ZoneOffset.UTC);
+
+    @Autowired
+    private FearGreedIndexUpsertWriter upsertWriter;
+
+    @Autowired
+    private FearGreedIndexRepository repository;
+
+    @BeforeEach
+    void clean() {
+        repository.deleteAllInBatch();
+    }
+
+    @Test
+    void insertsRevisesAndIgnoresRepeatsAndOlderReadings() {
+        FearGreedIndexUpsertWriter.UpsertResult first = upsertWriter.upsert(reading(40, OPEN));
+        assertThat(first.outcome()).isEqualTo(FearGreedIndexUpsertWriter.Outcome.INSERTED);
+        assertThat(first.row().getRevision()).isZero();
+
+        assertThat(upsertWriter.upsert(reading(40, OPEN)).outcome()).isEqualTo(FearGreedIndexUpsertWriter.Outcome.UNCHANGED);
+
+        FearGreedIndexUpsertWriter.UpsertResult revised = upsertWriter.upsert(reading(44, OPEN.plusHours(2)));
+        assertThat(revised.outcome()).isEqualTo(FearGreedIndexUpsertWriter.Outcome.UPDATED);
+        assertThat(revised.row().getRevision()).isEqualTo(1);
+        assertThat(revised.row().getUpdatedAt()).isNotNull();
+        assertThat(revised.row().getId()).isEqualTo(first.row().getId());
+
+        FearGreedIndexUpsertWriter.UpsertResult stale = upsertWriter.upsert(reading(41, OPEN.plusHours(1)));
+        assertThat(stale.outcome()).isEqualTo(FearGreedIndexUpsertWriter.Outcome.UNCHANGED);
+        assertThat(stale.row().getFgiValue()).isEqualTo(44);
+    }
+
+    @Test
+    void concurrentWritersNeverViolateTheUniqueDate() throws Exception {
+        int threads = 16;
+        int writesPerThread = 50;
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Map<FearGreedIndexUpsertWriter.Outcome, Integer>>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            futures.add(pool.submit(() -> {
+                Map<FearGreedIndexUpsertWriter.Outcome, Integer> outcomes = new EnumMap<>(FearGreedIndexUpsertWriter.Outcome.class);
+                start.await();
+                for (int i = 0; i < writesPerThread; i++) {
+                    // Readings advance in time, so some writes revise the row and others repeat it.
+                    FearGreedIndexUpsertWriter.UpsertResult result = upsertWriter.upsert(reading(30 + i % 10, OPEN.plusMinutes(i)));
+                    outcomes.merge(result.outcome(), 1, Integer::sum);
+                }
+                return outcomes;
+            }));
+        }
+        start.countDown();
+        Map<FearGreedIndexUpsertWriter.Outcome, Integer> total = new EnumMap<>(FearGreedIndexUpsertWriter.Outcome.class);
+        for (Future<Map<FearGreedIndexUpsertWriter.Outcome, Integer>> future : futures) {
+            future.get().forEach((outcome, count) -> total.merge(outcome, count, Integer::sum));
+        }
+        pool.shutdown();
+
+        assertThat(total.get(FearGreedIndexUpsertWriter.Outcome.INSERTED)).isEqualTo(1);
+        assertThat(total.values().stream().mapToInt(Integer::intValue).sum()).isEqualTo(threads * writesPerThread);
+        assertThat(repository.count()).isEqualTo(1);
+        FearGreedIndex stored = repository.findByRecordDate(DAY).orElseThrow();
+        assertThat(stored.getRevision()).isEqualTo(total.getOrDefault(FearGreedIndexUpsertWriter.Outcome.UPDATED, 0));
+        assertThat(stored.getTimestamp().toInstant()).isEqualTo(OPEN.plusMinutes(writesPerThread - 1).toInstant());
+    }
+
+    private static FearGreedIndex reading(int value, OffsetDateTime timestamp) {
+        FearGreedIndex fgi = new FearGreedIndex();
+        fgi.setRecordDate(DAY);
+        fgi.setFgiValue(value);
+        fgi.setSentiment(value < 45 ? "fear" : "neutral");
+        fgi.setTimestamp(timestamp);
+        return fgi;
+    }
+}
@@ -0,0 +1,176 @@
+package com.aurelius.fear_greed_tracker.service;
+
+import com.aurelius.fear_greed_tracker.AbstractPostgresIntegrationTest;
+import com.aurelius.fear_greed_tracker.model.FearGreedIndex;
+import com.aurelius.fear_greed_tracker.repository.ClusterEventChannel;
+import com.aurelius.fear_greed_tracker.repository.FearGreedIndexRepository;
+import com.aurelius.fear_greed_tracker.repository.SchedulerLeaseRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Simulates several instances sharing one PostgreSQL: each "node" is a ClusterCoordinator
+ * (or ClusterNotifier) with its own node id over the same lease table and notification channel.
+ */
+class ClusterCoordinatorTest extends AbstractPostgresIntegrationTest {
+
+    @Autowired
+    private SchedulerLeaseRepository leaseRepository;
+
+    @Autowired
+    private ClusterEventChannel channel;
+
+    @Autowired
+    private FearGreedService fearGreedService;
+
+    @Autowired
+    private FearGreedIndexRepository fearGreedIndexRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void clearLeases() {
+        jdbcTemplate.update("DELETE FROM scheduler_lease");
+    }
+
+    @Test
+    void exactlyOneOfSeveralNodesRunsTheJob() throws Exception {
+        int nodes = 5;
+        AtomicInteger runs = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(nodes);
+        List<Future<Boolean>> results = new CopyOnWriteArrayList<>();
+        for (int i = 0; i < nodes; i++) {
+            ClusterCoordinator node = node("node-" + i, Duration.ofSeconds(30), Duration.ofMinutes(1));
+            results.add(executor.submit(() -> {
+                start.await();
+                return node.runIfLeader("daily-fetch", () -> {
+                    runs.incrementAndGet();
+                    sleep(200);
+                });
+            }));
+        }
+        start.countDown();
+        int ran = 0;
+        for (Future<Boolean> result : results) {
+            ran += result.get(10, TimeUnit.SECONDS) ? 1 : 0;
+        }
+        executor.shutdown();
+
+        assertThat(runs).hasValue(1);
+        assertThat(ran).isEqualTo(1);
+    }
+
+    @Test
+    void finishedJobKeepsTheLeaseForTheMinimumHold() {
+        ClusterCoordinator first = node("node-a", Duration.ofSeconds(30), Duration.ofMinutes(1));
+        ClusterCoordinator late = node("node-b", Duration.ofSeconds(30), Duration.ofMinutes(1));
+
+        assertThat(first.runIfLeader("retention", () -> { })).isTrue();
+        // node-b's schedule fires a moment later: the job already ran.
+        assertThat(late.runIfLeader("retention", () -> { })).isFalse();
+        assertThat(leaseRepository.findHolder("retention")).contains("node-a");
+    }
+
+    @Test
+    void expiredLeaseOfACrashedNodeIsTakenOver() {
+        // node-a takes the lease and dies without renewing or releasing it.
+        assertThat(leaseRepository.tryAcquire("gap-repair", "node-a", Duration.ofMillis(500))).isTrue();
+        ClusterCoordinator survivor = node("node-b", Duration.ofSeconds(30), Duration.ZERO);
+        assertThat(survivor.runIfLeader("gap-repair", () -> { })).isFalse();
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        boolean ran = false;
+        while (!ran && System.nanoTime() < deadline) {
+            sleep(100);
+            ran = survivor.runIfLeader("gap-repair", () ->
+                    // A node that comes back cannot renew a lease that was taken over.
+                    assertThat(leaseRepository.renew("gap-repair", "node-a", Duration.ofSeconds(30))).isFalse());
+        }
+        assertThat(ran).isTrue();
+    }
+
+    @Test
+    void runningJobRenewsItsLeaseBeyondTheTtl() {
+        ClusterCoordinator leader = node("node-a", Duration.ofMillis(300), Duration.ZERO);
+        ClusterCoordinator other = node("node-b", Duration.ofMillis(300), Duration.ZERO);
+        AtomicInteger otherRuns = new AtomicInteger();
+
+        assertThat(leader.runIfLeader("daily-fetch", () -> {
+            // Three TTLs later the lease is still held thanks to the renewals.
+            sleep(1000);
+            other.runIfLeader("daily-fetch", otherRuns::incrementAndGet);
+        })).isTrue();
+
+        assertThat(otherRuns).hasValue(0);
+        leader.shutdown();
+        other.shutdown();
+    }
+
+    @Test
+    void savedRowIsAppliedOnTheOtherNodes() throws Exception {
+        LocalDate day = LocalDate.of(2001, 2, 5);
+        fearGreedIndexRepository.findByRecordDate(day).ifPresent(fearGreedIndexRepository::delete);
+        List<Object> events = new CopyOnWriteArrayList<>();
+        TodayIndexCache otherCache = new TodayIndexCache();
+        ClusterNotifier otherNode = new ClusterNotifier(channel, fearGreedIndexRepository, otherCache, events::add,
+                node("node-b", Duration.ofSeconds(30), Duration.ZERO));
+
+        try (ClusterEventChannel.Listener listener = channel.listen()) {
+            fearGreedService.saveReading(day, 42, "fear", OffsetDateTime.of(day.atTime(20, 0), ZoneOffset.UTC));
+
+            String message = awaitMessage(listener, "saved " + day);
+            otherNode.receive(message);
+        }
+
+        assertThat(events).singleElement().isInstanceOfSatisfying(FearGreedIndexSavedEvent.class, event -> {
+            assertThat(event.bulk()).isFalse();
+            assertThat(event.rows()).extracting(FearGreedIndex::getFgiValue).containsExactly(42);
+        });
+        assertThat(otherCache.get(day, Optional::empty)).map(FearGreedIndex::getFgiValue).contains(42);
+    }
+
+    private static String awaitMessage(ClusterEventChannel.Listener listener, String suffix) throws Exception {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (System.nanoTime() < deadline) {
+            for (String payload : listener.poll(200)) {
+                if (payload.endsWith(suffix)) {
+                    return payload;
+                }
+            }
+        }
+        throw new AssertionError("No cluster message ending with '" + suffix + "'");
+    }
+
+    private ClusterCoordinator node(String nodeId, Duration ttl, Duration minHold) {
+        return new ClusterCoordinator(leaseRepository, new SimpleMeterRegistry(), true, nodeId, ttl, minHold);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
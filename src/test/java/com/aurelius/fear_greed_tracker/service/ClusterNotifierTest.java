@@ -0,0 +1,70 @@
+package com.aurelius.fear_greed_tracker.service;
+
+import com.aurelius.fear_greed_tracker.repository.ClusterEventChannel;
+import com.aurelius.fear_greed_tracker.repository.FearGreedIndexRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Drives the listener thread against a mocked channel: a lost connection, then a reload after the
+ * reconnect that fails like a still flaky database would.
+ */
+class ClusterNotifierTest {
+
+    private final ClusterEventChannel channel = mock(ClusterEventChannel.class);
+    private final ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+    private ClusterNotifier notifier;
+
+    @AfterEach
+    void tearDown() {
+        if (notifier != null) {
+            notifier.shutdown();
+        }
+    }
+
+    @Test
+    void failedResynchronizationIsRetriedAndTheListenerKeepsReceiving() throws Exception {
+        ClusterEventChannel.Listener failedResync = mock(ClusterEventChannel.Listener.class);
+        ClusterEventChannel.Listener healthy = mock(ClusterEventChannel.Listener.class);
+        when(healthy.poll(anyInt()))
+                .thenReturn(List.of("node-b pruned 2024-01-01 3"))
+                .thenAnswer(invocation -> {
+                    Thread.sleep(10);
+                    return List.of();
+                });
+        when(channel.listen())
+                .thenThrow(new SQLException("connection reset"))
+                .thenReturn(failedResync)
+                .thenReturn(healthy);
+        // The reload after the first reconnect fails; the one after the second succeeds.
+        doThrow(new DataAccessResourceFailureException("database still starting"))
+                .doNothing()
+                .when(eventPublisher).publishEvent(any(Object.class));
+
+        ClusterCoordinator coordinator = mock(ClusterCoordinator.class);
+        when(coordinator.getNodeId()).thenReturn("node-a");
+        notifier = new ClusterNotifier(channel, mock(FearGreedIndexRepository.class), mock(TodayIndexCache.class),
+                eventPublisher, coordinator);
+        ReflectionTestUtils.setField(notifier, "reconnectInterval", Duration.ofMillis(10));
+        notifier.start();
+
+        verify(eventPublisher, timeout(5000)).publishEvent(new FearGreedIndexPrunedEvent(LocalDate.of(2024, 1, 1), 3));
+        verify(failedResync).close();
+    }
+}
@@ -0,0 +1,120 @@
+package com.aurelius.fear_greed_tracker.service;
+
+import com.aurelius.fear_greed_tracker.model.FearGreedIndex;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks that a subscriber whose write never returns is disconnected by the write timeout and does not
+ * keep the (single) sender thread from delivering to everyone else.
+ */
+class FearGreedStreamServiceTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private FearGreedStreamService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new FearGreedStreamService(new ObjectMapper().registerModule(new JavaTimeModule()), meterRegistry, 1);
+        ReflectionTestUtils.setField(service, "queueCapacity", 4);
+        ReflectionTestUtils.setField(service, "maxSubscribers", 10);
+        ReflectionTestUtils.setField(service, "timeout", Duration.ofMinutes(1));
+        ReflectionTestUtils.setField(service, "writeTimeout", Duration.ofMillis(50));
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        service.shutdown();
+    }
+
+    @Test
+    void stalledSubscriberIsDisconnectedAndFreesTheSender() throws Exception {
+        StalledEmitter stalled = new StalledEmitter();
+        CountingEmitter healthy = new CountingEmitter();
+        service.register(stalled);
+        service.onSaved(FearGreedIndexSavedEvent.single(row(LocalDate.of(2024, 6, 3), 44)));
+        assertThat(stalled.sending.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // The only sender thread is now blocked in the stalled write.
+        service.register(healthy);
+        Thread.sleep(100);
+        assertThat(healthy.sent.get()).isZero();
+
+        service.expireStalledWrites();
+
+        assertThat(stalled.completed.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(healthy.firstSend.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(service.getSubscriberCount()).isEqualTo(1);
+        assertThat(meterRegistry.get("fgi.stream.dropped").tag("reason", "stalled").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void writesWithinTheTimeoutAreLeftAlone() throws Exception {
+        CountingEmitter healthy = new CountingEmitter();
+        service.register(healthy);
+        service.onSaved(FearGreedIndexSavedEvent.single(row(LocalDate.of(2024, 6, 4), 51)));
+        assertThat(healthy.firstSend.await(5, TimeUnit.SECONDS)).isTrue();
+
+        Thread.sleep(100);
+        service.expireStalledWrites();
+
+        assertThat(service.getSubscriberCount()).isEqualTo(1);
+        assertThat(meterRegistry.find("fgi.stream.dropped").counter()).isNull();
+    }
+
+    private static FearGreedIndex row(LocalDate day, int value) {
+        return new FearGreedIndex(null, day, value, "neutral",
+                OffsetDateTime.of(day.atTime(20, 0), ZoneOffset.UTC), null, null, 0);
+    }
+
+    /** A client that stopped reading: every write blocks until the sender thread is interrupted. */
+    private static final class StalledEmitter extends SseEmitter {
+        final CountDownLatch sending = new CountDownLatch(1);
+        final CountDownLatch completed = new CountDownLatch(1);
+
+        @Override
+        public void send(Set<DataWithMediaType> items) throws IOException {
+            sending.countDown();
+            try {
+                new CountDownLatch(1).await();
+            } catch (InterruptedException e) {
+                throw new InterruptedIOException("write aborted");
+            }
+        }
+
+        @Override
+        public void complete() {
+            completed.countDown();
+        }
+    }
+
+    private static final class CountingEmitter extends SseEmitter {
+        final AtomicInteger sent = new AtomicInteger();
+        final CountDownLatch firstSend = new CountDownLatch(1);
+
+        @Override
+        public void send(Set<DataWithMediaType> items) {
+            sent.incrementAndGet();
+            firstSend.countDown();
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package com.aurelius.fear_greed_tracker.service;
+
+import com.aurelius.fear_greed_tracker.api.CnnUpstreamClient;
+import com.aurelius.fear_greed_tracker.api.GraphDataPayloads;
+import com.aurelius.fear_greed_tracker.api.GraphDataStreamReader;
+import com.aurelius.fear_greed_tracker.api.dto.FearGreedData;
+import com.aurelius.fear_greed_tracker.config.CnnUpstreamProperties;
+import com.aurelius.fear_greed_tracker.repository.FearGreedIndexGapFinder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Repairs gaps against a local stub of the per-date /graphdata endpoint and checks that consecutive
+ * missing weekdays share one fetch, only the missing days are written, and a failed fetch does not
+ * lose the others.
+ */
+class GapRepairServiceTest {
+
+    // Thursday, Friday and the following Monday form one run; Wednesday is a run of its own.
+    private static final List<LocalDate> MISSING = List.of(
+            LocalDate.of(2024, 3, 7), LocalDate.of(2024, 3, 8), LocalDate.of(2024, 3, 11), LocalDate.of(2024, 3, 13));
+
+    private HttpServer server;
+    private FearGreedIndexGapFinder gapFinder;
+    private FearGreedService fearGreedService;
+    private GapRepairService service;
+    private final Set<String> requestedPaths = ConcurrentHashMap.newKeySet();
+    private final Set<String> failingPaths = ConcurrentHashMap.newKeySet();
+    private final Set<LocalDate> closedDays = ConcurrentHashMap.newKeySet();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/graphdata/", exchange -> {
+            String path = exchange.getRequestURI().getPath();
+            requestedPaths.add(path);
+            if (failingPaths.contains(path)) {
+                exchange.sendResponseHeaders(404, -1);
+                exchange.close();
+                return;
+            }
+            LocalDate from = LocalDate.parse(path.substring(path.lastIndexOf('/') + 1));
+            byte[] payload = GraphDataPayloads.syntheticGraphData(from, 14, closedDays);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, payload.length);
+            try (OutputStream body = exchange.getResponseBody()) {
+                body.write(payload);
+            }
+        });
+        server.start();
+
+        gapFinder = mock(FearGreedIndexGapFinder.class);
+        fearGreedService = mock(FearGreedService.class);
+        when(fearGreedService.ingestHistoricalPoints(anyList())).thenAnswer(invocation -> {
+            IngestResult result = new IngestResult();
+            result.setInserted(invocation.<List<FearGreedData>>getArgument(0).size());
+            return result;
+        });
+        CnnUpstreamClient upstreamClient = new CnnUpstreamClient(new RestTemplate(), new CnnUpstreamProperties(),
+                new SimpleMeterRegistry());
+        service = new GapRepairService(gapFinder, upstreamClient, new GraphDataStreamReader(new ObjectMapper()),
+                fearGreedService, new SimpleMeterRegistry(), mock(ClusterCoordinator.class), 2);
+        ReflectionTestUtils.setField(service, "cnnApiBaseUrl", "http://127.0.0.1:" + server.getAddress().getPort());
+        ReflectionTestUtils.setField(service, "lookback", Duration.ofDays(30));
+        ReflectionTestUtils.setField(service, "minRequestInterval", Duration.ofMillis(10));
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+        server.stop(0);
+    }
+
+    @Test
+    void fetchesOneRequestPerRunAndWritesOnlyTheMissingDays() {
+        when(gapFinder.findMissingWeekdays(any(), any())).thenReturn(MISSING);
+
+        IngestResult result = service.repairGaps();
+
+        assertThat(requestedPaths).containsExactlyInAnyOrder("/graphdata/2024-03-07", "/graphdata/2024-03-13");
+        assertThat(result.getInserted()).isEqualTo(MISSING.size());
+        verify(fearGreedService).ingestHistoricalPoints(argThat(points ->
+                points.stream().map(GapRepairServiceTest::recordDate).sorted().toList().equals(MISSING)));
+    }
+
+    @Test
+    void keepsTheRunsThatCouldBeFetched() {
+        when(gapFinder.findMissingWeekdays(any(), any())).thenReturn(MISSING);
+        failingPaths.add("/graphdata/2024-03-07");
+
+        IngestResult result = service.repairGaps();
+
+        assertThat(result.getInserted()).isEqualTo(1);
+        verify(fearGreedService).ingestHistoricalPoints(argThat(points ->
+                points.size() == 1 && recordDate(points.get(0)).equals(LocalDate.of(2024, 3, 13))));
+    }
+
+    @Test
+    void daysCnnHasNoDataForAreNotFetchedAgain() {
+        LocalDate holiday = LocalDate.of(2024, 3, 8);
+        closedDays.add(holiday);
+        when(gapFinder.findMissingWeekdays(any(), any())).thenReturn(MISSING);
+
+        assertThat(service.repairGaps().getInserted()).isEqualTo(MISSING.size() - 1);
+
+        // The holiday is still reported missing, but no longer fetched.
+        requestedPaths.clear();
+        when(gapFinder.findMissingWeekdays(any(), any())).thenReturn(List.of(holiday));
+
+        assertThat(service.repairGaps().getInserted()).isZero();
+        assertThat(requestedPaths).isEmpty();
+    }
+
+    @Test
+    void doesNothingWithoutGaps() {
+        when(gapFinder.findMissingWeekdays(any(), any())).thenReturn(List.of());
+
+        assertThat(service.repairGaps().getInserted()).isZero();
+        assertThat(requestedPaths).isEmpty();
+        verify(fearGreedService, never()).ingestHistoricalPoints(anyList());
+    }
+
+    @Test
+    void weekendsDoNotBreakARun() {
+        assertThat(GapRepairService.groupIntoRuns(MISSING)).containsExactly(
+                MISSING.subList(0, 3), MISSING.subList(3, 4));
+    }
+
+    private static LocalDate recordDate(FearGreedData point) {
+        return Instant.ofEpochMilli(point.getX()).atOffset(ZoneOffset.UTC).toLocalDate();
+    }
+}
@@ -0,0 +1,144 @@
+package com.aurelius.fear_greed_tracker.service;
+
+import com.aurelius.fear_greed_tracker.api.CnnUpstreamClient;
+import com.aurelius.fear_greed_tracker.api.GraphDataPayloads;
+import com.aurelius.fear_greed_tracker.api.GraphDataStreamReader;
+import com.aurelius.fear_greed_tracker.config.CnnUpstreamProperties;
+import com.aurelius.fear_greed_tracker.model.FearGreedIndex;
+import com.aurelius.fear_greed_tracker.model.FearGreedIndicatorValue;
+import com.aurelius.fear_greed_tracker.model.Indicator;
+import com.aurelius.fear_greed_tracker.repository.FearGreedIndexBulkWriter;
+import com.aurelius.fear_greed_tracker.repository.FearGreedIndexRepository;
+import com.aurelius.fear_greed_tracker.repository.FearGreedIndexUpsertWriter;
+import com.aurelius.fear_greed_tracker.repository.FearGreedIndicatorBulkWriter;
+import com.aurelius.fear_greed_tracker.store.FearGreedTimeSeriesStore;
+import com.aurelius.fear_greed_tracker.store.IndicatorTimeSeriesStore;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Streams a synthetic multi-megabyte /graphdata body from a local stub server through
+ * FearGreedService.fetchAndSaveHistoricalFearGreedIndex and checks that rows reach the
+ * bulk writers in bounded batches, for the index and for the component indicators read in the same pass.
+ */
+class HistoricalStreamingIngestTest {
+
+    private static final LocalDate FIRST_DAY = LocalDate.of(1995, 1, 1);
+    private static final int POINTS = 10_000;
+    private static final int BATCH_SIZE = 500;
+
+    private HttpServer server;
+    private byte[] payload;
+    private FearGreedIndexRepository repository;
+    private FearGreedIndexBulkWriter bulkWriter;
+    private ApplicationEventPublisher eventPublisher;
+    private FearGreedService service;
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final List<Integer> batchSizes = new ArrayList<>();
+    private final List<Integer> indicatorBatchSizes = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        payload = GraphDataPayloads.syntheticGraphData(FIRST_DAY, POINTS);
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/graphdata", exchange -> {
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, 0); // chunked, like the real endpoint
+            try (OutputStream body = exchange.getResponseBody()) {
+                for (int offset = 0; offset < payload.length; offset += 8192) {
+                    body.write(payload, offset, Math.min(8192, payload.length - offset));
+                }
+            }
+        });
+        server.start();
+
+        repository = mock(FearGreedIndexRepository.class);
+        bulkWriter = mock(FearGreedIndexBulkWriter.class);
+        eventPublisher = mock(ApplicationEventPublisher.class);
+        when(bulkWriter.insertIgnoringConflicts(anyList())).thenAnswer(invocation -> {
+            List<FearGreedIndex> rows = invocation.getArgument(0);
+            batchSizes.add(rows.size());
+            return rows.size();
+        });
+
+        FearGreedIndicatorBulkWriter indicatorBulkWriter = mock(FearGreedIndicatorBulkWriter.class);
+        when(indicatorBulkWriter.upsert(anyList())).thenAnswer(invocation -> {
+            List<FearGreedIndicatorValue> rows = invocation.getArgument(0);
+            indicatorBatchSizes.add(rows.size());
+            return rows.size();
+        });
+        IndicatorService indicatorService = new IndicatorService(indicatorBulkWriter,
+                mock(IndicatorTimeSeriesStore.class), eventPublisher);
+        ReflectionTestUtils.setField(indicatorService, "ingestBatchSize", BATCH_SIZE);
+
+        CnnUpstreamClient upstreamClient = new CnnUpstreamClient(new RestTemplate(), new CnnUpstreamProperties(),
+                new SimpleMeterRegistry());
+        service = new FearGreedService(upstreamClient, repository, bulkWriter, mock(FearGreedIndexUpsertWriter.class),
+                new TodayIndexCache(), mock(FearGreedTimeSeriesStore.class), eventPublisher,
+                new GraphDataStreamReader(new ObjectMapper()), indicatorService, new ObjectMapper(), meterRegistry,
+                mock(ClusterCoordinator.class));
+        ReflectionTestUtils.setField(service, "cnnApiBaseUrl", "http://127.0.0.1:" + server.getAddress().getPort());
+        ReflectionTestUtils.setField(service, "ingestBatchSize", BATCH_SIZE);
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    void streamsMultiMegabytePayloadInBoundedBatches() {
+        assertThat(payload.length).isGreaterThan(3 * 1024 * 1024);
+
+        IngestResult result = service.fetchAndSaveHistoricalFearGreedIndex();
+
+        assertThat(result.getInserted()).isEqualTo(POINTS);
+        assertThat(result.getSkipped()).isZero();
+        assertThat(result.getInvalid()).isZero();
+        assertThat(batchSizes).hasSize(POINTS / BATCH_SIZE).allMatch(size -> size <= BATCH_SIZE);
+        verify(repository, times(POINTS / BATCH_SIZE)).findRecordDatesBetween(any(), any());
+        verify(eventPublisher).publishEvent(FearGreedIndexSavedEvent.bulkWrite());
+        assertThat(meterRegistry.get("fgi.ingest.rows").tag("outcome", "inserted").counter().count()).isEqualTo(POINTS);
+
+        int indicatorValues = POINTS * Indicator.values().length;
+        assertThat(result.getIndicatorValues()).isEqualTo(indicatorValues);
+        assertThat(indicatorBatchSizes).hasSize(indicatorValues / BATCH_SIZE).allMatch(size -> size <= BATCH_SIZE);
+        verify(eventPublisher).publishEvent(new FearGreedIndicatorsSavedEvent(indicatorValues));
+    }
+
+    @Test
+    void skipsDatesAlreadyStored() {
+        LocalDate stored = FIRST_DAY.plusDays(42);
+        when(repository.findRecordDatesBetween(any(), any())).thenAnswer(invocation -> {
+            LocalDate from = invocation.getArgument(0);
+            LocalDate to = invocation.getArgument(1);
+            return stored.isBefore(from) || stored.isAfter(to) ? List.of() : List.of(stored);
+        });
+
+        IngestResult result = service.fetchAndSaveHistoricalFearGreedIndex();
+
+        assertThat(result.getInserted()).isEqualTo(POINTS - 1);
+        assertThat(result.getSkipped()).isEqualTo(1);
+    }
+}
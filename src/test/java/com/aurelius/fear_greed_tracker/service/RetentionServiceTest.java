@@ -0,0 +1,114 @@
+package com.aurelius.fear_greed_tracker.service;
+
+import com.aurelius.fear_greed_tracker.AbstractPostgresIntegrationTest;
+import com.aurelius.fear_greed_tracker.model.FearGreedIndex;
+import com.aurelius.fear_greed_tracker.model.FearGreedIndicatorValue;
+import com.aurelius.fear_greed_tracker.model.Indicator;
+import com.aurelius.fear_greed_tracker.repository.FearGreedIndexBulkWriter;
+import com.aurelius.fear_greed_tracker.repository.FearGreedIndexRepository;
+import com.aurelius.fear_greed_tracker.repository.FearGreedIndicatorBulkWriter;
+import com.aurelius.fear_greed_tracker.repository.FearGreedIndicatorRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the chunked retention delete against PostgreSQL: everything before the cutoff goes,
+ * one statement per chunk, and nothing at or after the cutoff is touched.
+ */
+@TestPropertySource(properties = {"fgi.retention.period=P1Y", "fgi.retention.chunk-days=30"})
+class RetentionServiceTest extends AbstractPostgresIntegrationTest {
+
+    private static final int DAYS = 3 * 365;
+
+    @Autowired
+    private RetentionService retentionService;
+
+    @Autowired
+    private FearGreedIndexRepository repository;
+
+    @Autowired
+    private FearGreedIndicatorRepository indicatorRepository;
+
+    @Autowired
+    private FearGreedIndexBulkWriter bulkWriter;
+
+    @Autowired
+    private FearGreedIndicatorBulkWriter indicatorBulkWriter;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private LocalDate cutoff;
+
+    @BeforeEach
+    void seed() {
+        repository.deleteAllInBatch();
+        indicatorRepository.deleteAllInBatch();
+        cutoff = LocalDate.now().minusYears(1);
+        LocalDate firstDay = LocalDate.now().minusDays(DAYS - 1L);
+        List<FearGreedIndex> rows = new ArrayList<>(DAYS);
+        List<FearGreedIndicatorValue> values = new ArrayList<>(DAYS);
+        for (int i = 0; i < DAYS; i++) {
+            LocalDate day = firstDay.plusDays(i);
+            rows.add(new FearGreedIndex(null, day, 50, "neutral", OffsetDateTime.of(day.atStartOfDay(), ZoneOffset.UTC),
+                    null, null, 0));
+            values.add(new FearGreedIndicatorValue(day, Indicator.PUT_CALL_OPTIONS.getCode(), 0.8, "neutral", null));
+        }
+        bulkWriter.insertIgnoringConflicts(rows);
+        indicatorBulkWriter.upsert(values);
+    }
+
+    @Test
+    void deletesEverythingBeforeTheCutoffInChunks() {
+        long expired = repository.findAll().stream().filter(row -> row.getRecordDate().isBefore(cutoff)).count();
+        double chunksBefore = chunkCount("fear_greed_index");
+
+        int deleted = retentionService.pruneOldFearGreedIndexData();
+
+        assertThat(deleted).isEqualTo((int) expired);
+        assertThat(repository.findAll()).allMatch(row -> !row.getRecordDate().isBefore(cutoff)).hasSize((int) (DAYS - expired));
+        assertThat(indicatorRepository.findAll()).allMatch(value -> !value.getRecordDate().isBefore(cutoff))
+                .hasSize((int) (DAYS - expired));
+        // Roughly two years of expired days at 30 days per statement.
+        assertThat(chunkCount("fear_greed_index") - chunksBefore).isBetween(expired / 30.0, expired / 30.0 + 2);
+        assertThat(retentionService.pruneOldFearGreedIndexData()).isZero();
+    }
+
+    @Test
+    void leavesPartitionsOfASameNamedTableInAnotherSchemaAlone() {
+        jdbcTemplate.execute("CREATE SCHEMA archive");
+        try {
+            jdbcTemplate.execute("CREATE TABLE archive.fear_greed_index (record_date date NOT NULL) PARTITION BY RANGE (record_date)");
+            jdbcTemplate.execute("CREATE TABLE archive.fear_greed_index_2000 PARTITION OF archive.fear_greed_index "
+                    + "FOR VALUES FROM ('2000-01-01') TO ('2001-01-01')");
+
+            retentionService.pruneOldFearGreedIndexData();
+
+            assertThat(jdbcTemplate.queryForObject("SELECT to_regclass('archive.fear_greed_index_2000') IS NOT NULL",
+                    Boolean.class)).isTrue();
+            assertThat(repository.findAll()).allMatch(row -> !row.getRecordDate().isBefore(cutoff));
+        } finally {
+            jdbcTemplate.execute("DROP SCHEMA archive CASCADE");
+        }
+    }
+
+    private double chunkCount(String table) {
+        return meterRegistry.find("fgi.retention.chunk").tag("table", table).timers().stream()
+                .mapToDouble(timer -> timer.count()).sum();
+    }
+}
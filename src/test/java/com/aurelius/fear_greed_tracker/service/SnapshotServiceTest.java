@@ -0,0 +1,95 @@
+package com.aurelius.fear_greed_tracker.service;
+
+import com.aurelius.fear_greed_tracker.AbstractPostgresIntegrationTest;
+import com.aurelius.fear_greed_tracker.model.FearGreedIndex;
+import com.aurelius.fear_greed_tracker.repository.FearGreedIndexBulkWriter;
+import com.aurelius.fear_greed_tracker.repository.FearGreedIndexRepository;
+import com.aurelius.fear_greed_tracker.store.InvalidSnapshotException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Exports five years of rows from PostgreSQL, empties the table and imports the snapshot back.
+ */
+class SnapshotServiceTest extends AbstractPostgresIntegrationTest {
+
+    private static final int DAYS = 5 * 365;
+    private static final String[] SENTIMENTS = {"extreme fear", "fear", "neutral", "greed", "extreme greed"};
+
+    @Autowired
+    private SnapshotService snapshotService;
+
+    @Autowired
+    private FearGreedIndexRepository repository;
+
+    @Autowired
+    private FearGreedIndexBulkWriter bulkWriter;
+
+    @BeforeEach
+    void seed() {
+        repository.deleteAllInBatch();
+        LocalDate firstDay = LocalDate.now().minusDays(DAYS);
+        List<FearGreedIndex> rows = new ArrayList<>(DAYS);
+        for (int i = 0; i < DAYS; i++) {
+            LocalDate day = firstDay.plusDays(i);
+            rows.add(new FearGreedIndex(null, day, i % 101, SENTIMENTS[i % SENTIMENTS.length],
+                    OffsetDateTime.of(day.atTime(20, 0, 1), ZoneOffset.UTC), null, null, 0));
+        }
+        bulkWriter.insertIgnoringConflicts(rows);
+    }
+
+    @Test
+    void exportedSnapshotRestoresTheTable() throws Exception {
+        List<FearGreedIndex> original = sorted(repository.findAll());
+        ByteArrayOutputStream snapshot = new ByteArrayOutputStream();
+
+        assertThat(snapshotService.exportSnapshot(snapshot)).isEqualTo(DAYS);
+        repository.deleteAllInBatch();
+        IngestResult imported = snapshotService.importSnapshot(new ByteArrayInputStream(snapshot.toByteArray()));
+
+        assertThat(imported.getInserted()).isEqualTo(DAYS);
+        List<FearGreedIndex> restored = sorted(repository.findAll());
+        assertThat(restored).hasSize(DAYS);
+        for (int i = 0; i < DAYS; i++) {
+            assertThat(restored.get(i).getRecordDate()).isEqualTo(original.get(i).getRecordDate());
+            assertThat(restored.get(i).getFgiValue()).isEqualTo(original.get(i).getFgiValue());
+            assertThat(restored.get(i).getSentiment()).isEqualTo(original.get(i).getSentiment());
+            assertThat(restored.get(i).getTimestamp().toInstant()).isEqualTo(original.get(i).getTimestamp().toInstant());
+        }
+
+        IngestResult again = snapshotService.importSnapshot(new ByteArrayInputStream(snapshot.toByteArray()));
+        assertThat(again.getInserted()).isZero();
+        assertThat(again.getSkipped()).isEqualTo(DAYS);
+    }
+
+    @Test
+    void truncatedSnapshotWritesNothing() throws Exception {
+        ByteArrayOutputStream snapshot = new ByteArrayOutputStream();
+        snapshotService.exportSnapshot(snapshot);
+        byte[] truncated = Arrays.copyOf(snapshot.toByteArray(), snapshot.size() - 1);
+        repository.deleteAllInBatch();
+
+        assertThatThrownBy(() -> snapshotService.importSnapshot(new ByteArrayInputStream(truncated)))
+                .isInstanceOf(InvalidSnapshotException.class);
+        assertThat(repository.count()).isZero();
+    }
+
+    private static List<FearGreedIndex> sorted(List<FearGreedIndex> rows) {
+        rows.sort(Comparator.comparing(FearGreedIndex::getRecordDate));
+        return rows;
+    }
+}
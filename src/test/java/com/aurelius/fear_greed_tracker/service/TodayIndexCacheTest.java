@@ -0,0 +1,134 @@
+package com.aurelius.fear_greed_tracker.service;
+
+import com.aurelius.fear_greed_tracker.model.FearGreedIndex;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TodayIndexCacheTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2024, 5, 17);
+
+    @Test
+    void concurrentMissesShareOneLoad() throws Exception {
+        TodayIndexCache cache = new TodayIndexCache();
+        AtomicInteger loaderCalls = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        int callers = 32;
+        ExecutorService pool = Executors.newFixedThreadPool(callers);
+        try {
+            List<Future<Optional<FearGreedIndex>>> results = new ArrayList<>();
+            for (int i = 0; i < callers; i++) {
+                results.add(pool.submit(() -> cache.get(TODAY, () -> {
+                    loaderCalls.incrementAndGet();
+                    await(release);
+                    return Optional.of(index(TODAY, 42));
+                })));
+            }
+            // Let every other caller join the in-flight load before it completes.
+            while (cache.getCoalescedWaitCount() < callers - 1) {
+                Thread.sleep(5);
+            }
+            release.countDown();
+            for (Future<Optional<FearGreedIndex>> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).map(FearGreedIndex::getFgiValue).contains(42);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+        assertThat(loaderCalls.get()).isEqualTo(1);
+        assertThat(cache.getCoalescedWaitCount()).isEqualTo(callers - 1);
+    }
+
+    @Test
+    void hitsDoNotCallLoaderAndEntryExpiresWithTheDay() {
+        TodayIndexCache cache = new TodayIndexCache();
+        AtomicInteger loaderCalls = new AtomicInteger();
+
+        cache.get(TODAY, () -> {
+            loaderCalls.incrementAndGet();
+            return Optional.of(index(TODAY, 10));
+        });
+        cache.get(TODAY, () -> {
+            loaderCalls.incrementAndGet();
+            return Optional.empty();
+        });
+        assertThat(loaderCalls.get()).isEqualTo(1);
+        assertThat(cache.getHitCount()).isEqualTo(1);
+
+        Optional<FearGreedIndex> tomorrow = cache.get(TODAY.plusDays(1), () -> {
+            loaderCalls.incrementAndGet();
+            return Optional.of(index(TODAY.plusDays(1), 20));
+        });
+        assertThat(tomorrow).map(FearGreedIndex::getFgiValue).contains(20);
+        assertThat(loaderCalls.get()).isEqualTo(2);
+    }
+
+    @Test
+    void standInsAndMissesAreCachedUntilTheFallbackTtlExpires() {
+        AtomicLong nanos = new AtomicLong();
+        TodayIndexCache cache = new TodayIndexCache(nanos::get);
+        AtomicInteger loaderCalls = new AtomicInteger();
+
+        for (int i = 0; i < 3; i++) {
+            Optional<FearGreedIndex> served = cache.get(TODAY, () -> {
+                loaderCalls.incrementAndGet();
+                return Optional.of(index(TODAY.minusDays(1), 30));
+            });
+            assertThat(served).map(FearGreedIndex::getRecordDate).contains(TODAY.minusDays(1));
+        }
+        assertThat(loaderCalls.get()).isEqualTo(1);
+
+        nanos.addAndGet(Duration.ofMinutes(2).toNanos());
+        cache.get(TODAY, () -> {
+            loaderCalls.incrementAndGet();
+            return Optional.empty();
+        });
+        Optional<FearGreedIndex> miss = cache.get(TODAY, () -> {
+            loaderCalls.incrementAndGet();
+            return Optional.empty();
+        });
+        assertThat(miss).isEmpty();
+        assertThat(loaderCalls.get()).isEqualTo(2);
+
+        // A save of today's row replaces the cached stand-in or miss at once.
+        cache.put(index(TODAY, 55));
+        Optional<FearGreedIndex> recovered = cache.get(TODAY, () -> {
+            loaderCalls.incrementAndGet();
+            return Optional.empty();
+        });
+        assertThat(recovered).map(FearGreedIndex::getFgiValue).contains(55);
+        assertThat(loaderCalls.get()).isEqualTo(2);
+    }
+
+    private static FearGreedIndex index(LocalDate date, int value) {
+        FearGreedIndex fgi = new FearGreedIndex();
+        fgi.setRecordDate(date);
+        fgi.setFgiValue(value);
+        fgi.setSentiment("neutral");
+        fgi.setTimestamp(OffsetDateTime.now());
+        return fgi;
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.aurelius.fear_greed_tracker.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenBucketRateLimiterTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final AtomicLong clock = new AtomicLong(1_000 * SECOND);
+
+    @Test
+    void admitsABurstThenOneRequestPerRefillInterval() {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(4, 100, clock::get);
+        TokenBucketRateLimiter.Limit limit = TokenBucketRateLimiter.Limit.of(3, 0.5);
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(limiter.tryAcquire("ip:10.0.0.1", limit)).isZero();
+        }
+        assertThat(limiter.tryAcquire("ip:10.0.0.1", limit)).isEqualTo(2 * SECOND);
+
+        clock.addAndGet(SECOND);
+        assertThat(limiter.tryAcquire("ip:10.0.0.1", limit)).isEqualTo(SECOND);
+        clock.addAndGet(SECOND);
+        assertThat(limiter.tryAcquire("ip:10.0.0.1", limit)).isZero();
+        assertThat(limiter.tryAcquire("ip:10.0.0.1", limit)).isEqualTo(2 * SECOND);
+
+        // Other clients have their own buckets.
+        assertThat(limiter.tryAcquire("ip:10.0.0.2", limit)).isZero();
+    }
+
+    @Test
+    void idleTimeRefillsAtMostTheCapacity() {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(1, 100, clock::get);
+        TokenBucketRateLimiter.Limit limit = TokenBucketRateLimiter.Limit.of(2, 1.0);
+        limiter.tryAcquire("key:abc", limit);
+
+        clock.addAndGet(3600 * SECOND);
+
+        assertThat(limiter.tryAcquire("key:abc", limit)).isZero();
+        assertThat(limiter.tryAcquire("key:abc", limit)).isZero();
+        assertThat(limiter.tryAcquire("key:abc", limit)).isPositive();
+    }
+
+    @Test
+    void concurrentCallersNeverTakeMoreThanTheCapacity() throws Exception {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(16, 100, clock::get);
+        TokenBucketRateLimiter.Limit limit = TokenBucketRateLimiter.Limit.of(500, 1.0);
+        int threads = 8;
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<Integer>> results = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                results.add(pool.submit(() -> {
+                    start.await();
+                    int admitted = 0;
+                    for (int i = 0; i < 1000; i++) {
+                        if (limiter.tryAcquire("ip:10.0.0.1", limit) == 0) {
+                            admitted++;
+                        }
+                    }
+                    return admitted;
+                }));
+            }
+            start.countDown();
+            int admitted = 0;
+            for (Future<Integer> result : results) {
+                admitted += result.get(10, TimeUnit.SECONDS);
+            }
+            assertThat(admitted).isEqualTo(500);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    void fullBucketsAreDroppedWhenAStripeIsFull() {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(1, 10, clock::get);
+        TokenBucketRateLimiter.Limit limit = TokenBucketRateLimiter.Limit.of(5, 1.0);
+        for (int i = 0; i < 10; i++) {
+            limiter.tryAcquire("ip:10.0.0." + i, limit);
+        }
+        assertThat(limiter.getTrackedClients()).isEqualTo(10);
+
+        // Every bucket is full again after a second; the next new client triggers the sweep.
+        clock.addAndGet(2 * SECOND);
+        limiter.tryAcquire("ip:10.0.1.1", limit);
+
+        assertThat(limiter.getTrackedClients()).isEqualTo(1);
+    }
+}
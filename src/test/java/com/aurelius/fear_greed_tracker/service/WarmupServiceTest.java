@@ -0,0 +1,71 @@
+package com.aurelius.fear_greed_tracker.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.availability.ApplicationAvailability;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Starts the application on a real port with the warm-up enabled and checks that the warm-up
+ * requests went through the web layer before the instance reported ready, without being throttled
+ * by a rate limit far below the number of warm-up requests.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "fgi.warmup.enabled=true",
+        "fgi.warmup.requests=40",
+        "fgi.rate-limit.enabled=true",
+        "fgi.rate-limit.tiers.anonymous.capacity=5",
+        "fgi.rate-limit.tiers.anonymous.refill-per-second=0.01",
+        "cnn.feargreed.api.url=http://127.0.0.1:1",
+        "cnn.upstream.retry.max-attempts=1"})
+@AutoConfigureObservability(tracing = false)
+@ActiveProfiles("test")
+class WarmupServiceTest {
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private ApplicationAvailability availability;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Test
+    void warmsUpTheReadPathsBeforeReportingReady() {
+        assertThat(meterRegistry.get("fgi.startup.warmup").timer().count()).isEqualTo(1);
+        assertThat(requestCount("/api/fear-greed/history")).isEqualTo(30);
+        assertThat(requestCount("/api/fear-greed/today")).isEqualTo(10);
+        assertThat(availability.getReadinessState()).isEqualTo(ReadinessState.ACCEPTING_TRAFFIC);
+    }
+
+    @Test
+    void warmUpRequestsAreNotRateLimited() {
+        assertThat(requestCount("/api/fear-greed/history", "200")).isEqualTo(30);
+        assertThat(meterRegistry.get("fgi.ratelimit.throttled").tag("tier", "anonymous").counter().count()).isZero();
+
+        // Other loopback clients are still limited.
+        int status = 0;
+        for (int i = 0; i < 6; i++) {
+            status = restTemplate.getForEntity("/api/fear-greed/history-by-year?year=2024", String.class).getStatusCode().value();
+        }
+        assertThat(status).isEqualTo(429);
+    }
+
+    private long requestCount(String uri) {
+        return meterRegistry.find("http.server.requests").tag("uri", uri).timers().stream()
+                .mapToLong(timer -> timer.count()).sum();
+    }
+
+    private long requestCount(String uri, String status) {
+        return meterRegistry.find("http.server.requests").tag("uri", uri).tag("status", status).timers().stream()
+                .mapToLong(timer -> timer.count()).sum();
+    }
+}
@@ -0,0 +1,77 @@
+package com.aurelius.fear_greed_tracker.store;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class FearGreedSnapshotTest {
+
+    private static final int ROWS = 5 * 365;
+    private static final int FIRST_DAY = 18_000;
+
+    @Test
+    void roundTripsAcrossBlocks() throws IOException {
+        byte[] snapshot = fiveYears();
+
+        FearGreedSnapshotReader reader = new FearGreedSnapshotReader(new ByteArrayInputStream(snapshot));
+        int row = 0;
+        for (int size = reader.nextBlock(); size > 0; size = reader.nextBlock()) {
+            for (int i = 0; i < size; i++, row++) {
+                assertThat(reader.epochDay(i)).isEqualTo(day(row));
+                assertThat(reader.value(i)).isEqualTo(row % 101);
+                assertThat(reader.sentimentCode(i)).isEqualTo((byte) (row % 6));
+                assertThat(reader.timestampMillis(i)).isEqualTo(timestamp(row));
+            }
+        }
+        assertThat(row).isEqualTo(ROWS);
+        assertThat(reader.rowsRead()).isEqualTo(ROWS);
+        // Dates, scores and sentiments take one byte each; timestamps a few more.
+        assertThat(snapshot.length).isLessThan(ROWS * 8);
+    }
+
+    @Test
+    void rejectsCorruptedAndTruncatedInput() throws IOException {
+        byte[] snapshot = fiveYears();
+        byte[] corrupted = snapshot.clone();
+        corrupted[snapshot.length / 2] ^= 0x01;
+        byte[] truncated = Arrays.copyOf(snapshot, snapshot.length - 3);
+
+        assertThatThrownBy(() -> readAll(corrupted)).isInstanceOf(InvalidSnapshotException.class);
+        assertThatThrownBy(() -> readAll(truncated)).isInstanceOf(InvalidSnapshotException.class);
+        assertThatThrownBy(() -> readAll("not a snapshot".getBytes())).isInstanceOf(InvalidSnapshotException.class);
+    }
+
+    private static byte[] fiveYears() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        FearGreedSnapshotWriter writer = new FearGreedSnapshotWriter(out);
+        for (int row = 0; row < ROWS; row++) {
+            writer.write(day(row), row % 101, (byte) (row % 6), timestamp(row));
+        }
+        assertThat(writer.finish()).isEqualTo(ROWS);
+        return out.toByteArray();
+    }
+
+    private static void readAll(byte[] snapshot) throws IOException {
+        FearGreedSnapshotReader reader = new FearGreedSnapshotReader(new ByteArrayInputStream(snapshot));
+        while (reader.nextBlock() > 0) {
+            // decode only
+        }
+    }
+
+    // Trading days: weekends skipped.
+    private static int day(int row) {
+        return FIRST_DAY + row / 5 * 7 + row % 5;
+    }
+
+    // Close of US trading (20:00 UTC) on most days, the previous evening now and then.
+    private static long timestamp(int row) {
+        long dayStart = day(row) * 86_400_000L;
+        return row % 7 == 0 ? dayStart - 3_600_000L : dayStart + 72_000_000L + row;
+    }
+}
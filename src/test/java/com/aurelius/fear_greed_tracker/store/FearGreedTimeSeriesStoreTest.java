@@ -0,0 +1,99 @@
+package com.aurelius.fear_greed_tracker.store;
+
+import com.aurelius.fear_greed_tracker.model.FearGreedIndex;
+import com.aurelius.fear_greed_tracker.model.FearGreedIndexPoint;
+import com.aurelius.fear_greed_tracker.model.Sentiment;
+import com.aurelius.fear_greed_tracker.repository.FearGreedIndexRepository;
+import com.aurelius.fear_greed_tracker.service.FearGreedIndexPrunedEvent;
+import com.aurelius.fear_greed_tracker.service.FearGreedIndexSavedEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class FearGreedTimeSeriesStoreTest {
+
+    private static final LocalDate JAN_30 = LocalDate.of(2024, 1, 30);
+
+    private FearGreedTimeSeriesStore store;
+
+    @BeforeEach
+    void setUp() {
+        FearGreedIndexRepository repository = mock(FearGreedIndexRepository.class);
+        when(repository.findAllPoints()).thenReturn(List.of(
+                new FearGreedIndexPoint(JAN_30, 20, "extreme fear"),
+                new FearGreedIndexPoint(JAN_30.plusDays(1), 40, "fear"),
+                new FearGreedIndexPoint(JAN_30.plusDays(3), 60, "greed")));
+        store = new FearGreedTimeSeriesStore(repository);
+        store.warmUp();
+    }
+
+    @Test
+    void rangeIsHalfOpenAndOrdered() {
+        FearGreedSeries february = store.range(LocalDate.of(2024, 2, 1), LocalDate.of(2024, 3, 1));
+        assertThat(february.size()).isEqualTo(1);
+        assertThat(february.recordDate(0)).isEqualTo(LocalDate.of(2024, 2, 2));
+        assertThat(february.sentiment(0)).isEqualTo(Sentiment.GREED);
+
+        assertThat(store.range(JAN_30, JAN_30.plusDays(1)).size()).isEqualTo(1);
+        assertThat(store.range(null, null).size()).isEqualTo(3);
+        assertThat(store.range(JAN_30.plusDays(10), null).isEmpty()).isTrue();
+    }
+
+    @Test
+    void savedRowsAreInsertedInOrderOrReplaceExistingDays() {
+        FearGreedSeries before = store.range(null, null);
+
+        store.onSaved(FearGreedIndexSavedEvent.single(index(JAN_30.plusDays(2), 50, "neutral")));
+        store.onSaved(FearGreedIndexSavedEvent.single(index(JAN_30, 25, "fear")));
+
+        FearGreedSeries after = store.range(null, null);
+        assertThat(after.size()).isEqualTo(4);
+        assertThat(after.value(0)).isEqualTo(25);
+        assertThat(after.value(2)).isEqualTo(50);
+        assertThat(after.sentiment(2)).isEqualTo(Sentiment.NEUTRAL);
+        // Slices handed out earlier keep seeing the data they were created from.
+        assertThat(before.size()).isEqualTo(3);
+        assertThat(before.value(0)).isEqualTo(20);
+    }
+
+    @Test
+    void prunedRowsAreDropped() {
+        store.onPruned(new FearGreedIndexPrunedEvent(JAN_30.plusDays(1), 1));
+        FearGreedSeries remaining = store.range(null, null);
+        assertThat(remaining.size()).isEqualTo(2);
+        assertThat(remaining.recordDate(0)).isEqualTo(JAN_30.plusDays(1));
+    }
+
+    @Test
+    void serializesAsRowObjects() throws Exception {
+        String json = new ObjectMapper().writeValueAsString(store.range(JAN_30, JAN_30.plusDays(2)));
+        assertThat(json).isEqualTo("[{\"recordDate\":\"2024-01-30\",\"fgiValue\":20,\"sentiment\":\"extreme fear\"},"
+                + "{\"recordDate\":\"2024-01-31\",\"fgiValue\":40,\"sentiment\":\"fear\"}]");
+    }
+
+    @Test
+    void isoDateFormattingMatchesLocalDate() {
+        char[] buffer = new char[EpochDays.ISO_DATE_LENGTH];
+        for (LocalDate date = LocalDate.of(1899, 12, 25); date.getYear() < 2101; date = date.plusDays(17)) {
+            int length = EpochDays.formatIsoDate((int) date.toEpochDay(), buffer);
+            assertThat(new String(buffer, 0, length)).isEqualTo(date.toString());
+        }
+    }
+
+    private static FearGreedIndex index(LocalDate date, int value, String sentiment) {
+        FearGreedIndex fgi = new FearGreedIndex();
+        fgi.setRecordDate(date);
+        fgi.setFgiValue(value);
+        fgi.setSentiment(sentiment);
+        fgi.setTimestamp(OffsetDateTime.now());
+        return fgi;
+    }
+}
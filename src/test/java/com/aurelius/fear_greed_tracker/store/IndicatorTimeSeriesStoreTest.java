@@ -0,0 +1,73 @@
+package com.aurelius.fear_greed_tracker.store;
+
+import com.aurelius.fear_greed_tracker.model.FearGreedIndicatorPoint;
+import com.aurelius.fear_greed_tracker.model.Indicator;
+import com.aurelius.fear_greed_tracker.model.Sentiment;
+import com.aurelius.fear_greed_tracker.repository.FearGreedIndicatorRepository;
+import com.aurelius.fear_greed_tracker.service.FearGreedIndexPrunedEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class IndicatorTimeSeriesStoreTest {
+
+    private static final LocalDate JAN_30 = LocalDate.of(2024, 1, 30);
+    private static final short PUT_CALL = Indicator.PUT_CALL_OPTIONS.getCode();
+    private static final short JUNK_BOND = Indicator.JUNK_BOND_DEMAND.getCode();
+
+    private IndicatorTimeSeriesStore store;
+
+    @BeforeEach
+    void setUp() {
+        FearGreedIndicatorRepository repository = mock(FearGreedIndicatorRepository.class);
+        when(repository.findAllPoints()).thenReturn(List.of(
+                new FearGreedIndicatorPoint(JAN_30, PUT_CALL, 0.9, "fear"),
+                new FearGreedIndicatorPoint(JAN_30, JUNK_BOND, 1.5, "greed"),
+                new FearGreedIndicatorPoint(JAN_30.plusDays(1), JUNK_BOND, 1.6, null),
+                new FearGreedIndicatorPoint(JAN_30.plusDays(3), PUT_CALL, 0.7, "extreme greed")));
+        store = new IndicatorTimeSeriesStore(repository);
+        store.warmUp();
+    }
+
+    @Test
+    void alignsIndicatorsOnOneDateAxis() {
+        IndicatorSeries series = store.range(List.of(Indicator.PUT_CALL_OPTIONS, Indicator.JUNK_BOND_DEMAND), null, null);
+
+        assertThat(series.size()).isEqualTo(3);
+        assertThat(series.recordDate(2)).isEqualTo(JAN_30.plusDays(3));
+        assertThat(series.hasValue(0, 1)).isFalse();
+        assertThat(series.value(0, 2)).isEqualTo(0.7);
+        assertThat(series.rating(0, 2)).isEqualTo(Sentiment.EXTREME_GREED);
+        assertThat(series.hasValue(1, 2)).isFalse();
+        assertThat(series.value(1, 1)).isEqualTo(1.6);
+        assertThat(store.range(List.of(Indicator.PUT_CALL_OPTIONS), JAN_30.plusDays(1), JAN_30.plusDays(3)).size())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void serializesMissingValuesAsNull() throws Exception {
+        String json = new ObjectMapper().writeValueAsString(
+                store.range(List.of(Indicator.JUNK_BOND_DEMAND), JAN_30, JAN_30.plusDays(4)));
+        assertThat(json).isEqualTo("{\"dates\":[\"2024-01-30\",\"2024-01-31\",\"2024-02-02\"],"
+                + "\"series\":{\"junk_bond_demand\":{\"values\":[1.5,1.6,null],\"ratings\":[\"greed\",null,null]}}}");
+    }
+
+    @Test
+    void prunedDatesAreDropped() {
+        DatasetVersion before = store.version();
+
+        store.onPruned(new FearGreedIndexPrunedEvent(JAN_30.plusDays(1), 2));
+
+        IndicatorSeries remaining = store.range(List.of(Indicator.JUNK_BOND_DEMAND), null, null);
+        assertThat(remaining.size()).isEqualTo(2);
+        assertThat(remaining.recordDate(0)).isEqualTo(JAN_30.plusDays(1));
+        assertThat(store.version().eTag("j")).isNotEqualTo(before.eTag("j"));
+    }
+}
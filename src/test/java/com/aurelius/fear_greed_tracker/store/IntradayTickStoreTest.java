@@ -0,0 +1,118 @@
+package com.aurelius.fear_greed_tracker.store;
+
+import com.aurelius.fear_greed_tracker.config.IntradayProperties;
+import com.aurelius.fear_greed_tracker.model.Sentiment;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IntradayTickStoreTest {
+
+    private static final LocalDate DAY = LocalDate.of(2024, 6, 3);
+    private static final long OPEN_MILLIS = 1_717_405_200_000L;
+
+    @TempDir
+    Path directory;
+
+    private IntradayProperties properties;
+    private IntradayTickStore store;
+
+    @BeforeEach
+    void setUp() {
+        properties = new IntradayProperties();
+        properties.setDirectory(directory);
+        properties.setInitialCapacity(4);
+        store = new IntradayTickStore(properties);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        store.close();
+    }
+
+    @Test
+    void recordsOnlyChangedTicks() throws Exception {
+        assertThat(store.append(DAY, OPEN_MILLIS, 41.5, Sentiment.FEAR)).isTrue();
+        assertThat(store.append(DAY, OPEN_MILLIS + 60_000, 41.5, Sentiment.FEAR)).isFalse();
+        assertThat(store.append(DAY, OPEN_MILLIS + 120_000, 44.25, Sentiment.FEAR)).isTrue();
+        assertThat(store.append(DAY, OPEN_MILLIS + 60_000, 47.0, Sentiment.NEUTRAL)).isFalse();
+
+        IntradayTicks ticks = store.ticks(DAY);
+
+        assertThat(ticks.size()).isEqualTo(2);
+        assertThat(ticks.epochMillis(1)).isEqualTo(OPEN_MILLIS + 120_000);
+        assertThat(ticks.score(1)).isEqualTo(44.25f);
+        assertThat(ticks.sentiment(1)).isEqualTo(Sentiment.FEAR);
+        assertThat(ticks.lastEpochMillis()).isEqualTo(OPEN_MILLIS + 120_000);
+    }
+
+    @Test
+    void growsFullSegmentAndKeepsEarlierViewsStable() throws Exception {
+        store.append(DAY, OPEN_MILLIS, 40, Sentiment.FEAR);
+        IntradayTicks before = store.ticks(DAY);
+        for (int i = 1; i < 10; i++) {
+            store.append(DAY, OPEN_MILLIS + i * 60_000L, 40 + i, Sentiment.FEAR);
+        }
+
+        IntradayTicks after = store.ticks(DAY);
+
+        assertThat(before.size()).isEqualTo(1);
+        assertThat(before.score(0)).isEqualTo(40f);
+        assertThat(after.size()).isEqualTo(10);
+        for (int i = 0; i < 10; i++) {
+            assertThat(after.score(i)).isEqualTo(40f + i);
+        }
+        assertThat(Files.size(directory.resolve("fgi-intraday-2024-06-03.seg")))
+                .isEqualTo(16L * IntradaySegment.RECORD_BYTES);
+    }
+
+    @Test
+    void recoversTickCountWhenReopened() throws Exception {
+        store.append(DAY, OPEN_MILLIS, 40, Sentiment.FEAR);
+        store.append(DAY, OPEN_MILLIS + 60_000, 56, Sentiment.GREED);
+        store.close();
+
+        IntradayTickStore reopened = new IntradayTickStore(properties);
+        try {
+            assertThat(reopened.ticks(DAY).size()).isEqualTo(2);
+            assertThat(reopened.append(DAY, OPEN_MILLIS + 120_000, 56, Sentiment.GREED)).isFalse();
+            assertThat(reopened.append(DAY, OPEN_MILLIS + 120_000, 57, Sentiment.GREED)).isTrue();
+            assertThat(reopened.ticks(DAY).size()).isEqualTo(3);
+            assertThat(reopened.ticks(DAY).sentiment(1)).isEqualTo(Sentiment.GREED);
+        } finally {
+            reopened.close();
+        }
+    }
+
+    @Test
+    void rollsOverToNewDayAndServesPastDaysReadOnly() throws Exception {
+        LocalDate nextDay = DAY.plusDays(1);
+        store.append(DAY, OPEN_MILLIS, 40, Sentiment.FEAR);
+        store.append(nextDay, OPEN_MILLIS + 86_400_000L, 60, Sentiment.GREED);
+
+        assertThat(store.append(DAY, OPEN_MILLIS + 60_000, 45, Sentiment.FEAR)).isFalse();
+        assertThat(store.ticks(DAY).size()).isEqualTo(1);
+        assertThat(store.ticks(DAY).score(0)).isEqualTo(40f);
+        assertThat(store.ticks(nextDay).size()).isEqualTo(1);
+        assertThat(store.ticks(DAY.minusDays(1)).size()).isZero();
+    }
+
+    @Test
+    void serializesColumns() throws Exception {
+        store.append(DAY, OPEN_MILLIS, 41.5, Sentiment.FEAR);
+        store.append(DAY, OPEN_MILLIS + 60_000, 45.5, Sentiment.NEUTRAL);
+
+        String json = new ObjectMapper().writeValueAsString(store.ticks(DAY));
+
+        assertThat(json).isEqualTo("{\"date\":\"2024-06-03\",\"timestamps\":[1717405200000,1717405260000],"
+                + "\"scores\":[41.5,45.5],\"sentiments\":[\"fear\",\"neutral\"]}");
+    }
+}
@@ -0,0 +1,30 @@
+package com.aurelius.fear_greed_tracker.store;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LttbTest {
+
+    @Test
+    void keepsEndpointsAndExtremes() {
+        int n = 1825;
+        int[] days = new int[n];
+        short[] values = new short[n];
+        for (int i = 0; i < n; i++) {
+            days[i] = 19000 + i;
+            values[i] = (short) (50 + 30 * Math.sin(i / 40.0));
+        }
+        values[900] = 100;
+        values[1200] = 0;
+        FearGreedSeries series = FearGreedSeries.of(days, values, new byte[n]);
+
+        int[] selected = Lttb.select(series, 300);
+
+        assertThat(selected).hasSize(300).startsWith(0).endsWith(n - 1).contains(900, 1200);
+        for (int i = 1; i < selected.length; i++) {
+            assertThat(selected[i]).isGreaterThan(selected[i - 1]);
+        }
+        assertThat(Lttb.select(series, n + 1)).hasSize(n);
+    }
+}
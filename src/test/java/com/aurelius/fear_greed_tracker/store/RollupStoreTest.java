@@ -0,0 +1,129 @@
+package com.aurelius.fear_greed_tracker.store;
+
+import com.aurelius.fear_greed_tracker.model.FearGreedIndex;
+import com.aurelius.fear_greed_tracker.model.FearGreedIndexPoint;
+import com.aurelius.fear_greed_tracker.repository.FearGreedIndexRepository;
+import com.aurelius.fear_greed_tracker.service.FearGreedIndexPrunedEvent;
+import com.aurelius.fear_greed_tracker.service.FearGreedIndexSavedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Applies saves and prunes incrementally and compares the result with rollups rebuilt from scratch.
+ * The mocked repository answers from a list that plays the role of the table.
+ */
+class RollupStoreTest {
+
+    private static final LocalDate FIRST_DAY = LocalDate.of(2023, 1, 2);
+    private static final LocalDate FAR_FUTURE = LocalDate.of(2100, 1, 1);
+
+    private final List<FearGreedIndexPoint> table = new ArrayList<>();
+    private FearGreedIndexRepository repository;
+    private RollupStore store;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(FearGreedIndexRepository.class);
+        when(repository.findAllPoints()).thenAnswer(invocation -> sortedTable());
+        when(repository.findPointsByRecordDateRange(any(), any())).thenAnswer(invocation -> {
+            LocalDate from = invocation.getArgument(0);
+            LocalDate toExclusive = invocation.getArgument(1);
+            return sortedTable().stream()
+                    .filter(p -> !p.recordDate().isBefore(from) && p.recordDate().isBefore(toExclusive))
+                    .toList();
+        });
+        for (int i = 0; i < 400; i++) {
+            table.add(point(FIRST_DAY.plusDays(i), i % 101));
+        }
+        store = new RollupStore(repository);
+        store.warmUp();
+    }
+
+    @Test
+    void aggregatesCalendarPeriods() {
+        List<RollupBucket> months = store.range(Resolution.MONTH, LocalDate.of(2023, 2, 10), LocalDate.of(2023, 3, 1));
+        assertThat(months).hasSize(1);
+        RollupBucket february = months.get(0);
+        assertThat(february.start()).isEqualTo(LocalDate.of(2023, 2, 1));
+        assertThat(february.end()).isEqualTo(LocalDate.of(2023, 2, 28));
+        assertThat(february.count()).isEqualTo(28);
+        assertThat(february.open()).isEqualTo(30);
+        assertThat(february.close()).isEqualTo(57);
+        assertThat(february.avg()).isEqualTo(43.5);
+        assertThat(february.sentiments().values().stream().mapToInt(Integer::intValue).sum()).isEqualTo(28);
+
+        assertThat(store.range(Resolution.WEEK, FIRST_DAY, FIRST_DAY.plusDays(7)).get(0).start()).isEqualTo(FIRST_DAY);
+        assertThat(store.count(Resolution.YEAR, FIRST_DAY, FAR_FUTURE)).isEqualTo(2);
+    }
+
+    @Test
+    void incrementalUpdatesMatchRebuild() {
+        save(FIRST_DAY.plusDays(400), 99);   // extends the last week / month / year
+        save(FIRST_DAY.plusDays(10), 0);     // replaces a stored day
+        save(FIRST_DAY.plusDays(430), 5);    // opens new periods
+        save(FIRST_DAY.minusDays(40), 77);   // back-dated, before every period
+
+        assertMatchesRebuild();
+    }
+
+    @Test
+    void revisionsOfTheLatestDayDoNotQueryTheRepository() {
+        LocalDate today = FIRST_DAY.plusDays(400);
+        save(today, 20);
+        for (int value : new int[]{35, 80, 50, 10}) {
+            save(today, value);     // intraday revisions of the same day
+        }
+
+        verify(repository, never()).findPointsByRecordDateRange(any(), any());
+        assertMatchesRebuild();
+    }
+
+    @Test
+    void pruneDropsAndRecomputesPeriods() {
+        LocalDate cutoff = LocalDate.of(2023, 3, 15);
+        table.removeIf(p -> p.recordDate().isBefore(cutoff));
+        store.onPruned(new FearGreedIndexPrunedEvent(cutoff, 72));
+
+        RollupBucket march = store.range(Resolution.MONTH, cutoff, cutoff.plusDays(1)).get(0);
+        assertThat(march.count()).isEqualTo(17);
+        assertMatchesRebuild();
+    }
+
+    private void save(LocalDate day, int value) {
+        table.removeIf(p -> p.recordDate().equals(day));
+        FearGreedIndexPoint point = point(day, value);
+        table.add(point);
+        store.onSaved(FearGreedIndexSavedEvent.single(
+                new FearGreedIndex(null, day, value, point.sentiment(), null, null, null, 0)));
+    }
+
+    private void assertMatchesRebuild() {
+        RollupStore rebuilt = new RollupStore(repository);
+        rebuilt.warmUp();
+        for (Resolution resolution : RollupStore.LEVELS) {
+            assertThat(store.range(resolution, LocalDate.of(2000, 1, 1), FAR_FUTURE))
+                    .as(resolution.name())
+                    .isEqualTo(rebuilt.range(resolution, LocalDate.of(2000, 1, 1), FAR_FUTURE));
+        }
+    }
+
+    private List<FearGreedIndexPoint> sortedTable() {
+        return table.stream().sorted(Comparator.comparing(FearGreedIndexPoint::recordDate)).toList();
+    }
+
+    private static FearGreedIndexPoint point(LocalDate day, int value) {
+        return new FearGreedIndexPoint(day, value, value < 45 ? "fear" : value > 55 ? "greed" : "neutral");
+    }
+}